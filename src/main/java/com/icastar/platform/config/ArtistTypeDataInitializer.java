@@ -5,6 +5,7 @@ import com.icastar.platform.entity.ArtistTypeField;
 import com.icastar.platform.entity.FieldType;
 import com.icastar.platform.repository.ArtistTypeRepository;
 import com.icastar.platform.repository.ArtistTypeFieldRepository;
+import com.icastar.platform.service.ArtistTypeCatalog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -20,12 +21,14 @@ public class ArtistTypeDataInitializer implements CommandLineRunner {
 
     private final ArtistTypeRepository artistTypeRepository;
     private final ArtistTypeFieldRepository artistTypeFieldRepository;
+    private final ArtistTypeCatalog artistTypeCatalog;
 
     @Override
     public void run(String... args) throws Exception {
         if (artistTypeRepository.count() == 0) {
             log.info("Initializing artist types and fields...");
             initializeArtistTypes();
+            artistTypeCatalog.rebuild();
             log.info("Artist types and fields initialized successfully!");
         }
     }
@@ -0,0 +1,24 @@
+package com.icastar.platform.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Scheduler for @Scheduled jobs.
+ *
+ * The WebSocket message broker registers a TaskScheduler of its own, which makes Spring Boot
+ * skip its default one and would hand every @Scheduled job to the broker's pool. The jobs are
+ * written to run one at a time, so keep them on a dedicated single thread.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+}
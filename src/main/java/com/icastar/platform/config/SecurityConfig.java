@@ -2,7 +2,10 @@ package com.icastar.platform.config;
 
 import com.icastar.platform.security.JwtAuthenticationEntryPoint;
 import com.icastar.platform.security.JwtAuthenticationFilter;
+import com.icastar.platform.security.RateLimitFilter;
+import com.icastar.platform.service.BlobStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -26,9 +29,13 @@ import org.springframework.web.cors.CorsConfigurationSource;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final CorsConfigurationSource corsConfigurationSource;
 
+    @Value("${icastar.file.base-url:/uploads/}")
+    private String fileBaseUrl;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -56,9 +63,15 @@ public class SecurityConfig {
                                 "/api-docs/**",
                                 "/v3/api-docs/**",
                                 "/actuator/health",
+                                "/ws/**",                // STOMP authenticates on CONNECT
                                 "/error"                 // avoid auth loops
                         ).permitAll()
 
+                        // Stored photos and videos; identity documents are not under this path
+                        .requestMatchers(HttpMethod.GET,
+                                (fileBaseUrl.endsWith("/") ? fileBaseUrl : fileBaseUrl + "/") + BlobStore.KEY_PREFIX + "**"
+                        ).permitAll()
+
                         // CORS preflight is always public
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
@@ -67,7 +80,10 @@ public class SecurityConfig {
                 )
 
                 // Ensure your JWT filter actually runs
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+                // Throttle auth endpoints before any token parsing or database work
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
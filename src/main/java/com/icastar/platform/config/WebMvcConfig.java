@@ -0,0 +1,41 @@
+package com.icastar.platform.config;
+
+import com.icastar.platform.security.CurrentUserArgumentResolver;
+import com.icastar.platform.service.BlobStore;
+import com.icastar.platform.service.LocalObjectStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final ObjectProvider<LocalObjectStore> localObjectStore;
+
+    @Value("${icastar.file.base-url:/uploads/}")
+    private String fileBaseUrl;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // Serve locally stored blobs under the same base URL the store hands out; identity
+        // documents live outside the blob tree and are only served through DocumentController
+        localObjectStore.ifAvailable(store -> {
+            String pattern = (fileBaseUrl.endsWith("/") ? fileBaseUrl : fileBaseUrl + "/") + BlobStore.KEY_PREFIX + "**";
+            registry.addResourceHandler(pattern)
+                    .addResourceLocations(store.getRoot().resolve(BlobStore.KEY_PREFIX).toUri().toString());
+        });
+    }
+}
@@ -0,0 +1,97 @@
+package com.icastar.platform.config;
+
+import com.icastar.platform.security.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * STOMP over WebSocket at /ws for messaging.
+ *
+ * Each connection gets a bounded send buffer: outgoing frames queue up to
+ * send-buffer-size-kb while the client is slow, and a client that stays behind for longer
+ * than send-time-limit-ms or overflows the buffer is disconnected instead of holding memory.
+ * Inbound and outbound frames are processed on fixed pools with bounded queues.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    @Value("${icastar.messaging.allowed-origin-patterns:*}")
+    private String[] allowedOriginPatterns;
+
+    @Value("${icastar.messaging.heartbeat-ms:25000}")
+    private long heartbeatMs;
+
+    @Value("${icastar.messaging.send-buffer-size-kb:256}")
+    private int sendBufferSizeKb;
+
+    @Value("${icastar.messaging.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${icastar.messaging.message-size-limit-kb:16}")
+    private int messageSizeLimitKb;
+
+    @Value("${icastar.messaging.inbound-workers:8}")
+    private int inboundWorkers;
+
+    @Value("${icastar.messaging.outbound-workers:8}")
+    private int outboundWorkers;
+
+    @Value("${icastar.messaging.channel-queue-capacity:10000}")
+    private int channelQueueCapacity;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws").setAllowedOriginPatterns(allowedOriginPatterns);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(1);
+        heartbeatScheduler.setThreadNamePrefix("ws-heartbeat-");
+        heartbeatScheduler.setDaemon(true);
+        heartbeatScheduler.initialize();
+
+        registry.enableSimpleBroker("/queue")
+                .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                .setTaskScheduler(heartbeatScheduler);
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit(sendBufferSizeKb * 1024)
+                .setSendTimeLimit(sendTimeLimitMs)
+                .setMessageSizeLimit(messageSizeLimitKb * 1024);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+        registration.taskExecutor()
+                .corePoolSize(inboundWorkers)
+                .maxPoolSize(inboundWorkers)
+                .queueCapacity(channelQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundWorkers)
+                .maxPoolSize(outboundWorkers)
+                .queueCapacity(channelQueueCapacity);
+    }
+}
@@ -2,16 +2,18 @@ package com.icastar.platform.controller;
 
 import com.icastar.platform.dto.artist.CreateArtistProfileDto;
 import com.icastar.platform.entity.ArtistProfile;
+import com.icastar.platform.entity.Document;
 import com.icastar.platform.entity.User;
 import com.icastar.platform.service.ArtistService;
 import com.icastar.platform.service.UserService;
 import com.icastar.platform.service.ActorService;
-import com.icastar.platform.service.S3Service;
 import com.icastar.platform.service.DocumentService;
 import com.icastar.platform.repository.ArtistProfileRepository;
 import com.icastar.platform.repository.ArtistTypeFieldRepository;
 import com.icastar.platform.dto.ArtistProfileFieldDto;
 import com.icastar.platform.entity.ArtistTypeField;
+import com.icastar.platform.security.AuthenticatedUser;
+import com.icastar.platform.security.CurrentUser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,7 +30,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -36,6 +37,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 @RestController
 @RequestMapping("/actors")
@@ -50,7 +52,6 @@ public class ActorController {
     private final ArtistProfileRepository artistProfileRepository;
     private final ArtistTypeFieldRepository artistTypeFieldRepository;
     private final ObjectMapper objectMapper;
-    private final S3Service s3Service;
     private final DocumentService documentService;
 
     @Operation(
@@ -167,14 +168,9 @@ public class ActorController {
     @SecurityRequirement(name = "bearerAuth")
     public ResponseEntity<Map<String, Object>> updateActorProfile(
             @Parameter(description = "Actor profile update details", required = true)
-            @Valid @RequestBody CreateArtistProfileDto request) {
+            @Valid @RequestBody CreateArtistProfileDto request,
+            @CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile existingProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Actor profile not found"));
 
@@ -268,14 +264,9 @@ public class ActorController {
             @RequestParam(value = "aadhar", required = false) MultipartFile aadhar,
             @RequestParam(value = "pan", required = false) MultipartFile pan,
             @RequestParam(value = "idSizePic", required = false) MultipartFile idSizePic,
-            @RequestParam(value = "actingVideos", required = false) List<MultipartFile> actingVideos) {
+            @RequestParam(value = "actingVideos", required = false) List<MultipartFile> actingVideos,
+            @CurrentUser User user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile existingProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Actor profile not found"));
 
@@ -311,76 +302,8 @@ public class ActorController {
             }
 
             // Handle file uploads using Document service
-            Map<String, Object> uploadResults = new HashMap<>();
-
-            // Upload profile image
-            if (profileImage != null && !profileImage.isEmpty()) {
-                com.icastar.platform.entity.Document profileImageDoc = 
-                    documentService.uploadDocument(user, profileImage, com.icastar.platform.entity.Document.DocumentType.PROFILE_ID);
-                uploadResults.put("profileImage", profileImageDoc);
-            }
-
-            // Upload profile pictures (front, left, right)
-            if (profilePictures != null && !profilePictures.isEmpty()) {
-                List<com.icastar.platform.entity.Document.DocumentType> types = new ArrayList<>();
-                if (profilePictureTypes != null) {
-                    for (String typeStr : profilePictureTypes) {
-                        try {
-                            switch (typeStr.toUpperCase()) {
-                                case "FRONT_PROFILE":
-                                    types.add(com.icastar.platform.entity.Document.DocumentType.PROFILE_FRONT);
-                                    break;
-                                case "LEFT_PROFILE":
-                                    types.add(com.icastar.platform.entity.Document.DocumentType.PROFILE_LEFT);
-                                    break;
-                                case "RIGHT_PROFILE":
-                                    types.add(com.icastar.platform.entity.Document.DocumentType.PROFILE_RIGHT);
-                                    break;
-                                default:
-                                    log.warn("Invalid profile picture type: {}", typeStr);
-                            }
-                        } catch (Exception e) {
-                            log.warn("Error parsing profile picture type: {}", typeStr, e);
-                        }
-                    }
-                }
-                
-                List<com.icastar.platform.entity.Document> profilePicturesDocs = 
-                    documentService.uploadProfilePictures(user, profilePictures, types);
-                uploadResults.put("profilePictures", profilePicturesDocs);
-            }
-
-            // Upload documents
-            if (passport != null && !passport.isEmpty()) {
-                com.icastar.platform.entity.Document passportDoc = 
-                    documentService.uploadDocument(user, passport, com.icastar.platform.entity.Document.DocumentType.PASSPORT);
-                uploadResults.put("passport", passportDoc);
-            }
-
-            if (aadhar != null && !aadhar.isEmpty()) {
-                com.icastar.platform.entity.Document aadharDoc = 
-                    documentService.uploadDocument(user, aadhar, com.icastar.platform.entity.Document.DocumentType.AADHAR);
-                uploadResults.put("aadhar", aadharDoc);
-            }
-
-            if (pan != null && !pan.isEmpty()) {
-                com.icastar.platform.entity.Document panDoc = 
-                    documentService.uploadDocument(user, pan, com.icastar.platform.entity.Document.DocumentType.PAN);
-                uploadResults.put("pan", panDoc);
-            }
-
-            if (idSizePic != null && !idSizePic.isEmpty()) {
-                com.icastar.platform.entity.Document idSizePicDoc = 
-                    documentService.uploadDocument(user, idSizePic, com.icastar.platform.entity.Document.DocumentType.ID_SIZE_PIC);
-                uploadResults.put("idSizePic", idSizePicDoc);
-            }
-
-            // Upload acting videos
-            if (actingVideos != null && !actingVideos.isEmpty()) {
-                List<com.icastar.platform.entity.Document> actingVideoDocs = 
-                    documentService.uploadMultipleDocuments(user, actingVideos, com.icastar.platform.entity.Document.DocumentType.ACTING_VIDEO);
-                uploadResults.put("actingVideos", actingVideoDocs);
-            }
+            Map<String, Object> uploadResults = uploadActorFiles(user, profileImage, profilePictures, profilePictureTypes,
+                    passport, aadhar, pan, idSizePic, actingVideos);
 
             // Save basic profile
             ArtistProfile savedProfile = artistProfileRepository.save(existingProfile);
@@ -422,14 +345,8 @@ public class ActorController {
     )
     @GetMapping("/profile")
     @SecurityRequirement(name = "bearerAuth")
-    public ResponseEntity<Map<String, Object>> getActorProfile() {
+    public ResponseEntity<Map<String, Object>> getActorProfile(@CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile actorProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Actor profile not found"));
 
@@ -511,88 +428,15 @@ public class ActorController {
             @RequestParam(value = "aadhar", required = false) MultipartFile aadhar,
             @RequestParam(value = "pan", required = false) MultipartFile pan,
             @RequestParam(value = "idSizePic", required = false) MultipartFile idSizePic,
-            @RequestParam(value = "actingVideos", required = false) List<MultipartFile> actingVideos) {
+            @RequestParam(value = "actingVideos", required = false) List<MultipartFile> actingVideos,
+            @CurrentUser User user) {
 
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile existingProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Actor profile not found"));
 
-            Map<String, Object> uploadResults = new HashMap<>();
-
-            // Upload profile image
-            if (profileImage != null && !profileImage.isEmpty()) {
-                com.icastar.platform.entity.Document profileImageDoc = 
-                    documentService.uploadDocument(user, profileImage, com.icastar.platform.entity.Document.DocumentType.PROFILE_ID);
-                uploadResults.put("profileImage", profileImageDoc);
-            }
-
-            // Upload profile pictures (front, left, right)
-            if (profilePictures != null && !profilePictures.isEmpty()) {
-                List<com.icastar.platform.entity.Document.DocumentType> types = new ArrayList<>();
-                if (profilePictureTypes != null) {
-                    for (String typeStr : profilePictureTypes) {
-                        try {
-                            switch (typeStr.toUpperCase()) {
-                                case "FRONT_PROFILE":
-                                    types.add(com.icastar.platform.entity.Document.DocumentType.PROFILE_FRONT);
-                                    break;
-                                case "LEFT_PROFILE":
-                                    types.add(com.icastar.platform.entity.Document.DocumentType.PROFILE_LEFT);
-                                    break;
-                                case "RIGHT_PROFILE":
-                                    types.add(com.icastar.platform.entity.Document.DocumentType.PROFILE_RIGHT);
-                                    break;
-                                default:
-                                    log.warn("Invalid profile picture type: {}", typeStr);
-                            }
-                        } catch (Exception e) {
-                            log.warn("Error parsing profile picture type: {}", typeStr, e);
-                        }
-                    }
-                }
-                
-                List<com.icastar.platform.entity.Document> profilePicturesDocs = 
-                    documentService.uploadProfilePictures(user, profilePictures, types);
-                uploadResults.put("profilePictures", profilePicturesDocs);
-            }
-
-            // Upload documents
-            if (passport != null && !passport.isEmpty()) {
-                com.icastar.platform.entity.Document passportDoc = 
-                    documentService.uploadDocument(user, passport, com.icastar.platform.entity.Document.DocumentType.PASSPORT);
-                uploadResults.put("passport", passportDoc);
-            }
-
-            if (aadhar != null && !aadhar.isEmpty()) {
-                com.icastar.platform.entity.Document aadharDoc = 
-                    documentService.uploadDocument(user, aadhar, com.icastar.platform.entity.Document.DocumentType.AADHAR);
-                uploadResults.put("aadhar", aadharDoc);
-            }
-
-            if (pan != null && !pan.isEmpty()) {
-                com.icastar.platform.entity.Document panDoc = 
-                    documentService.uploadDocument(user, pan, com.icastar.platform.entity.Document.DocumentType.PAN);
-                uploadResults.put("pan", panDoc);
-            }
-
-            if (idSizePic != null && !idSizePic.isEmpty()) {
-                com.icastar.platform.entity.Document idSizePicDoc = 
-                    documentService.uploadDocument(user, idSizePic, com.icastar.platform.entity.Document.DocumentType.ID_SIZE_PIC);
-                uploadResults.put("idSizePic", idSizePicDoc);
-            }
-
-            // Upload acting videos
-            if (actingVideos != null && !actingVideos.isEmpty()) {
-                List<com.icastar.platform.entity.Document> actingVideoDocs = 
-                    documentService.uploadMultipleDocuments(user, actingVideos, com.icastar.platform.entity.Document.DocumentType.ACTING_VIDEO);
-                uploadResults.put("actingVideos", actingVideoDocs);
-            }
+            Map<String, Object> uploadResults = uploadActorFiles(user, profileImage, profilePictures, profilePictureTypes,
+                    passport, aadhar, pan, idSizePic, actingVideos);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -610,6 +454,77 @@ public class ActorController {
         }
     }
 
+    /**
+     * Store every uploaded actor file in one parallel batch and group the documents by request parameter
+     */
+    private Map<String, Object> uploadActorFiles(User user, MultipartFile profileImage, List<MultipartFile> profilePictures,
+                                                 List<String> profilePictureTypes, MultipartFile passport,
+                                                 MultipartFile aadhar, MultipartFile pan, MultipartFile idSizePic,
+                                                 List<MultipartFile> actingVideos) {
+        List<String> keys = new ArrayList<>();
+        List<DocumentService.DocumentUpload> uploads = new ArrayList<>();
+        BiConsumer<String, DocumentService.DocumentUpload> add = (key, upload) -> {
+            if (upload.file() != null && !upload.file().isEmpty()) {
+                keys.add(key);
+                uploads.add(upload);
+            }
+        };
+
+        add.accept("profileImage", new DocumentService.DocumentUpload(profileImage, Document.DocumentType.PROFILE_ID));
+
+        // Profile pictures (front, left, right)
+        if (profilePictures != null && !profilePictures.isEmpty()) {
+            List<Document.DocumentType> types = new ArrayList<>();
+            if (profilePictureTypes != null) {
+                for (String typeStr : profilePictureTypes) {
+                    switch (typeStr.toUpperCase()) {
+                        case "FRONT_PROFILE" -> types.add(Document.DocumentType.PROFILE_FRONT);
+                        case "LEFT_PROFILE" -> types.add(Document.DocumentType.PROFILE_LEFT);
+                        case "RIGHT_PROFILE" -> types.add(Document.DocumentType.PROFILE_RIGHT);
+                        default -> log.warn("Invalid profile picture type: {}", typeStr);
+                    }
+                }
+            }
+            if (profilePictures.size() != types.size()) {
+                throw new IllegalArgumentException("Number of files must match number of types");
+            }
+            for (int i = 0; i < profilePictures.size(); i++) {
+                add.accept("profilePictures", new DocumentService.DocumentUpload(profilePictures.get(i), types.get(i)));
+            }
+        }
+
+        add.accept("passport", new DocumentService.DocumentUpload(passport, Document.DocumentType.PASSPORT));
+        add.accept("aadhar", new DocumentService.DocumentUpload(aadhar, Document.DocumentType.AADHAR));
+        add.accept("pan", new DocumentService.DocumentUpload(pan, Document.DocumentType.PAN));
+        add.accept("idSizePic", new DocumentService.DocumentUpload(idSizePic, Document.DocumentType.ID_SIZE_PIC));
+        if (actingVideos != null) {
+            for (MultipartFile video : actingVideos) {
+                add.accept("actingVideos", new DocumentService.DocumentUpload(video, Document.DocumentType.ACTING_VIDEO));
+            }
+        }
+
+        List<Document> documents = documentService.uploadDocuments(user, uploads);
+
+        Map<String, Object> uploadResults = new HashMap<>();
+        Map<String, List<Document>> groups = new HashMap<>();
+        if (profilePictures != null && !profilePictures.isEmpty()) {
+            groups.put("profilePictures", new ArrayList<>());
+        }
+        if (actingVideos != null && !actingVideos.isEmpty()) {
+            groups.put("actingVideos", new ArrayList<>());
+        }
+        for (int i = 0; i < documents.size(); i++) {
+            List<Document> group = groups.get(keys.get(i));
+            if (group != null) {
+                group.add(documents.get(i));
+            } else {
+                uploadResults.put(keys.get(i), documents.get(i));
+            }
+        }
+        uploadResults.putAll(groups);
+        return uploadResults;
+    }
+
     /**
      * Create dynamic fields for actor profile from the request
      */
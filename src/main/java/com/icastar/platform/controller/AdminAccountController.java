@@ -2,8 +2,11 @@ package com.icastar.platform.controller;
 
 import com.icastar.platform.dto.admin.AccountManagementResponseDto;
 import com.icastar.platform.dto.admin.AccountStatusChangeDto;
+import com.icastar.platform.dto.admin.CursorPageDto;
+import com.icastar.platform.dto.admin.CursorRequestDto;
 import com.icastar.platform.entity.User;
 import com.icastar.platform.service.AdminAccountService;
+import com.icastar.platform.security.CurrentUser;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +14,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -34,11 +36,19 @@ public class AdminAccountController {
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String role,
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String count,
             Pageable pageable,
-            Authentication authentication) {
+            @CurrentUser User admin) {
         
         try {
-            User admin = (User) authentication.getPrincipal();
+            // Keyset paging when a cursor is given (empty for the first page)
+            if (cursor != null) {
+                CursorPageDto<User> users = adminAccountService.getUsersByCursor(status, role, search,
+                        CursorRequestDto.of(cursor, pageable, count), admin);
+                return ResponseEntity.ok(buildCursorResponse(users));
+            }
+            
             Page<User> users = adminAccountService.getAllUsers(status, role, search, pageable, admin);
             
             Map<String, Object> response = new HashMap<>();
@@ -65,10 +75,9 @@ public class AdminAccountController {
     @GetMapping("/{userId}")
     public ResponseEntity<Map<String, Object>> getUserById(
             @PathVariable Long userId,
-            Authentication authentication) {
+            @CurrentUser User admin) {
         
         try {
-            User admin = (User) authentication.getPrincipal();
             AccountManagementResponseDto user = adminAccountService.getUserById(userId, admin);
             
             Map<String, Object> response = new HashMap<>();
@@ -93,10 +102,9 @@ public class AdminAccountController {
             @PathVariable Long userId,
             @Valid @RequestBody AccountStatusChangeDto request,
             HttpServletRequest httpRequest,
-            Authentication authentication) {
+            @CurrentUser User admin) {
         
         try {
-            User admin = (User) authentication.getPrincipal();
             request.setUserId(userId);
             request.setIpAddress(getClientIpAddress(httpRequest));
             request.setUserAgent(httpRequest.getHeader("User-Agent"));
@@ -126,10 +134,9 @@ public class AdminAccountController {
             @PathVariable Long userId,
             @Valid @RequestBody AccountStatusChangeDto request,
             HttpServletRequest httpRequest,
-            Authentication authentication) {
+            @CurrentUser User admin) {
         
         try {
-            User admin = (User) authentication.getPrincipal();
             request.setUserId(userId);
             request.setIpAddress(getClientIpAddress(httpRequest));
             request.setUserAgent(httpRequest.getHeader("User-Agent"));
@@ -159,10 +166,9 @@ public class AdminAccountController {
             @PathVariable Long userId,
             @Valid @RequestBody AccountStatusChangeDto request,
             HttpServletRequest httpRequest,
-            Authentication authentication) {
+            @CurrentUser User admin) {
         
         try {
-            User admin = (User) authentication.getPrincipal();
             request.setUserId(userId);
             request.setIpAddress(getClientIpAddress(httpRequest));
             request.setUserAgent(httpRequest.getHeader("User-Agent"));
@@ -192,10 +198,9 @@ public class AdminAccountController {
             @PathVariable Long userId,
             @Valid @RequestBody AccountStatusChangeDto request,
             HttpServletRequest httpRequest,
-            Authentication authentication) {
+            @CurrentUser User admin) {
         
         try {
-            User admin = (User) authentication.getPrincipal();
             request.setUserId(userId);
             request.setIpAddress(getClientIpAddress(httpRequest));
             request.setUserAgent(httpRequest.getHeader("User-Agent"));
@@ -224,10 +229,9 @@ public class AdminAccountController {
     public ResponseEntity<Map<String, Object>> getAccountLogs(
             @PathVariable Long userId,
             Pageable pageable,
-            Authentication authentication) {
+            @CurrentUser User admin) {
         
         try {
-            User admin = (User) authentication.getPrincipal();
             Page<Map<String, Object>> logs = adminAccountService.getAccountLogs(userId, pageable, admin);
             
             Map<String, Object> response = new HashMap<>();
@@ -252,10 +256,9 @@ public class AdminAccountController {
      * Get account statistics
      */
     @GetMapping("/statistics")
-    public ResponseEntity<Map<String, Object>> getAccountStatistics(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> getAccountStatistics(@CurrentUser User admin) {
         
         try {
-            User admin = (User) authentication.getPrincipal();
             Map<String, Object> statistics = adminAccountService.getAccountStatistics(admin);
             
             Map<String, Object> response = new HashMap<>();
@@ -280,4 +283,16 @@ public class AdminAccountController {
             return xForwardedForHeader.split(",")[0];
         }
     }
+
+    private Map<String, Object> buildCursorResponse(CursorPageDto<?> page) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", page.getContent());
+        response.put("nextCursor", page.getNextCursor());
+        response.put("hasNext", page.isHasNext());
+        response.put("size", page.getSize());
+        response.put("totalElements", page.getTotalElements());
+        response.put("totalApproximate", page.isTotalApproximate());
+        return response;
+    }
 }
@@ -1,5 +1,7 @@
 package com.icastar.platform.controller;
 
+import com.icastar.platform.dto.admin.CursorPageDto;
+import com.icastar.platform.dto.admin.CursorRequestDto;
 import com.icastar.platform.dto.application.JobApplicationDto;
 import com.icastar.platform.dto.application.UpdateApplicationStatusDto;
 import com.icastar.platform.entity.JobApplication;
@@ -64,6 +66,30 @@ public class AdminApplicationController {
         return ResponseEntity.ok(applicationDtos);
     }
 
+    /**
+     * Keyset-paged application listing; pass the previous page's nextCursor to continue
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<JobApplicationDto>> getApplicationsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) JobApplication.ApplicationStatus status,
+            @RequestParam(required = false) Long jobPostId,
+            @RequestParam(required = false) Long artistId,
+            @RequestParam(required = false) Long recruiterId,
+            @RequestParam(required = false) String count) {
+
+        CursorRequestDto request = CursorRequestDto.builder()
+                .cursor(cursor).size(size).sortBy(sortBy).sortDir(sortDir).count(count)
+                .build();
+        CursorPageDto<JobApplication> applications = jobApplicationService.findApplicationsByCursor(
+                status, jobPostId, artistId, recruiterId, request);
+
+        return ResponseEntity.ok(applications.map(JobApplicationDto::new));
+    }
+
     @GetMapping("/{applicationId}")
     public ResponseEntity<JobApplicationDto> getApplication(@PathVariable Long applicationId) {
         log.info("Admin fetching application details for application ID: {}", applicationId);
@@ -1,5 +1,7 @@
 package com.icastar.platform.controller;
 
+import com.icastar.platform.dto.admin.CursorPageDto;
+import com.icastar.platform.dto.admin.CursorRequestDto;
 import com.icastar.platform.dto.admin.JobFilterDto;
 import com.icastar.platform.dto.admin.JobManagementDto;
 import com.icastar.platform.dto.admin.JobVisibilityToggleDto;
@@ -9,6 +11,7 @@ import com.icastar.platform.entity.Job;
 import com.icastar.platform.entity.User;
 import com.icastar.platform.service.AdminJobManagementService;
 import com.icastar.platform.service.JobService;
+import com.icastar.platform.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -25,7 +28,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -71,11 +73,12 @@ public class AdminJobManagementController {
             @RequestParam(required = false) Boolean hasBoost,
             @RequestParam(required = false) Boolean isExpired,
             @RequestParam(required = false) Boolean isUrgent,
+            @Parameter(description = "Keyset cursor from the previous page's nextCursor; empty for the first page. Omit for page-number paging") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Total count with keyset paging: none, approximate or exact") @RequestParam(required = false) String count,
             Pageable pageable,
-            Authentication authentication) {
+            @CurrentUser User admin) {
 
         try {
-            User admin = (User) authentication.getPrincipal();
             JobFilterDto filter = JobFilterDto.builder()
                     .recruiterId(recruiterId).recruiterName(recruiterName).recruiterEmail(recruiterEmail)
                     .recruiterCompany(recruiterCompany).recruiterCategory(recruiterCategory).status(status)
@@ -85,6 +88,12 @@ public class AdminJobManagementController {
                     .minViews(minViews).maxViews(maxViews).hasBoost(hasBoost).isExpired(isExpired).isUrgent(isUrgent)
                     .build();
 
+            if (cursor != null) {
+                CursorPageDto<JobManagementDto> jobs = adminJobManagementService.getJobsByCursor(filter,
+                        CursorRequestDto.of(cursor, pageable, count), admin);
+                return ResponseEntity.ok(buildCursorResponse(jobs));
+            }
+
             Page<JobManagementDto> jobs = adminJobManagementService.getAllJobs(filter, pageable, admin);
 
             Map<String, Object> response = new HashMap<>();
@@ -101,9 +110,8 @@ public class AdminJobManagementController {
     }
 
     @GetMapping("/{jobId}")
-    public ResponseEntity<Map<String, Object>> getJobById(@PathVariable Long jobId, Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> getJobById(@PathVariable Long jobId, @CurrentUser User admin) {
         try {
-            User admin = (User) authentication.getPrincipal();
             JobManagementDto job = adminJobManagementService.getJobById(jobId, admin);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -119,9 +127,8 @@ public class AdminJobManagementController {
             @PathVariable Long jobId,
             @Valid @RequestBody JobVisibilityToggleDto request,
             HttpServletRequest httpRequest,
-            Authentication authentication) {
+            @CurrentUser User admin) {
         try {
-            User admin = (User) authentication.getPrincipal();
             request.setJobId(jobId);
             JobManagementDto result = adminJobManagementService.toggleJobVisibility(request, admin, getClientIpAddress(httpRequest), httpRequest.getHeader("User-Agent"));
             Map<String, Object> response = new HashMap<>();
@@ -138,9 +145,8 @@ public class AdminJobManagementController {
     public ResponseEntity<Map<String, Object>> bulkToggleJobVisibility(
             @Valid @RequestBody List<JobVisibilityToggleDto> requests,
             HttpServletRequest httpRequest,
-            Authentication authentication) {
+            @CurrentUser User admin) {
         try {
-            User admin = (User) authentication.getPrincipal();
             List<JobManagementDto> results = adminJobManagementService.bulkToggleJobVisibility(requests, admin, getClientIpAddress(httpRequest), httpRequest.getHeader("User-Agent"));
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -154,9 +160,8 @@ public class AdminJobManagementController {
     }
 
     @GetMapping("/statistics")
-    public ResponseEntity<Map<String, Object>> getJobStatistics(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> getJobStatistics(@CurrentUser User admin) {
         try {
-            User admin = (User) authentication.getPrincipal();
             Map<String, Object> statistics = adminJobManagementService.getJobStatistics(admin);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -168,9 +173,8 @@ public class AdminJobManagementController {
     }
 
     @GetMapping("/{jobId}/logs")
-    public ResponseEntity<Map<String, Object>> getJobLogs(@PathVariable Long jobId, Pageable pageable, Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> getJobLogs(@PathVariable Long jobId, Pageable pageable, @CurrentUser User admin) {
         try {
-            User admin = (User) authentication.getPrincipal();
             Page<Map<String, Object>> logs = adminJobManagementService.getJobLogs(jobId, pageable, admin);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -186,9 +190,8 @@ public class AdminJobManagementController {
     }
 
     @GetMapping("/recruiters")
-    public ResponseEntity<Map<String, Object>> getRecruiters(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> getRecruiters(@CurrentUser User admin) {
         try {
-            User admin = (User) authentication.getPrincipal();
             List<Map<String, Object>> recruiters = adminJobManagementService.getRecruiters(admin);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -200,9 +203,8 @@ public class AdminJobManagementController {
     }
 
     @GetMapping("/subscription-plans")
-    public ResponseEntity<Map<String, Object>> getSubscriptionPlans(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> getSubscriptionPlans(@CurrentUser User admin) {
         try {
-            User admin = (User) authentication.getPrincipal();
             List<Map<String, Object>> plans = adminJobManagementService.getSubscriptionPlans(admin);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -298,6 +300,18 @@ public class AdminJobManagementController {
         return (xForwardedForHeader == null) ? request.getRemoteAddr() : xForwardedForHeader.split(",")[0];
     }
 
+    private Map<String, Object> buildCursorResponse(CursorPageDto<?> page) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", page.getContent());
+        response.put("nextCursor", page.getNextCursor());
+        response.put("hasNext", page.isHasNext());
+        response.put("size", page.getSize());
+        response.put("totalElements", page.getTotalElements());
+        response.put("totalApproximate", page.isTotalApproximate());
+        return response;
+    }
+
     private ResponseEntity<Map<String, Object>> buildErrorResponse(String message) {
         log.error(message);
         Map<String, Object> response = new HashMap<>();
@@ -1,5 +1,7 @@
 package com.icastar.platform.controller;
 
+import com.icastar.platform.dto.admin.CursorPageDto;
+import com.icastar.platform.dto.admin.CursorRequestDto;
 import com.icastar.platform.dto.user.UpdateUserStatusDto;
 import com.icastar.platform.dto.user.UserDetailDto;
 import com.icastar.platform.dto.user.UserListDto;
@@ -66,6 +68,28 @@ public class AdminUserController {
         return ResponseEntity.ok(userDtos);
     }
 
+    /**
+     * Keyset-paged user listing; pass the previous page's nextCursor to continue
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<UserListDto>> getUsersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) User.UserRole role,
+            @RequestParam(required = false) User.UserStatus status,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String count) {
+
+        CursorRequestDto request = CursorRequestDto.builder()
+                .cursor(cursor).size(size).sortBy(sortBy).sortDir(sortDir).count(count)
+                .build();
+        CursorPageDto<User> users = userService.findUsersByCursor(role, status, search, request);
+
+        return ResponseEntity.ok(users.map(UserListDto::new));
+    }
+
     @GetMapping("/{userId}")
     public ResponseEntity<UserDetailDto> getUserById(@PathVariable Long userId) {
         log.info("Fetching user details for user ID: {}", userId);
@@ -8,6 +8,8 @@ import com.icastar.platform.entity.User;
 import com.icastar.platform.service.ArtistService;
 import com.icastar.platform.service.ArtistTypeService;
 import com.icastar.platform.service.UserService;
+import com.icastar.platform.security.AuthenticatedUser;
+import com.icastar.platform.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,8 +23,6 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.awt.print.Pageable;
@@ -51,14 +51,8 @@ public class ArtistController {
         @ApiResponse(responseCode = "200", description = "Artist profile created successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid input or artist profile already exists")
     })
-    public ResponseEntity<Map<String, Object>> createArtistProfile(@Valid @RequestBody SimpleCreateArtistProfileDto createDto) {
+    public ResponseEntity<Map<String, Object>> createArtistProfile(@Valid @RequestBody SimpleCreateArtistProfileDto createDto, @CurrentUser User user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             // Check if artist profile already exists
             if (artistService.findByUserId(user.getId()).isPresent()) {
                 Map<String, Object> response = new HashMap<>();
@@ -118,14 +112,8 @@ public class ArtistController {
     }
 
     @GetMapping("/profile")
-    public ResponseEntity<Map<String, Object>> getCurrentArtistProfile() {
+    public ResponseEntity<Map<String, Object>> getCurrentArtistProfile(@CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
@@ -174,14 +162,8 @@ public class ArtistController {
     }
 
     @PutMapping("/profile")
-    public ResponseEntity<Map<String, Object>> updateArtistProfile(@Valid @RequestBody CreateArtistProfileDto updateDto) {
+    public ResponseEntity<Map<String, Object>> updateArtistProfile(@Valid @RequestBody CreateArtistProfileDto updateDto, @CurrentUser User user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile existingProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
@@ -278,14 +260,8 @@ public class ArtistController {
     }
 
     @PostMapping("/profile/verify")
-    public ResponseEntity<Map<String, Object>> requestVerificationBadge() {
+    public ResponseEntity<Map<String, Object>> requestVerificationBadge(@CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
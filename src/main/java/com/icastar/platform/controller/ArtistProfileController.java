@@ -5,7 +5,8 @@ import com.icastar.platform.service.ArtistProfileService;
 import com.icastar.platform.service.DocumentService;
 import com.icastar.platform.entity.Document;
 import com.icastar.platform.entity.User;
-import com.icastar.platform.service.UserService;
+import com.icastar.platform.security.AuthenticatedUser;
+import com.icastar.platform.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,8 +21,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -38,7 +37,6 @@ public class ArtistProfileController {
 
     private final ArtistProfileService artistProfileService;
     private final DocumentService documentService;
-    private final UserService userService;
 
     @Operation(
             summary = "Get Complete Artist Profile",
@@ -69,14 +67,8 @@ public class ArtistProfileController {
     })
     @GetMapping("/profile/complete")
     @SecurityRequirement(name = "bearerAuth")
-    public ResponseEntity<Map<String, Object>> getCompleteProfile() {
+    public ResponseEntity<Map<String, Object>> getCompleteProfile(@CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfileCompleteDto profile = artistProfileService.getCompleteProfileByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
@@ -233,14 +225,9 @@ public class ArtistProfileController {
     @SecurityRequirement(name = "bearerAuth")
     public ResponseEntity<Map<String, Object>> updateArtistProfile(
             @Parameter(description = "Complete artist profile update details", required = true)
-            @RequestBody ArtistProfileCompleteDto updateDto) {
+            @RequestBody ArtistProfileCompleteDto updateDto,
+            @CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfileCompleteDto updatedProfile = artistProfileService.updateProfile(user.getId(), updateDto);
 
             Map<String, Object> response = new HashMap<>();
@@ -268,14 +255,9 @@ public class ArtistProfileController {
     @SecurityRequirement(name = "bearerAuth")
     public ResponseEntity<Map<String, Object>> uploadDocument(
             @RequestParam("file") MultipartFile file,
-            @RequestParam("documentType") String documentType) {
+            @RequestParam("documentType") String documentType,
+            @CurrentUser User user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             Document.DocumentType type = Document.DocumentType.valueOf(documentType.toUpperCase());
             Document document = documentService.uploadDocument(user, file, type);
 
@@ -302,14 +284,8 @@ public class ArtistProfileController {
     )
     @DeleteMapping("/profile")
     @SecurityRequirement(name = "bearerAuth")
-    public ResponseEntity<Map<String, Object>> deleteArtistProfile() {
+    public ResponseEntity<Map<String, Object>> deleteArtistProfile(@CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             artistProfileService.deleteProfile(user.getId());
 
             Map<String, Object> response = new HashMap<>();
@@ -0,0 +1,117 @@
+package com.icastar.platform.controller;
+
+import com.icastar.platform.dto.audition.AuditionDto;
+import com.icastar.platform.dto.audition.ScheduleAuditionDto;
+import com.icastar.platform.dto.audition.TimeSlotDto;
+import com.icastar.platform.security.AuthenticatedUser;
+import com.icastar.platform.security.CurrentUser;
+import com.icastar.platform.service.AuditionScheduleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Audition and interview scheduling; a slot that clashes with either participant's bookings
+ * is rejected with 409 AUDITION_CONFLICT, listing the clashes and a few free slots
+ */
+@RestController
+@RequestMapping("/auditions")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Auditions", description = "Audition and interview scheduling")
+public class AuditionController {
+
+    private final AuditionScheduleService auditionScheduleService;
+
+    @Operation(summary = "Schedule an audition", description = "Books an audition for an application of one of the recruiter's jobs, moving its current booking if any")
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasRole('RECRUITER')")
+    @PostMapping("/applications/{applicationId}")
+    public ResponseEntity<Map<String, Object>> scheduleAudition(@PathVariable Long applicationId,
+                                                                @Valid @RequestBody ScheduleAuditionDto request,
+                                                                @CurrentUser AuthenticatedUser user) {
+        AuditionDto audition = auditionScheduleService.scheduleAudition(user.getId(), applicationId, request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Audition scheduled successfully");
+        response.put("data", audition);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Suggest audition slots", description = "Free slots within working hours that suit both the artist and the recruiter")
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasRole('RECRUITER')")
+    @GetMapping("/applications/{applicationId}/suggestions")
+    public ResponseEntity<Map<String, Object>> suggestSlots(
+            @PathVariable Long applicationId,
+            @Parameter(description = "Window start, defaults to now") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Window end, defaults to a week after the start") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Audition length in minutes") @RequestParam(required = false) Integer durationMinutes,
+            @Parameter(description = "Number of slots") @RequestParam(required = false) Integer limit,
+            @CurrentUser AuthenticatedUser user) {
+        List<TimeSlotDto> slots = auditionScheduleService.suggestSlots(user.getId(), applicationId, from, to, durationMinutes, limit);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", slots);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Reschedule an audition")
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasRole('RECRUITER')")
+    @PutMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> rescheduleAudition(@PathVariable Long id,
+                                                                  @Valid @RequestBody ScheduleAuditionDto request,
+                                                                  @CurrentUser AuthenticatedUser user) {
+        AuditionDto audition = auditionScheduleService.rescheduleAudition(user.getId(), id, request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Audition rescheduled successfully");
+        response.put("data", audition);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Cancel an audition", description = "Either the artist or the recruiter may cancel")
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<Map<String, Object>> cancelAudition(@PathVariable Long id,
+                                                              @CurrentUser AuthenticatedUser user) {
+        AuditionDto audition = auditionScheduleService.cancelAudition(user.getId(), id);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Audition cancelled successfully");
+        response.put("data", audition);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Upcoming auditions", description = "The current artist's or recruiter's upcoming auditions, soonest first")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/upcoming")
+    public ResponseEntity<Map<String, Object>> getUpcomingAuditions(
+            @Parameter(description = "Number of auditions") @RequestParam(defaultValue = "20") int size,
+            @CurrentUser AuthenticatedUser user) {
+        List<AuditionDto> auditions = auditionScheduleService.getUpcomingForUser(user.getId(), user.getRole(), size);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", auditions);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -4,7 +4,9 @@ import com.icastar.platform.dto.auth.*;
 import com.icastar.platform.entity.Otp;
 import com.icastar.platform.entity.User;
 import com.icastar.platform.repository.UserRepository;
+import com.icastar.platform.security.JwtClaims;
 import com.icastar.platform.security.JwtTokenProvider;
+import com.icastar.platform.security.TokenRevocationList;
 import com.icastar.platform.service.EmailService;
 import com.icastar.platform.service.OtpService;
 import com.icastar.platform.service.UserService;
@@ -17,6 +19,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,6 +44,7 @@ public class AuthController {
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
+    private final TokenRevocationList tokenRevocationList;
 
     @Operation(
             summary = "Send OTP",
@@ -129,7 +133,7 @@ public class AuthController {
                 user.setAccountLockedUntil(null);
                 userRepository.save(user);
 
-                String token = jwtTokenProvider.generateTokenFromUsername(user.getEmail());
+                String token = jwtTokenProvider.generateToken(user);
                 AuthResponseDto authResponse = new AuthResponseDto(token, user);
 
                 Map<String, Object> response = new HashMap<>();
@@ -285,6 +289,38 @@ public class AuthController {
         }
     }
 
+    @Operation(summary = "Logout", description = "Revoke the bearer token used for this request")
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/logout")
+    public ResponseEntity<Map<String, Object>> logout(HttpServletRequest request) {
+        try {
+            String bearerToken = request.getHeader("Authorization");
+            JwtClaims claims = bearerToken != null && bearerToken.regionMatches(true, 0, "Bearer ", 0, 7)
+                    ? jwtTokenProvider.parseVerifiedClaims(bearerToken.substring(7)) : null;
+            if (claims == null || claims.getTokenId() == null) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("message", "Token cannot be revoked");
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            tokenRevocationList.revoke(claims.getTokenId(), claims.getExpiresAt());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Logged out successfully");
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error during logout", e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "Failed to logout");
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
     // Email-based authentication endpoints (without OTP verification)
 
     @PostMapping("/login")
@@ -334,7 +370,7 @@ public class AuthController {
             userRepository.save(user);
 
             // Generate JWT token
-            String token = jwtTokenProvider.generateTokenFromUsername(user.getEmail());
+            String token = jwtTokenProvider.generateToken(user);
             AuthResponseDto authResponse = new AuthResponseDto(token, user);
 
             Map<String, Object> response = new HashMap<>();
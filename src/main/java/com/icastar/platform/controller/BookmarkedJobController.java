@@ -7,7 +7,8 @@ import com.icastar.platform.entity.ArtistProfile;
 import com.icastar.platform.entity.User;
 import com.icastar.platform.service.BookmarkedJobService;
 import com.icastar.platform.service.ArtistService;
-import com.icastar.platform.service.UserService;
+import com.icastar.platform.security.AuthenticatedUser;
+import com.icastar.platform.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -24,8 +25,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
@@ -42,21 +41,15 @@ public class BookmarkedJobController {
 
     private final BookmarkedJobService bookmarkedJobService;
     private final ArtistService artistService;
-    private final UserService userService;
 
     @Operation(summary = "Bookmark a job", description = "Add a job to bookmarks")
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping("/{jobId}")
     public ResponseEntity<Map<String, Object>> bookmarkJob(
             @PathVariable Long jobId,
-            @Valid @RequestBody(required = false) CreateBookmarkDto createDto) {
+            @Valid @RequestBody(required = false) CreateBookmarkDto createDto,
+            @CurrentUser User user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
@@ -119,14 +112,9 @@ public class BookmarkedJobController {
             @Parameter(description = "Job type filter") @RequestParam(required = false) com.icastar.platform.entity.Job.JobType jobType,
             @Parameter(description = "Location filter") @RequestParam(required = false) String location,
             @Parameter(description = "Sort by field") @RequestParam(defaultValue = "bookmarkedAt") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir,
+            @CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
@@ -214,14 +202,8 @@ public class BookmarkedJobController {
     @Operation(summary = "Get bookmarks with notes", description = "Get bookmarked jobs that have personal notes")
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/with-notes")
-    public ResponseEntity<Map<String, Object>> getBookmarksWithNotes() {
+    public ResponseEntity<Map<String, Object>> getBookmarksWithNotes(@CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
@@ -341,14 +323,8 @@ public class BookmarkedJobController {
     @Operation(summary = "Remove bookmark by job", description = "Remove a job from bookmarks by job ID")
     @SecurityRequirement(name = "bearerAuth")
     @DeleteMapping("/job/{jobId}")
-    public ResponseEntity<Map<String, Object>> removeBookmarkByJob(@PathVariable Long jobId) {
+    public ResponseEntity<Map<String, Object>> removeBookmarkByJob(@PathVariable Long jobId, @CurrentUser User user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
@@ -372,14 +348,8 @@ public class BookmarkedJobController {
     @Operation(summary = "Check if job is bookmarked", description = "Check if a job is bookmarked by the current user")
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/check/{jobId}")
-    public ResponseEntity<Map<String, Object>> checkBookmarkStatus(@PathVariable Long jobId) {
+    public ResponseEntity<Map<String, Object>> checkBookmarkStatus(@PathVariable Long jobId, @CurrentUser User user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
@@ -403,14 +373,8 @@ public class BookmarkedJobController {
     @Operation(summary = "Get bookmark statistics", description = "Get statistics about user's bookmarks")
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, Object>> getBookmarkStats() {
+    public ResponseEntity<Map<String, Object>> getBookmarkStats(@CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
@@ -1,12 +1,17 @@
 package com.icastar.platform.controller;
 
+import com.icastar.platform.dto.artist.CandidateDashboardDto;
+import com.icastar.platform.dto.audition.AuditionDto;
 import com.icastar.platform.entity.ArtistProfile;
 import com.icastar.platform.entity.JobApplication;
 import com.icastar.platform.entity.User;
 import com.icastar.platform.service.ArtistService;
+import com.icastar.platform.service.AuditionScheduleService;
 import com.icastar.platform.service.JobApplicationService;
 import com.icastar.platform.service.BookmarkedJobService;
-import com.icastar.platform.service.UserService;
+import com.icastar.platform.service.CandidateDashboardService;
+import com.icastar.platform.security.AuthenticatedUser;
+import com.icastar.platform.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,8 +28,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
@@ -42,63 +45,43 @@ public class CandidateDashboardController {
     private final ArtistService artistService;
     private final JobApplicationService jobApplicationService;
     private final BookmarkedJobService bookmarkedJobService;
-    private final UserService userService;
+    private final AuditionScheduleService auditionScheduleService;
+    private final CandidateDashboardService candidateDashboardService;
 
     @Operation(summary = "Get dashboard overview", description = "Get comprehensive dashboard data for the candidate")
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/overview")
-    public ResponseEntity<Map<String, Object>> getDashboardOverview() {
+    public ResponseEntity<Map<String, Object>> getDashboardOverview(@CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
-            // Get application statistics
-            Long totalApplications = jobApplicationService.countApplicationsByArtist(artistProfile);
-            Long shortlistedApplications = jobApplicationService.countApplicationsByRecruiterAndStatus(
-                    artistProfile.getId(), JobApplication.ApplicationStatus.SHORTLISTED);
-            Long hiredApplications = jobApplicationService.countApplicationsByRecruiterAndStatus(
-                    artistProfile.getId(), JobApplication.ApplicationStatus.HIRED);
-
-            // Get recent applications
-            List<JobApplication> recentApplications = jobApplicationService.findByArtist(artistProfile)
-                    .stream()
-                    .limit(5)
-                    .toList();
-
-            // Get upcoming interviews
-            List<JobApplication> upcomingInterviews = jobApplicationService.findUpcomingInterviews()
-                    .stream()
-                    .filter(app -> app.getArtist().getId().equals(artistProfile.getId()))
-                    .limit(3)
-                    .toList();
+            // Status counts, recent applications and upcoming interviews come from one cached aggregate
+            CandidateDashboardDto dashboard = candidateDashboardService.getDashboard(artistProfile.getId());
+            Map<JobApplication.ApplicationStatus, Long> byStatus = dashboard.getApplicationsByStatus();
 
             // Get bookmarks count
             Long totalBookmarks = bookmarkedJobService.countBookmarksByArtist(artistProfile);
 
             Map<String, Object> dashboardData = new HashMap<>();
-            dashboardData.put("profile", Map.of(
-                    "id", artistProfile.getId(),
-                    "stageName", artistProfile.getStageName(),
-                    "isVerified", artistProfile.getIsVerifiedBadge(),
-                    "totalApplications", artistProfile.getTotalApplications(),
-                    "successfulHires", artistProfile.getSuccessfulHires()
-            ));
+            // Stage name is optional, so not Map.of
+            Map<String, Object> profile = new HashMap<>();
+            profile.put("id", artistProfile.getId());
+            profile.put("stageName", artistProfile.getStageName());
+            profile.put("isVerified", artistProfile.getIsVerifiedBadge());
+            profile.put("totalApplications", artistProfile.getTotalApplications());
+            profile.put("successfulHires", artistProfile.getSuccessfulHires());
+            dashboardData.put("profile", profile);
 
             dashboardData.put("statistics", Map.of(
-                    "totalApplications", totalApplications,
-                    "shortlistedApplications", shortlistedApplications,
-                    "hiredApplications", hiredApplications,
+                    "totalApplications", dashboard.getTotalApplications(),
+                    "shortlistedApplications", byStatus.get(JobApplication.ApplicationStatus.SHORTLISTED),
+                    "hiredApplications", byStatus.get(JobApplication.ApplicationStatus.HIRED),
                     "totalBookmarks", totalBookmarks
             ));
 
-            dashboardData.put("recentApplications", recentApplications);
-            dashboardData.put("upcomingInterviews", upcomingInterviews);
+            dashboardData.put("recentApplications", dashboard.getRecentApplications());
+            dashboardData.put("upcomingInterviews", dashboard.getUpcomingInterviews());
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -118,41 +101,22 @@ public class CandidateDashboardController {
     @Operation(summary = "Get application statistics", description = "Get detailed statistics about job applications")
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/applications/stats")
-    public ResponseEntity<Map<String, Object>> getApplicationStats() {
+    public ResponseEntity<Map<String, Object>> getApplicationStats(@CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
-            // Get applications by status
-            Long appliedCount = jobApplicationService.countApplicationsByRecruiterAndStatus(
-                    artistProfile.getId(), JobApplication.ApplicationStatus.APPLIED);
-            Long underReviewCount = jobApplicationService.countApplicationsByRecruiterAndStatus(
-                    artistProfile.getId(), JobApplication.ApplicationStatus.UNDER_REVIEW);
-            Long shortlistedCount = jobApplicationService.countApplicationsByRecruiterAndStatus(
-                    artistProfile.getId(), JobApplication.ApplicationStatus.SHORTLISTED);
-            Long interviewedCount = jobApplicationService.countApplicationsByRecruiterAndStatus(
-                    artistProfile.getId(), JobApplication.ApplicationStatus.INTERVIEWED);
-            Long selectedCount = jobApplicationService.countApplicationsByRecruiterAndStatus(
-                    artistProfile.getId(), JobApplication.ApplicationStatus.SELECTED);
-            Long rejectedCount = jobApplicationService.countApplicationsByRecruiterAndStatus(
-                    artistProfile.getId(), JobApplication.ApplicationStatus.REJECTED);
-            Long hiredCount = jobApplicationService.countApplicationsByRecruiterAndStatus(
-                    artistProfile.getId(), JobApplication.ApplicationStatus.HIRED);
+            Map<JobApplication.ApplicationStatus, Long> byStatus =
+                    candidateDashboardService.getDashboard(artistProfile.getId()).getApplicationsByStatus();
 
             Map<String, Object> stats = new HashMap<>();
-            stats.put("applied", appliedCount);
-            stats.put("underReview", underReviewCount);
-            stats.put("shortlisted", shortlistedCount);
-            stats.put("interviewed", interviewedCount);
-            stats.put("selected", selectedCount);
-            stats.put("rejected", rejectedCount);
-            stats.put("hired", hiredCount);
+            stats.put("applied", byStatus.get(JobApplication.ApplicationStatus.APPLIED));
+            stats.put("underReview", byStatus.get(JobApplication.ApplicationStatus.UNDER_REVIEW));
+            stats.put("shortlisted", byStatus.get(JobApplication.ApplicationStatus.SHORTLISTED));
+            stats.put("interviewed", byStatus.get(JobApplication.ApplicationStatus.INTERVIEWED));
+            stats.put("selected", byStatus.get(JobApplication.ApplicationStatus.SELECTED));
+            stats.put("rejected", byStatus.get(JobApplication.ApplicationStatus.REJECTED));
+            stats.put("hired", byStatus.get(JobApplication.ApplicationStatus.HIRED));
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -174,14 +138,9 @@ public class CandidateDashboardController {
     @GetMapping("/activity")
     public ResponseEntity<Map<String, Object>> getRecentActivity(
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+            @CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
@@ -209,21 +168,14 @@ public class CandidateDashboardController {
     @Operation(summary = "Get upcoming interviews", description = "Get scheduled interviews")
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/interviews")
-    public ResponseEntity<Map<String, Object>> getUpcomingInterviews() {
+    public ResponseEntity<Map<String, Object>> getUpcomingInterviews(
+            @Parameter(description = "Number of interviews") @RequestParam(defaultValue = "20") int size,
+            @CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
-            List<JobApplication> interviews = jobApplicationService.findUpcomingInterviews()
-                    .stream()
-                    .filter(app -> app.getArtist().getId().equals(artistProfile.getId()))
-                    .toList();
+            List<AuditionDto> interviews = auditionScheduleService.getUpcomingForArtist(artistProfile.getId(), size);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -245,14 +197,9 @@ public class CandidateDashboardController {
     @GetMapping("/bookmarks")
     public ResponseEntity<Map<String, Object>> getBookmarkedJobs(
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+            @CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
@@ -281,14 +228,8 @@ public class CandidateDashboardController {
     @Operation(summary = "Get profile completion status", description = "Get profile completion percentage and missing fields")
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/profile/completion")
-    public ResponseEntity<Map<String, Object>> getProfileCompletionStatus() {
+    public ResponseEntity<Map<String, Object>> getProfileCompletionStatus(@CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
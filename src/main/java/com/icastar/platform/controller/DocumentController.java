@@ -0,0 +1,49 @@
+package com.icastar.platform.controller;
+
+import com.icastar.platform.security.AuthenticatedUser;
+import com.icastar.platform.security.CurrentUser;
+import com.icastar.platform.service.DocumentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Document files that are not publicly served, such as identity documents
+ */
+@RestController
+@RequestMapping("/documents")
+@RequiredArgsConstructor
+@Tag(name = "Documents", description = "Owner-only document downloads")
+public class DocumentController {
+
+    private final DocumentService documentService;
+
+    @Operation(summary = "Download a document", description = "Only the document's owner and admins may download it")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/{id}/content")
+    public ResponseEntity<InputStreamResource> getContent(@PathVariable Long id, @CurrentUser AuthenticatedUser user) {
+        DocumentService.DocumentContent file = documentService.openDocument(user.getId(), user.getRole(), id);
+
+        // The type comes from the whitelisted extension, never from the uploaded content type
+        MediaType contentType = MediaTypeFactory.getMediaType(file.document().getFileName())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.document().getFileName()).build().toString())
+                .header("X-Content-Type-Options", "nosniff")
+                .header(HttpHeaders.CACHE_CONTROL, "private, no-store")
+                .body(new InputStreamResource(file.content()));
+    }
+}
@@ -1,14 +1,18 @@
 package com.icastar.platform.controller;
 
+import com.icastar.platform.dto.audition.AuditionDto;
+import com.icastar.platform.dto.audition.ScheduleAuditionDto;
 import com.icastar.platform.dto.job.CreateJobApplicationDto;
 import com.icastar.platform.dto.job.JobApplicationDto;
 import com.icastar.platform.dto.job.UpdateJobApplicationDto;
 import com.icastar.platform.entity.JobApplication;
 import com.icastar.platform.entity.ArtistProfile;
 import com.icastar.platform.entity.User;
+import com.icastar.platform.service.AuditionScheduleService;
 import com.icastar.platform.service.JobApplicationService;
 import com.icastar.platform.service.ArtistService;
-import com.icastar.platform.service.UserService;
+import com.icastar.platform.security.AuthenticatedUser;
+import com.icastar.platform.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -25,8 +29,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
@@ -45,21 +48,16 @@ public class JobApplicationController {
 
     private final JobApplicationService jobApplicationService;
     private final ArtistService artistService;
-    private final UserService userService;
+    private final AuditionScheduleService auditionScheduleService;
 
     @Operation(summary = "Apply for a job", description = "Submit an application for a job")
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping
     public ResponseEntity<Map<String, Object>> applyForJob(
             @Parameter(description = "Job application details", required = true)
-            @Valid @RequestBody CreateJobApplicationDto createDto) {
+            @Valid @RequestBody CreateJobApplicationDto createDto,
+            @CurrentUser User user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
@@ -121,14 +119,9 @@ public class JobApplicationController {
             @Parameter(description = "Search by job title") @RequestParam(required = false) String jobTitle,
             @Parameter(description = "Search by company name") @RequestParam(required = false) String companyName,
             @Parameter(description = "Sort by field") @RequestParam(defaultValue = "appliedAt") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir,
+            @CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
@@ -268,30 +261,25 @@ public class JobApplicationController {
         }
     }
 
-    @Operation(summary = "Schedule interview", description = "Schedule an interview for an application")
+    @Operation(summary = "Schedule interview", description = "Schedule an interview for an application of one of the recruiter's jobs; a clash with either participant's bookings is rejected with 409 AUDITION_CONFLICT")
     @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasRole('RECRUITER')")
     @PostMapping("/{id}/schedule-interview")
     public ResponseEntity<Map<String, Object>> scheduleInterview(
             @PathVariable Long id,
             @Parameter(description = "Interview date and time") @RequestParam LocalDateTime interviewTime,
-            @Parameter(description = "Interview notes") @RequestParam(required = false) String notes) {
-        try {
-            JobApplication application = jobApplicationService.scheduleInterview(id, interviewTime, notes);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Interview scheduled successfully");
-            response.put("data", application);
-
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Error scheduling interview", e);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "Failed to schedule interview");
-            response.put("error", e.getMessage());
-            return ResponseEntity.badRequest().body(response);
-        }
+            @Parameter(description = "Interview notes") @RequestParam(required = false) String notes,
+            @CurrentUser AuthenticatedUser user) {
+        ScheduleAuditionDto request = new ScheduleAuditionDto();
+        request.setScheduledAt(interviewTime);
+        request.setInstructions(notes);
+        AuditionDto audition = auditionScheduleService.scheduleAudition(user.getId(), id, request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Interview scheduled successfully");
+        response.put("data", audition);
+        return ResponseEntity.ok(response);
     }
 
     @Operation(summary = "Shortlist application", description = "Shortlist an application")
@@ -395,14 +383,8 @@ public class JobApplicationController {
     @Operation(summary = "Check if applied for job", description = "Check if user has already applied for a specific job")
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/check/{jobId}")
-    public ResponseEntity<Map<String, Object>> checkApplicationStatus(@PathVariable Long jobId) {
+    public ResponseEntity<Map<String, Object>> checkApplicationStatus(@PathVariable Long jobId, @CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             ArtistProfile artistProfile = artistService.findByUserId(user.getId())
                     .orElseThrow(() -> new RuntimeException("Artist profile not found"));
 
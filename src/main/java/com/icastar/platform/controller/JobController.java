@@ -18,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -62,6 +63,9 @@ public class JobController {
             @Parameter(description = "Urgent jobs only") @RequestParam(required = false) Boolean isUrgent,
             @Parameter(description = "Featured jobs only") @RequestParam(required = false) Boolean isFeatured,
             @Parameter(description = "Required skills (comma-separated)") @RequestParam(required = false) String skills,
+            @Parameter(description = "Skill matching: ANY or ALL of the listed skills") @RequestParam(defaultValue = "ANY") String skillMatch,
+            @Parameter(description = "Tags (comma-separated)") @RequestParam(required = false) String tags,
+            @Parameter(description = "Keyset cursor: id of the last job on the previous page, 0 for the first page. Omit for page-number paging") @RequestParam(required = false) Long cursor,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort by field") @RequestParam(defaultValue = "publishedAt") String sortBy,
@@ -86,6 +90,27 @@ public class JobController {
             if (skills != null && !skills.isEmpty()) {
                 filter.setSkills(java.util.Arrays.asList(skills.split(",")));
             }
+            filter.setSkillMatch(skillMatch);
+            if (tags != null && !tags.isEmpty()) {
+                filter.setTags(java.util.Arrays.asList(tags.split(",")));
+            }
+            
+            if (cursor != null) {
+                filter.setCursor(cursor);
+                Slice<Job> jobs = jobService.findJobsByCursor(filter, size);
+                List<com.icastar.platform.dto.job.JobDto> jobDtos = jobs.getContent().stream()
+                        .map(com.icastar.platform.dto.job.JobDto::new)
+                        .collect(java.util.stream.Collectors.toList());
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("data", jobDtos);
+                response.put("totalElements", jobService.countJobsWithFilters(filter));
+                response.put("size", size);
+                response.put("hasNext", jobs.hasNext());
+                response.put("nextCursor", jobs.hasNext() ? jobs.getContent().get(jobs.getContent().size() - 1).getId() : null);
+                return ResponseEntity.ok(response);
+            }
             
             Page<Job> jobs = jobService.findJobsWithFilters(filter, pageable);
 
@@ -145,7 +170,7 @@ public class JobController {
         }
     }
 
-    @Operation(summary = "Search jobs", description = "Search jobs by title, description, or requirements")
+    @Operation(summary = "Search jobs", description = "Full-text search over title, description, requirements, skills, tags and location, ranked by relevance")
     @GetMapping("/search")
     public ResponseEntity<Map<String, Object>> searchJobs(
             @Parameter(description = "Search term") @RequestParam String q,
@@ -0,0 +1,80 @@
+package com.icastar.platform.controller;
+
+import com.icastar.platform.dto.admin.CursorPageDto;
+import com.icastar.platform.dto.message.MarkReadDto;
+import com.icastar.platform.dto.message.MessageDto;
+import com.icastar.platform.dto.message.SendMessageDto;
+import com.icastar.platform.security.AuthenticatedUser;
+import com.icastar.platform.security.CurrentUser;
+import com.icastar.platform.service.MessageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * REST side of messaging; live delivery goes over the STOMP endpoint at /ws
+ */
+@RestController
+@RequestMapping("/messages")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Messaging", description = "Direct messages between recruiters and artists")
+public class MessageController {
+
+    private final MessageService messageService;
+
+    @Operation(summary = "Send a message", description = "Store a message and push it to the recipient's open connections")
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> sendMessage(@Valid @RequestBody SendMessageDto request,
+                                                           @CurrentUser AuthenticatedUser user) {
+        MessageDto message = messageService.send(user.getId(), request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Message sent successfully");
+        response.put("data", message);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Conversation history", description = "Messages with another user, newest first; pass the previous page's nextCursor to load older ones")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/conversations/{userId}")
+    public ResponseEntity<CursorPageDto<MessageDto>> getConversation(@PathVariable Long userId,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "30") int size,
+                                                                     @CurrentUser AuthenticatedUser user) {
+        return ResponseEntity.ok(messageService.getConversation(user.getId(), userId, cursor, size));
+    }
+
+    @Operation(summary = "Mark messages as read", description = "Mark the messages from a user as read up to a message id")
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/read")
+    public ResponseEntity<Map<String, Object>> markRead(@Valid @RequestBody MarkReadDto request,
+                                                        @CurrentUser AuthenticatedUser user) {
+        messageService.markRead(user.getId(), request.getSenderId(), request.getUpToMessageId());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Messages marked as read");
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Unread message count")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Object>> getUnreadCount(@CurrentUser AuthenticatedUser user) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", Map.of("unreadCount", messageService.countUnread(user.getId())));
+        return ResponseEntity.ok(response);
+    }
+}
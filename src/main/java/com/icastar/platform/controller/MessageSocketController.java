@@ -0,0 +1,48 @@
+package com.icastar.platform.controller;
+
+import com.icastar.platform.dto.message.MarkReadDto;
+import com.icastar.platform.dto.message.SendMessageDto;
+import com.icastar.platform.security.StompAuthChannelInterceptor.MessagingAuthentication;
+import com.icastar.platform.service.MessageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * STOMP handlers: clients send to /app/messages.send and /app/messages.read, and receive on
+ * /user/queue/messages, /user/queue/receipts and /user/queue/errors.
+ */
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class MessageSocketController {
+
+    private final MessageService messageService;
+
+    @MessageMapping("/messages.send")
+    public void send(@Payload SendMessageDto request, MessagingAuthentication authentication) {
+        messageService.send(authentication.getUser().getId(), request);
+    }
+
+    @MessageMapping("/messages.read")
+    public void markRead(@Payload MarkReadDto request, MessagingAuthentication authentication) {
+        messageService.markRead(authentication.getUser().getId(), request.getSenderId(), request.getUpToMessageId());
+    }
+
+    @MessageExceptionHandler
+    @SendToUser(value = "/queue/errors", broadcast = false)
+    public Map<String, Object> handleException(Exception e) {
+        log.warn("Messaging request failed: {}", e.getMessage());
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        return response;
+    }
+}
@@ -0,0 +1,74 @@
+package com.icastar.platform.controller;
+
+import com.icastar.platform.dto.admin.CursorPageDto;
+import com.icastar.platform.dto.notification.NotificationDto;
+import com.icastar.platform.security.AuthenticatedUser;
+import com.icastar.platform.security.CurrentUser;
+import com.icastar.platform.service.NotificationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-app notifications; new ones are also pushed live on /user/queue/notifications
+ */
+@RestController
+@RequestMapping("/notifications")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Notifications", description = "In-app notifications of the current user")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    @Operation(summary = "List notifications", description = "Newest first; pass the previous page's nextCursor to load older ones")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping
+    public ResponseEntity<CursorPageDto<NotificationDto>> getNotifications(@RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "20") int size,
+                                                                           @CurrentUser AuthenticatedUser user) {
+        return ResponseEntity.ok(notificationService.getNotifications(user.getId(), cursor, size));
+    }
+
+    @Operation(summary = "Unread notification count")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Object>> getUnreadCount(@CurrentUser AuthenticatedUser user) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", Map.of("unreadCount", notificationService.countUnread(user.getId())));
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Mark a notification as read")
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/{id}/read")
+    public ResponseEntity<Map<String, Object>> markRead(@PathVariable Long id, @CurrentUser AuthenticatedUser user) {
+        notificationService.markRead(user.getId(), id);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Notification marked as read");
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Mark all notifications as read")
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/read-all")
+    public ResponseEntity<Map<String, Object>> markAllRead(@CurrentUser AuthenticatedUser user) {
+        int updated = notificationService.markAllRead(user.getId());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Notifications marked as read");
+        response.put("data", Map.of("updated", updated));
+        return ResponseEntity.ok(response);
+    }
+}
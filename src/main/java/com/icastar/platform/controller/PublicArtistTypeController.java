@@ -1,8 +1,6 @@
 package com.icastar.platform.controller;
 
-import com.icastar.platform.dto.ArtistTypeDto;
-import com.icastar.platform.dto.ArtistTypeFieldDto;
-import com.icastar.platform.service.ArtistTypeService;
+import com.icastar.platform.service.ArtistTypeCatalog;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,10 +11,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/public/artist-types")
@@ -25,35 +24,50 @@ import java.util.List;
 @Tag(name = "Public", description = "Public API endpoints for general information")
 public class PublicArtistTypeController {
 
-    private final ArtistTypeService artistTypeService;
+    private final ArtistTypeCatalog artistTypeCatalog;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getAllActiveArtistTypes(WebRequest request) {
+        return cached(artistTypeCatalog.snapshot().activeTypesJson(), request);
+    }
 
-    @GetMapping
-    public ResponseEntity<List<ArtistTypeDto>> getAllActiveArtistTypes() {
-        List<ArtistTypeDto> artistTypes = artistTypeService.getAllActiveArtistTypes();
-        return ResponseEntity.ok(artistTypes);
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getArtistTypeById(@PathVariable Long id, WebRequest request) {
+        ArtistTypeCatalog.Json json = artistTypeCatalog.snapshot().typeJson(id);
+        if (json == null) {
+            throw new RuntimeException("Artist type not found with id: " + id);
+        }
+        return cached(json, request);
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<ArtistTypeDto> getArtistTypeById(@PathVariable Long id) {
-        ArtistTypeDto artistType = artistTypeService.getArtistTypeById(id);
-        return ResponseEntity.ok(artistType);
+    @GetMapping(value = "/name/{name}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getArtistTypeByName(@PathVariable String name, WebRequest request) {
+        ArtistTypeCatalog.Json json = artistTypeCatalog.snapshot().typeJson(name);
+        if (json == null) {
+            throw new RuntimeException("Artist type not found with name: " + name);
+        }
+        return cached(json, request);
     }
 
-    @GetMapping("/name/{name}")
-    public ResponseEntity<ArtistTypeDto> getArtistTypeByName(@PathVariable String name) {
-        ArtistTypeDto artistType = artistTypeService.getArtistTypeByName(name);
-        return ResponseEntity.ok(artistType);
+    @GetMapping(value = "/{id}/fields", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getArtistTypeFields(@PathVariable Long id, WebRequest request) {
+        return cached(artistTypeCatalog.snapshot().activeFieldsJson(id), request);
     }
 
-    @GetMapping("/{id}/fields")
-    public ResponseEntity<List<ArtistTypeFieldDto>> getArtistTypeFields(@PathVariable Long id) {
-        List<ArtistTypeFieldDto> fields = artistTypeService.getArtistTypeFields(id);
-        return ResponseEntity.ok(fields);
+    @GetMapping(value = "/{id}/fields/required", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getRequiredFields(@PathVariable Long id, WebRequest request) {
+        return cached(artistTypeCatalog.snapshot().requiredFieldsJson(id), request);
     }
 
-    @GetMapping("/{id}/fields/required")
-    public ResponseEntity<List<ArtistTypeFieldDto>> getRequiredFields(@PathVariable Long id) {
-        List<ArtistTypeFieldDto> fields = artistTypeService.getRequiredArtistTypeFields(id);
-        return ResponseEntity.ok(fields);
+    // Catalog responses are pre-serialized; clients revalidate with If-None-Match and usually get a 304
+    private ResponseEntity<byte[]> cached(ArtistTypeCatalog.Json json, WebRequest request) {
+        if (request.checkNotModified(json.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(json.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json.body());
     }
 }
@@ -5,7 +5,7 @@ import com.icastar.platform.dto.application.UpdateApplicationStatusDto;
 import com.icastar.platform.entity.JobApplication;
 import com.icastar.platform.entity.User;
 import com.icastar.platform.service.JobApplicationService;
-import com.icastar.platform.service.UserService;
+import com.icastar.platform.security.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,8 +14,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -30,7 +28,6 @@ import java.util.stream.Collectors;
 public class RecruiterApplicationController {
 
     private final JobApplicationService jobApplicationService;
-    private final UserService userService;
 
     @GetMapping
     public ResponseEntity<Page<JobApplicationDto>> getApplicationsForMyJobs(
@@ -38,20 +35,15 @@ public class RecruiterApplicationController {
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "appliedAt") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDir,
-            @RequestParam(required = false) JobApplication.ApplicationStatus status) {
+            @RequestParam(required = false) JobApplication.ApplicationStatus status,
+            @CurrentUser User recruiter) {
 
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User recruiter = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             if (recruiter.getRole() != User.UserRole.RECRUITER) {
                 throw new RuntimeException("Only recruiters can view applications");
             }
 
-            log.info("Fetching applications for recruiter: {}", email);
+            log.info("Fetching applications for recruiter: {}", recruiter.getEmail());
 
             Sort sort = sortDir.equalsIgnoreCase("desc") ? 
                     Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
@@ -82,20 +74,15 @@ public class RecruiterApplicationController {
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "appliedAt") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDir,
-            @RequestParam(required = false) JobApplication.ApplicationStatus status) {
+            @RequestParam(required = false) JobApplication.ApplicationStatus status,
+            @CurrentUser User recruiter) {
 
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User recruiter = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             if (recruiter.getRole() != User.UserRole.RECRUITER) {
                 throw new RuntimeException("Only recruiters can view applications");
             }
 
-            log.info("Fetching applications for job {} by recruiter: {}", jobId, email);
+            log.info("Fetching applications for job {} by recruiter: {}", jobId, recruiter.getEmail());
 
             Sort sort = sortDir.equalsIgnoreCase("desc") ? 
                     Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
@@ -120,19 +107,13 @@ public class RecruiterApplicationController {
     }
 
     @GetMapping("/{applicationId}")
-    public ResponseEntity<JobApplicationDto> getApplication(@PathVariable Long applicationId) {
+    public ResponseEntity<JobApplicationDto> getApplication(@PathVariable Long applicationId, @CurrentUser User recruiter) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User recruiter = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             if (recruiter.getRole() != User.UserRole.RECRUITER) {
                 throw new RuntimeException("Only recruiters can view applications");
             }
 
-            log.info("Fetching application {} for recruiter: {}", applicationId, email);
+            log.info("Fetching application {} for recruiter: {}", applicationId, recruiter.getEmail());
 
             JobApplication application = jobApplicationService.findById(applicationId)
                     .orElseThrow(() -> new RuntimeException("Application not found with id: " + applicationId));
@@ -154,20 +135,15 @@ public class RecruiterApplicationController {
     @PutMapping("/{applicationId}/status")
     public ResponseEntity<JobApplicationDto> updateApplicationStatus(
             @PathVariable Long applicationId,
-            @Valid @RequestBody UpdateApplicationStatusDto updateDto) {
+            @Valid @RequestBody UpdateApplicationStatusDto updateDto,
+            @CurrentUser User recruiter) {
         
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User recruiter = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             if (recruiter.getRole() != User.UserRole.RECRUITER) {
                 throw new RuntimeException("Only recruiters can update application status");
             }
 
-            log.info("Updating application status for application {} by recruiter: {}", applicationId, email);
+            log.info("Updating application status for application {} by recruiter: {}", applicationId, recruiter.getEmail());
 
             JobApplication application = jobApplicationService.updateApplicationStatus(
                 applicationId, recruiter.getId(), updateDto);
@@ -181,19 +157,13 @@ public class RecruiterApplicationController {
     }
 
     @GetMapping("/pending")
-    public ResponseEntity<List<JobApplicationDto>> getPendingApplications() {
+    public ResponseEntity<List<JobApplicationDto>> getPendingApplications(@CurrentUser User recruiter) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User recruiter = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             if (recruiter.getRole() != User.UserRole.RECRUITER) {
                 throw new RuntimeException("Only recruiters can view pending applications");
             }
 
-            log.info("Fetching pending applications for recruiter: {}", email);
+            log.info("Fetching pending applications for recruiter: {}", recruiter.getEmail());
 
             List<JobApplication> pendingApplications = jobApplicationService.findByRecruiterAndStatus(
                 recruiter.getId(), JobApplication.ApplicationStatus.UNDER_REVIEW);
@@ -210,19 +180,13 @@ public class RecruiterApplicationController {
     }
 
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, Object>> getApplicationStats() {
+    public ResponseEntity<Map<String, Object>> getApplicationStats(@CurrentUser User recruiter) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User recruiter = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             if (recruiter.getRole() != User.UserRole.RECRUITER) {
                 throw new RuntimeException("Only recruiters can view application stats");
             }
 
-            log.info("Fetching application stats for recruiter: {}", email);
+            log.info("Fetching application stats for recruiter: {}", recruiter.getEmail());
 
             Map<String, Object> stats = new HashMap<>();
             stats.put("totalApplications", jobApplicationService.getApplicationsCountByRecruiter(recruiter.getId()));
@@ -3,6 +3,7 @@ package com.icastar.platform.controller;
 import com.icastar.platform.dto.recruiter.*;
 import com.icastar.platform.entity.User;
 import com.icastar.platform.service.RecruiterDashboardService;
+import com.icastar.platform.security.CurrentUser;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -10,7 +11,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -29,9 +29,8 @@ public class RecruiterDashboardController {
      * Get recruiter dashboard overview
      */
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getDashboard(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> getDashboard(@CurrentUser User recruiter) {
         try {
-            User recruiter = (User) authentication.getPrincipal();
             RecruiterDashboardDto dashboard = recruiterDashboardService.getDashboard(recruiter);
             
             Map<String, Object> response = new HashMap<>();
@@ -54,9 +53,8 @@ public class RecruiterDashboardController {
     @PostMapping("/jobs")
     public ResponseEntity<Map<String, Object>> postJob(
             @Valid @RequestBody JobPostingDto jobPosting,
-            Authentication authentication) {
+            @CurrentUser User recruiter) {
         try {
-            User recruiter = (User) authentication.getPrincipal();
             Map<String, Object> result = recruiterDashboardService.postJob(jobPosting, recruiter);
             
             Map<String, Object> response = new HashMap<>();
@@ -85,9 +83,8 @@ public class RecruiterDashboardController {
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String title,
             Pageable pageable,
-            Authentication authentication) {
+            @CurrentUser User recruiter) {
         try {
-            User recruiter = (User) authentication.getPrincipal();
             Page<RecentJobDto> jobs = recruiterDashboardService.getMyJobs(
                     status, isActive, jobType, location, title, pageable, recruiter);
             
@@ -115,9 +112,8 @@ public class RecruiterDashboardController {
     @GetMapping("/jobs/{jobId}")
     public ResponseEntity<Map<String, Object>> getJobDetails(
             @PathVariable Long jobId,
-            Authentication authentication) {
+            @CurrentUser User recruiter) {
         try {
-            User recruiter = (User) authentication.getPrincipal();
             Map<String, Object> jobDetails = recruiterDashboardService.getJobDetails(jobId, recruiter);
             
             Map<String, Object> response = new HashMap<>();
@@ -145,9 +141,8 @@ public class RecruiterDashboardController {
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String experienceLevel,
             Pageable pageable,
-            Authentication authentication) {
+            @CurrentUser User recruiter) {
         try {
-            User recruiter = (User) authentication.getPrincipal();
             Page<RecentApplicationDto> applications = recruiterDashboardService.getJobApplications(
                     jobId, status, artistCategory, location, experienceLevel, pageable, recruiter);
             
@@ -184,9 +179,8 @@ public class RecruiterDashboardController {
             @RequestParam(required = false) Boolean isVerified,
             @RequestParam(required = false) Boolean isPremium,
             Pageable pageable,
-            Authentication authentication) {
+            @CurrentUser User recruiter) {
         try {
-            User recruiter = (User) authentication.getPrincipal();
             Page<ArtistSuggestionDto> artists = recruiterDashboardService.browseArtists(
                     artistCategory, artistType, location, skills, genres, experienceLevel, 
                     availability, isVerified, isPremium, pageable, recruiter);
@@ -225,9 +219,8 @@ public class RecruiterDashboardController {
             @RequestParam(required = false) Boolean isVerified,
             @RequestParam(required = false) Boolean isPremium,
             @RequestParam(defaultValue = "10") Integer limit,
-            Authentication authentication) {
+            @CurrentUser User recruiter) {
         try {
-            User recruiter = (User) authentication.getPrincipal();
             List<ArtistSuggestionDto> suggestions = recruiterDashboardService.getArtistSuggestions(
                     jobId, artistCategory, artistType, location, skills, genres, 
                     experienceLevel, availability, isVerified, isPremium, limit, recruiter);
@@ -259,9 +252,8 @@ public class RecruiterDashboardController {
             @RequestParam(required = false) Boolean isCompleted,
             @RequestParam(required = false) Boolean isRecommended,
             Pageable pageable,
-            Authentication authentication) {
+            @CurrentUser User recruiter) {
         try {
-            User recruiter = (User) authentication.getPrincipal();
             Page<RecentHireDto> hires = recruiterDashboardService.getHires(
                     status, artistCategory, jobType, performanceRating, isCompleted, 
                     isRecommended, pageable, recruiter);
@@ -290,9 +282,8 @@ public class RecruiterDashboardController {
     @GetMapping("/hires/{hireId}")
     public ResponseEntity<Map<String, Object>> getHireDetails(
             @PathVariable Long hireId,
-            Authentication authentication) {
+            @CurrentUser User recruiter) {
         try {
-            User recruiter = (User) authentication.getPrincipal();
             Map<String, Object> hireDetails = recruiterDashboardService.getHireDetails(hireId, recruiter);
             
             Map<String, Object> response = new HashMap<>();
@@ -317,9 +308,8 @@ public class RecruiterDashboardController {
             @PathVariable Long hireId,
             @RequestParam String rating,
             @RequestParam(required = false) String feedback,
-            Authentication authentication) {
+            @CurrentUser User recruiter) {
         try {
-            User recruiter = (User) authentication.getPrincipal();
             Map<String, Object> result = recruiterDashboardService.rateHire(hireId, rating, feedback, recruiter);
             
             Map<String, Object> response = new HashMap<>();
@@ -341,9 +331,8 @@ public class RecruiterDashboardController {
      * Get recruiter statistics
      */
     @GetMapping("/statistics")
-    public ResponseEntity<Map<String, Object>> getStatistics(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> getStatistics(@CurrentUser User recruiter) {
         try {
-            User recruiter = (User) authentication.getPrincipal();
             Map<String, Object> statistics = recruiterDashboardService.getStatistics(recruiter);
             
             Map<String, Object> response = new HashMap<>();
@@ -364,9 +353,8 @@ public class RecruiterDashboardController {
      * Get subscription status and features
      */
     @GetMapping("/subscription")
-    public ResponseEntity<Map<String, Object>> getSubscriptionStatus(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> getSubscriptionStatus(@CurrentUser User recruiter) {
         try {
-            User recruiter = (User) authentication.getPrincipal();
             Map<String, Object> subscription = recruiterDashboardService.getSubscriptionStatus(recruiter);
             
             Map<String, Object> response = new HashMap<>();
@@ -391,9 +379,8 @@ public class RecruiterDashboardController {
             @PathVariable Long jobId,
             @RequestParam String status,
             @RequestParam(required = false) String reason,
-            Authentication authentication) {
+            @CurrentUser User recruiter) {
         try {
-            User recruiter = (User) authentication.getPrincipal();
             Map<String, Object> result = recruiterDashboardService.updateJobStatus(jobId, status, reason, recruiter);
             
             Map<String, Object> response = new HashMap<>();
@@ -418,9 +405,8 @@ public class RecruiterDashboardController {
     public ResponseEntity<Map<String, Object>> boostJob(
             @PathVariable Long jobId,
             @RequestParam(required = false) Integer days,
-            Authentication authentication) {
+            @CurrentUser User recruiter) {
         try {
-            User recruiter = (User) authentication.getPrincipal();
             Map<String, Object> result = recruiterDashboardService.boostJob(jobId, days, recruiter);
             
             Map<String, Object> response = new HashMap<>();
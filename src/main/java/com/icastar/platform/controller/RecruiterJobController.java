@@ -6,7 +6,7 @@ import com.icastar.platform.dto.job.UpdateJobPostDto;
 import com.icastar.platform.entity.Job;
 import com.icastar.platform.entity.User;
 import com.icastar.platform.service.JobService;
-import com.icastar.platform.service.UserService;
+import com.icastar.platform.security.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,8 +16,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -30,22 +28,15 @@ import java.util.Map;
 public class RecruiterJobController {
 
     private final JobService jobService;
-    private final UserService userService;
 
     @PostMapping
-    public ResponseEntity<JobDto> createJobPost(@Valid @RequestBody CreateJobPostDto createDto) {
+    public ResponseEntity<JobDto> createJobPost(@Valid @RequestBody CreateJobPostDto createDto, @CurrentUser User recruiter) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User recruiter = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             if (recruiter.getRole() != User.UserRole.RECRUITER) {
                 throw new BadRequestException("Only recruiters can create job posts");
             }
 
-            log.info("Creating job post for recruiter: {}", email);
+            log.info("Creating job post for recruiter: {}", recruiter.getEmail());
 
             Job job = jobService.createJobPost(recruiter.getId(), createDto);
             JobDto jobDto = new JobDto(job);
@@ -62,20 +53,15 @@ public class RecruiterJobController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @CurrentUser User recruiter) {
 
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User recruiter = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             if (recruiter.getRole() != User.UserRole.RECRUITER) {
                 throw new RuntimeException("Only recruiters can view job posts");
             }
 
-            log.info("Fetching job posts for recruiter: {}", email);
+            log.info("Fetching job posts for recruiter: {}", recruiter.getEmail());
 
             Sort sort = sortDir.equalsIgnoreCase("desc") ? 
                     Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
@@ -92,19 +78,13 @@ public class RecruiterJobController {
     }
 
     @GetMapping("/{jobId}")
-    public ResponseEntity<JobDto> getMyJobPost(@PathVariable Long jobId) {
+    public ResponseEntity<JobDto> getMyJobPost(@PathVariable Long jobId, @CurrentUser User recruiter) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User recruiter = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             if (recruiter.getRole() != User.UserRole.RECRUITER) {
                 throw new RuntimeException("Only recruiters can view job posts");
             }
 
-            log.info("Fetching job post {} for recruiter: {}", jobId, email);
+            log.info("Fetching job post {} for recruiter: {}", jobId, recruiter.getEmail());
 
             Job job = jobService.findById(jobId)
                     .orElseThrow(() -> new RuntimeException("Job not found with id: " + jobId));
@@ -126,20 +106,15 @@ public class RecruiterJobController {
     @PutMapping("/{jobId}")
     public ResponseEntity<JobDto> updateJobPost(
             @PathVariable Long jobId,
-            @Valid @RequestBody UpdateJobPostDto updateDto) {
+            @Valid @RequestBody UpdateJobPostDto updateDto,
+            @CurrentUser User recruiter) {
         
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User recruiter = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             if (recruiter.getRole() != User.UserRole.RECRUITER) {
                 throw new RuntimeException("Only recruiters can update job posts");
             }
 
-            log.info("Updating job post {} for recruiter: {}", jobId, email);
+            log.info("Updating job post {} for recruiter: {}", jobId, recruiter.getEmail());
 
             Job job = jobService.updateJobPost(jobId, recruiter.getId(), updateDto);
             JobDto jobDto = new JobDto(job);
@@ -152,19 +127,13 @@ public class RecruiterJobController {
     }
 
     @DeleteMapping("/{jobId}")
-    public ResponseEntity<Map<String, String>> deleteJobPost(@PathVariable Long jobId) {
+    public ResponseEntity<Map<String, String>> deleteJobPost(@PathVariable Long jobId, @CurrentUser User recruiter) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User recruiter = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             if (recruiter.getRole() != User.UserRole.RECRUITER) {
                 throw new RuntimeException("Only recruiters can delete job posts");
             }
 
-            log.info("Deleting job post {} for recruiter: {}", jobId, email);
+            log.info("Deleting job post {} for recruiter: {}", jobId, recruiter.getEmail());
 
             jobService.deleteJobPost(jobId, recruiter.getId());
 
@@ -179,19 +148,13 @@ public class RecruiterJobController {
     }
 
     @PostMapping("/{jobId}/toggle-visibility")
-    public ResponseEntity<JobDto> toggleJobVisibility(@PathVariable Long jobId) {
+    public ResponseEntity<JobDto> toggleJobVisibility(@PathVariable Long jobId, @CurrentUser User recruiter) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User recruiter = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             if (recruiter.getRole() != User.UserRole.RECRUITER) {
                 throw new RuntimeException("Only recruiters can modify job posts");
             }
 
-            log.info("Toggling visibility for job post {} for recruiter: {}", jobId, email);
+            log.info("Toggling visibility for job post {} for recruiter: {}", jobId, recruiter.getEmail());
 
             Job job = jobService.toggleJobVisibility(jobId, recruiter.getId());
             JobDto jobDto = new JobDto(job);
@@ -204,19 +167,13 @@ public class RecruiterJobController {
     }
 
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, Object>> getMyJobStats() {
+    public ResponseEntity<Map<String, Object>> getMyJobStats(@CurrentUser User recruiter) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User recruiter = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             if (recruiter.getRole() != User.UserRole.RECRUITER) {
                 throw new RuntimeException("Only recruiters can view job stats");
             }
 
-            log.info("Fetching job stats for recruiter: {}", email);
+            log.info("Fetching job stats for recruiter: {}", recruiter.getEmail());
 
             Map<String, Object> stats = new HashMap<>();
             stats.put("totalJobs", jobService.getJobsCountByRecruiter(recruiter.getId()));
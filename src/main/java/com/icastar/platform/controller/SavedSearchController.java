@@ -0,0 +1,86 @@
+package com.icastar.platform.controller;
+
+import com.icastar.platform.dto.job.SavedSearchDto;
+import com.icastar.platform.dto.job.SavedSearchRequestDto;
+import com.icastar.platform.security.AuthenticatedUser;
+import com.icastar.platform.security.CurrentUser;
+import com.icastar.platform.service.SavedSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Saved job searches; new jobs matching one are sent to the artist as an immediate or daily alert
+ */
+@RestController
+@RequestMapping("/saved-searches")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Saved Searches", description = "Saved job searches and their job alerts")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    @Operation(summary = "List saved searches")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getSavedSearches(@CurrentUser AuthenticatedUser user) {
+        List<SavedSearchDto> savedSearches = savedSearchService.getSavedSearches(user.getId());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", savedSearches);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Save a job search", description = "Takes the job search filter; alertFrequency is IMMEDIATE, DAILY (default) or OFF")
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> createSavedSearch(@Valid @RequestBody SavedSearchRequestDto request,
+                                                                 @CurrentUser AuthenticatedUser user) {
+        SavedSearchDto savedSearch = savedSearchService.createSavedSearch(user.getId(), request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Search saved successfully");
+        response.put("data", savedSearch);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Update a saved search")
+    @SecurityRequirement(name = "bearerAuth")
+    @PutMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> updateSavedSearch(@PathVariable Long id,
+                                                                 @Valid @RequestBody SavedSearchRequestDto request,
+                                                                 @CurrentUser AuthenticatedUser user) {
+        SavedSearchDto savedSearch = savedSearchService.updateSavedSearch(user.getId(), id, request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Saved search updated successfully");
+        response.put("data", savedSearch);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Delete a saved search")
+    @SecurityRequirement(name = "bearerAuth")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> deleteSavedSearch(@PathVariable Long id,
+                                                                 @CurrentUser AuthenticatedUser user) {
+        savedSearchService.deleteSavedSearch(user.getId(), id);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Saved search deleted successfully");
+        return ResponseEntity.ok(response);
+    }
+}
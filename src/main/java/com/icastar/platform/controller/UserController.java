@@ -6,12 +6,12 @@ import com.icastar.platform.entity.User;
 import com.icastar.platform.service.UserService;
 import com.icastar.platform.service.ArtistService;
 import com.icastar.platform.service.RecruiterService;
+import com.icastar.platform.security.AuthenticatedUser;
+import com.icastar.platform.security.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
@@ -29,14 +29,8 @@ public class UserController {
     private final RecruiterService recruiterService;
 
     @GetMapping("/profile")
-    public ResponseEntity<Map<String, Object>> getCurrentUserProfile() {
+    public ResponseEntity<Map<String, Object>> getCurrentUserProfile(@CurrentUser User user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             UserProfileDto userProfile = new UserProfileDto(user);
             
             // Add role-specific profile data
@@ -70,14 +64,8 @@ public class UserController {
     }
 
     @PutMapping("/profile")
-    public ResponseEntity<Map<String, Object>> updateUserProfile(@Valid @RequestBody UpdateUserProfileDto updateDto) {
+    public ResponseEntity<Map<String, Object>> updateUserProfile(@Valid @RequestBody UpdateUserProfileDto updateDto, @CurrentUser User user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             // Update basic user information
             if (updateDto.getEmail() != null && !updateDto.getEmail().equals(user.getEmail())) {
                 // Check if email is already taken
@@ -167,14 +155,8 @@ public class UserController {
     }
 
     @PostMapping("/verify-email")
-    public ResponseEntity<Map<String, Object>> verifyEmail(@RequestParam String email) {
+    public ResponseEntity<Map<String, Object>> verifyEmail(@RequestParam String email, @CurrentUser User user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUserEmail = authentication.getName();
-            
-            User user = userService.findByEmail(currentUserEmail)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             if (!user.getEmail().equals(email)) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
@@ -205,14 +187,9 @@ public class UserController {
     @PostMapping("/change-password")
     public ResponseEntity<Map<String, Object>> changePassword(
             @RequestParam String currentPassword,
-            @RequestParam String newPassword) {
+            @RequestParam String newPassword,
+            @CurrentUser User user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             // TODO: Verify current password
             // For now, just update the password
             // In production, you should verify the current password first
@@ -236,14 +213,8 @@ public class UserController {
     }
 
     @GetMapping("/dashboard")
-    public ResponseEntity<Map<String, Object>> getUserDashboard() {
+    public ResponseEntity<Map<String, Object>> getUserDashboard(@CurrentUser User user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             Map<String, Object> dashboard = new HashMap<>();
             dashboard.put("user", new UserProfileDto(user));
             dashboard.put("lastLogin", user.getLastLogin());
@@ -278,14 +249,8 @@ public class UserController {
     }
 
     @PostMapping("/request-verification")
-    public ResponseEntity<Map<String, Object>> requestVerification() {
+    public ResponseEntity<Map<String, Object>> requestVerification(@CurrentUser AuthenticatedUser user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             // TODO: Implement verification request logic
             // This would typically send a notification to admins
             // and set a verification request timestamp
@@ -306,14 +271,8 @@ public class UserController {
     }
 
     @GetMapping("/activity")
-    public ResponseEntity<Map<String, Object>> getUserActivity() {
+    public ResponseEntity<Map<String, Object>> getUserActivity(@CurrentUser User user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             Map<String, Object> activity = new HashMap<>();
             activity.put("lastLogin", user.getLastLogin());
             activity.put("createdAt", user.getCreatedAt());
@@ -333,14 +292,8 @@ public class UserController {
     }
 
     @PostMapping("/deactivate")
-    public ResponseEntity<Map<String, Object>> deactivateAccount() {
+    public ResponseEntity<Map<String, Object>> deactivateAccount(@CurrentUser User user) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             // Soft delete - set as inactive
             user.setStatus(User.UserStatus.INACTIVE);
             user.setIsActive(false);
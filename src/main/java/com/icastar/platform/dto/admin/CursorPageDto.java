@@ -0,0 +1,37 @@
+package com.icastar.platform.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    // Null unless a count was requested
+    private Long totalElements;
+    private boolean totalApproximate;
+
+    public <R> CursorPageDto<R> map(Function<? super T, ? extends R> mapper) {
+        return CursorPageDto.<R>builder()
+                .content(content.stream().map(mapper).collect(Collectors.toList()))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalElements(totalElements)
+                .totalApproximate(totalApproximate)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.icastar.platform.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorRequestDto {
+
+    // Opaque cursor from the previous page's nextCursor; empty for the first page
+    private String cursor;
+
+    // createdAt (default) or id
+    private String sortBy;
+    private String sortDir;
+    private Integer size;
+
+    // none (default), approximate or exact
+    private String count;
+
+    /**
+     * Build from a Spring Pageable, taking its page size and first sort order
+     */
+    public static CursorRequestDto of(String cursor, Pageable pageable, String count) {
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(null);
+        return CursorRequestDto.builder()
+                .cursor(cursor)
+                .sortBy(order != null ? order.getProperty() : null)
+                .sortDir(order != null && order.isAscending() ? "asc" : "desc")
+                .size(pageable.getPageSize())
+                .count(count)
+                .build();
+    }
+}
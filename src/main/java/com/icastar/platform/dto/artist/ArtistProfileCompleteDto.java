@@ -72,5 +72,14 @@ public class ArtistProfileCompleteDto {
         private LocalDateTime verifiedAt;
         private Long verifiedBy;
         private String verificationNotes;
+        private List<VariantDto> variants; // Resized copies of images, smallest first
+    }
+
+    @Data
+    public static class VariantDto {
+        private Integer width;
+        private Integer height;
+        private String fileUrl;
+        private Long fileSize;
     }
 }
@@ -0,0 +1,29 @@
+package com.icastar.platform.dto.artist;
+
+import com.icastar.platform.entity.Job;
+import com.icastar.platform.entity.JobApplication;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateApplicationDto {
+
+    private Long id;
+    private Long jobId;
+    private String jobTitle;
+    private String jobLocation;
+    private Job.JobType jobType;
+    private JobApplication.ApplicationStatus status;
+    private LocalDateTime appliedAt;
+    private LocalDateTime reviewedAt;
+    private LocalDateTime interviewScheduledAt;
+    private Boolean isShortlisted;
+    private Boolean isHired;
+}
@@ -0,0 +1,31 @@
+package com.icastar.platform.dto.artist;
+
+import com.icastar.platform.dto.audition.AuditionDto;
+import com.icastar.platform.entity.JobApplication;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateDashboardDto {
+
+    private Long artistId;
+
+    // Application Statistics, every status present
+    private Long totalApplications;
+    private Map<JobApplication.ApplicationStatus, Long> applicationsByStatus;
+
+    // Recent Activity
+    private List<CandidateApplicationDto> recentApplications;
+    private List<AuditionDto> upcomingInterviews;
+
+    private LocalDateTime computedAt;
+}
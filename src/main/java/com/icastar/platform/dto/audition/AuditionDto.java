@@ -0,0 +1,30 @@
+package com.icastar.platform.dto.audition;
+
+import com.icastar.platform.entity.Audition;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditionDto {
+
+    private Long id;
+    private Long applicationId;
+    private Long jobId;
+    private String jobTitle;
+    private Long artistId;
+    private Long recruiterId;
+    private Audition.AuditionType auditionType;
+    private Audition.AuditionStatus status;
+    private LocalDateTime scheduledAt;
+    private LocalDateTime endsAt;
+    private Integer durationMinutes;
+    private String meetingLink;
+    private String instructions;
+}
@@ -0,0 +1,28 @@
+package com.icastar.platform.dto.audition;
+
+import com.icastar.platform.entity.Audition;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ScheduleAuditionDto {
+
+    @NotNull(message = "Scheduled time is required")
+    @Future(message = "Scheduled time must be in the future")
+    private LocalDateTime scheduledAt;
+
+    @Min(value = 1, message = "Duration must be at least 1 minute")
+    private Integer durationMinutes; // icastar.auditions.default-duration-minutes when not given
+
+    private Audition.AuditionType auditionType = Audition.AuditionType.LIVE_VIDEO;
+
+    @Size(max = 500, message = "Meeting link must not exceed 500 characters")
+    private String meetingLink;
+
+    private String instructions;
+}
@@ -0,0 +1,16 @@
+package com.icastar.platform.dto.audition;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeSlotDto {
+
+    private LocalDateTime start;
+    private LocalDateTime end;
+}
@@ -32,6 +32,7 @@ public class JobSearchRequestDto {
     private Boolean isUrgent;
     private Boolean isFeatured;
     private List<String> skills;
+    private String skillMatch = "ANY"; // ANY or ALL of the listed skills
     private List<String> tags;
     
     // Pagination
@@ -39,4 +40,5 @@ public class JobSearchRequestDto {
     private Integer size = 10;
     private String sortBy = "publishedAt";
     private String sortDirection = "desc";
+    private Long cursor; // Keyset paging: id of the last job on the previous page, 0 for the first page
 }
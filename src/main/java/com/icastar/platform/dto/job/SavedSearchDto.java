@@ -0,0 +1,25 @@
+package com.icastar.platform.dto.job;
+
+import com.icastar.platform.entity.SavedSearch;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchDto {
+
+    private Long id;
+    private String name;
+    private JobFilterDto filter;
+    private SavedSearch.AlertFrequency alertFrequency;
+    private Boolean emailAlerts;
+    private Boolean smsAlerts;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
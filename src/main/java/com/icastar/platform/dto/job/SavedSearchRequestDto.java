@@ -0,0 +1,25 @@
+package com.icastar.platform.dto.job;
+
+import com.icastar.platform.entity.SavedSearch;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class SavedSearchRequestDto {
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must not exceed 100 characters")
+    private String name;
+
+    // Same criteria as the job search; status, company and paging fields are ignored
+    @Valid
+    @NotNull(message = "Filter is required")
+    private JobFilterDto filter;
+
+    private SavedSearch.AlertFrequency alertFrequency = SavedSearch.AlertFrequency.DAILY;
+    private Boolean emailAlerts = true;
+    private Boolean smsAlerts = false;
+}
@@ -0,0 +1,14 @@
+package com.icastar.platform.dto.message;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class MarkReadDto {
+
+    @NotNull(message = "Sender is required")
+    private Long senderId;
+
+    @NotNull(message = "Message id is required")
+    private Long upToMessageId;
+}
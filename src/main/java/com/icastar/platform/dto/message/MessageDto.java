@@ -0,0 +1,26 @@
+package com.icastar.platform.dto.message;
+
+import com.icastar.platform.entity.Message;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageDto {
+
+    private Long id;
+    private Long senderId;
+    private Long recipientId;
+    private String content;
+    private Message.MessageType messageType;
+    private String attachmentUrl;
+    private LocalDateTime sentAt;
+    private Boolean isRead;
+    private LocalDateTime readAt;
+}
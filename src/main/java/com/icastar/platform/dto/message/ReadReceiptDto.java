@@ -0,0 +1,23 @@
+package com.icastar.platform.dto.message;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The reader has read every message the recipient of this receipt sent them, up to and
+ * including upToMessageId
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadReceiptDto {
+
+    private Long readerId;
+    private Long upToMessageId;
+    private LocalDateTime readAt;
+}
@@ -0,0 +1,23 @@
+package com.icastar.platform.dto.message;
+
+import com.icastar.platform.entity.Message;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class SendMessageDto {
+
+    @NotNull(message = "Recipient is required")
+    private Long recipientId;
+
+    @NotBlank(message = "Message content is required")
+    @Size(max = 4000, message = "Message must not exceed 4000 characters")
+    private String content;
+
+    private Message.MessageType messageType = Message.MessageType.TEXT;
+
+    @Size(max = 500, message = "Attachment URL must not exceed 500 characters")
+    private String attachmentUrl;
+}
@@ -0,0 +1,26 @@
+package com.icastar.platform.dto.notification;
+
+import com.icastar.platform.entity.Notification;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDto {
+
+    private Long id; // Null in live pushes; the stored row is listed on the next fetch
+    private Notification.NotificationType type;
+    private Notification.Priority priority;
+    private String title;
+    private String message;
+    private String actionUrl;
+    private Boolean isRead;
+    private LocalDateTime sentAt;
+    private LocalDateTime readAt;
+}
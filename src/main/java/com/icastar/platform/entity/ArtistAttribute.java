@@ -0,0 +1,42 @@
+package com.icastar.platform.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Normalized copy of an artist profile's JSON list columns (skills, languages spoken,
+ * travel cities, comfortable areas), one row per value, for index-driven filtering.
+ */
+@Entity
+@Table(name = "artist_attributes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_artist_attributes",
+                columnNames = {"artist_profile_id", "attribute_type", "attribute_value"}),
+        indexes = @Index(name = "idx_artist_attributes_lookup",
+                columnList = "attribute_type, attribute_value, artist_profile_id"))
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class ArtistAttribute extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "artist_profile_id", nullable = false)
+    private ArtistProfile artistProfile;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "attribute_type", nullable = false, length = 30)
+    private AttributeType attributeType;
+
+    @Column(name = "attribute_value", nullable = false)
+    private String attributeValue; // Lower-cased and trimmed
+
+    public enum AttributeType {
+        SKILL, LANGUAGE, TRAVEL_CITY, COMFORTABLE_AREA
+    }
+}
@@ -121,10 +121,10 @@ public class ArtistProfile extends BaseEntity {
     @Column(name = "verification_approved_at")
     private LocalDate verificationApprovedAt;
 
-    @Column(name = "total_applications")
+    @Column(name = "total_applications", updatable = false)
     private Integer totalApplications = 0;
 
-    @Column(name = "successful_hires")
+    @Column(name = "successful_hires", updatable = false)
     private Integer successfulHires = 0;
 
     @OneToMany(mappedBy = "artist", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
@@ -7,7 +7,10 @@ import lombok.EqualsAndHashCode;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "auditions")
+@Table(name = "auditions", indexes = {
+        @Index(name = "idx_auditions_artist_time", columnList = "artist_id, scheduled_at"),
+        @Index(name = "idx_auditions_recruiter_time", columnList = "recruiter_id, scheduled_at")
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class Audition extends BaseEntity {
@@ -38,6 +41,9 @@ public class Audition extends BaseEntity {
     @Column(name = "duration_minutes")
     private Integer durationMinutes;
 
+    @Column(name = "ends_at", nullable = false)
+    private LocalDateTime endsAt; // scheduled_at plus the duration, for overlap queries
+
     @Column(name = "meeting_link")
     private String meetingLink;
 
@@ -78,7 +78,7 @@ public class CommunicationLog extends BaseEntity {
     }
 
     public enum CommunicationStatus {
-        PENDING, SENT, DELIVERED, FAILED, RETRYING, CANCELLED
+        PENDING, SENDING, SENT, DELIVERED, FAILED, RETRYING, CANCELLED
     }
 
     // Helper methods
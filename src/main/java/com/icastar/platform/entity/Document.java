@@ -36,6 +36,9 @@ public class Document extends BaseEntity {
     @Column(name = "mime_type")
     private String mimeType;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // hex SHA-256 of the stored content
+
     @Column(name = "uploaded_at", nullable = false)
     private LocalDateTime uploadedAt;
 
@@ -51,6 +54,15 @@ public class Document extends BaseEntity {
     @Column(name = "verification_notes", columnDefinition = "TEXT")
     private String verificationNotes;
 
+    @Column(name = "variants_processed_at")
+    private LocalDateTime variantsProcessedAt; // set once image variants were generated, or skipped
+
+    @Column(name = "variant_attempts", nullable = false, updatable = false)
+    private Integer variantAttempts = 0; // failed variant runs so far, written only by DocumentRepository
+
+    @Column(name = "variants_retry_at", updatable = false)
+    private LocalDateTime variantsRetryAt; // the sweep leaves a failed document alone until then
+
     public enum DocumentType {
         PROFILE_ID,           // Main profile image
         PROFILE_LEFT,         // Left profile picture
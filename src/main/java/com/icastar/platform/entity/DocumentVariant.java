@@ -0,0 +1,46 @@
+package com.icastar.platform.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Resized, recompressed copy of an image document, generated in the background so list pages
+ * can send a small image instead of the original upload.
+ */
+@Entity
+@Table(name = "document_variants",
+        uniqueConstraints = @UniqueConstraint(name = "uk_document_variants", columnNames = {"document_id", "width"}))
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class DocumentVariant extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "document_id", nullable = false)
+    private Document document;
+
+    @Column(name = "width", nullable = false)
+    private Integer width; // in pixels
+
+    @Column(name = "height", nullable = false)
+    private Integer height; // in pixels
+
+    @Column(name = "file_url", nullable = false)
+    private String fileUrl;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize; // in bytes
+
+    @Column(name = "mime_type", nullable = false)
+    private String mimeType;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash; // hex SHA-256, the blob holding the variant
+}
@@ -79,10 +79,10 @@ public class Job extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private JobStatus status = JobStatus.ACTIVE;
 
-    @Column(name = "views_count")
+    @Column(name = "views_count", updatable = false)
     private Integer viewsCount = 0;
 
-    @Column(name = "applications_count")
+    @Column(name = "applications_count", updatable = false)
     private Integer applicationsCount = 0;
 
     @Column(name = "tags", columnDefinition = "JSON")
@@ -0,0 +1,47 @@
+package com.icastar.platform.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * A new job matched one of a user's saved searches and waits for the user's next digest.
+ * One row per user and job however many of the user's searches matched.
+ */
+@Entity
+@Table(name = "job_alerts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_job_alerts", columnNames = {"user_id", "job_id"}),
+        indexes = @Index(name = "idx_job_alerts_claim", columnList = "sent_at, user_id, id, due_at"))
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class JobAlert extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "job_id", nullable = false)
+    private Job job;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "saved_search_id", nullable = false)
+    private SavedSearch savedSearch;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
@@ -8,7 +8,10 @@ import lombok.ToString;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "job_applications")
+@Table(name = "job_applications", indexes = {
+        @Index(name = "idx_job_applications_artist_status", columnList = "artist_id, status"),
+        @Index(name = "idx_job_applications_artist_applied", columnList = "artist_id, applied_at")
+})
 @Data
 @EqualsAndHashCode(callSuper = true, exclude = {"job", "artist"})
 @ToString(exclude = {"job", "artist"})
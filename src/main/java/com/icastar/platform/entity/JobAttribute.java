@@ -0,0 +1,41 @@
+package com.icastar.platform.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Normalized copy of a job's skills and tags (one row per value) so they can be
+ * filtered with an indexed join instead of LIKE scans over the JSON columns.
+ */
+@Entity
+@Table(name = "job_attributes", indexes = {
+        @Index(name = "idx_job_attributes_lookup", columnList = "attribute_type, attribute_value, job_id"),
+        @Index(name = "idx_job_attributes_job", columnList = "job_id")
+})
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class JobAttribute extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "job_id", nullable = false)
+    private Job job;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "attribute_type", nullable = false, length = 20)
+    private AttributeType attributeType;
+
+    @Column(name = "attribute_value", nullable = false)
+    private String attributeValue; // Lower-cased and trimmed
+
+    public enum AttributeType {
+        SKILL, TAG
+    }
+}
@@ -82,10 +82,10 @@ public class JobPost extends BaseEntity {
     @Column(name = "boost_expires_at")
     private LocalDateTime boostExpiresAt;
 
-    @Column(name = "total_applications")
+    @Column(name = "total_applications", updatable = false)
     private Integer totalApplications = 0;
 
-    @Column(name = "total_views")
+    @Column(name = "total_views", updatable = false)
     private Integer totalViews = 0;
 
     @Column(name = "is_visible", nullable = false)
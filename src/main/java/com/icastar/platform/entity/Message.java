@@ -7,7 +7,10 @@ import lombok.EqualsAndHashCode;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "messages")
+@Table(name = "messages", indexes = {
+        @Index(name = "idx_messages_conversation", columnList = "conversation_key, id"),
+        @Index(name = "idx_messages_recipient_unread", columnList = "recipient_id, is_read")
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class Message extends BaseEntity {
@@ -25,6 +28,9 @@ public class Message extends BaseEntity {
     @JoinColumn(name = "recipient_id", nullable = false)
     private User recipient;
 
+    @Column(name = "conversation_key", nullable = false, length = 41)
+    private String conversationKey; // "lowerUserId:higherUserId", the same for both directions
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "recruiter_id")
     private RecruiterProfile recruiter;
@@ -67,6 +73,13 @@ public class Message extends BaseEntity {
     @Column(name = "is_deleted_by_recipient", nullable = false)
     private Boolean isDeletedByRecipient = false;
 
+    /**
+     * Key shared by every message between two users, whichever of them sent it
+     */
+    public static String conversationKey(Long userId, Long otherUserId) {
+        return Math.min(userId, otherUserId) + ":" + Math.max(userId, otherUserId);
+    }
+
     public enum MessageType {
         TEXT, IMAGE, FILE, AUDIO, VIDEO
     }
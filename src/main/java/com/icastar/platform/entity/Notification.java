@@ -7,7 +7,10 @@ import lombok.EqualsAndHashCode;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_notifications_user_unread", columnList = "user_id, is_read")
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class Notification extends BaseEntity {
@@ -57,7 +60,8 @@ public class Notification extends BaseEntity {
 
     public enum NotificationType {
         JOB_ALERT, APPLICATION_RECEIVED, AUDITION_SCHEDULED, PAYMENT_SUCCESS, 
-        SUBSCRIPTION_EXPIRY, VERIFICATION_APPROVED, MESSAGE_RECEIVED, SYSTEM_UPDATE
+        SUBSCRIPTION_EXPIRY, VERIFICATION_APPROVED, MESSAGE_RECEIVED, SYSTEM_UPDATE,
+        APPLICATION_STATUS_CHANGED
     }
 
     public enum Priority {
@@ -56,7 +56,7 @@ public class RecruiterProfile extends BaseEntity {
     @Column(name = "total_jobs_posted")
     private Integer totalJobsPosted = 0;
 
-    @Column(name = "successful_hires")
+    @Column(name = "successful_hires", updatable = false)
     private Integer successfulHires = 0;
 
     @Column(name = "chat_credits")
@@ -0,0 +1,55 @@
+package com.icastar.platform.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDateTime;
+
+/**
+ * Materialized per-recruiter dashboard counters.
+ *
+ * Recomputed from GROUP BY projections when missing, marked stale by job and application
+ * events, or older than icastar.dashboard.stats-max-age-seconds. The staleness columns are
+ * written only by the conditional updates in RecruiterStatsRepository, never by a save.
+ */
+@Entity
+@Table(name = "recruiter_stats")
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class RecruiterStats extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recruiter_user_id", nullable = false, unique = true)
+    private Long recruiterUserId;
+
+    @Column(name = "total_jobs", nullable = false)
+    private Long totalJobs = 0L;
+
+    @Column(name = "active_jobs", nullable = false)
+    private Long activeJobs = 0L;
+
+    @Column(name = "closed_jobs", nullable = false)
+    private Long closedJobs = 0L;
+
+    @Column(name = "total_views", nullable = false)
+    private Long totalViews = 0L;
+
+    @Column(name = "total_applications", nullable = false)
+    private Long totalApplications = 0L;
+
+    @Column(name = "total_hires", nullable = false)
+    private Long totalHires = 0L;
+
+    @Column(name = "is_stale", nullable = false, insertable = false, updatable = false)
+    private Boolean isStale = false;
+
+    @Column(name = "stale_version", nullable = false, insertable = false, updatable = false)
+    private Long staleVersion = 0L;
+
+    @Column(name = "computed_at")
+    private LocalDateTime computedAt;
+}
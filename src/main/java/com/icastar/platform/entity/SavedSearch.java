@@ -0,0 +1,96 @@
+package com.icastar.platform.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.math.BigDecimal;
+
+/**
+ * A job search an artist saved to be alerted about, with the same criteria as the job filter.
+ * Deleted searches are deactivated rather than removed so every instance's alert index sees
+ * the change in its delta refresh.
+ */
+@Entity
+@Table(name = "saved_searches", indexes = {
+        @Index(name = "idx_saved_searches_user", columnList = "user_id"),
+        @Index(name = "idx_saved_searches_updated", columnList = "updated_at")
+})
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class SavedSearch extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "search_term")
+    private String searchTerm;
+
+    @Column(name = "job_title")
+    private String jobTitle;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type")
+    private Job.JobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "experience_level")
+    private Job.ExperienceLevel experienceLevel;
+
+    @Column(name = "min_pay", precision = 10, scale = 2)
+    private BigDecimal minPay;
+
+    @Column(name = "max_pay", precision = 10, scale = 2)
+    private BigDecimal maxPay;
+
+    @Column(name = "currency", length = 3)
+    private String currency;
+
+    @Column(name = "location")
+    private String location;
+
+    @Column(name = "is_remote")
+    private Boolean isRemote;
+
+    @Column(name = "is_urgent")
+    private Boolean isUrgent;
+
+    @Column(name = "is_featured")
+    private Boolean isFeatured;
+
+    @Column(name = "skills", columnDefinition = "JSON")
+    private String skills; // JSON array of skills
+
+    @Column(name = "skill_match", nullable = false, length = 3)
+    private String skillMatch = "ANY"; // ANY or ALL of the listed skills
+
+    @Column(name = "tags", columnDefinition = "JSON")
+    private String tags; // JSON array of tags
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alert_frequency", nullable = false, length = 20)
+    private AlertFrequency alertFrequency = AlertFrequency.DAILY;
+
+    @Column(name = "email_alerts", nullable = false)
+    private Boolean emailAlerts = true;
+
+    @Column(name = "sms_alerts", nullable = false)
+    private Boolean smsAlerts = false;
+
+    public enum AlertFrequency {
+        IMMEDIATE, // Sent with the next dispatch, together with anything else due for the user
+        DAILY,     // Collected into the daily digest
+        OFF        // Saved for searching only
+    }
+}
@@ -0,0 +1,43 @@
+package com.icastar.platform.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Content-addressed upload: one stored object per distinct SHA-256, shared by every document
+ * with that content. refCount counts the documents pointing at it; blobs left at zero are
+ * removed by the garbage collector in BlobStore.
+ */
+@Entity
+@Table(name = "stored_blobs", indexes = {
+        @Index(name = "idx_stored_blobs_gc", columnList = "ref_count, updated_at")
+})
+@Data
+@NoArgsConstructor
+public class StoredBlob {
+
+    @Id
+    @Column(name = "sha256", length = 64)
+    private String sha256;
+
+    @Column(name = "object_url", nullable = false, length = 512)
+    private String objectUrl;
+
+    @Column(name = "size", nullable = false)
+    private Long size; // in bytes
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount = 0;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
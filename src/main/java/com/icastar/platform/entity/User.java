@@ -60,6 +60,10 @@ public class User extends BaseEntity {
     @Column(name = "account_status", nullable = false)
     private AccountStatus accountStatus = AccountStatus.ACTIVE;
 
+    // Bumped on every status change; tokens issued with an older version are re-checked
+    @Column(name = "status_version", nullable = false)
+    private Integer statusVersion = 0;
+
     @Column(name = "deactivated_at")
     private LocalDateTime deactivatedAt;
 
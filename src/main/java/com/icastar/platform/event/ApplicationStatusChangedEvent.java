@@ -0,0 +1,9 @@
+package com.icastar.platform.event;
+
+import com.icastar.platform.entity.JobApplication;
+
+/**
+ * A recruiter moved an application to a new status
+ */
+public record ApplicationStatusChangedEvent(Long applicationId, JobApplication.ApplicationStatus status) {
+}
@@ -0,0 +1,7 @@
+package com.icastar.platform.event;
+
+/**
+ * An artist submitted, withdrew or lost an application, or had an audition cancelled
+ */
+public record ArtistApplicationsChangedEvent(Long artistId) {
+}
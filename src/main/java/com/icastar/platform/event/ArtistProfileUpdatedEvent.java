@@ -0,0 +1,7 @@
+package com.icastar.platform.event;
+
+/**
+ * An artist profile's matchable data (skills, location, rate, fields, badge) changed
+ */
+public record ArtistProfileUpdatedEvent(Long artistProfileId) {
+}
@@ -0,0 +1,9 @@
+package com.icastar.platform.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * An interview was scheduled for an application
+ */
+public record InterviewScheduledEvent(Long applicationId, LocalDateTime interviewAt) {
+}
@@ -0,0 +1,7 @@
+package com.icastar.platform.event;
+
+/**
+ * A job was created and is open for applications
+ */
+public record JobPostedEvent(Long jobId) {
+}
@@ -27,11 +27,12 @@ public class GlobalExceptionHandler {
         Map<String, Object> response = new HashMap<>();
         response.put("success", false);
         response.put("timestamp", LocalDateTime.now());
-        response.put("error", Map.of(
-            "code", ex.getErrorCode(),
-            "message", ex.getMessage(),
-            "details", ex.getDetails()
-        ));
+        // Map.of rejects nulls and most business exceptions carry no details
+        Map<String, Object> error = new HashMap<>();
+        error.put("code", ex.getErrorCode());
+        error.put("message", ex.getMessage());
+        error.put("details", ex.getDetails());
+        response.put("error", error);
         response.put("path", request.getDescription(false).replace("uri=", ""));
 
         return ResponseEntity.status(ex.getHttpStatus()).body(response);
@@ -0,0 +1,28 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.ArtistAttribute;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArtistAttributeRepository extends JpaRepository<ArtistAttribute, Long> {
+
+    // Find attributes of a profile
+    List<ArtistAttribute> findByArtistProfileId(Long artistProfileId);
+
+    // Remove specific attribute rows of a profile
+    @Modifying
+    @Query("DELETE FROM ArtistAttribute aa WHERE aa.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Count profiles per value of a type (e.g. most common skills)
+    @Query("SELECT aa.attributeValue, COUNT(aa) FROM ArtistAttribute aa WHERE aa.attributeType = :type " +
+           "GROUP BY aa.attributeValue ORDER BY COUNT(aa) DESC")
+    List<Object[]> countByValue(@Param("type") ArtistAttribute.AttributeType type);
+}
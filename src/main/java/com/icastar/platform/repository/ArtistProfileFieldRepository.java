@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +29,10 @@ public interface ArtistProfileFieldRepository extends JpaRepository<ArtistProfil
     List<ArtistProfileField> findByArtistTypeNameAndFieldNameAndValue(@Param("artistTypeName") String artistTypeName, 
                                                                       @Param("fieldName") String fieldName, 
                                                                       @Param("value") String value);
+
+    @Query("SELECT apf FROM ArtistProfileField apf JOIN FETCH apf.artistTypeField atf WHERE apf.artistProfile.id IN :artistProfileIds AND atf.isSearchable = true")
+    List<ArtistProfileField> findSearchableFieldsByArtistProfileIds(@Param("artistProfileIds") Collection<Long> artistProfileIds);
+
+    @Query("SELECT DISTINCT apf.artistProfile.id FROM ArtistProfileField apf WHERE apf.updatedAt > :since")
+    List<Long> findArtistProfileIdsModifiedSince(@Param("since") LocalDateTime since);
 }
@@ -1,28 +1,56 @@
 package com.icastar.platform.repository;
 
+import com.icastar.platform.entity.ArtistAttribute;
 import com.icastar.platform.entity.ArtistProfile;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ArtistProfileRepository extends JpaRepository<ArtistProfile, Long> {
+public interface ArtistProfileRepository extends JpaRepository<ArtistProfile, Long>, JpaSpecificationExecutor<ArtistProfile> {
 
     Optional<ArtistProfile> findByUserId(Long userId);
 
+    // Find an artist and lock the row so audition bookings for them are checked and written one at a time
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ap FROM ArtistProfile ap WHERE ap.id = :id")
+    Optional<ArtistProfile> findForUpdate(@Param("id") Long id);
+
     List<ArtistProfile> findByIsVerifiedBadge(Boolean isVerifiedBadge);
 
     List<ArtistProfile> findByLocationContainingIgnoreCase(String location);
 
-    @Query("SELECT ap FROM ArtistProfile ap WHERE ap.skills LIKE %:skill%")
+    // Exact (case-insensitive) skill match through the normalized artist_attributes table
+    @Query("SELECT ap FROM ArtistProfile ap WHERE EXISTS (SELECT 1 FROM ArtistAttribute aa WHERE aa.artistProfile = ap " +
+           "AND aa.attributeType = 'SKILL' AND aa.attributeValue = LOWER(TRIM(:skill)))")
     List<ArtistProfile> findBySkillsContaining(@Param("skill") String skill);
 
+    // Find artists having any of the given values for an attribute type (values must be normalized)
+    @Query("SELECT ap FROM ArtistProfile ap WHERE EXISTS (SELECT 1 FROM ArtistAttribute aa WHERE aa.artistProfile = ap " +
+           "AND aa.attributeType = :type AND aa.attributeValue IN :values)")
+    Page<ArtistProfile> findByAttributeValues(@Param("type") ArtistAttribute.AttributeType type,
+                                              @Param("values") Collection<String> values,
+                                              Pageable pageable);
+
+    @Query("SELECT ap FROM ArtistProfile ap WHERE EXISTS (SELECT 1 FROM ArtistAttribute aa WHERE aa.artistProfile = ap " +
+           "AND aa.attributeType = 'LANGUAGE' AND aa.attributeValue = LOWER(TRIM(:language)))")
+    List<ArtistProfile> findByLanguageSpoken(@Param("language") String language);
+
+    @Query("SELECT ap FROM ArtistProfile ap WHERE EXISTS (SELECT 1 FROM ArtistAttribute aa WHERE aa.artistProfile = ap " +
+           "AND aa.attributeType = 'TRAVEL_CITY' AND aa.attributeValue = LOWER(TRIM(:city)))")
+    List<ArtistProfile> findByTravelCity(@Param("city") String city);
+
     @Query("SELECT ap FROM ArtistProfile ap WHERE ap.experienceYears >= :minExperience")
     List<ArtistProfile> findByExperienceYearsGreaterThanEqual(@Param("minExperience") Integer minExperience);
 
@@ -67,4 +95,14 @@ public interface ArtistProfileRepository extends JpaRepository<ArtistProfile, Lo
            "LOWER(ap.skills) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(ap.bio) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<ArtistProfile> findBySearchTerm(@Param("searchTerm") String searchTerm);
+
+    // Matching index loading - keyset pages with the associations the feature vectors need
+    @Query("SELECT ap FROM ArtistProfile ap JOIN FETCH ap.user LEFT JOIN FETCH ap.artistType WHERE ap.id > :lastId ORDER BY ap.id ASC")
+    List<ArtistProfile> findForMatchingAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT ap FROM ArtistProfile ap JOIN FETCH ap.user LEFT JOIN FETCH ap.artistType WHERE ap.id IN :ids")
+    List<ArtistProfile> findForMatchingByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT ap.id FROM ArtistProfile ap WHERE ap.updatedAt > :since OR ap.user.updatedAt > :since")
+    List<Long> findIdsModifiedSince(@Param("since") LocalDateTime since);
 }
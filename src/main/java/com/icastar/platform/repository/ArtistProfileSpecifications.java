@@ -0,0 +1,76 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.ArtistAttribute;
+import com.icastar.platform.entity.ArtistProfile;
+import com.icastar.platform.util.AttributeValues;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Composable artist profile filters. Each method returns null when its argument is empty so
+ * callers can chain them with {@link Specification#and} without null checks.
+ */
+public final class ArtistProfileSpecifications {
+
+    private ArtistProfileSpecifications() {
+    }
+
+    public static Specification<ArtistProfile> isActive() {
+        return (root, query, cb) -> cb.isTrue(root.get("isActive"));
+    }
+
+    public static Specification<ArtistProfile> hasArtistTypeDisplayName(String displayName) {
+        return isBlank(displayName) ? null : (root, query, cb) -> cb.equal(root.get("artistType").get("displayName"), displayName);
+    }
+
+    public static Specification<ArtistProfile> hasArtistTypeName(String name) {
+        return isBlank(name) ? null : (root, query, cb) -> cb.equal(root.get("artistType").get("name"), name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public static Specification<ArtistProfile> isVerified(Boolean verified) {
+        return verified == null ? null : (root, query, cb) -> cb.equal(root.get("isVerifiedBadge"), verified);
+    }
+
+    /**
+     * Based in the location, or willing to travel there
+     */
+    public static Specification<ArtistProfile> availableIn(String location) {
+        if (isBlank(location)) {
+            return null;
+        }
+        String normalized = location.trim().toLowerCase(Locale.ROOT);
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("location")), "%" + normalized + "%"),
+                cb.exists(attributeSubquery(root, query, cb, ArtistAttribute.AttributeType.TRAVEL_CITY, List.of(normalized))));
+    }
+
+    /**
+     * Any of the values for the attribute type (e.g. any of the requested skills)
+     */
+    public static Specification<ArtistProfile> hasAnyAttribute(ArtistAttribute.AttributeType type, Collection<String> values) {
+        List<String> normalized = AttributeValues.normalize(values);
+        return normalized.isEmpty() ? null : (root, query, cb) -> cb.exists(attributeSubquery(root, query, cb, type, normalized));
+    }
+
+    private static Subquery<Long> attributeSubquery(Root<ArtistProfile> root, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                                    ArtistAttribute.AttributeType type, List<String> values) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<ArtistAttribute> attribute = subquery.from(ArtistAttribute.class);
+        subquery.select(attribute.get("id")).where(
+                cb.equal(attribute.get("artistProfile").get("id"), root.get("id")),
+                cb.equal(attribute.get("attributeType"), type),
+                attribute.get("attributeValue").in(values));
+        return subquery;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
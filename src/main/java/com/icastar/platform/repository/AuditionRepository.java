@@ -0,0 +1,52 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.Audition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AuditionRepository extends JpaRepository<Audition, Long> {
+
+    // Find the audition currently booked for an application
+    Optional<Audition> findFirstByJobApplicationIdAndStatusOrderByIdDesc(Long jobApplicationId, Audition.AuditionStatus status);
+
+    // Find an artist's booked auditions starting in [from, to); with from lowered by the longest
+    // duration this covers every audition overlapping a slot, on the (artist_id, scheduled_at) index
+    @Query("SELECT a FROM Audition a WHERE a.artist.id = :artistId AND a.status IN ('SCHEDULED', 'IN_PROGRESS') " +
+           "AND a.scheduledAt >= :from AND a.scheduledAt < :to ORDER BY a.scheduledAt ASC")
+    List<Audition> findBookedByArtist(@Param("artistId") Long artistId,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    // Find a recruiter's booked auditions starting in [from, to), on the (recruiter_id, scheduled_at) index
+    @Query("SELECT a FROM Audition a WHERE a.recruiter.id = :recruiterId AND a.status IN ('SCHEDULED', 'IN_PROGRESS') " +
+           "AND a.scheduledAt >= :from AND a.scheduledAt < :to ORDER BY a.scheduledAt ASC")
+    List<Audition> findBookedByRecruiter(@Param("recruiterId") Long recruiterId,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+    // Find an artist's upcoming auditions with their job, soonest first; from bounds the index range
+    @Query("SELECT a FROM Audition a JOIN FETCH a.jobApplication ja JOIN FETCH ja.job " +
+           "WHERE a.artist.id = :artistId AND a.status = 'SCHEDULED' AND a.scheduledAt >= :from AND a.endsAt > :now " +
+           "ORDER BY a.scheduledAt ASC")
+    List<Audition> findUpcomingByArtist(@Param("artistId") Long artistId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("now") LocalDateTime now,
+                                        Pageable pageable);
+
+    // Find a recruiter's upcoming auditions with their job, soonest first; from bounds the index range
+    @Query("SELECT a FROM Audition a JOIN FETCH a.jobApplication ja JOIN FETCH ja.job " +
+           "WHERE a.recruiter.id = :recruiterId AND a.status = 'SCHEDULED' AND a.scheduledAt >= :from AND a.endsAt > :now " +
+           "ORDER BY a.scheduledAt ASC")
+    List<Audition> findUpcomingByRecruiter(@Param("recruiterId") Long recruiterId,
+                                        @Param("from") LocalDateTime from,
+                                           @Param("now") LocalDateTime now,
+                                           Pageable pageable);
+}
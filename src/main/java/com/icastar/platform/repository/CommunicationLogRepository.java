@@ -5,6 +5,7 @@ import com.icastar.platform.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -95,4 +96,43 @@ public interface CommunicationLogRepository extends JpaRepository<CommunicationL
            "COUNT(*) as total " +
            "FROM CommunicationLog cl WHERE cl.createdAt >= :since")
     Object[] getCommunicationStats(@Param("since") LocalDateTime since);
+
+    // Lock a batch of pending communications, skipping rows another instance is claiming
+    @Query(value = "SELECT id FROM communication_logs WHERE status = 'PENDING' ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockPendingIds(@Param("limit") int limit);
+
+    // Bulk status transitions for the outbox dispatcher
+    @Modifying
+    @Query("UPDATE CommunicationLog cl SET cl.status = 'SENDING', cl.updatedAt = :now WHERE cl.id IN :ids")
+    int markAllAsSending(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE CommunicationLog cl SET cl.status = 'SENT', cl.sentAt = :now, cl.updatedAt = :now WHERE cl.id IN :ids")
+    int markAllAsSent(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    // Lock a batch of failed communications whose retry is due, skipping rows another instance is claiming
+    @Query(value = "SELECT id FROM communication_logs WHERE status = 'FAILED' AND retry_count < max_retries " +
+                   "AND (next_retry_at IS NULL OR next_retry_at <= :now) ORDER BY next_retry_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockDueRetryIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE CommunicationLog cl SET cl.status = 'SENDING', cl.retryCount = cl.retryCount + 1, cl.updatedAt = :now " +
+           "WHERE cl.id IN :ids")
+    int markAllAsRetrying(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    // Backlog sizes for the outbox metrics
+    @Query("SELECT COUNT(cl) FROM CommunicationLog cl WHERE cl.status = 'PENDING'")
+    long countPending();
+
+    @Query("SELECT COUNT(cl) FROM CommunicationLog cl WHERE cl.status = 'FAILED' AND cl.retryCount < cl.maxRetries " +
+           "AND (cl.nextRetryAt IS NULL OR cl.nextRetryAt <= :now)")
+    long countDueRetries(@Param("now") LocalDateTime now);
+
+    // Return rows left in SENDING by an instance that stopped mid-batch
+    @Modifying
+    @Query("UPDATE CommunicationLog cl SET cl.status = 'PENDING', cl.updatedAt = :now " +
+           "WHERE cl.status = 'SENDING' AND cl.updatedAt < :before")
+    int releaseStuckSending(@Param("before") LocalDateTime before, @Param("now") LocalDateTime now);
 }
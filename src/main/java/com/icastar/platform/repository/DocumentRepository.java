@@ -2,11 +2,15 @@ package com.icastar.platform.repository;
 
 import com.icastar.platform.entity.Document;
 import com.icastar.platform.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,4 +43,27 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
 
     @Query("SELECT d FROM Document d WHERE d.user.id = :userId AND d.documentType = 'ACTING_VIDEO' ORDER BY d.uploadedAt DESC")
     List<Document> findActingVideosByUserId(@Param("userId") Long userId);
+
+    // Find the latest images of the given types for several users, newest first
+    @Query("SELECT d FROM Document d WHERE d.user.id IN :userIds AND d.documentType IN :documentTypes ORDER BY d.uploadedAt DESC")
+    List<Document> findByUserIdInAndDocumentTypeIn(@Param("userIds") Collection<Long> userIds,
+                                                    @Param("documentTypes") Collection<Document.DocumentType> documentTypes);
+
+    // Find images uploaded before the given time that never went through the variant pipeline,
+    // skipping those still backing off from a failed attempt
+    @Query("SELECT d.id FROM Document d WHERE d.variantsProcessedAt IS NULL AND d.documentType IN :documentTypes " +
+           "AND d.uploadedAt < :before AND (d.variantsRetryAt IS NULL OR d.variantsRetryAt <= :now) ORDER BY d.id")
+    List<Long> findIdsAwaitingVariants(@Param("documentTypes") Collection<Document.DocumentType> documentTypes,
+                                       @Param("before") LocalDateTime before, @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    // Count a failed variant run and hold the document back from the sweep until retryAt
+    @Modifying
+    @Query("UPDATE Document d SET d.variantAttempts = d.variantAttempts + 1, d.variantsRetryAt = :retryAt " +
+           "WHERE d.id = :documentId")
+    int recordVariantFailure(@Param("documentId") Long documentId, @Param("retryAt") LocalDateTime retryAt);
+
+    @Modifying
+    @Query("UPDATE Document d SET d.variantsProcessedAt = :now WHERE d.id = :documentId")
+    int markVariantsProcessed(@Param("documentId") Long documentId, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,22 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.DocumentVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DocumentVariantRepository extends JpaRepository<DocumentVariant, Long> {
+
+    // Find the variants of several documents, smallest first
+    @Query("SELECT v FROM DocumentVariant v WHERE v.document.id IN :documentIds ORDER BY v.width ASC")
+    List<DocumentVariant> findByDocumentIds(@Param("documentIds") Collection<Long> documentIds);
+
+    List<DocumentVariant> findByDocumentId(Long documentId);
+
+    boolean existsByDocumentId(Long documentId);
+}
@@ -0,0 +1,30 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.JobAlert;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JobAlertRepository extends JpaRepository<JobAlert, Long> {
+
+    // Lock a batch of due alerts grouped by user, skipping rows another instance is claiming
+    @Query(value = "SELECT id FROM job_alerts WHERE sent_at IS NULL AND due_at <= :now " +
+                   "ORDER BY user_id, id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockDueIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE JobAlert a SET a.sentAt = :now, a.updatedAt = :now WHERE a.id IN :ids")
+    int markAllAsSent(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    // Purge sent alerts once the retention period is over
+    @Modifying
+    @Query("DELETE FROM JobAlert a WHERE a.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
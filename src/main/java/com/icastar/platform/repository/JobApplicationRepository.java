@@ -6,6 +6,7 @@ import com.icastar.platform.entity.Job;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,7 +16,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
+public interface JobApplicationRepository extends JpaRepository<JobApplication, Long>, JpaSpecificationExecutor<JobApplication> {
 
     // Find applications by artist
     List<JobApplication> findByArtist(ArtistProfile artist);
@@ -73,10 +74,6 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     List<JobApplication> findByIsHiredTrue();
     Page<JobApplication> findByIsHiredTrue(Pageable pageable);
 
-    // Find applications with interviews scheduled
-    @Query("SELECT ja FROM JobApplication ja WHERE ja.interviewScheduledAt IS NOT NULL AND ja.interviewScheduledAt >= :currentTime ORDER BY ja.interviewScheduledAt ASC")
-    List<JobApplication> findUpcomingInterviews(@Param("currentTime") LocalDateTime currentTime);
-
     // Check if artist already applied for job
     Optional<JobApplication> findByArtistAndJob(ArtistProfile artist, Job job);
 
@@ -111,4 +108,21 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
 
     @Query("SELECT ja FROM JobApplication ja WHERE ja.job.id = :jobId")
     Page<JobApplication> findByJobId(@Param("jobId") Long jobId, Pageable pageable);
-}
\ No newline at end of file
+
+    // Count applications to a recruiter's jobs, grouped by status and hired flag
+    @Query("SELECT ja.status, ja.isHired, COUNT(ja) FROM JobApplication ja " +
+           "WHERE ja.job.recruiter.id = :recruiterId GROUP BY ja.status, ja.isHired")
+    List<Object[]> aggregateByRecruiterId(@Param("recruiterId") Long recruiterId);
+
+    // Count an artist's applications, grouped by status
+    @Query("SELECT ja.status, COUNT(ja) FROM JobApplication ja WHERE ja.artist.id = :artistId GROUP BY ja.status")
+    List<Object[]> countByArtistIdGroupByStatus(@Param("artistId") Long artistId);
+
+    // Find an artist's most recent applications with their jobs
+    @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.job WHERE ja.artist.id = :artistId ORDER BY ja.appliedAt DESC, ja.id DESC")
+    List<JobApplication> findRecentByArtistId(@Param("artistId") Long artistId, Pageable pageable);
+
+    // Find the artist an application belongs to
+    @Query("SELECT ja.artist.id FROM JobApplication ja WHERE ja.id = :applicationId")
+    Optional<Long> findArtistIdById(@Param("applicationId") Long applicationId);
+}
@@ -0,0 +1,30 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.JobApplication;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Composable job application filters for admin lists. Each method returns null when its
+ * argument is empty so callers can chain them with {@link Specification#and} without null checks.
+ */
+public final class JobApplicationSpecifications {
+
+    private JobApplicationSpecifications() {
+    }
+
+    public static Specification<JobApplication> hasStatus(JobApplication.ApplicationStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<JobApplication> forJob(Long jobId) {
+        return jobId == null ? null : (root, query, cb) -> cb.equal(root.get("job").get("id"), jobId);
+    }
+
+    public static Specification<JobApplication> forArtist(Long artistId) {
+        return artistId == null ? null : (root, query, cb) -> cb.equal(root.get("artist").get("id"), artistId);
+    }
+
+    public static Specification<JobApplication> forRecruiter(Long recruiterId) {
+        return recruiterId == null ? null : (root, query, cb) -> cb.equal(root.get("job").get("recruiter").get("id"), recruiterId);
+    }
+}
@@ -0,0 +1,22 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.JobAttribute;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobAttributeRepository extends JpaRepository<JobAttribute, Long> {
+
+    // Find attributes of a job
+    List<JobAttribute> findByJobId(Long jobId);
+
+    // Remove all attributes of a job before re-writing them
+    @Modifying
+    @Query("DELETE FROM JobAttribute ja WHERE ja.job.id = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+}
@@ -4,6 +4,7 @@ import com.icastar.platform.entity.JobPost;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,7 +13,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface JobPostRepository extends JpaRepository<JobPost, Long> {
+public interface JobPostRepository extends JpaRepository<JobPost, Long>, JpaSpecificationExecutor<JobPost> {
 
     // Enhanced Job Management Repository Methods
 
@@ -70,4 +71,28 @@ public interface JobPostRepository extends JpaRepository<JobPost, Long> {
     Page<JobPost> findByApplicationDeadlineBetween(@Param("startDate") LocalDateTime startDate, 
                                                    @Param("endDate") LocalDateTime endDate, 
                                                    Pageable pageable);
+
+    // Most recent job posts of a recruiter
+    List<JobPost> findByRecruiterIdOrderByCreatedAtDesc(Long recruiterId, Pageable pageable);
+
+    // Count a recruiter's job posts and sum their views, grouped by active flag
+    @Query("SELECT jp.isActive, COUNT(jp), COALESCE(SUM(jp.totalViews), 0) FROM JobPost jp " +
+           "WHERE jp.recruiter.user.id = :userId GROUP BY jp.isActive")
+    List<Object[]> aggregateByRecruiterUserId(@Param("userId") Long userId);
+
+    // Count job posts by active flag and job type, with expired and recent counts
+    @Query("SELECT jp.isActive, jp.jobType, COUNT(jp), " +
+           "SUM(CASE WHEN jp.applicationDeadline < :now THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN jp.createdAt > :since THEN 1 ELSE 0 END) " +
+           "FROM JobPost jp GROUP BY jp.isActive, jp.jobType")
+    List<Object[]> aggregateByActiveAndJobType(@Param("now") LocalDateTime now, @Param("since") LocalDateTime since);
+
+    // Applications received by job posts, counted from job_applications (keyed by the job post id)
+    @Query("SELECT COUNT(ja) FROM JobApplication ja, JobPost jp WHERE ja.job.id = jp.id")
+    long countApplications();
+
+    // Count job posts by recruiter category display name
+    @Query("SELECT rc.displayName, COUNT(jp) FROM JobPost jp JOIN jp.recruiter r JOIN r.recruiterCategory rc " +
+           "GROUP BY rc.displayName")
+    List<Object[]> countByRecruiterCategory();
 }
@@ -0,0 +1,48 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.JobPost;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+/**
+ * Composable job post filters for admin lists. Each method returns null when its argument is
+ * empty so callers can chain them with {@link Specification#and} without null checks.
+ */
+public final class JobPostSpecifications {
+
+    private JobPostSpecifications() {
+    }
+
+    public static Specification<JobPost> hasRecruiter(Long recruiterId) {
+        return recruiterId == null ? null : (root, query, cb) -> cb.equal(root.get("recruiter").get("id"), recruiterId);
+    }
+
+    public static Specification<JobPost> hasStatus(JobPost.JobStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<JobPost> hasJobType(JobPost.JobType jobType) {
+        return jobType == null ? null : (root, query, cb) -> cb.equal(root.get("jobType"), jobType);
+    }
+
+    public static Specification<JobPost> isActive(Boolean isActive) {
+        return isActive == null ? null : (root, query, cb) -> cb.equal(root.get("isActive"), isActive);
+    }
+
+    public static Specification<JobPost> titleContains(String title) {
+        return containsIgnoreCase("title", title);
+    }
+
+    public static Specification<JobPost> locationContains(String location) {
+        return containsIgnoreCase("location", location);
+    }
+
+    private static Specification<JobPost> containsIgnoreCase(String attribute, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + value.trim().toLowerCase(Locale.ROOT) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get(attribute)), pattern);
+    }
+}
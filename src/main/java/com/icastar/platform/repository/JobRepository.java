@@ -5,16 +5,18 @@ import com.icastar.platform.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job> {
 
     // Find jobs by recruiter
     List<Job> findByRecruiter(User recruiter);
@@ -55,19 +57,6 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     List<Job> findByIsUrgentTrue();
     Page<Job> findByIsUrgentTrue(Pageable pageable);
 
-    // Search jobs by title and description
-    @Query("SELECT j FROM Job j WHERE " +
-           "LOWER(j.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(j.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(j.requirements) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    List<Job> findBySearchTerm(@Param("searchTerm") String searchTerm);
-
-    @Query("SELECT j FROM Job j WHERE " +
-           "LOWER(j.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(j.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(j.requirements) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    Page<Job> findBySearchTerm(@Param("searchTerm") String searchTerm, Pageable pageable);
-
     // Find jobs by budget range
     @Query("SELECT j FROM Job j WHERE j.budgetMin >= :minBudget AND j.budgetMax <= :maxBudget")
     List<Job> findByBudgetRange(@Param("minBudget") BigDecimal minBudget, @Param("maxBudget") BigDecimal maxBudget);
@@ -75,20 +64,6 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     @Query("SELECT j FROM Job j WHERE j.budgetMin >= :minBudget AND j.budgetMax <= :maxBudget")
     Page<Job> findByBudgetRange(@Param("minBudget") BigDecimal minBudget, @Param("maxBudget") BigDecimal maxBudget, Pageable pageable);
 
-    // Find jobs by skills (JSON search)
-    @Query("SELECT j FROM Job j WHERE j.skillsRequired LIKE %:skill%")
-    List<Job> findByRequiredSkill(@Param("skill") String skill);
-
-    @Query("SELECT j FROM Job j WHERE j.skillsRequired LIKE %:skill%")
-    Page<Job> findByRequiredSkill(@Param("skill") String skill, Pageable pageable);
-
-    // Find jobs by tags
-    @Query("SELECT j FROM Job j WHERE j.tags LIKE %:tag%")
-    List<Job> findByTag(@Param("tag") String tag);
-
-    @Query("SELECT j FROM Job j WHERE j.tags LIKE %:tag%")
-    Page<Job> findByTag(@Param("tag") String tag, Pageable pageable);
-
     // Find most popular jobs (by applications count)
     @Query("SELECT j FROM Job j WHERE j.status = 'ACTIVE' ORDER BY j.applicationsCount DESC")
     List<Job> findMostPopularJobs(Pageable pageable);
@@ -107,31 +82,11 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     // Count jobs by status
     Long countByStatus(Job.JobStatus status);
 
-    // Find jobs with comprehensive filters
-    @Query("SELECT j FROM Job j WHERE " +
-           "(:searchTerm IS NULL OR " +
-           "LOWER(j.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(j.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(j.requirements) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
-           "(:jobType IS NULL OR j.jobType = :jobType) AND " +
-           "(:experienceLevel IS NULL OR j.experienceLevel = :experienceLevel) AND " +
-           "(:status IS NULL OR j.status = :status) AND " +
-           "(:minPay IS NULL OR j.budgetMin >= :minPay) AND " +
-           "(:maxPay IS NULL OR j.budgetMax <= :maxPay) AND " +
-           "(:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
-           "(:isRemote IS NULL OR j.isRemote = :isRemote) AND " +
-           "(:isUrgent IS NULL OR j.isUrgent = :isUrgent) AND " +
-           "(:isFeatured IS NULL OR j.isFeatured = :isFeatured)")
-    Page<Job> findJobsWithFilters(
-            @Param("searchTerm") String searchTerm,
-            @Param("jobType") Job.JobType jobType,
-            @Param("experienceLevel") Job.ExperienceLevel experienceLevel,
-            @Param("status") Job.JobStatus status,
-            @Param("minPay") BigDecimal minPay,
-            @Param("maxPay") BigDecimal maxPay,
-            @Param("location") String location,
-            @Param("isRemote") Boolean isRemote,
-            @Param("isUrgent") Boolean isUrgent,
-            @Param("isFeatured") Boolean isFeatured,
-            Pageable pageable);
+    // Filtered listing is composed from JobSpecifications (see JobService.findJobsWithFilters)
+
+    // Search index loading - keyset pages of all jobs and the delta since the last refresh
+    @Query("SELECT j FROM Job j WHERE j.id > :lastId ORDER BY j.id ASC")
+    List<Job> findJobsAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    List<Job> findByUpdatedAtAfter(LocalDateTime since);
 }
@@ -0,0 +1,122 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.Job;
+import com.icastar.platform.entity.JobAttribute;
+import com.icastar.platform.util.AttributeValues;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Composable job filters. Each method returns null when its argument is empty so
+ * callers can chain them with {@link Specification#and} without null checks.
+ */
+public final class JobSpecifications {
+
+    private JobSpecifications() {
+    }
+
+    public static Specification<Job> hasJobType(Job.JobType jobType) {
+        return jobType == null ? null : (root, query, cb) -> cb.equal(root.get("jobType"), jobType);
+    }
+
+    public static Specification<Job> hasExperienceLevel(Job.ExperienceLevel experienceLevel) {
+        return experienceLevel == null ? null : (root, query, cb) -> cb.equal(root.get("experienceLevel"), experienceLevel);
+    }
+
+    public static Specification<Job> hasStatus(Job.JobStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Job> minPay(BigDecimal minPay) {
+        return minPay == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("budgetMin"), minPay);
+    }
+
+    public static Specification<Job> maxPay(BigDecimal maxPay) {
+        return maxPay == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("budgetMax"), maxPay);
+    }
+
+    public static Specification<Job> hasCurrency(String currency) {
+        return isBlank(currency) ? null : (root, query, cb) -> cb.equal(root.get("currency"), currency.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public static Specification<Job> locationContains(String location) {
+        return isBlank(location) ? null : (root, query, cb) ->
+                cb.like(cb.lower(root.get("location")), "%" + location.trim().toLowerCase(Locale.ROOT) + "%");
+    }
+
+    public static Specification<Job> titleContains(String title) {
+        return isBlank(title) ? null : (root, query, cb) ->
+                cb.like(cb.lower(root.get("title")), "%" + title.trim().toLowerCase(Locale.ROOT) + "%");
+    }
+
+    public static Specification<Job> isRemote(Boolean isRemote) {
+        return isRemote == null ? null : (root, query, cb) -> cb.equal(root.get("isRemote"), isRemote);
+    }
+
+    public static Specification<Job> isUrgent(Boolean isUrgent) {
+        return isUrgent == null ? null : (root, query, cb) -> cb.equal(root.get("isUrgent"), isUrgent);
+    }
+
+    public static Specification<Job> isFeatured(Boolean isFeatured) {
+        return isFeatured == null ? null : (root, query, cb) -> cb.equal(root.get("isFeatured"), isFeatured);
+    }
+
+    /**
+     * Restrict to a precomputed id set (e.g. full-text search hits)
+     */
+    public static Specification<Job> idIn(Collection<Long> ids) {
+        return ids == null ? null : (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    /**
+     * Keyset condition for newest-first paging: only jobs older than the cursor id
+     */
+    public static Specification<Job> idBefore(Long cursorId) {
+        return cursorId == null ? null : (root, query, cb) -> cb.lessThan(root.get("id"), cursorId);
+    }
+
+    /**
+     * Skills filter against job_attributes; matchAll requires every skill, otherwise any one
+     */
+    public static Specification<Job> hasSkills(List<String> skills, boolean matchAll) {
+        return hasAttributes(JobAttribute.AttributeType.SKILL, skills, matchAll);
+    }
+
+    /**
+     * Tags filter against job_attributes; any tag matches
+     */
+    public static Specification<Job> hasTags(List<String> tags) {
+        return hasAttributes(JobAttribute.AttributeType.TAG, tags, false);
+    }
+
+    private static Specification<Job> hasAttributes(JobAttribute.AttributeType type, List<String> values, boolean matchAll) {
+        List<String> normalized = AttributeValues.normalize(values);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<JobAttribute> attribute = subquery.from(JobAttribute.class);
+            subquery.where(
+                    cb.equal(attribute.get("job").get("id"), root.get("id")),
+                    cb.equal(attribute.get("attributeType"), type),
+                    attribute.get("attributeValue").in(normalized));
+            if (matchAll) {
+                subquery.select(cb.countDistinct(attribute.get("attributeValue")));
+                return cb.equal(subquery, (long) normalized.size());
+            }
+            subquery.select(attribute.get("id"));
+            return cb.exists(subquery);
+        };
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,99 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.BaseEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque seek position for keyset paging: the sort key and id of the last row of a page.
+ *
+ * Rows are ordered by (sortField, id), so the next page is everything strictly after that
+ * pair and costs an index range scan regardless of depth. Only createdAt and id are
+ * supported as sort fields; both are non-null and indexed on every paged table.
+ */
+public final class KeysetCursor {
+
+    public static final String CREATED_AT = "createdAt";
+    public static final String ID = "id";
+
+    private final String sortField;
+    private final boolean ascending;
+    private final String sortValue;
+    private final Long id;
+
+    private KeysetCursor(String sortField, boolean ascending, String sortValue, Long id) {
+        this.sortField = sortField;
+        this.ascending = ascending;
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+
+    /**
+     * Map a requested sort field to a supported one, defaulting to createdAt
+     */
+    public static String sortField(String requested) {
+        return ID.equals(requested) ? ID : CREATED_AT;
+    }
+
+    public static Sort sort(String sortField, boolean ascending) {
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return ID.equals(sortField) ? Sort.by(direction, ID) : Sort.by(direction, sortField, ID);
+    }
+
+    /**
+     * Cursor pointing just after the given row
+     */
+    public static KeysetCursor after(BaseEntity row, String sortField, boolean ascending) {
+        String value = ID.equals(sortField) ? String.valueOf(row.getId()) : row.getCreatedAt().toString();
+        return new KeysetCursor(sortField, ascending, value, row.getId());
+    }
+
+    public String encode() {
+        String raw = sortField + "|" + (ascending ? "a" : "d") + "|" + sortValue + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor; null or blank means the first page
+     */
+    public static KeysetCursor decode(String cursor, String sortField, boolean ascending) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        KeysetCursor decoded;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            decoded = new KeysetCursor(parts[0], "a".equals(parts[1]), parts[2], Long.valueOf(parts[3]));
+            if (CREATED_AT.equals(decoded.sortField)) {
+                LocalDateTime.parse(decoded.sortValue);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (!decoded.sortField.equals(sortField) || decoded.ascending != ascending) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort order");
+        }
+        return decoded;
+    }
+
+    /**
+     * Restrict to rows strictly after this cursor in (sortField, id) order
+     */
+    public <T> Specification<T> toSpecification() {
+        return (root, query, cb) -> {
+            if (ID.equals(sortField)) {
+                return ascending ? cb.greaterThan(root.get(ID), id) : cb.lessThan(root.get(ID), id);
+            }
+            LocalDateTime value = LocalDateTime.parse(sortValue);
+            return ascending
+                    ? cb.or(cb.greaterThan(root.get(sortField), value),
+                            cb.and(cb.equal(root.get(sortField), value), cb.greaterThan(root.get(ID), id)))
+                    : cb.or(cb.lessThan(root.get(sortField), value),
+                            cb.and(cb.equal(root.get(sortField), value), cb.lessThan(root.get(ID), id)));
+        };
+    }
+}
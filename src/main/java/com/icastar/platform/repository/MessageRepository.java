@@ -0,0 +1,31 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.Message;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MessageRepository extends JpaRepository<Message, Long> {
+
+    // Find the messages of a conversation older than beforeId (all when null), newest first,
+    // leaving out the ones the viewer deleted
+    @Query("SELECT m FROM Message m WHERE m.conversationKey = :conversationKey " +
+           "AND (:beforeId IS NULL OR m.id < :beforeId) " +
+           "AND NOT (m.sender.id = :viewerId AND m.isDeletedBySender = true) " +
+           "AND NOT (m.recipient.id = :viewerId AND m.isDeletedByRecipient = true) " +
+           "ORDER BY m.id DESC")
+    List<Message> findConversationPage(@Param("conversationKey") String conversationKey,
+                                       @Param("beforeId") Long beforeId,
+                                       @Param("viewerId") Long viewerId,
+                                       Pageable pageable);
+
+    // Count unread messages received by a user
+    @Query("SELECT COUNT(m) FROM Message m WHERE m.recipient.id = :recipientId AND m.isRead = false " +
+           "AND m.isDeletedByRecipient = false")
+    long countUnread(@Param("recipientId") Long recipientId);
+}
@@ -0,0 +1,38 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // Find a user's notifications older than beforeId (all when null), newest first
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId " +
+           "AND (:beforeId IS NULL OR n.id < :beforeId) ORDER BY n.id DESC")
+    List<Notification> findPage(@Param("userId") Long userId,
+                                @Param("beforeId") Long beforeId,
+                                Pageable pageable);
+
+    // Count unread notifications of a user
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
+    long countUnread(@Param("userId") Long userId);
+
+    // Mark one notification of a user as read
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :now " +
+           "WHERE n.id = :id AND n.user.id = :userId AND n.isRead = false")
+    int markRead(@Param("id") Long id, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // Mark every notification of a user as read
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :now WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllRead(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+}
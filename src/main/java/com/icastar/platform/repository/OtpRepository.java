@@ -2,6 +2,7 @@ package com.icastar.platform.repository;
 
 import com.icastar.platform.entity.Otp;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,9 +17,29 @@ public interface OtpRepository extends JpaRepository<Otp, Long> {
     Optional<Otp> findByMobileAndEmailAndOtpTypeAndStatus(String mobile, String email, 
                                                           Otp.OtpType otpType, Otp.OtpStatus status);
 
-    List<Otp> findByMobileAndEmailAndStatus(String mobile, String email, Otp.OtpStatus status);
-
-    List<Otp> findByExpiresAtBeforeAndStatus(LocalDateTime expiresAt, Otp.OtpStatus status);
+    // Expire every pending OTP for a mobile/email pair in one statement; a null email matches rows without one
+    @Modifying
+    @Query("UPDATE Otp o SET o.status = 'EXPIRED', o.updatedAt = :now WHERE o.mobile = :mobile " +
+           "AND ((:email IS NULL AND o.email IS NULL) OR o.email = :email) AND o.status = 'PENDING'")
+    int expirePending(@Param("mobile") String mobile, @Param("email") String email, @Param("now") LocalDateTime now);
+
+    // Record the final outcome of an audited in-memory OTP
+    @Modifying
+    @Query("UPDATE Otp o SET o.status = :status, o.attempts = :attempts, o.verifiedAt = :verifiedAt, o.updatedAt = :now " +
+           "WHERE o.id = :id AND o.status = 'PENDING'")
+    int recordOutcome(@Param("id") Long id, @Param("status") Otp.OtpStatus status, @Param("attempts") int attempts,
+                      @Param("verifiedAt") LocalDateTime verifiedAt, @Param("now") LocalDateTime now);
+
+    // Mark up to limit pending OTPs past their expiry as expired
+    @Modifying
+    @Query(value = "UPDATE otps SET status = 'EXPIRED', updated_at = :now WHERE status = 'PENDING' AND expires_at < :now LIMIT :limit",
+           nativeQuery = true)
+    int expireStalePending(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Delete up to limit OTPs that expired before the cutoff, whatever their status
+    @Modifying
+    @Query(value = "DELETE FROM otps WHERE expires_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 
     @Query("SELECT o FROM Otp o WHERE o.mobile = :mobile AND o.status = :status ORDER BY o.createdAt DESC")
     List<Otp> findByMobileAndStatusOrderByCreatedAtDesc(@Param("mobile") String mobile, 
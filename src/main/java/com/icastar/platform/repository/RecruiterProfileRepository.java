@@ -1,9 +1,11 @@
 package com.icastar.platform.repository;
 
 import com.icastar.platform.entity.RecruiterProfile;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,6 +18,11 @@ public interface RecruiterProfileRepository extends JpaRepository<RecruiterProfi
 
     Optional<RecruiterProfile> findByUserId(Long userId);
 
+    // Find a recruiter and lock the row so audition bookings for them are checked and written one at a time
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT rp FROM RecruiterProfile rp WHERE rp.id = :id")
+    Optional<RecruiterProfile> findForUpdate(@Param("id") Long id);
+
     List<RecruiterProfile> findByIsVerifiedCompany(Boolean isVerifiedCompany);
 
     List<RecruiterProfile> findByCompanyNameContainingIgnoreCase(String companyName);
@@ -0,0 +1,36 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.RecruiterStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RecruiterStatsRepository extends JpaRepository<RecruiterStats, Long> {
+
+    // Find the stats row of a recruiter
+    Optional<RecruiterStats> findByRecruiterUserId(Long recruiterUserId);
+
+    // Create a recruiter's stats row, stale, unless a concurrent first read already did
+    @Modifying
+    @Query(value = "INSERT INTO recruiter_stats (recruiter_user_id, is_stale) VALUES (:recruiterUserId, TRUE) " +
+                   "ON DUPLICATE KEY UPDATE recruiter_user_id = recruiter_user_id",
+           nativeQuery = true)
+    int insertIfMissing(@Param("recruiterUserId") Long recruiterUserId);
+
+    // Flag a recruiter's stats for recomputation on the next read
+    @Modifying
+    @Query("UPDATE RecruiterStats rs SET rs.isStale = true, rs.staleVersion = rs.staleVersion + 1 " +
+           "WHERE rs.recruiterUserId = :recruiterUserId")
+    int markStale(@Param("recruiterUserId") Long recruiterUserId);
+
+    // Clear the stale flag unless it was set again after the recompute read staleVersion
+    @Modifying
+    @Query("UPDATE RecruiterStats rs SET rs.isStale = false " +
+           "WHERE rs.id = :id AND rs.staleVersion = :staleVersion")
+    int clearStale(@Param("id") Long id, @Param("staleVersion") Long staleVersion);
+}
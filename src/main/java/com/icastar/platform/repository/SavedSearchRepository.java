@@ -0,0 +1,30 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.SavedSearch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    // Find a user's saved searches, newest first
+    List<SavedSearch> findByUserIdAndIsActiveTrueOrderByIdDesc(Long userId);
+
+    // Find one active saved search of a user
+    Optional<SavedSearch> findByIdAndUserIdAndIsActiveTrue(Long id, Long userId);
+
+    long countByUserIdAndIsActiveTrue(Long userId);
+
+    // Alert index loading - keyset pages of alerting searches and the delta since the last refresh
+    @Query("SELECT s FROM SavedSearch s WHERE s.isActive = true AND s.alertFrequency <> 'OFF' AND s.id > :lastId ORDER BY s.id ASC")
+    List<SavedSearch> findAlertingAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    List<SavedSearch> findByUpdatedAtAfter(LocalDateTime since);
+}
@@ -0,0 +1,49 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.StoredBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, String> {
+
+    // Take one more reference to an existing blob
+    @Modifying
+    @Query("UPDATE StoredBlob b SET b.refCount = b.refCount + 1, b.updatedAt = :now WHERE b.sha256 = :sha256")
+    int addReference(@Param("sha256") String sha256, @Param("now") LocalDateTime now);
+
+    // Record a newly written object with one reference, or add a reference to the row a
+    // concurrent upload of the same content inserted first
+    @Modifying
+    @Query(value = "INSERT INTO stored_blobs (sha256, object_url, size, content_type, ref_count, created_at, updated_at) " +
+                   "VALUES (:sha256, :url, :size, :contentType, 1, :now, :now) " +
+                   "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, updated_at = :now",
+           nativeQuery = true)
+    int upsertReference(@Param("sha256") String sha256, @Param("url") String url, @Param("size") long size,
+                        @Param("contentType") String contentType, @Param("now") LocalDateTime now);
+
+    // Find a blob and lock its row until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM StoredBlob b WHERE b.sha256 = :sha256")
+    Optional<StoredBlob> findForUpdate(@Param("sha256") String sha256);
+
+    // Drop one reference from the blob stored at the given URL
+    @Modifying
+    @Query("UPDATE StoredBlob b SET b.refCount = b.refCount - 1, b.updatedAt = :now " +
+           "WHERE b.sha256 = :sha256 AND b.objectUrl = :url AND b.refCount > 0")
+    int release(@Param("sha256") String sha256, @Param("url") String url, @Param("now") LocalDateTime now);
+
+    // Find unreferenced blobs released before the cutoff
+    @Query(value = "SELECT sha256 FROM stored_blobs WHERE ref_count = 0 AND updated_at < :cutoff LIMIT :limit",
+           nativeQuery = true)
+    List<String> findUnreferencedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -44,4 +44,10 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     // Find subscriptions by plan type
     @Query("SELECT s FROM Subscription s WHERE s.subscriptionPlan.planType = :planType")
     List<Subscription> findByPlanType(@Param("planType") String planType);
+
+    // Find subscription by user ID and status with its plan and plan features in one query
+    @Query("SELECT DISTINCT s FROM Subscription s JOIN FETCH s.subscriptionPlan p LEFT JOIN FETCH p.features " +
+           "WHERE s.user.id = :userId AND s.status = :status")
+    Optional<Subscription> findWithPlanFeaturesByUserIdAndStatus(@Param("userId") Long userId,
+                                                                  @Param("status") Subscription.SubscriptionStatus status);
 }
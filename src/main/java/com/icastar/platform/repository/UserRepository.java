@@ -4,6 +4,7 @@ import com.icastar.platform.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,7 +14,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
 
     Optional<User> findByEmail(String email);
 
@@ -97,4 +98,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
                                                    @Param("role") User.UserRole role, 
                                                    @Param("search") String search, 
                                                    Pageable pageable);
+
+    // Find (id, statusVersion) of users whose status has ever changed
+    @Query("SELECT u.id, u.statusVersion FROM User u WHERE u.statusVersion > 0")
+    List<Object[]> findStatusVersions();
+
+    // Find (id, statusVersion) of users modified since the given time
+    @Query("SELECT u.id, u.statusVersion FROM User u WHERE u.updatedAt > :since AND u.statusVersion > 0")
+    List<Object[]> findStatusVersionsModifiedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,41 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.User;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+/**
+ * Composable user filters for admin lists. Each method returns null when its argument is
+ * empty so callers can chain them with {@link Specification#and} without null checks.
+ */
+public final class UserSpecifications {
+
+    private UserSpecifications() {
+    }
+
+    public static Specification<User> hasRole(User.UserRole role) {
+        return role == null ? null : (root, query, cb) -> cb.equal(root.get("role"), role);
+    }
+
+    public static Specification<User> hasStatus(User.UserStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<User> hasAccountStatus(User.AccountStatus accountStatus) {
+        return accountStatus == null ? null : (root, query, cb) -> cb.equal(root.get("accountStatus"), accountStatus);
+    }
+
+    /**
+     * Email or mobile contains the search term
+     */
+    public static Specification<User> matches(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + search.trim().toLowerCase(Locale.ROOT) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("email")), pattern),
+                cb.like(root.get("mobile"), pattern));
+    }
+}
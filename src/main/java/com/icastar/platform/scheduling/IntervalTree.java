@@ -0,0 +1,112 @@
+package com.icastar.platform.scheduling;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Immutable interval tree over half-open intervals [start, end).
+ *
+ * Intervals are sorted by start and laid out as an implicit balanced binary search tree over
+ * that array (the middle element of each range is the root of the range), with every node
+ * storing the largest end in its subtree. An overlap query visits only the subtrees that can
+ * hold an overlapping interval, so it costs O(log n + k) for k hits. Instances are built once
+ * and never change, so they can be shared between threads without locking.
+ */
+public final class IntervalTree<T> {
+
+    private static final IntervalTree<?> EMPTY = new IntervalTree<>(new long[0], new long[0], new Object[0]);
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final Object[] values;
+
+    private IntervalTree(long[] starts, long[] ends, Object[] values) {
+        this.starts = starts;
+        this.ends = ends;
+        this.values = values;
+        this.maxEnds = new long[starts.length];
+        buildMaxEnds(0, starts.length - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> IntervalTree<T> empty() {
+        return (IntervalTree<T>) EMPTY;
+    }
+
+    public static <T> IntervalTree<T> of(Collection<Interval<T>> intervals) {
+        if (intervals.isEmpty()) {
+            return empty();
+        }
+        Interval<T>[] sorted = intervals.toArray(new Interval[0]);
+        Arrays.sort(sorted, Comparator.comparingLong(Interval<T>::start).thenComparingLong(Interval::end));
+        long[] starts = new long[sorted.length];
+        long[] ends = new long[sorted.length];
+        Object[] values = new Object[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            if (sorted[i].end() <= sorted[i].start()) {
+                throw new IllegalArgumentException("Interval must end after it starts");
+            }
+            starts[i] = sorted[i].start();
+            ends[i] = sorted[i].end();
+            values[i] = sorted[i].value();
+        }
+        return new IntervalTree<>(starts, ends, values);
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Largest end among the intervals overlapping [start, end), or Long.MIN_VALUE when none
+     * does; the earliest point after start at which [start, end) may stop conflicting
+     */
+    public long latestOverlappingEnd(long start, long end) {
+        long[] latest = {Long.MIN_VALUE};
+        collect(0, starts.length - 1, start, end, index -> latest[0] = Math.max(latest[0], ends[index]));
+        return latest[0];
+    }
+
+    private long buildMaxEnds(int low, int high) {
+        if (low > high) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        long max = Math.max(ends[mid], Math.max(buildMaxEnds(low, mid - 1), buildMaxEnds(mid + 1, high)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    private void collect(int low, int high, long start, long end, IndexConsumer consumer) {
+        if (low > high) {
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        // Nothing in this subtree ends after the query starts
+        if (maxEnds[mid] <= start) {
+            return;
+        }
+        collect(low, mid - 1, start, end, consumer);
+        // Intervals from mid onwards start at or after starts[mid]; past the query end nothing further can overlap
+        if (starts[mid] >= end) {
+            return;
+        }
+        if (ends[mid] > start) {
+            consumer.accept(mid);
+        }
+        collect(mid + 1, high, start, end, consumer);
+    }
+
+    @FunctionalInterface
+    private interface IndexConsumer {
+        void accept(int index);
+    }
+
+    /**
+     * Half-open interval [start, end) carrying a value
+     */
+    public record Interval<T>(long start, long end, T value) {
+    }
+}
@@ -0,0 +1,211 @@
+package com.icastar.platform.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * In-process inverted index over job text with BM25 ranking.
+ *
+ * Fields are folded into a single document with per-field boosts applied as term-frequency
+ * multipliers (title weighs more than description). Writers take the write lock, searches run
+ * concurrently under the read lock.
+ */
+public class JobSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int TITLE_BOOST = 3;
+    private static final int SKILLS_BOOST = 2;
+    private static final int TAGS_BOOST = 2;
+    private static final int LOCATION_BOOST = 2;
+    private static final int TEXT_BOOST = 1;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+    private long totalLength;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Add or replace a job in the index
+     */
+    public void index(Long jobId, String title, String description, String requirements,
+                      String skillsRequired, String tags, String location) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addField(frequencies, title, TITLE_BOOST);
+        addField(frequencies, skillsRequired, SKILLS_BOOST);
+        addField(frequencies, tags, TAGS_BOOST);
+        addField(frequencies, location, LOCATION_BOOST);
+        addField(frequencies, description, TEXT_BOOST);
+        addField(frequencies, requirements, TEXT_BOOST);
+
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(jobId);
+            if (frequencies.isEmpty()) {
+                return;
+            }
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(jobId, entry.getValue());
+            }
+            documents.put(jobId, new IndexedDocument(frequencies.keySet().toArray(new String[0]), length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop a job from the index
+     */
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranked job ids for a free-text query; any query term may match, more matches rank higher
+     */
+    public SearchHits search(String query, int offset, int limit) {
+        return search(query, offset, limit, jobId -> true);
+    }
+
+    /**
+     * Ranked job ids for a free-text query, counting and returning only jobs the filter accepts
+     */
+    public SearchHits search(String query, int offset, int limit, LongPredicate filter) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(SearchTokenizer.tokenize(query)));
+        if (terms.isEmpty()) {
+            return new SearchHits(Collections.emptyList(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return new SearchHits(Collections.emptyList(), 0);
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    if (!filter.test(entry.getKey())) {
+                        continue;
+                    }
+                    int tf = entry.getValue();
+                    int length = documents.get(entry.getKey()).getLength();
+                    double norm = tf + K1 * (1 - B + B * length / averageLength);
+                    scores.merge(entry.getKey(), idf * tf * (K1 + 1) / norm, Double::sum);
+                }
+            }
+
+            // A page past the end still reports how many jobs matched
+            List<Long> page = limit > 0 ? topK(scores, offset, limit) : Collections.emptyList();
+            return new SearchHits(page, scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Long> topK(Map<Long, Double> scores, int offset, int limit) {
+        int k = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        // Lowest score on top; ties broken by newest (highest) id first in the final order
+        Comparator<Map.Entry<Long, Double>> order = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(Math.min(k, scores.size()) + 1, order);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (heap.size() < k) {
+                heap.add(entry);
+            } else if (order.compare(entry, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(heap);
+        ranked.sort(order.reversed());
+        List<Long> ids = new ArrayList<>(Math.max(0, ranked.size() - offset));
+        for (int i = offset; i < ranked.size(); i++) {
+            ids.add(ranked.get(i).getKey());
+        }
+        return ids;
+    }
+
+    private void removeInternal(Long jobId) {
+        IndexedDocument existing = documents.remove(jobId);
+        if (existing == null) {
+            return;
+        }
+        for (String term : existing.getTerms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(jobId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= existing.getLength();
+    }
+
+    private static void addField(Map<String, Integer> frequencies, String text, int boost) {
+        for (String token : SearchTokenizer.tokenize(text)) {
+            frequencies.merge(token, boost, Integer::sum);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class IndexedDocument {
+        private final String[] terms;
+        private final int length;
+    }
+
+    /**
+     * One page of ranked ids plus the total number of matching jobs
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class SearchHits {
+        private final List<Long> jobIds;
+        private final long total;
+    }
+}
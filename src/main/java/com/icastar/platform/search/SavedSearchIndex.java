@@ -0,0 +1,370 @@
+package com.icastar.platform.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process index of saved job searches, answering "which searches does this new job match".
+ *
+ * Every search gets a dense slot number and is added to one postings list per indexed
+ * dimension: location, job type and each of its skills. Searches that leave a dimension open
+ * are kept in that dimension's "any" bitmap instead. A job is matched by building one bitmap
+ * per dimension (the "any" bitmap plus the postings of the job's values), intersecting the
+ * three a word at a time and applying the remaining criteria (pay, experience, flags, title
+ * and text) to the surviving slots only, so no search outside the intersection is looked at.
+ * Searches without any remaining criteria are tracked in a further bitmap and accepted
+ * without being checked.
+ *
+ * Replaced and removed searches leave dead slots behind in the postings lists that matching
+ * skips; the index is rebuilt with fresh slots once dead slots outnumber live ones. Writers
+ * take the write lock, matching runs concurrently under the read lock.
+ */
+public class SavedSearchIndex {
+
+    private static final int MIN_COMPACT_SLOTS = 1024;
+
+    private Subscription[] slots = new Subscription[MIN_COMPACT_SLOTS];
+    private int nextSlot;
+    private int deadSlots;
+    private final Map<Long, Integer> slotById = new HashMap<>();
+
+    private final Map<String, Postings> byLocation = new HashMap<>();
+    private final Bitmap anyLocation = new Bitmap();
+    private final Map<String, Postings> byJobType = new HashMap<>();
+    private final Bitmap anyJobType = new Bitmap();
+    private final Map<String, Postings> bySkill = new HashMap<>();
+    private final Bitmap anySkill = new Bitmap();
+    private final Bitmap unconditional = new Bitmap();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Add or replace a saved search
+     */
+    public void put(Subscription subscription) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(subscription.getId());
+            addInternal(subscription);
+            if (deadSlots > Math.max(MIN_COMPACT_SLOTS, slotById.size())) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop a saved search
+     */
+    public void remove(Long savedSearchId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(savedSearchId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            reset(MIN_COMPACT_SLOTS);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Every saved search the job satisfies
+     */
+    public List<Subscription> match(JobFacts job) {
+        lock.readLock().lock();
+        try {
+            int words = Bitmap.wordsFor(nextSlot);
+            long[] candidates = dimension(anyLocation, byLocation, job.getLocationKeys(), words);
+            and(candidates, dimension(anyJobType, byJobType,
+                    job.getJobType() != null ? Set.of(job.getJobType()) : Set.of(), words));
+            and(candidates, dimension(anySkill, bySkill, job.getSkills(), words));
+
+            long[] accepted = unconditional.copy(words);
+            List<Subscription> matches = new ArrayList<>();
+            for (int word = 0; word < words; word++) {
+                long bits = candidates[word];
+                while (bits != 0) {
+                    int slot = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    long bit = bits & -bits;
+                    bits ^= bit;
+                    Subscription subscription = slots[slot];
+                    if ((accepted[word] & bit) != 0 || (subscription != null && subscription.accepts(job))) {
+                        matches.add(subscription);
+                    }
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(Subscription subscription) {
+        if (nextSlot == slots.length) {
+            slots = Arrays.copyOf(slots, slots.length * 2);
+        }
+        int slot = nextSlot++;
+        slots[slot] = subscription;
+        slotById.put(subscription.getId(), slot);
+
+        if (subscription.getLocation() == null) {
+            anyLocation.set(slot);
+        } else {
+            byLocation.computeIfAbsent(subscription.getLocation(), key -> new Postings()).add(slot);
+        }
+        if (subscription.getJobType() == null) {
+            anyJobType.set(slot);
+        } else {
+            byJobType.computeIfAbsent(subscription.getJobType(), key -> new Postings()).add(slot);
+        }
+        if (subscription.getSkills().isEmpty()) {
+            anySkill.set(slot);
+        } else {
+            for (String skill : subscription.getSkills()) {
+                bySkill.computeIfAbsent(skill, key -> new Postings()).add(slot);
+            }
+        }
+        if (subscription.isUnconditional()) {
+            unconditional.set(slot);
+        }
+    }
+
+    private void removeInternal(Long savedSearchId) {
+        Integer slot = slotById.remove(savedSearchId);
+        if (slot != null) {
+            // The slot stays in its postings lists until the next compaction; matching skips it
+            slots[slot] = null;
+            anyLocation.clear(slot);
+            anyJobType.clear(slot);
+            anySkill.clear(slot);
+            unconditional.clear(slot);
+            deadSlots++;
+        }
+    }
+
+    private void compact() {
+        List<Subscription> live = new ArrayList<>(slotById.size());
+        for (int slot = 0; slot < nextSlot; slot++) {
+            if (slots[slot] != null) {
+                live.add(slots[slot]);
+            }
+        }
+        reset(Math.max(MIN_COMPACT_SLOTS, Integer.highestOneBit(Math.max(1, live.size())) * 2));
+        live.forEach(this::addInternal);
+    }
+
+    private void reset(int capacity) {
+        slots = new Subscription[capacity];
+        nextSlot = 0;
+        deadSlots = 0;
+        slotById.clear();
+        byLocation.clear();
+        anyLocation.reset();
+        byJobType.clear();
+        anyJobType.reset();
+        bySkill.clear();
+        anySkill.reset();
+        unconditional.reset();
+    }
+
+    // Slots of one dimension the job satisfies: the open ones plus the postings of its values
+    private static long[] dimension(Bitmap any, Map<String, Postings> byValue, Set<String> values, int words) {
+        long[] bits = any.copy(words);
+        for (String value : values) {
+            Postings postings = byValue.get(value);
+            if (postings != null) {
+                for (int i = 0; i < postings.size; i++) {
+                    int slot = postings.slots[i];
+                    bits[slot >>> 6] |= 1L << slot;
+                }
+            }
+        }
+        return bits;
+    }
+
+    private static void and(long[] target, long[] other) {
+        for (int word = 0; word < target.length; word++) {
+            target[word] &= other[word];
+        }
+    }
+
+    /**
+     * Normalised key of a location: lower-cased and trimmed
+     */
+    public static String locationKey(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        return location.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Keys a job location answers to: the whole location and each comma or slash separated
+     * part, so "Andheri, Mumbai" reaches searches for "mumbai" and for "andheri, mumbai"
+     */
+    public static Set<String> locationKeys(String location) {
+        String whole = locationKey(location);
+        if (whole == null) {
+            return Set.of();
+        }
+        Set<String> keys = new HashSet<>();
+        keys.add(whole);
+        for (String part : whole.split("[,/]")) {
+            if (!part.isBlank()) {
+                keys.add(part.trim());
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Growable int array of slots, in increasing order
+     */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        private void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+
+    /**
+     * Growable bitmap of slots
+     */
+    private static final class Bitmap {
+        private long[] words = new long[wordsFor(MIN_COMPACT_SLOTS)];
+
+        private static int wordsFor(int slots) {
+            return (slots + 63) >>> 6;
+        }
+
+        private void set(int slot) {
+            int word = slot >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+            }
+            words[word] |= 1L << slot;
+        }
+
+        private void clear(int slot) {
+            int word = slot >>> 6;
+            if (word < words.length) {
+                words[word] &= ~(1L << slot);
+            }
+        }
+
+        private void reset() {
+            words = new long[wordsFor(MIN_COMPACT_SLOTS)];
+        }
+
+        private long[] copy(int length) {
+            return Arrays.copyOf(words, length);
+        }
+    }
+
+    /**
+     * A saved search as the index sees it; null criteria and empty sets match any job.
+     * Locations, skills, tags and text terms are expected in normalised form.
+     */
+    @Getter
+    @Builder
+    public static class Subscription {
+        private final Long id;
+        private final Long userId;
+        private final String location;
+        private final String jobType;
+        private final String experienceLevel;
+        private final BigDecimal minPay;
+        private final BigDecimal maxPay;
+        private final String currency;
+        private final Boolean isRemote;
+        private final Boolean isUrgent;
+        private final Boolean isFeatured;
+        private final String jobTitle;
+        @Builder.Default
+        private final Set<String> terms = Set.of();
+        @Builder.Default
+        private final Set<String> skills = Set.of();
+        private final boolean allSkills;
+        @Builder.Default
+        private final Set<String> tags = Set.of();
+        private final boolean immediate; // Alert with the next dispatch rather than the daily digest
+
+        // Same semantics as JobSpecifications; text terms must all appear in the job
+        boolean accepts(JobFacts job) {
+            return isUnconditional() || checkAll(job);
+        }
+
+        // Nothing to check beyond location, job type and any-of skills, which the index already matched
+        boolean isUnconditional() {
+            return experienceLevel == null && minPay == null && maxPay == null && currency == null
+                    && isRemote == null && isUrgent == null && isFeatured == null && jobTitle == null
+                    && (!allSkills || skills.size() < 2) && tags.isEmpty() && terms.isEmpty();
+        }
+
+        private boolean checkAll(JobFacts job) {
+            return (experienceLevel == null || experienceLevel.equals(job.getExperienceLevel()))
+                    && (minPay == null || (job.getBudgetMin() != null && job.getBudgetMin().compareTo(minPay) >= 0))
+                    && (maxPay == null || (job.getBudgetMax() != null && job.getBudgetMax().compareTo(maxPay) <= 0))
+                    && (currency == null || currency.equalsIgnoreCase(job.getCurrency()))
+                    && (isRemote == null || isRemote.equals(job.getIsRemote()))
+                    && (isUrgent == null || isUrgent.equals(job.getIsUrgent()))
+                    && (isFeatured == null || isFeatured.equals(job.getIsFeatured()))
+                    && (jobTitle == null || (job.getTitle() != null && job.getTitle().contains(jobTitle)))
+                    && (!allSkills || job.getSkills().containsAll(skills))
+                    && (tags.isEmpty() || !Collections.disjoint(tags, job.getTags()))
+                    && (terms.isEmpty() || job.getTerms().containsAll(terms));
+        }
+    }
+
+    /**
+     * The parts of a job that saved searches are matched against, in normalised form
+     */
+    @Getter
+    @Builder
+    public static class JobFacts {
+        @Builder.Default
+        private final Set<String> locationKeys = Set.of();
+        private final String jobType;
+        private final String experienceLevel;
+        private final BigDecimal budgetMin;
+        private final BigDecimal budgetMax;
+        private final String currency;
+        private final Boolean isRemote;
+        private final Boolean isUrgent;
+        private final Boolean isFeatured;
+        private final String title; // lower-cased
+        @Builder.Default
+        private final Set<String> terms = Set.of();
+        @Builder.Default
+        private final Set<String> skills = Set.of();
+        @Builder.Default
+        private final Set<String> tags = Set.of();
+    }
+}
@@ -0,0 +1,87 @@
+package com.icastar.platform.security;
+
+import com.icastar.platform.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Immutable snapshot of the authenticated user, used as the security principal for JWT requests.
+ *
+ * Holds no password and no JPA state, so it is safe to cache across requests or to rebuild
+ * from token claims.
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final User.UserRole role;
+    private final User.UserStatus status;
+    private final User.AccountStatus accountStatus;
+    private final Collection<GrantedAuthority> authorities;
+
+    private AuthenticatedUser(User user) {
+        this.id = user.getId();
+        this.email = user.getEmail();
+        this.role = user.getRole();
+        this.status = user.getStatus();
+        this.accountStatus = user.getAccountStatus();
+        this.authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+    }
+
+    private AuthenticatedUser(JwtClaims claims) {
+        this.id = claims.getUserId();
+        this.email = claims.getSubject();
+        this.role = claims.getRole();
+        this.status = claims.getStatus();
+        this.accountStatus = claims.getAccountStatus();
+        this.authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + claims.getRole().name()));
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user);
+    }
+
+    /**
+     * Build the principal straight from self-contained token claims, without a user lookup
+     */
+    public static AuthenticatedUser from(JwtClaims claims) {
+        return new AuthenticatedUser(claims);
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return status != User.UserStatus.BANNED && status != User.UserStatus.SUSPENDED
+                && accountStatus != User.AccountStatus.BANNED && accountStatus != User.AccountStatus.SUSPENDED;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return status == User.UserStatus.ACTIVE;
+    }
+}
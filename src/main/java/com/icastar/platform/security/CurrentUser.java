@@ -0,0 +1,25 @@
+package com.icastar.platform.security;
+
+import java.lang.annotation.*;
+
+/**
+ * Injects the authenticated caller into a controller method parameter.
+ *
+ * Declare the parameter as {@link AuthenticatedUser} when only id, email or role are needed
+ * (no query), or as {@link com.icastar.platform.entity.User} to get the managed entity.
+ *
+ * The parameter is resolved before the controller method runs, so its failures never reach
+ * the method's own catch block. They are rendered by GlobalExceptionHandler instead: 401
+ * AUTHENTICATION_ERROR without a principal, 400 USER_NOT_FOUND when the user behind the token
+ * no longer exists, both with the error object body rather than a top-level message.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+
+    /**
+     * Whether to fail when the request is not authenticated; otherwise null is injected
+     */
+    boolean required() default true;
+}
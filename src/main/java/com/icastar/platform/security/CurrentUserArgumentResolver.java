@@ -0,0 +1,56 @@
+package com.icastar.platform.security;
+
+import com.icastar.platform.entity.User;
+import com.icastar.platform.exception.BusinessException;
+import com.icastar.platform.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link CurrentUser} parameters from the principal set by {@link JwtAuthenticationFilter}.
+ *
+ * The principal already carries the user id, so a {@link User} parameter costs one primary key
+ * lookup (served from the persistence context if the request loaded it already) instead of
+ * another email/mobile query.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final UserRepository userRepository;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && (type == User.class || type == AuthenticatedUser.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        AuthenticatedUser principal = authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser
+                ? (AuthenticatedUser) authentication.getPrincipal() : null;
+
+        if (principal == null) {
+            if (parameter.getParameterAnnotation(CurrentUser.class).required()) {
+                throw new AuthenticationCredentialsNotFoundException("Authentication required");
+            }
+            return null;
+        }
+        if (parameter.getParameterType() == AuthenticatedUser.class) {
+            return principal;
+        }
+        return userRepository.findById(principal.getId())
+                .orElseThrow(() -> new BusinessException("User not found", "USER_NOT_FOUND"));
+    }
+}
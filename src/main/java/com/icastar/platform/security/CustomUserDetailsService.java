@@ -37,6 +37,17 @@ public class CustomUserDetailsService implements UserDetailsService {
         return createUserPrincipal(user);
     }
 
+    /**
+     * Load the password-free principal used for JWT-authenticated requests
+     */
+    @Transactional(readOnly = true)
+    public AuthenticatedUser loadPrincipal(String username) {
+        User user = userRepository.findByEmailOrMobile(username, username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email or mobile: " + username));
+
+        return AuthenticatedUser.from(user);
+    }
+
     private UserDetails createUserPrincipal(User user) {
         Collection<GrantedAuthority> authorities = Collections.singletonList(
                 new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
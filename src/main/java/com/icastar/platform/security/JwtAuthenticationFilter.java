@@ -9,7 +9,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -22,8 +21,7 @@ import java.io.IOException;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider tokenProvider;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final JwtAuthenticator jwtAuthenticator;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -37,17 +35,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            String jwt = getJwtFromRequest(request);
-
-            if (StringUtils.hasText(jwt)
-                    && tokenProvider.validateToken(jwt)
-                    && SecurityContextHolder.getContext().getAuthentication() == null) {
-
-                String username = tokenProvider.getUsernameFromJWT(jwt);
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+            String jwt = JwtAuthenticator.bearerToken(request.getHeader("Authorization"));
+            AuthenticatedUser principal = StringUtils.hasText(jwt)
+                    && SecurityContextHolder.getContext().getAuthentication() == null
+                    ? jwtAuthenticator.authenticate(jwt) : null;
 
+            if (principal != null) {
                 var auth = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
+                        principal, null, principal.getAuthorities());
                 auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(auth);
@@ -58,13 +53,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-
-    private String getJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken)
-                && bearerToken.regionMatches(true, 0, "Bearer ", 0, 7)) {
-            return bearerToken.substring(7);
-        }
-        return null;
-    }
 }
@@ -0,0 +1,52 @@
+package com.icastar.platform.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Turns a bearer token into the authenticated principal; shared by the HTTP filter and the
+ * STOMP CONNECT handler so both honour revocation and account locks the same way.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticator {
+
+    private final JwtTokenProvider tokenProvider;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList revocationList;
+
+    /**
+     * Principal for the token, or null when it is invalid, expired, revoked, or the account is
+     * banned or suspended (such users keep a valid token until it expires; don't honour it)
+     */
+    public AuthenticatedUser authenticate(String jwt) {
+        JwtClaims claims = StringUtils.hasText(jwt) ? tokenProvider.parseVerifiedClaims(jwt) : null;
+        if (claims == null || revocationList.isRevoked(claims.getTokenId())) {
+            return null;
+        }
+        AuthenticatedUser principal = resolvePrincipal(claims);
+        return principal.isAccountNonLocked() ? principal : null;
+    }
+
+    /**
+     * Token from an "Authorization: Bearer ..." header value, or null
+     */
+    public static String bearerToken(String header) {
+        if (StringUtils.hasText(header) && header.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            return header.substring(7);
+        }
+        return null;
+    }
+
+    private AuthenticatedUser resolvePrincipal(JwtClaims claims) {
+        // Self-contained token whose status version is still current: no lookup needed
+        if (claims.isSelfContained() && revocationList.isCurrent(claims.getUserId(), claims.getStatusVersion())) {
+            return AuthenticatedUser.from(claims);
+        }
+        String username = claims.getSubject();
+        return principalCache.get(username, claims.getIssuedAt(), claims.getExpiresAt(),
+                () -> customUserDetailsService.loadPrincipal(username));
+    }
+}
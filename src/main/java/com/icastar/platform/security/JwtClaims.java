@@ -0,0 +1,65 @@
+package com.icastar.platform.security;
+
+import com.icastar.platform.entity.User;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+/**
+ * Claims of a token whose signature and expiry have already been verified.
+ *
+ * Tokens issued by {@link JwtTokenProvider#generateToken(User)} carry the user id, role, status
+ * and status version, which is enough to authenticate a request without loading the user.
+ * Older tokens only carry the subject; {@link #isSelfContained()} is false for those.
+ */
+@Getter
+public class JwtClaims {
+
+    public static final String USER_ID = "uid";
+    public static final String ROLE = "role";
+    public static final String STATUS = "st";
+    public static final String ACCOUNT_STATUS = "ast";
+    public static final String STATUS_VERSION = "sv";
+
+    private final String subject;
+    private final String tokenId;
+    private final long issuedAt;
+    private final long expiresAt;
+    private final Long userId;
+    private final User.UserRole role;
+    private final User.UserStatus status;
+    private final User.AccountStatus accountStatus;
+    private final Integer statusVersion;
+
+    private JwtClaims(Claims claims) {
+        this.subject = claims.getSubject();
+        this.tokenId = claims.getId();
+        this.issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+        this.expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+        Number userId = claims.get(USER_ID, Number.class);
+        Number statusVersion = claims.get(STATUS_VERSION, Number.class);
+        this.userId = userId != null ? userId.longValue() : null;
+        this.statusVersion = statusVersion != null ? statusVersion.intValue() : null;
+        this.role = parse(User.UserRole.class, claims.get(ROLE, String.class));
+        this.status = parse(User.UserStatus.class, claims.get(STATUS, String.class));
+        this.accountStatus = parse(User.AccountStatus.class, claims.get(ACCOUNT_STATUS, String.class));
+    }
+
+    public static JwtClaims from(Claims claims) {
+        return new JwtClaims(claims);
+    }
+
+    public boolean isSelfContained() {
+        return userId != null && role != null && status != null && statusVersion != null;
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.icastar.platform.security;
 
+import com.icastar.platform.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -10,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 @Slf4j
@@ -21,8 +24,16 @@ public class JwtTokenProvider {
     @Value("${spring.security.jwt.expiration}")
     private int jwtExpirationInMs;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    // The key and parser are immutable and thread-safe, so build them once
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public String generateToken(Authentication authentication) {
@@ -33,7 +44,28 @@ public class JwtTokenProvider {
                 .setSubject(userPrincipal.getUsername())
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    /**
+     * Issue a self-contained token carrying user id, role, status and status version
+     */
+    public String generateToken(User user) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
+
+        return Jwts.builder()
+                .setSubject(user.getEmail())
+                .setId(UUID.randomUUID().toString())
+                .claim(JwtClaims.USER_ID, user.getId())
+                .claim(JwtClaims.ROLE, user.getRole().name())
+                .claim(JwtClaims.STATUS, user.getStatus().name())
+                .claim(JwtClaims.ACCOUNT_STATUS, user.getAccountStatus() != null ? user.getAccountStatus().name() : null)
+                .claim(JwtClaims.STATUS_VERSION, user.getStatusVersion() != null ? user.getStatusVersion() : 0)
+                .setIssuedAt(now)
+                .setExpiration(expiryDate)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
@@ -44,27 +76,20 @@ public class JwtTokenProvider {
                 .setSubject(username)
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
     public String getUsernameFromJWT(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
     }
 
-    public boolean validateToken(String authToken) {
+    /**
+     * Verify the token once and return its claims, or null when it is invalid or expired
+     */
+    public JwtClaims parseVerifiedClaims(String authToken) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(authToken);
-            return true;
+            return JwtClaims.from(parser.parseClaimsJws(authToken).getBody());
         } catch (SecurityException ex) {
             log.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -76,17 +101,15 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return null;
     }
 
-    public Date getExpirationDateFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public boolean validateToken(String authToken) {
+        return parseVerifiedClaims(authToken) != null;
+    }
 
-        return claims.getExpiration();
+    public Date getExpirationDateFromToken(String token) {
+        return parser.parseClaimsJws(token).getBody().getExpiration();
     }
 
     public boolean isTokenExpired(String token) {
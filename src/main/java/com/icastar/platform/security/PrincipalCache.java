@@ -0,0 +1,102 @@
+package com.icastar.platform.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, TTL-based cache of resolved principals keyed by token subject and issue time.
+ *
+ * A re-issued token gets a new key, so a fresh login always reloads the user. Entries never
+ * outlive the token they were built for. Status changes must call {@link #evictUser}.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    @Value("${icastar.security.principal-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${icastar.security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Get the cached principal for a token, loading it on a miss
+     */
+    public AuthenticatedUser get(String subject, long issuedAtMillis, long expiresAtMillis, Supplier<AuthenticatedUser> loader) {
+        String key = subject + ":" + issuedAtMillis;
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.principal;
+        }
+
+        AuthenticatedUser principal = loader.get();
+        if (entries.size() >= maxSize) {
+            purge(now);
+        }
+        entries.put(key, new Entry(principal, Math.min(now + ttlSeconds * 1000, expiresAtMillis)));
+        return principal;
+    }
+
+    /**
+     * Drop every cached principal of a user, now and again once the current transaction commits
+     */
+    public void evictUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        removeUser(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeUser(userId);
+                }
+            });
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void removeUser(Long userId) {
+        entries.values().removeIf(entry -> userId.equals(entry.principal.getId()));
+    }
+
+    private void purge(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        // Still full of live entries: drop a tenth of them rather than grow past the bound
+        int excess = entries.size() - (maxSize - maxSize / 10);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+        log.debug("Principal cache purged to {} entries", entries.size());
+    }
+
+    private static final class Entry {
+        private final AuthenticatedUser principal;
+        private final long expiresAt;
+
+        private Entry(AuthenticatedUser principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.icastar.platform.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles the public auth endpoints before authentication runs.
+ *
+ * Every /auth request takes a token from its client IP bucket. JSON bodies are read once (and
+ * replayed to the controller), whether or not they declare a Content-Length, so requests
+ * carrying a mobile or email also take a token from a per-endpoint bucket for that value; this
+ * caps OTP sends per number and login attempts per account even when spread over many IPs.
+ * JSON bodies over 16 KB are refused with 413 rather than passed through uninspected. Rejected
+ * requests never reach the database or the SMS provider.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_INSPECTED_BODY = 16 * 1024;
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${icastar.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${icastar.rate-limit.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
+    @Value("${icastar.rate-limit.ip.capacity:30}")
+    private int ipCapacity;
+
+    @Value("${icastar.rate-limit.ip.refill-seconds:2}")
+    private long ipRefillSeconds;
+
+    @Value("${icastar.rate-limit.mobile.capacity:3}")
+    private int mobileCapacity;
+
+    @Value("${icastar.rate-limit.mobile.refill-seconds:60}")
+    private long mobileRefillSeconds;
+
+    @Value("${icastar.rate-limit.email.capacity:5}")
+    private int emailCapacity;
+
+    @Value("${icastar.rate-limit.email.refill-seconds:60}")
+    private long emailRefillSeconds;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || HttpMethod.OPTIONS.matches(request.getMethod())
+                || !request.getServletPath().startsWith("/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getServletPath();
+        long wait = rateLimiter.tryAcquire("ip:" + clientIp(request), ipCapacity, nanos(ipRefillSeconds));
+
+        HttpServletRequest forwarded = request;
+        if (wait == 0 && isJson(request)) {
+            // Chunked bodies have no Content-Length, so the limit is enforced on what is read
+            byte[] body = request.getInputStream().readNBytes(MAX_INSPECTED_BODY + 1);
+            if (body.length > MAX_INSPECTED_BODY) {
+                log.warn("Refused JSON body over {} bytes on {} from {}", MAX_INSPECTED_BODY, path, clientIp(request));
+                response.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(response.getOutputStream(), Map.of(
+                        "success", false,
+                        "message", "Request body too large"
+                ));
+                return;
+            }
+            forwarded = new CachedBodyRequest(request, body);
+            JsonNode json = parse(body);
+            String mobile = json != null ? json.path("mobile").asText(null) : null;
+            String email = json != null ? json.path("email").asText(null) : null;
+            if (mobile != null && !mobile.isBlank()) {
+                wait = rateLimiter.tryAcquire("mobile:" + path + ":" + mobile.trim(),
+                        mobileCapacity, nanos(mobileRefillSeconds));
+            }
+            if (wait == 0 && email != null && !email.isBlank()) {
+                wait = rateLimiter.tryAcquire("email:" + path + ":" + email.trim().toLowerCase(Locale.ROOT),
+                        emailCapacity, nanos(emailRefillSeconds));
+            }
+        }
+
+        if (wait > 0) {
+            reject(request, response, wait);
+            return;
+        }
+        filterChain.doFilter(forwarded, response);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        log.warn("Rate limited {} {} from {}", request.getMethod(), request.getServletPath(), clientIp(request));
+        response.setStatus(429);
+        response.setHeader("Retry-After", String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of(
+                "success", false,
+                "message", "Too many requests. Please try again in " + retryAfter + " seconds."
+        ));
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                return forwardedFor.split(",")[0].trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private boolean isJson(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith(MediaType.APPLICATION_JSON_VALUE)
+                && request.getContentLengthLong() != 0;
+    }
+
+    private JsonNode parse(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            // Malformed bodies are rejected by the controller; only the IP limit applies
+            return null;
+        }
+    }
+
+    private static long nanos(long seconds) {
+        return TimeUnit.SECONDS.toNanos(Math.max(1, seconds));
+    }
+
+    /**
+     * Replays a body that has already been read
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // The whole body is already in memory, so it is available and complete at once
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.icastar.platform.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets keyed by an arbitrary string (client IP, mobile, email).
+ *
+ * Each bucket is a single AtomicLong holding the time at which it will be full again, the
+ * GCRA form of a token bucket: taking a token pushes that time one refill interval forward
+ * and is refused when it would end up more than capacity intervals ahead. Acquiring is one
+ * CAS with no locks. The bucket map is bounded; full (idle) buckets are dropped first since
+ * a new bucket behaves the same, then a tenth of the rest if it is still over the bound.
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    @Value("${icastar.rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Take a token from the bucket for key
+     *
+     * @param capacity       burst size
+     * @param refillNanos    time to regain one token
+     * @return 0 if allowed, otherwise nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, int capacity, long refillNanos) {
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                purge(now);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt - now, 0) + refillNanos;
+            if (next > capacity * refillNanos) {
+                return next - capacity * refillNanos;
+            }
+            if (bucket.compareAndSet(fullAt, now + next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private synchronized void purge(long now) {
+        if (buckets.size() < maxKeys) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        int excess = buckets.size() - (maxKeys - maxKeys / 10);
+        Iterator<String> keys = buckets.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+        log.debug("Rate limiter purged to {} buckets", buckets.size());
+    }
+}
@@ -0,0 +1,79 @@
+package com.icastar.platform.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authenticates STOMP sessions with the same JWT as the REST API.
+ *
+ * Browsers cannot set headers on the WebSocket handshake, so the handshake itself is public
+ * and the token travels in the Authorization header of the STOMP CONNECT frame. The session
+ * principal is named after the user id, which is what /user/ destinations resolve against.
+ * Clients may only subscribe to their own /user/queue/ destinations and may only send to
+ * /app/ handlers, never straight to the broker.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String USER_QUEUE_PREFIX = "/user/queue/";
+    private static final String APP_PREFIX = "/app/";
+
+    private final JwtAuthenticator jwtAuthenticator;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            String jwt = JwtAuthenticator.bearerToken(accessor.getFirstNativeHeader("Authorization"));
+            AuthenticatedUser principal = jwtAuthenticator.authenticate(jwt);
+            if (principal == null) {
+                throw new AccessDeniedException("Invalid or missing token");
+            }
+            accessor.setUser(new MessagingAuthentication(principal));
+        } else if (command == StompCommand.SEND || command == StompCommand.SUBSCRIBE) {
+            if (accessor.getUser() == null) {
+                throw new AccessDeniedException("Authentication required");
+            }
+            String destination = accessor.getDestination();
+            if (command == StompCommand.SUBSCRIBE && (destination == null || !destination.startsWith(USER_QUEUE_PREFIX))) {
+                throw new AccessDeniedException("Subscriptions are limited to " + USER_QUEUE_PREFIX);
+            }
+            if (command == StompCommand.SEND && (destination == null || !destination.startsWith(APP_PREFIX))) {
+                throw new AccessDeniedException("Messages may only be sent to " + APP_PREFIX);
+            }
+        }
+        return message;
+    }
+
+    /**
+     * Session authentication whose name is the user id
+     */
+    public static class MessagingAuthentication extends UsernamePasswordAuthenticationToken {
+
+        public MessagingAuthentication(AuthenticatedUser principal) {
+            super(principal, null, principal.getAuthorities());
+        }
+
+        public AuthenticatedUser getUser() {
+            return (AuthenticatedUser) getPrincipal();
+        }
+
+        @Override
+        public String getName() {
+            return String.valueOf(getUser().getId());
+        }
+    }
+}
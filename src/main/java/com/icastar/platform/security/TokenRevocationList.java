@@ -0,0 +1,200 @@
+package com.icastar.platform.security;
+
+import com.icastar.platform.entity.User;
+import com.icastar.platform.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory token revocation for self-contained JWTs.
+ *
+ * Two checks, both O(1):
+ * - revoked token ids (logout), screened by a bloom filter so the common case of a token
+ *   that was never revoked costs a few bit probes and no map lookup;
+ * - per-user status versions. A status change bumps users.status_version, and a token issued
+ *   with an older version is no longer trusted on its own claims.
+ *
+ * Revoked token ids are kept per instance until the token expires. Status versions are
+ * loaded from the database and refreshed by updated_at, so they converge across instances.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationList {
+
+    private static final int HASH_FUNCTIONS = 4;
+    private static final long REFRESH_OVERLAP_SECONDS = 5;
+
+    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+
+    @Value("${icastar.security.revocation.bloom-bits:1048576}")
+    private int bloomBits;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> statusVersions = new ConcurrentHashMap<>();
+    private volatile AtomicLongArray bloom;
+    private volatile LocalDateTime lastRefreshAt;
+
+    /**
+     * Revoke a single token until it expires
+     */
+    public void revoke(String tokenId, long expiresAt) {
+        if (tokenId == null || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokens.put(tokenId, expiresAt);
+        addToBloom(bloom(), tokenId);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !mightContain(bloom(), tokenId)) {
+            return false;
+        }
+        // Bloom filters give false positives; confirm against the exact set
+        Long expiresAt = revokedTokens.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Whether a token issued at the given status version still reflects the user's status
+     */
+    public boolean isCurrent(Long userId, int statusVersion) {
+        ensureLoaded();
+        return statusVersion >= statusVersions.getOrDefault(userId, 0);
+    }
+
+    /**
+     * Record a status change: bump the user's status version so existing self-contained
+     * tokens are re-checked against the database, and drop cached principals
+     */
+    public void onStatusChanged(User user) {
+        int version = (user.getStatusVersion() != null ? user.getStatusVersion() : 0) + 1;
+        user.setStatusVersion(version);
+        Long userId = user.getId();
+        principalCache.evictUser(userId);
+
+        Runnable record = () -> statusVersions.merge(userId, version, Math::max);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record.run();
+                }
+            });
+        } else {
+            record.run();
+        }
+    }
+
+    /**
+     * Pick up status versions changed by other instances and drop expired revocations
+     */
+    @Scheduled(fixedDelayString = "${icastar.security.revocation.refresh-interval-ms:30000}")
+    @Transactional(readOnly = true)
+    public synchronized void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Object[]> rows = lastRefreshAt == null
+                ? userRepository.findStatusVersions()
+                : userRepository.findStatusVersionsModifiedSince(lastRefreshAt.minusSeconds(REFRESH_OVERLAP_SECONDS));
+        for (Object[] row : rows) {
+            statusVersions.merge((Long) row[0], ((Number) row[1]).intValue(), Math::max);
+        }
+        lastRefreshAt = startedAt;
+        purgeExpired();
+    }
+
+    public int getRevokedCount() {
+        return revokedTokens.size();
+    }
+
+    private void ensureLoaded() {
+        if (lastRefreshAt == null) {
+            refresh();
+        }
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        if (!revokedTokens.values().removeIf(expiresAt -> expiresAt <= now)) {
+            return;
+        }
+        // Bits cannot be cleared from a bloom filter, so rebuild it from what is left
+        AtomicLongArray rebuilt = new AtomicLongArray(words());
+        revokedTokens.keySet().forEach(tokenId -> addToBloom(rebuilt, tokenId));
+        bloom = rebuilt;
+        // A revoke racing with the swap may have landed in the old filter only
+        revokedTokens.keySet().forEach(tokenId -> addToBloom(rebuilt, tokenId));
+        log.debug("Token revocation list purged to {} entries", revokedTokens.size());
+    }
+
+    private AtomicLongArray bloom() {
+        AtomicLongArray current = bloom;
+        if (current == null) {
+            synchronized (this) {
+                if (bloom == null) {
+                    bloom = new AtomicLongArray(words());
+                }
+                current = bloom;
+            }
+        }
+        return current;
+    }
+
+    private int words() {
+        return Math.max(1, bloomBits / 64);
+    }
+
+    private static void addToBloom(AtomicLongArray bits, String tokenId) {
+        long hash = hash(tokenId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long size = bits.length() * 64L;
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, size);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << (bit & 63);
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    private static boolean mightContain(AtomicLongArray bits, String tokenId) {
+        long hash = hash(tokenId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long size = bits.length() * 64L;
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, size);
+            if ((bits.get((int) (bit >>> 6)) & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 64-bit FNV-1a; its two halves feed the double hashing above
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
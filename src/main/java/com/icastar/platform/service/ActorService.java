@@ -3,14 +3,12 @@ package com.icastar.platform.service;
 import com.icastar.platform.dto.artist.CreateArtistProfileDto;
 import com.icastar.platform.dto.ArtistProfileFieldDto;
 import com.icastar.platform.entity.ArtistProfile;
-import com.icastar.platform.entity.ArtistProfileField;
 import com.icastar.platform.entity.ArtistType;
 import com.icastar.platform.entity.ArtistTypeField;
 import com.icastar.platform.entity.User;
 import com.icastar.platform.repository.ArtistProfileRepository;
 import com.icastar.platform.repository.ArtistTypeRepository;
 import com.icastar.platform.repository.ArtistTypeFieldRepository;
-import com.icastar.platform.repository.ArtistProfileFieldRepository;
 import com.icastar.platform.repository.UserRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -23,7 +21,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -34,9 +31,10 @@ public class ActorService {
     private final ArtistProfileRepository artistProfileRepository;
     private final ArtistTypeRepository artistTypeRepository;
     private final ArtistTypeFieldRepository artistTypeFieldRepository;
-    private final ArtistProfileFieldRepository artistProfileFieldRepository;
     private final PasswordEncoder passwordEncoder;
     private final ObjectMapper objectMapper;
+    private final ArtistAttributeService artistAttributeService;
+    private final ArtistProfileFieldWriter artistProfileFieldWriter;
 
     @Transactional
     public ArtistProfile createActorProfile(User user, CreateArtistProfileDto request) {
@@ -68,6 +66,7 @@ public class ActorService {
 
             // Save the basic profile first
             ArtistProfile savedProfile = artistProfileRepository.save(artistProfile);
+            artistAttributeService.syncAttributes(savedProfile);
 
             // Now save actor-specific fields using the dynamic field system
             List<ArtistProfileFieldDto> dynamicFields = createActorDynamicFields(request);
@@ -121,6 +120,7 @@ public class ActorService {
 
             // Save basic profile updates
             ArtistProfile savedProfile = artistProfileRepository.save(existingProfile);
+            artistAttributeService.syncAttributes(savedProfile);
 
             // Update actor-specific fields using dynamic field system
             List<ArtistProfileFieldDto> dynamicFields = createActorDynamicFields(request);
@@ -220,57 +220,7 @@ public class ActorService {
     @Transactional
     private void saveDynamicFields(Long artistProfileId, List<ArtistProfileFieldDto> dynamicFields) {
         try {
-            ArtistProfile artistProfile = artistProfileRepository.findById(artistProfileId)
-                    .orElseThrow(() -> new RuntimeException("Artist profile not found"));
-
-            // Get existing fields to check for duplicates
-            List<ArtistProfileField> existingFields = artistProfileFieldRepository.findByArtistProfileId(artistProfileId);
-            
-            // Process each dynamic field
-            for (ArtistProfileFieldDto fieldDto : dynamicFields) {
-                if (fieldDto.getFieldValue() != null && !fieldDto.getFieldValue().trim().isEmpty()) {
-                    ArtistTypeField artistTypeField = artistTypeFieldRepository.findById(fieldDto.getArtistTypeFieldId())
-                            .orElseThrow(() -> new RuntimeException("Artist type field not found with id: " + fieldDto.getArtistTypeFieldId()));
-
-                    // Check if field already exists
-                    Optional<ArtistProfileField> existingField = existingFields.stream()
-                            .filter(field -> field.getArtistTypeField().getId().equals(fieldDto.getArtistTypeFieldId()))
-                            .findFirst();
-
-                    if (existingField.isPresent()) {
-                        // Update existing field
-                        ArtistProfileField profileField = existingField.get();
-                        profileField.setFieldValue(fieldDto.getFieldValue());
-                        artistProfileFieldRepository.save(profileField);
-                        log.info("Updated dynamic field '{}' for artist profile {}", artistTypeField.getFieldName(), artistProfileId);
-                    } else {
-                        // Create new field
-                        ArtistProfileField profileField = new ArtistProfileField();
-                        profileField.setArtistProfile(artistProfile);
-                        profileField.setArtistTypeField(artistTypeField);
-                        profileField.setFieldValue(fieldDto.getFieldValue());
-                        
-                        // File handling is now managed by Document entity
-
-                        artistProfileFieldRepository.save(profileField);
-                        log.info("Saved dynamic field '{}' for artist profile {}", artistTypeField.getFieldName(), artistProfileId);
-                    }
-                }
-            }
-
-            // Remove fields that are no longer in the request
-            List<Long> requestedFieldIds = dynamicFields.stream()
-                    .map(ArtistProfileFieldDto::getArtistTypeFieldId)
-                    .collect(java.util.stream.Collectors.toList());
-            
-            List<ArtistProfileField> fieldsToDelete = existingFields.stream()
-                    .filter(field -> !requestedFieldIds.contains(field.getArtistTypeField().getId()))
-                    .collect(java.util.stream.Collectors.toList());
-            
-            if (!fieldsToDelete.isEmpty()) {
-                artistProfileFieldRepository.deleteAll(fieldsToDelete);
-                log.info("Deleted {} unused dynamic fields for artist profile {}", fieldsToDelete.size(), artistProfileId);
-            }
+            artistProfileFieldWriter.save(artistProfileId, dynamicFields);
         } catch (Exception e) {
             log.error("Error saving dynamic fields", e);
             throw new RuntimeException("Failed to save dynamic fields: " + e.getMessage());
@@ -2,8 +2,11 @@ package com.icastar.platform.service;
 
 import com.icastar.platform.dto.admin.AccountManagementResponseDto;
 import com.icastar.platform.dto.admin.AccountStatusChangeDto;
+import com.icastar.platform.dto.admin.CursorPageDto;
+import com.icastar.platform.dto.admin.CursorRequestDto;
 import com.icastar.platform.entity.*;
 import com.icastar.platform.repository.*;
+import com.icastar.platform.security.TokenRevocationList;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -25,6 +28,8 @@ public class AdminAccountService {
     private final AccountManagementLogRepository accountManagementLogRepository;
     private final AdminPermissionRepository adminPermissionRepository;
     private final AccountStatusHistoryRepository accountStatusHistoryRepository;
+    private final TokenRevocationList tokenRevocationList;
+    private final KeysetPageService keysetPageService;
     
     /**
      * Check if user has account management permissions
@@ -48,6 +53,22 @@ public class AdminAccountService {
         return userRepository.findAll(pageable);
     }
     
+    /**
+     * Get users with keyset paging, filtered by account status, role and email/mobile
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<User> getUsersByCursor(String status, String role, String search,
+                                                CursorRequestDto request, User admin) {
+        checkAccountManagementPermission(admin);
+        
+        User.AccountStatus accountStatus = KeysetPageService.parseFilter(User.AccountStatus.class, status, "account status");
+        User.UserRole userRole = KeysetPageService.parseFilter(User.UserRole.class, role, "role");
+        return keysetPageService.findPage(userRepository, "users",
+                KeysetPageService.allOf(UserSpecifications.hasAccountStatus(accountStatus),
+                        UserSpecifications.hasRole(userRole), UserSpecifications.matches(search)),
+                "accountStatus=" + accountStatus + "&role=" + userRole + "&search=" + search, request);
+    }
+    
     /**
      * Get user by ID
      */
@@ -91,6 +112,7 @@ public class AdminAccountService {
         user.setLastActivity(LocalDateTime.now());
         
         User savedUser = userRepository.save(user);
+        tokenRevocationList.onStatusChanged(user);
         
         // Log the action
         logAccountAction(user, admin, AccountManagementLog.AccountAction.DEACTIVATE, 
@@ -120,6 +142,7 @@ public class AdminAccountService {
         user.setLastActivity(LocalDateTime.now());
         
         User savedUser = userRepository.save(user);
+        tokenRevocationList.onStatusChanged(user);
         
         // Log the action
         logAccountAction(user, admin, AccountManagementLog.AccountAction.ACTIVATE, 
@@ -149,6 +172,7 @@ public class AdminAccountService {
         user.setLastActivity(LocalDateTime.now());
         
         User savedUser = userRepository.save(user);
+        tokenRevocationList.onStatusChanged(user);
         
         // Log the action
         logAccountAction(user, admin, AccountManagementLog.AccountAction.SUSPEND, 
@@ -178,6 +202,7 @@ public class AdminAccountService {
         user.setLastActivity(LocalDateTime.now());
         
         User savedUser = userRepository.save(user);
+        tokenRevocationList.onStatusChanged(user);
         
         // Log the action
         logAccountAction(user, admin, AccountManagementLog.AccountAction.BAN, 
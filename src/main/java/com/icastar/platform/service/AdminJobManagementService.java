@@ -1,5 +1,7 @@
 package com.icastar.platform.service;
 
+import com.icastar.platform.dto.admin.CursorPageDto;
+import com.icastar.platform.dto.admin.CursorRequestDto;
 import com.icastar.platform.dto.admin.JobFilterDto;
 import com.icastar.platform.dto.admin.JobManagementDto;
 import com.icastar.platform.dto.admin.JobVisibilityToggleDto;
@@ -31,6 +33,10 @@ public class AdminJobManagementService {
     private final SubscriptionPlanRepository subscriptionPlanRepository;
     private final AdminPermissionRepository adminPermissionRepository;
     private final JobApplicationRepository jobApplicationRepository;
+    private final RecruiterStatsService recruiterStatsService;
+    private final CounterService counterService;
+    private final JobStatisticsService jobStatisticsService;
+    private final KeysetPageService keysetPageService;
     
     /**
      * Check if user has job management permissions
@@ -57,6 +63,28 @@ public class AdminJobManagementService {
         return jobs.map(this::convertToJobManagementDto);
     }
     
+    /**
+     * Get jobs with keyset paging; applies the recruiter, status, type, active, title and location filters
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<JobManagementDto> getJobsByCursor(JobFilterDto filter, CursorRequestDto request, User admin) {
+        checkJobManagementPermission(admin);
+        
+        JobPost.JobStatus status = KeysetPageService.parseFilter(JobPost.JobStatus.class, filter.getStatus(), "job status");
+        JobPost.JobType jobType = KeysetPageService.parseFilter(JobPost.JobType.class, filter.getJobType(), "job type");
+        Boolean isActive = filter.getIsActive() != null ? filter.getIsActive() : filter.getIsVisible();
+        
+        CursorPageDto<JobPost> jobs = keysetPageService.findPage(jobPostRepository, "job_posts",
+                KeysetPageService.allOf(JobPostSpecifications.hasRecruiter(filter.getRecruiterId()),
+                        JobPostSpecifications.hasStatus(status), JobPostSpecifications.hasJobType(jobType),
+                        JobPostSpecifications.isActive(isActive), JobPostSpecifications.titleContains(filter.getTitle()),
+                        JobPostSpecifications.locationContains(filter.getLocation())),
+                "recruiter=" + filter.getRecruiterId() + "&status=" + status + "&type=" + jobType + "&active=" + isActive
+                        + "&title=" + filter.getTitle() + "&location=" + filter.getLocation(),
+                request);
+        return jobs.map(this::convertToJobManagementDto);
+    }
+    
     /**
      * Get job by ID
      */
@@ -86,6 +114,8 @@ public class AdminJobManagementService {
         job.setUpdatedAt(LocalDateTime.now());
         
         JobPost savedJob = jobPostRepository.save(job);
+        recruiterStatsService.markStale(job.getRecruiter().getUser().getId());
+        jobStatisticsService.invalidate();
         
         // Log the action
         logJobAction(job, admin, "TOGGLE_VISIBILITY", 
@@ -127,46 +157,7 @@ public class AdminJobManagementService {
     public Map<String, Object> getJobStatistics(User admin) {
         checkJobManagementPermission(admin);
         
-        Map<String, Object> statistics = new HashMap<>();
-        
-        // Count jobs by status
-        long totalJobs = jobPostRepository.count();
-        long activeJobs = jobPostRepository.countByIsActiveTrue();
-        long inactiveJobs = jobPostRepository.countByIsActiveFalse();
-        long expiredJobs = jobPostRepository.countByApplicationDeadlineBefore(LocalDateTime.now());
-        
-        statistics.put("totalJobs", totalJobs);
-        statistics.put("activeJobs", activeJobs);
-        statistics.put("inactiveJobs", inactiveJobs);
-        statistics.put("expiredJobs", expiredJobs);
-        
-        // Count by job type
-        Map<String, Long> jobsByType = jobPostRepository.findAll().stream()
-                .collect(Collectors.groupingBy(
-                        job -> job.getJobType().name(),
-                        Collectors.counting()
-                ));
-        statistics.put("jobsByType", jobsByType);
-        
-        // Count by recruiter category
-        Map<String, Long> jobsByCategory = jobPostRepository.findAll().stream()
-                .filter(job -> job.getRecruiter() != null && job.getRecruiter().getRecruiterCategory() != null)
-                .collect(Collectors.groupingBy(
-                        job -> job.getRecruiter().getRecruiterCategory().getDisplayName(),
-                        Collectors.counting()
-                ));
-        statistics.put("jobsByCategory", jobsByCategory);
-        
-        // Recent jobs
-        LocalDateTime last24Hours = LocalDateTime.now().minusHours(24);
-        long recentJobs = jobPostRepository.countByCreatedAtAfter(last24Hours);
-        statistics.put("recentJobs", recentJobs);
-        
-        // Average applications per job
-        double avgApplications = 0.0; // TODO: Calculate from JobApplication repository if needed
-        statistics.put("avgApplicationsPerJob", avgApplications);
-        
-        return statistics;
+        return jobStatisticsService.getStatistics();
     }
     
     /**
@@ -242,8 +233,8 @@ public class AdminJobManagementService {
             }
         }
         
-        // Get application count - TODO: Calculate from JobApplication repository if needed
-        int applicationCount = 0;
+        // Counters include deltas not yet flushed to the row
+        int applicationCount = counterService.current(CounterService.Counter.JOB_POST_APPLICATIONS, job.getId(), job.getTotalApplications());
         
         return JobManagementDto.builder()
                 .id(job.getId())
@@ -271,7 +262,7 @@ public class AdminJobManagementService {
                 .subscriptionPlan(subscriptionPlan)
                 .subscriptionStatus(subscriptionStatus)
                 .applicationCount(applicationCount)
-                .viewCount(0) // This would need to be tracked separately
+                .viewCount(counterService.current(CounterService.Counter.JOB_POST_VIEWS, job.getId(), job.getTotalViews()))
                 .boostCount(0) // This would need to be tracked separately
                 .build();
     }
@@ -0,0 +1,94 @@
+package com.icastar.platform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icastar.platform.entity.ArtistAttribute;
+import com.icastar.platform.entity.ArtistProfile;
+import com.icastar.platform.repository.ArtistAttributeRepository;
+import com.icastar.platform.repository.ArtistProfileRepository;
+import com.icastar.platform.util.AttributeValues;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Keeps artist_attributes in step with the JSON list columns of artist_profiles.
+ *
+ * Profile services call {@link #syncAttributes} after saving; a scheduled reconcile pass
+ * catches profiles written through any other path.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ArtistAttributeService {
+
+    private static final long RECONCILE_OVERLAP_SECONDS = 5;
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final ArtistAttributeRepository artistAttributeRepository;
+    private final ArtistProfileRepository artistProfileRepository;
+    private final ObjectMapper objectMapper;
+
+    // The first pass after startup covers every profile, including ones changed while no node was running
+    private volatile LocalDateTime lastReconciledAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Diff the profile's list columns against its attribute rows and apply only the changes
+     */
+    public void syncAttributes(ArtistProfile profile) {
+        if (profile.getId() == null) {
+            return;
+        }
+        Map<ArtistAttribute.AttributeType, Set<String>> desired = new EnumMap<>(ArtistAttribute.AttributeType.class);
+        desired.put(ArtistAttribute.AttributeType.SKILL, AttributeValues.parse(objectMapper, profile.getSkills()));
+        desired.put(ArtistAttribute.AttributeType.LANGUAGE, AttributeValues.parse(objectMapper, profile.getLanguagesSpoken()));
+        desired.put(ArtistAttribute.AttributeType.TRAVEL_CITY, AttributeValues.parse(objectMapper, profile.getTravelCities()));
+        desired.put(ArtistAttribute.AttributeType.COMFORTABLE_AREA, AttributeValues.parse(objectMapper, profile.getComfortableAreas()));
+
+        List<Long> removed = new ArrayList<>();
+        for (ArtistAttribute existing : artistAttributeRepository.findByArtistProfileId(profile.getId())) {
+            Set<String> values = desired.get(existing.getAttributeType());
+            // Values still wanted are already stored; whatever is left in the set is new
+            if (values == null || !values.remove(existing.getAttributeValue())) {
+                removed.add(existing.getId());
+            }
+        }
+        if (!removed.isEmpty()) {
+            artistAttributeRepository.deleteByIdIn(removed);
+        }
+
+        List<ArtistAttribute> added = new ArrayList<>();
+        desired.forEach((type, values) -> values.forEach(value -> {
+            ArtistAttribute attribute = new ArtistAttribute();
+            attribute.setArtistProfile(profile);
+            attribute.setAttributeType(type);
+            attribute.setAttributeValue(value);
+            added.add(attribute);
+        }));
+        if (!added.isEmpty()) {
+            artistAttributeRepository.saveAll(added);
+        }
+    }
+
+    /**
+     * Re-sync profiles modified since the last pass
+     */
+    @Scheduled(fixedDelayString = "${icastar.artist-attributes.reconcile-interval-ms:300000}")
+    public void reconcileModifiedProfiles() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Long> ids = artistProfileRepository.findIdsModifiedSince(lastReconciledAt.minusSeconds(RECONCILE_OVERLAP_SECONDS));
+        for (int from = 0; from < ids.size(); from += RECONCILE_BATCH_SIZE) {
+            artistProfileRepository.findAllById(ids.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, ids.size())))
+                    .forEach(this::syncAttributes);
+        }
+        if (!ids.isEmpty()) {
+            log.debug("Reconciled artist attributes for {} profiles", ids.size());
+        }
+        lastReconciledAt = startedAt;
+    }
+}
@@ -0,0 +1,482 @@
+package com.icastar.platform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icastar.platform.entity.ArtistProfile;
+import com.icastar.platform.entity.ArtistProfileField;
+import com.icastar.platform.entity.JobPost;
+import com.icastar.platform.entity.User;
+import com.icastar.platform.event.ArtistProfileUpdatedEvent;
+import com.icastar.platform.repository.ArtistProfileFieldRepository;
+import com.icastar.platform.repository.ArtistProfileRepository;
+import com.icastar.platform.util.AttributeValues;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory artist matching index.
+ *
+ * Each active artist profile is reduced to a compact feature vector (skills, location, artist type,
+ * experience, hourly rate). The index is built once in keyset pages and then kept current by a
+ * scheduled delta refresh driven by the audited updated_at columns, so suggestion requests never
+ * touch the artist_profiles table for scoring.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArtistMatchingService {
+
+    private static final double SKILL_WEIGHT = 0.40;
+    private static final double LOCATION_WEIGHT = 0.20;
+    private static final double ARTIST_TYPE_WEIGHT = 0.15;
+    private static final double EXPERIENCE_WEIGHT = 0.15;
+    private static final double RATE_WEIGHT = 0.10;
+
+    // Updates committed while a refresh is running are picked up by the next one
+    private static final long REFRESH_OVERLAP_SECONDS = 5;
+
+    private final ArtistProfileRepository artistProfileRepository;
+    private final ArtistProfileFieldRepository artistProfileFieldRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${icastar.matching.load-batch-size:500}")
+    private int loadBatchSize;
+
+    private final Map<Long, ArtistFeatures> index = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastRefreshAt;
+
+    /**
+     * Find the top-K artists for the given criteria, best match first
+     */
+    public List<ArtistMatch> findTopMatches(MatchCriteria criteria, int limit, double minScore) {
+        if (lastRefreshAt == null) {
+            refreshIndex();
+        }
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        // Min-heap of the best K candidates; ties broken by artist id so results are stable
+        Comparator<ArtistMatch> order = Comparator.comparingDouble(ArtistMatch::getScore)
+                .thenComparing(ArtistMatch::getArtistProfileId, Comparator.reverseOrder());
+        PriorityQueue<ArtistMatch> heap = new PriorityQueue<>(limit + 1, order);
+
+        for (ArtistFeatures features : index.values()) {
+            if (!criteria.accepts(features)) {
+                continue;
+            }
+            double score = score(features, criteria);
+            if (score < minScore) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.add(new ArtistMatch(features.getArtistProfileId(), score, features));
+            } else {
+                ArtistMatch candidate = new ArtistMatch(features.getArtistProfileId(), score, features);
+                if (order.compare(candidate, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.add(candidate);
+                }
+            }
+        }
+
+        List<ArtistMatch> matches = new ArrayList<>(heap);
+        matches.sort(order.reversed());
+        matches.forEach(match -> match.reasons = generateMatchReasons(match.features, criteria));
+        return matches;
+    }
+
+    /**
+     * Refresh the index - full load on first run, delta by updated_at afterwards
+     */
+    @Scheduled(fixedDelayString = "${icastar.matching.refresh-interval-ms:30000}")
+    @Transactional(readOnly = true)
+    public synchronized void refreshIndex() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (lastRefreshAt == null) {
+            loadAll();
+        } else {
+            LocalDateTime since = lastRefreshAt.minusSeconds(REFRESH_OVERLAP_SECONDS);
+            Set<Long> changedIds = new HashSet<>(artistProfileRepository.findIdsModifiedSince(since));
+            changedIds.addAll(artistProfileFieldRepository.findArtistProfileIdsModifiedSince(since));
+            if (!changedIds.isEmpty()) {
+                reindex(changedIds);
+                log.debug("Refreshed {} artist profiles in matching index", changedIds.size());
+            }
+        }
+        lastRefreshAt = startedAt;
+    }
+
+    /**
+     * Re-read an updated profile into the index once its transaction has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onArtistProfileUpdated(ArtistProfileUpdatedEvent event) {
+        // Before the first full load there is nothing to patch
+        if (lastRefreshAt != null) {
+            reindex(Collections.singleton(event.artistProfileId()));
+        }
+    }
+
+    /**
+     * Drop a deleted profile from the index
+     */
+    public void removeArtist(Long artistProfileId) {
+        index.remove(artistProfileId);
+    }
+
+    public int getIndexSize() {
+        return index.size();
+    }
+
+    private void loadAll() {
+        Map<Long, ArtistFeatures> loaded = new HashMap<>();
+        long lastId = 0L;
+        List<ArtistProfile> batch;
+        do {
+            batch = artistProfileRepository.findForMatchingAfterId(lastId, PageRequest.of(0, loadBatchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (ArtistFeatures features : buildFeatures(batch)) {
+                loaded.put(features.getArtistProfileId(), features);
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        } while (batch.size() == loadBatchSize);
+
+        index.keySet().retainAll(loaded.keySet());
+        index.putAll(loaded);
+        log.info("Artist matching index loaded with {} profiles", index.size());
+    }
+
+    private void reindex(Collection<Long> artistProfileIds) {
+        List<ArtistProfile> profiles = artistProfileRepository.findForMatchingByIds(artistProfileIds);
+        Set<Long> missing = new HashSet<>(artistProfileIds);
+        for (ArtistProfile profile : profiles) {
+            missing.remove(profile.getId());
+            if (!isMatchable(profile)) {
+                index.remove(profile.getId());
+            }
+        }
+        missing.forEach(index::remove);
+        for (ArtistFeatures features : buildFeatures(profiles)) {
+            index.put(features.getArtistProfileId(), features);
+        }
+    }
+
+    private List<ArtistFeatures> buildFeatures(List<ArtistProfile> profiles) {
+        List<ArtistProfile> matchable = profiles.stream()
+                .filter(this::isMatchable)
+                .collect(Collectors.toList());
+        if (matchable.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, List<ArtistProfileField>> fieldsByProfile = artistProfileFieldRepository
+                .findSearchableFieldsByArtistProfileIds(matchable.stream().map(ArtistProfile::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(field -> field.getArtistProfile().getId()));
+
+        List<ArtistFeatures> features = new ArrayList<>(matchable.size());
+        for (ArtistProfile profile : matchable) {
+            features.add(toFeatures(profile, fieldsByProfile.getOrDefault(profile.getId(), Collections.emptyList())));
+        }
+        return features;
+    }
+
+    private boolean isMatchable(ArtistProfile profile) {
+        return Boolean.TRUE.equals(profile.getIsActive())
+                && profile.getUser() != null
+                && profile.getUser().getStatus() == User.UserStatus.ACTIVE;
+    }
+
+    private ArtistFeatures toFeatures(ArtistProfile profile, List<ArtistProfileField> dynamicFields) {
+        Set<String> skills = AttributeValues.parse(objectMapper, profile.getSkills());
+        Set<String> attributes = new HashSet<>();
+        for (ArtistProfileField field : dynamicFields) {
+            attributes.addAll(AttributeValues.parse(objectMapper, field.getFieldValue()));
+        }
+
+        Set<String> locations = new HashSet<>();
+        String location = AttributeValues.normalize(profile.getLocation());
+        if (location != null) {
+            locations.add(location);
+        }
+        Set<String> travelCities = AttributeValues.parse(objectMapper, profile.getTravelCities());
+
+        return ArtistFeatures.builder()
+                .artistProfileId(profile.getId())
+                .artistTypeId(profile.getArtistType() != null ? profile.getArtistType().getId() : null)
+                .artistTypeName(profile.getArtistType() != null ? AttributeValues.normalize(profile.getArtistType().getName()) : null)
+                .artistTypeDisplayName(profile.getArtistType() != null ? profile.getArtistType().getDisplayName() : null)
+                .skills(skills)
+                .attributes(attributes)
+                .locations(locations)
+                .travelCities(travelCities)
+                .displayLocation(profile.getLocation())
+                .experienceYears(profile.getExperienceYears())
+                .hourlyRate(profile.getHourlyRate())
+                .verified(Boolean.TRUE.equals(profile.getIsVerifiedBadge()))
+                .build();
+    }
+
+    private double score(ArtistFeatures artist, MatchCriteria criteria) {
+        double total = 0;
+        double weights = 0;
+
+        if (!criteria.getSkills().isEmpty()) {
+            total += SKILL_WEIGHT * skillScore(artist, criteria);
+            weights += SKILL_WEIGHT;
+        }
+        if (criteria.getLocation() != null && !criteria.isRemote()) {
+            total += LOCATION_WEIGHT * locationScore(artist, criteria);
+            weights += LOCATION_WEIGHT;
+        }
+        if (criteria.getArtistType() != null) {
+            total += ARTIST_TYPE_WEIGHT * (matchesArtistType(artist, criteria.getArtistType()) ? 1.0 : 0.0);
+            weights += ARTIST_TYPE_WEIGHT;
+        }
+        if (criteria.getMinExperienceYears() != null) {
+            total += EXPERIENCE_WEIGHT * experienceScore(artist, criteria);
+            weights += EXPERIENCE_WEIGHT;
+        }
+        if (criteria.getMaxRate() != null) {
+            total += RATE_WEIGHT * rateScore(artist, criteria);
+            weights += RATE_WEIGHT;
+        }
+
+        // Without any criteria every artist is equally relevant; verified artists first
+        double base = weights > 0 ? total / weights : 0.5;
+        return artist.isVerified() ? Math.min(1.0, base + 0.05) : base;
+    }
+
+    private double skillScore(ArtistFeatures artist, MatchCriteria criteria) {
+        long matched = criteria.getSkills().stream().filter(artist::hasTerm).count();
+        return (double) matched / criteria.getSkills().size();
+    }
+
+    private double locationScore(ArtistFeatures artist, MatchCriteria criteria) {
+        if (artist.getLocations().contains(criteria.getLocation())) {
+            return 1.0;
+        }
+        if (artist.getTravelCities().contains(criteria.getLocation())) {
+            return 0.7;
+        }
+        return 0.0;
+    }
+
+    private boolean matchesArtistType(ArtistFeatures artist, String artistType) {
+        return artistType.equals(artist.getArtistTypeName())
+                || artistType.equals(AttributeValues.normalize(artist.getArtistTypeDisplayName()));
+    }
+
+    private double experienceScore(ArtistFeatures artist, MatchCriteria criteria) {
+        if (artist.getExperienceYears() == null) {
+            return 0.0;
+        }
+        int years = artist.getExperienceYears();
+        int min = criteria.getMinExperienceYears();
+        if (years >= min) {
+            Integer max = criteria.getMaxExperienceYears();
+            // Heavily over-qualified artists are still a fit, just a slightly weaker one
+            return max == null || years <= max ? 1.0 : 0.8;
+        }
+        return min == 0 ? 1.0 : Math.max(0.0, (double) years / min);
+    }
+
+    private double rateScore(ArtistFeatures artist, MatchCriteria criteria) {
+        if (artist.getHourlyRate() == null) {
+            return 0.5;
+        }
+        double rate = artist.getHourlyRate();
+        double max = criteria.getMaxRate();
+        if (rate <= max) {
+            return 1.0;
+        }
+        return max / rate;
+    }
+
+    private List<String> generateMatchReasons(ArtistFeatures artist, MatchCriteria criteria) {
+        List<String> reasons = new ArrayList<>();
+
+        if (!criteria.getSkills().isEmpty()) {
+            List<String> matched = criteria.getSkills().stream()
+                    .filter(artist::hasTerm)
+                    .sorted()
+                    .collect(Collectors.toList());
+            if (!matched.isEmpty()) {
+                reasons.add("Matches " + matched.size() + " of " + criteria.getSkills().size()
+                        + " required skills (" + String.join(", ", matched) + ")");
+            }
+        }
+        if (criteria.getLocation() != null && !criteria.isRemote()) {
+            if (artist.getLocations().contains(criteria.getLocation())) {
+                reasons.add("Based in " + artist.getDisplayLocation());
+            } else if (artist.getTravelCities().contains(criteria.getLocation())) {
+                reasons.add("Willing to travel to " + criteria.getLocation());
+            }
+        }
+        if (criteria.getArtistType() != null && matchesArtistType(artist, criteria.getArtistType())) {
+            reasons.add("Artist type: " + artist.getArtistTypeDisplayName());
+        }
+        if (criteria.getMinExperienceYears() != null && artist.getExperienceYears() != null
+                && artist.getExperienceYears() >= criteria.getMinExperienceYears()) {
+            reasons.add(artist.getExperienceYears() + " years of experience");
+        }
+        if (criteria.getMaxRate() != null && artist.getHourlyRate() != null
+                && artist.getHourlyRate() <= criteria.getMaxRate()) {
+            reasons.add("Hourly rate within budget");
+        }
+        if (artist.isVerified()) {
+            reasons.add("Verified artist");
+        }
+        return reasons;
+    }
+
+    /**
+     * Precomputed matching features for one artist profile
+     */
+    @Getter
+    @Builder
+    public static class ArtistFeatures {
+        private final Long artistProfileId;
+        private final Long artistTypeId;
+        private final String artistTypeName;
+        private final String artistTypeDisplayName;
+        private final Set<String> skills;
+        private final Set<String> attributes;
+        private final Set<String> locations;
+        private final Set<String> travelCities;
+        private final String displayLocation;
+        private final Integer experienceYears;
+        private final Double hourlyRate;
+        private final boolean verified;
+
+        boolean hasTerm(String term) {
+            return skills.contains(term) || attributes.contains(term);
+        }
+    }
+
+    /**
+     * What a recruiter is looking for, normalized once per request
+     */
+    @Getter
+    @Builder
+    public static class MatchCriteria {
+        @Builder.Default
+        private final Set<String> skills = Collections.emptySet();
+        private final String location;
+        private final boolean remote;
+        private final String artistType;
+        private final Integer minExperienceYears;
+        private final Integer maxExperienceYears;
+        private final Double maxRate;
+        private final boolean verifiedOnly;
+
+        boolean accepts(ArtistFeatures artist) {
+            return !verifiedOnly || artist.isVerified();
+        }
+
+        /**
+         * Build criteria from an optional job post plus the recruiter's explicit filters
+         */
+        public static MatchCriteria of(JobPost jobPost, String artistCategory, String artistType, String location,
+                                       String skills, String genres, String experienceLevel, Boolean isVerified) {
+            Set<String> terms = new TreeSet<>();
+            if (jobPost != null && jobPost.getSkillsRequired() != null) {
+                jobPost.getSkillsRequired().stream()
+                        .map(AttributeValues::normalize)
+                        .filter(Objects::nonNull)
+                        .forEach(terms::add);
+            }
+            terms.addAll(splitTerms(skills));
+            terms.addAll(splitTerms(genres));
+
+            String level = experienceLevel != null ? experienceLevel
+                    : jobPost != null && jobPost.getExperienceLevel() != null ? jobPost.getExperienceLevel().name() : null;
+            int[] experienceRange = experienceRange(level);
+
+            Double maxRate = null;
+            if (jobPost != null) {
+                if (jobPost.getBudgetMax() != null) {
+                    maxRate = jobPost.getBudgetMax().doubleValue();
+                } else if (jobPost.getSalaryMax() != null) {
+                    maxRate = jobPost.getSalaryMax().doubleValue();
+                }
+            }
+
+            return MatchCriteria.builder()
+                    .skills(terms)
+                    .location(AttributeValues.normalize(location != null ? location : jobPost != null ? jobPost.getLocation() : null))
+                    .remote(location == null && jobPost != null && Boolean.TRUE.equals(jobPost.getIsRemote()))
+                    .artistType(AttributeValues.normalize(artistType != null ? artistType : artistCategory))
+                    .minExperienceYears(experienceRange != null ? experienceRange[0] : null)
+                    .maxExperienceYears(experienceRange != null && experienceRange[1] >= 0 ? experienceRange[1] : null)
+                    .maxRate(maxRate)
+                    .verifiedOnly(Boolean.TRUE.equals(isVerified))
+                    .build();
+        }
+
+        private static List<String> splitTerms(String value) {
+            if (value == null || value.isBlank()) {
+                return Collections.emptyList();
+            }
+            return Arrays.stream(value.split(","))
+                    .map(AttributeValues::normalize)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+
+        // Years of experience per JobPost.ExperienceLevel; -1 means open ended
+        private static int[] experienceRange(String level) {
+            if (level == null) {
+                return null;
+            }
+            switch (level.trim().toUpperCase(Locale.ROOT)) {
+                case "ENTRY":
+                    return new int[]{0, 2};
+                case "JUNIOR":
+                    return new int[]{1, 4};
+                case "MID":
+                    return new int[]{3, 8};
+                case "SENIOR":
+                    return new int[]{6, 15};
+                case "EXPERT":
+                    return new int[]{10, -1};
+                default:
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * A scored suggestion
+     */
+    @Getter
+    public static class ArtistMatch {
+        private final Long artistProfileId;
+        private final double score;
+        private final ArtistFeatures features;
+        private List<String> reasons = Collections.emptyList();
+
+        ArtistMatch(Long artistProfileId, double score, ArtistFeatures features) {
+            this.artistProfileId = artistProfileId;
+            this.score = score;
+            this.features = features;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.dto.ArtistProfileFieldDto;
+import com.icastar.platform.entity.ArtistTypeField;
+import com.icastar.platform.repository.ArtistProfileRepository;
+import com.icastar.platform.repository.ArtistTypeFieldRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the dynamic fields of an artist profile as one diff.
+ *
+ * Field definitions are resolved with a single IN query and the stored values with a single
+ * projection, both into hash maps. Rows whose value did not change are skipped; the rest go
+ * out as one JDBC batch each for inserts, updates and deletes, so a 60-field profile costs a
+ * handful of round trips. Requested fields with a blank value are left as they are and
+ * stored fields missing from the request are deleted.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ArtistProfileFieldWriter {
+
+    private final ArtistProfileRepository artistProfileRepository;
+    private final ArtistTypeFieldRepository artistTypeFieldRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public void save(Long artistProfileId, List<ArtistProfileFieldDto> dynamicFields) {
+        if (!artistProfileRepository.existsById(artistProfileId)) {
+            throw new RuntimeException("Artist profile not found");
+        }
+
+        // Last value wins when a field is sent twice, as it did with one save per field
+        Map<Long, String> requested = new LinkedHashMap<>();
+        Set<Long> requestedFieldIds = new HashSet<>();
+        for (ArtistProfileFieldDto fieldDto : dynamicFields) {
+            requestedFieldIds.add(fieldDto.getArtistTypeFieldId());
+            if (fieldDto.getFieldValue() != null && !fieldDto.getFieldValue().trim().isEmpty()) {
+                requested.put(fieldDto.getArtistTypeFieldId(), fieldDto.getFieldValue());
+            }
+        }
+
+        Map<Long, ArtistTypeField> definitions = artistTypeFieldRepository.findAllById(requested.keySet()).stream()
+                .collect(Collectors.toMap(ArtistTypeField::getId, Function.identity()));
+        for (Long fieldId : requested.keySet()) {
+            if (!definitions.containsKey(fieldId)) {
+                throw new RuntimeException("Artist type field not found with id: " + fieldId);
+            }
+        }
+
+        Map<Long, String> stored = new HashMap<>();
+        jdbcTemplate.query("SELECT artist_type_field_id, field_value FROM artist_profile_fields WHERE artist_profile_id = ?",
+                rs -> {
+                    stored.put(rs.getLong(1), rs.getString(2));
+                }, artistProfileId);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        requested.forEach((fieldId, value) -> {
+            if (!stored.containsKey(fieldId)) {
+                inserts.add(new Object[]{artistProfileId, fieldId, value, now, now});
+            } else if (!Objects.equals(stored.get(fieldId), value)) {
+                updates.add(new Object[]{value, now, artistProfileId, fieldId});
+            }
+        });
+        List<Object[]> deletes = stored.keySet().stream()
+                .filter(fieldId -> !requestedFieldIds.contains(fieldId))
+                .map(fieldId -> new Object[]{artistProfileId, fieldId})
+                .collect(Collectors.toList());
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO artist_profile_fields " +
+                    "(artist_profile_id, artist_type_field_id, field_value, is_active, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, TRUE, ?, ?)", inserts);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE artist_profile_fields SET field_value = ?, updated_at = ? " +
+                    "WHERE artist_profile_id = ? AND artist_type_field_id = ?", updates);
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM artist_profile_fields WHERE artist_profile_id = ? AND artist_type_field_id = ?",
+                    deletes);
+        }
+        log.info("Dynamic fields for artist profile {}: {} added, {} updated, {} deleted, {} unchanged",
+                artistProfileId, inserts.size(), updates.size(), deletes.size(),
+                requested.size() - inserts.size() - updates.size());
+    }
+}
@@ -2,20 +2,25 @@ package com.icastar.platform.service;
 
 import com.icastar.platform.dto.artist.ArtistProfileCompleteDto;
 import com.icastar.platform.dto.artist.ArtistProfileCompleteDto.DocumentDto;
+import com.icastar.platform.dto.artist.ArtistProfileCompleteDto.VariantDto;
 import com.icastar.platform.entity.ArtistProfile;
 import com.icastar.platform.entity.Document;
+import com.icastar.platform.entity.DocumentVariant;
 import com.icastar.platform.entity.User;
+import com.icastar.platform.event.ArtistProfileUpdatedEvent;
 import com.icastar.platform.repository.ArtistProfileRepository;
 import com.icastar.platform.repository.DocumentRepository;
 import com.icastar.platform.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -27,6 +32,11 @@ public class ArtistProfileService {
     private final ArtistProfileRepository artistProfileRepository;
     private final UserRepository userRepository;
     private final DocumentRepository documentRepository;
+    private final ArtistMatchingService artistMatchingService;
+    private final ArtistAttributeService artistAttributeService;
+    private final ImageVariantService imageVariantService;
+    private final DocumentService documentService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get complete artist profile by user ID
@@ -214,6 +224,8 @@ public class ArtistProfileService {
             // Save updates
             userRepository.save(user);
             artistProfileRepository.save(artistProfile);
+            artistAttributeService.syncAttributes(artistProfile);
+            eventPublisher.publishEvent(new ArtistProfileUpdatedEvent(artistProfile.getId()));
             
             // Get updated documents
             List<Document> documents = documentRepository.findByUserId(userId);
@@ -240,6 +252,7 @@ public class ArtistProfileService {
             
             // Delete artist profile
             artistProfileRepository.delete(artistProfile);
+            artistMatchingService.removeArtist(artistProfile.getId());
             
             log.info("Successfully deleted artist profile for user ID: {}", userId);
         } catch (Exception e) {
@@ -296,7 +309,11 @@ public class ArtistProfileService {
         dto.setSuccessfulHires(artistProfile.getSuccessfulHires());
         
         // Documents
-        dto.setDocuments(documents.stream().map(this::mapToDocumentDto).collect(Collectors.toList()));
+        Map<Long, List<DocumentVariant>> variants = imageVariantService.variantsByDocument(
+                documents.stream().map(Document::getId).collect(Collectors.toList()));
+        dto.setDocuments(documents.stream()
+                .map(document -> mapToDocumentDto(document, variants.getOrDefault(document.getId(), List.of())))
+                .collect(Collectors.toList()));
         
         return dto;
     }
@@ -304,12 +321,12 @@ public class ArtistProfileService {
     /**
      * Map Document entity to DocumentDto
      */
-    private DocumentDto mapToDocumentDto(Document document) {
+    private DocumentDto mapToDocumentDto(Document document, List<DocumentVariant> variants) {
         DocumentDto dto = new DocumentDto();
         dto.setId(document.getId());
         dto.setDocumentType(document.getDocumentType());
         dto.setFileName(document.getFileName());
-        dto.setFileUrl(document.getFileUrl());
+        dto.setFileUrl(documentService.getFileUrl(document));
         dto.setFileSize(document.getFileSize());
         dto.setMimeType(document.getMimeType());
         dto.setUploadedAt(document.getUploadedAt());
@@ -317,6 +334,14 @@ public class ArtistProfileService {
         dto.setVerifiedAt(document.getVerifiedAt());
         dto.setVerifiedBy(document.getVerifiedBy());
         dto.setVerificationNotes(document.getVerificationNotes());
+        dto.setVariants(variants.stream().map(variant -> {
+            VariantDto variantDto = new VariantDto();
+            variantDto.setWidth(variant.getWidth());
+            variantDto.setHeight(variant.getHeight());
+            variantDto.setFileUrl(variant.getFileUrl());
+            variantDto.setFileSize(variant.getFileSize());
+            return variantDto;
+        }).collect(Collectors.toList()));
         return dto;
     }
 }
@@ -5,15 +5,15 @@ import com.icastar.platform.dto.user.UpdateUserProfileDto;
 import com.icastar.platform.entity.ArtistProfile;
 import com.icastar.platform.entity.ArtistProfileField;
 import com.icastar.platform.entity.ArtistType;
-import com.icastar.platform.entity.ArtistTypeField;
 import com.icastar.platform.entity.User;
+import com.icastar.platform.event.ArtistProfileUpdatedEvent;
 import com.icastar.platform.repository.ArtistProfileFieldRepository;
 import com.icastar.platform.repository.ArtistProfileRepository;
-import com.icastar.platform.repository.ArtistTypeFieldRepository;
 import com.icastar.platform.repository.ArtistTypeRepository;
 import com.icastar.platform.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -32,7 +32,10 @@ public class ArtistService {
     private final ArtistTypeRepository artistTypeRepository;
     private final UserRepository userRepository;
     private final ArtistProfileFieldRepository artistProfileFieldRepository;
-    private final ArtistTypeFieldRepository artistTypeFieldRepository;
+    private final ArtistAttributeService artistAttributeService;
+    private final CounterService counterService;
+    private final ArtistProfileFieldWriter artistProfileFieldWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Optional<ArtistProfile> findById(Long id) {
@@ -59,6 +62,21 @@ public class ArtistService {
         return artistProfileRepository.findMostActiveArtists(pageable);
     }
 
+    @Transactional(readOnly = true)
+    public List<ArtistProfile> findArtistsBySkill(String skill) {
+        return artistProfileRepository.findBySkillsContaining(skill);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArtistProfile> findArtistsByLanguage(String language) {
+        return artistProfileRepository.findByLanguageSpoken(language);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArtistProfile> findArtistsByTravelCity(String city) {
+        return artistProfileRepository.findByTravelCity(city);
+    }
+
     @Transactional(readOnly = true)
     public List<ArtistProfile> findByArtistTypeId(Long artistTypeId) {
         return artistProfileRepository.findByArtistTypeId(artistTypeId);
@@ -128,7 +146,10 @@ public class ArtistService {
             existingProfile.setHourlyRate(updatedProfile.getHourlyRate());
         }
 
-        return artistProfileRepository.save(existingProfile);
+        ArtistProfile savedProfile = artistProfileRepository.save(existingProfile);
+        artistAttributeService.syncAttributes(savedProfile);
+        eventPublisher.publishEvent(new ArtistProfileUpdatedEvent(savedProfile.getId()));
+        return savedProfile;
     }
 
     public void updateBasicProfile(Long userId, UpdateUserProfileDto updateDto) {
@@ -153,6 +174,7 @@ public class ArtistService {
         // They should be uploaded separately using the document upload API
 
         artistProfileRepository.save(artistProfile);
+        eventPublisher.publishEvent(new ArtistProfileUpdatedEvent(artistProfile.getId()));
     }
 
     public ArtistProfile requestVerificationBadge(Long artistProfileId) {
@@ -169,6 +191,7 @@ public class ArtistService {
 
         artistProfile.setIsVerifiedBadge(true);
         artistProfile.setVerificationApprovedAt(java.time.LocalDate.now());
+        eventPublisher.publishEvent(new ArtistProfileUpdatedEvent(artistProfileId));
         return artistProfileRepository.save(artistProfile);
     }
 
@@ -181,19 +204,11 @@ public class ArtistService {
     }
 
     public void incrementApplications(Long artistProfileId) {
-        ArtistProfile artistProfile = artistProfileRepository.findById(artistProfileId)
-                .orElseThrow(() -> new RuntimeException("Artist profile not found"));
-
-        artistProfile.setTotalApplications(artistProfile.getTotalApplications() + 1);
-        artistProfileRepository.save(artistProfile);
+        counterService.increment(CounterService.Counter.ARTIST_APPLICATIONS, artistProfileId);
     }
 
     public void incrementSuccessfulHires(Long artistProfileId) {
-        ArtistProfile artistProfile = artistProfileRepository.findById(artistProfileId)
-                .orElseThrow(() -> new RuntimeException("Artist profile not found"));
-
-        artistProfile.setSuccessfulHires(artistProfile.getSuccessfulHires() + 1);
-        artistProfileRepository.save(artistProfile);
+        counterService.increment(CounterService.Counter.ARTIST_HIRES, artistProfileId);
     }
 
     public void deleteArtistProfile(Long artistProfileId) {
@@ -202,6 +217,7 @@ public class ArtistService {
 
         artistProfile.setIsActive(false);
         artistProfileRepository.save(artistProfile);
+        eventPublisher.publishEvent(new ArtistProfileUpdatedEvent(artistProfileId));
     }
 
     @Transactional(readOnly = true)
@@ -231,57 +247,8 @@ public class ArtistService {
      */
     @Transactional
     public void saveDynamicFields(Long artistProfileId, List<ArtistProfileFieldDto> dynamicFields) {
-        ArtistProfile artistProfile = artistProfileRepository.findById(artistProfileId)
-                .orElseThrow(() -> new RuntimeException("Artist profile not found"));
-
-        // Get existing fields to check for duplicates
-        List<ArtistProfileField> existingFields = artistProfileFieldRepository.findByArtistProfileId(artistProfileId);
-        
-        // Process each dynamic field
-        for (ArtistProfileFieldDto fieldDto : dynamicFields) {
-            if (fieldDto.getFieldValue() != null && !fieldDto.getFieldValue().trim().isEmpty()) {
-                ArtistTypeField artistTypeField = artistTypeFieldRepository.findById(fieldDto.getArtistTypeFieldId())
-                        .orElseThrow(() -> new RuntimeException("Artist type field not found with id: " + fieldDto.getArtistTypeFieldId()));
-
-                // Check if field already exists
-                Optional<ArtistProfileField> existingField = existingFields.stream()
-                        .filter(field -> field.getArtistTypeField().getId().equals(fieldDto.getArtistTypeFieldId()))
-                        .findFirst();
-
-                if (existingField.isPresent()) {
-                    // Update existing field
-                    ArtistProfileField profileField = existingField.get();
-                    profileField.setFieldValue(fieldDto.getFieldValue());
-                    artistProfileFieldRepository.save(profileField);
-                    log.info("Updated dynamic field '{}' for artist profile {}", artistTypeField.getFieldName(), artistProfileId);
-                } else {
-                    // Create new field
-                    ArtistProfileField profileField = new ArtistProfileField();
-                    profileField.setArtistProfile(artistProfile);
-                    profileField.setArtistTypeField(artistTypeField);
-                    profileField.setFieldValue(fieldDto.getFieldValue());
-                    
-                    // File handling is now managed by Document entity
-
-                    artistProfileFieldRepository.save(profileField);
-                    log.info("Saved dynamic field '{}' for artist profile {}", artistTypeField.getFieldName(), artistProfileId);
-                }
-            }
-        }
-
-        // Remove fields that are no longer in the request
-        List<Long> requestedFieldIds = dynamicFields.stream()
-                .map(ArtistProfileFieldDto::getArtistTypeFieldId)
-                .collect(java.util.stream.Collectors.toList());
-        
-        List<ArtistProfileField> fieldsToDelete = existingFields.stream()
-                .filter(field -> !requestedFieldIds.contains(field.getArtistTypeField().getId()))
-                .collect(java.util.stream.Collectors.toList());
-        
-        if (!fieldsToDelete.isEmpty()) {
-            artistProfileFieldRepository.deleteAll(fieldsToDelete);
-            log.info("Deleted {} unused dynamic fields for artist profile {}", fieldsToDelete.size(), artistProfileId);
-        }
+        artistProfileFieldWriter.save(artistProfileId, dynamicFields);
+        eventPublisher.publishEvent(new ArtistProfileUpdatedEvent(artistProfileId));
     }
 
     /**
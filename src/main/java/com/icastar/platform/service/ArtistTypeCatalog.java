@@ -0,0 +1,270 @@
+package com.icastar.platform.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icastar.platform.dto.ArtistTypeDto;
+import com.icastar.platform.dto.ArtistTypeFieldDto;
+import com.icastar.platform.entity.ArtistType;
+import com.icastar.platform.entity.ArtistTypeField;
+import com.icastar.platform.repository.ArtistTypeFieldRepository;
+import com.icastar.platform.repository.ArtistTypeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Versioned in-memory snapshot of the artist type catalog and its field definitions.
+ *
+ * The catalog is small and almost never changes, so it is loaded with two queries into an
+ * immutable snapshot that is swapped atomically after every committed catalog change. The
+ * snapshot also holds each public response pre-serialized with a content-hash ETag, so the
+ * signup forms get either the cached bytes or a 304 without touching the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArtistTypeCatalog {
+
+    private final ArtistTypeRepository artistTypeRepository;
+    private final ArtistTypeFieldRepository artistTypeFieldRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+    private long version;
+
+    /**
+     * Pre-serialized response body with its ETag
+     */
+    public record Json(byte[] body, String etag) {
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : rebuild();
+    }
+
+    /**
+     * Rebuild the snapshot once the current transaction commits, or now outside one
+     */
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rebuild();
+                }
+            });
+        } else {
+            rebuild();
+        }
+    }
+
+    public synchronized Snapshot rebuild() {
+        Snapshot rebuilt = transactionTemplate.execute(status -> load(++version));
+        snapshot = rebuilt;
+        log.debug("Artist type catalog v{} loaded: {} types", rebuilt.version, rebuilt.byId.size());
+        return rebuilt;
+    }
+
+    private Snapshot load(long version) {
+        Map<Long, List<ArtistTypeFieldDto>> fieldsByType = new HashMap<>();
+        Map<Long, List<ArtistTypeField>> fieldEntitiesByType = new HashMap<>();
+        List<ArtistTypeField> allFields = new ArrayList<>(artistTypeFieldRepository.findAll());
+        allFields.sort(Comparator.comparing(ArtistTypeField::getId));
+        for (ArtistTypeField field : allFields) {
+            Long typeId = field.getArtistType().getId();
+            fieldsByType.computeIfAbsent(typeId, key -> new ArrayList<>()).add(convertFieldToDto(field));
+            fieldEntitiesByType.computeIfAbsent(typeId, key -> new ArrayList<>()).add(field);
+        }
+
+        Map<Long, ArtistTypeDto> byId = new HashMap<>();
+        Map<String, ArtistTypeDto> byName = new HashMap<>();
+        List<ArtistTypeDto> active = new ArrayList<>();
+        List<ArtistType> types = new ArrayList<>(artistTypeRepository.findAll());
+        types.sort(Comparator.comparing(ArtistType::getSortOrder, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(ArtistType::getDisplayName, Comparator.nullsFirst(Comparator.naturalOrder())));
+        for (ArtistType type : types) {
+            ArtistTypeDto dto = convertToDto(type, fieldsByType.get(type.getId()));
+            byId.put(type.getId(), dto);
+            byName.put(type.getName(), dto);
+            if (Boolean.TRUE.equals(type.getIsActive())) {
+                active.add(dto);
+            }
+        }
+
+        Map<Long, Json> typeJson = new HashMap<>();
+        Map<Long, Json> activeFieldsJson = new HashMap<>();
+        Map<Long, Json> requiredFieldsJson = new HashMap<>();
+        Map<Long, List<ArtistTypeFieldDto>> activeFields = new HashMap<>();
+        Map<Long, List<ArtistTypeFieldDto>> requiredFields = new HashMap<>();
+        Map<Long, List<ArtistTypeFieldDto>> searchableFields = new HashMap<>();
+        for (ArtistTypeDto dto : byId.values()) {
+            List<ArtistTypeField> fields = fieldEntitiesByType.getOrDefault(dto.getId(), List.of());
+            activeFields.put(dto.getId(), select(fields, field -> Boolean.TRUE.equals(field.getIsActive())));
+            requiredFields.put(dto.getId(), select(fields, field -> Boolean.TRUE.equals(field.getIsRequired())));
+            searchableFields.put(dto.getId(), select(fields, field -> Boolean.TRUE.equals(field.getIsSearchable())));
+            typeJson.put(dto.getId(), serialize(dto));
+            activeFieldsJson.put(dto.getId(), serialize(activeFields.get(dto.getId())));
+            requiredFieldsJson.put(dto.getId(), serialize(requiredFields.get(dto.getId())));
+        }
+
+        return new Snapshot(version, Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byName),
+                Collections.unmodifiableList(active), activeFields, requiredFields, searchableFields,
+                serialize(active), typeJson, activeFieldsJson, requiredFieldsJson, serialize(List.of()));
+    }
+
+    // Same filters and order as the repository finders: matching fields by sortOrder
+    private List<ArtistTypeFieldDto> select(List<ArtistTypeField> fields, Predicate<ArtistTypeField> filter) {
+        return fields.stream()
+                .filter(filter)
+                .sorted(Comparator.comparing(ArtistTypeField::getSortOrder, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .map(this::convertFieldToDto)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private Json serialize(Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return new Json(body, "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"");
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not serialize artist type catalog", e);
+        }
+    }
+
+    private ArtistTypeDto convertToDto(ArtistType artistType, List<ArtistTypeFieldDto> fields) {
+        ArtistTypeDto dto = new ArtistTypeDto();
+        dto.setId(artistType.getId());
+        dto.setName(artistType.getName());
+        dto.setDisplayName(artistType.getDisplayName());
+        dto.setDescription(artistType.getDescription());
+        dto.setIconUrl(artistType.getIconUrl());
+        dto.setIsActive(artistType.getIsActive());
+        dto.setSortOrder(artistType.getSortOrder());
+        if (fields != null && !fields.isEmpty()) {
+            dto.setFields(Collections.unmodifiableList(fields));
+        }
+        return dto;
+    }
+
+    ArtistTypeFieldDto convertFieldToDto(ArtistTypeField field) {
+        ArtistTypeFieldDto dto = new ArtistTypeFieldDto();
+        dto.setId(field.getId());
+        dto.setFieldName(field.getFieldName());
+        dto.setDisplayName(field.getDisplayName());
+        dto.setFieldType(field.getFieldType());
+        dto.setIsRequired(field.getIsRequired());
+        dto.setIsSearchable(field.getIsSearchable());
+        dto.setSortOrder(field.getSortOrder());
+        dto.setPlaceholder(field.getPlaceholder());
+        dto.setHelpText(field.getHelpText());
+
+        // TODO: Parse JSON fields for validation rules and options
+        // This would require JSON parsing logic
+
+        return dto;
+    }
+
+    /**
+     * One immutable version of the catalog
+     */
+    public static final class Snapshot {
+        private final long version;
+        private final Map<Long, ArtistTypeDto> byId;
+        private final Map<String, ArtistTypeDto> byName;
+        private final List<ArtistTypeDto> active;
+        private final Map<Long, List<ArtistTypeFieldDto>> activeFields;
+        private final Map<Long, List<ArtistTypeFieldDto>> requiredFields;
+        private final Map<Long, List<ArtistTypeFieldDto>> searchableFields;
+        private final Json activeJson;
+        private final Map<Long, Json> typeJson;
+        private final Map<Long, Json> activeFieldsJson;
+        private final Map<Long, Json> requiredFieldsJson;
+        private final Json emptyJson;
+
+        private Snapshot(long version, Map<Long, ArtistTypeDto> byId, Map<String, ArtistTypeDto> byName,
+                         List<ArtistTypeDto> active, Map<Long, List<ArtistTypeFieldDto>> activeFields,
+                         Map<Long, List<ArtistTypeFieldDto>> requiredFields,
+                         Map<Long, List<ArtistTypeFieldDto>> searchableFields, Json activeJson,
+                         Map<Long, Json> typeJson, Map<Long, Json> activeFieldsJson,
+                         Map<Long, Json> requiredFieldsJson, Json emptyJson) {
+            this.version = version;
+            this.byId = byId;
+            this.byName = byName;
+            this.active = active;
+            this.activeFields = activeFields;
+            this.requiredFields = requiredFields;
+            this.searchableFields = searchableFields;
+            this.activeJson = activeJson;
+            this.typeJson = typeJson;
+            this.activeFieldsJson = activeFieldsJson;
+            this.requiredFieldsJson = requiredFieldsJson;
+            this.emptyJson = emptyJson;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public List<ArtistTypeDto> activeTypes() {
+            return active;
+        }
+
+        public ArtistTypeDto type(Long id) {
+            return byId.get(id);
+        }
+
+        public ArtistTypeDto type(String name) {
+            return byName.get(name);
+        }
+
+        public List<ArtistTypeFieldDto> activeFields(Long typeId) {
+            return activeFields.getOrDefault(typeId, List.of());
+        }
+
+        public List<ArtistTypeFieldDto> requiredFields(Long typeId) {
+            return requiredFields.getOrDefault(typeId, List.of());
+        }
+
+        public List<ArtistTypeFieldDto> searchableFields(Long typeId) {
+            return searchableFields.getOrDefault(typeId, List.of());
+        }
+
+        public Json activeTypesJson() {
+            return activeJson;
+        }
+
+        public Json typeJson(Long id) {
+            return typeJson.get(id);
+        }
+
+        public Json typeJson(String name) {
+            ArtistTypeDto type = byName.get(name);
+            return type != null ? typeJson.get(type.getId()) : null;
+        }
+
+        public Json activeFieldsJson(Long typeId) {
+            return activeFieldsJson.getOrDefault(typeId, emptyJson);
+        }
+
+        public Json requiredFieldsJson(Long typeId) {
+            return requiredFieldsJson.getOrDefault(typeId, emptyJson);
+        }
+    }
+}
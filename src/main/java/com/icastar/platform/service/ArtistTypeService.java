@@ -22,51 +22,38 @@ public class ArtistTypeService {
 
     private final ArtistTypeRepository artistTypeRepository;
     private final ArtistTypeFieldRepository artistTypeFieldRepository;
+    private final ArtistTypeCatalog artistTypeCatalog;
 
-    @Transactional(readOnly = true)
     public List<ArtistTypeDto> getAllActiveArtistTypes() {
-        return artistTypeRepository.findActiveArtistTypesOrdered()
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return artistTypeCatalog.snapshot().activeTypes();
     }
 
-    @Transactional(readOnly = true)
     public ArtistTypeDto getArtistTypeById(Long id) {
-        ArtistType artistType = artistTypeRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Artist type not found with id: " + id));
-        return convertToDto(artistType);
+        ArtistTypeDto artistType = artistTypeCatalog.snapshot().type(id);
+        if (artistType == null) {
+            throw new RuntimeException("Artist type not found with id: " + id);
+        }
+        return artistType;
     }
 
-    @Transactional(readOnly = true)
     public ArtistTypeDto getArtistTypeByName(String name) {
-        ArtistType artistType = artistTypeRepository.findByName(name)
-                .orElseThrow(() -> new RuntimeException("Artist type not found with name: " + name));
-        return convertToDto(artistType);
+        ArtistTypeDto artistType = artistTypeCatalog.snapshot().type(name);
+        if (artistType == null) {
+            throw new RuntimeException("Artist type not found with name: " + name);
+        }
+        return artistType;
     }
 
-    @Transactional(readOnly = true)
     public List<ArtistTypeFieldDto> getArtistTypeFields(Long artistTypeId) {
-        return artistTypeFieldRepository.findActiveFieldsByArtistType(artistTypeId)
-                .stream()
-                .map(this::convertFieldToDto)
-                .collect(Collectors.toList());
+        return artistTypeCatalog.snapshot().activeFields(artistTypeId);
     }
 
-    @Transactional(readOnly = true)
     public List<ArtistTypeFieldDto> getRequiredArtistTypeFields(Long artistTypeId) {
-        return artistTypeFieldRepository.findByArtistTypeIdAndIsRequiredTrueOrderBySortOrder(artistTypeId)
-                .stream()
-                .map(this::convertFieldToDto)
-                .collect(Collectors.toList());
+        return artistTypeCatalog.snapshot().requiredFields(artistTypeId);
     }
 
-    @Transactional(readOnly = true)
     public List<ArtistTypeFieldDto> getSearchableArtistTypeFields(Long artistTypeId) {
-        return artistTypeFieldRepository.findByArtistTypeIdAndIsSearchableTrueOrderBySortOrder(artistTypeId)
-                .stream()
-                .map(this::convertFieldToDto)
-                .collect(Collectors.toList());
+        return artistTypeCatalog.snapshot().searchableFields(artistTypeId);
     }
 
     public ArtistTypeDto createArtistType(ArtistTypeDto artistTypeDto) {
@@ -79,6 +66,7 @@ public class ArtistTypeService {
         artistType.setIsActive(true);
 
         ArtistType savedArtistType = artistTypeRepository.save(artistType);
+        artistTypeCatalog.refreshAfterCommit();
         log.info("Created new artist type: {}", savedArtistType.getName());
         
         return convertToDto(savedArtistType);
@@ -101,6 +89,7 @@ public class ArtistTypeService {
         field.setIsActive(true);
 
         ArtistTypeField savedField = artistTypeFieldRepository.save(field);
+        artistTypeCatalog.refreshAfterCommit();
         log.info("Created new field '{}' for artist type '{}'", savedField.getFieldName(), artistType.getName());
         
         return convertFieldToDto(savedField);
@@ -117,6 +106,7 @@ public class ArtistTypeService {
         artistType.setIsActive(artistTypeDto.getIsActive());
 
         ArtistType updatedArtistType = artistTypeRepository.save(artistType);
+        artistTypeCatalog.refreshAfterCommit();
         log.info("Updated artist type: {}", updatedArtistType.getName());
         
         return convertToDto(updatedArtistType);
@@ -128,6 +118,7 @@ public class ArtistTypeService {
         
         artistType.setIsActive(false);
         artistTypeRepository.save(artistType);
+        artistTypeCatalog.refreshAfterCommit();
         log.info("Deactivated artist type: {}", artistType.getName());
     }
 
@@ -152,20 +143,6 @@ public class ArtistTypeService {
     }
 
     private ArtistTypeFieldDto convertFieldToDto(ArtistTypeField field) {
-        ArtistTypeFieldDto dto = new ArtistTypeFieldDto();
-        dto.setId(field.getId());
-        dto.setFieldName(field.getFieldName());
-        dto.setDisplayName(field.getDisplayName());
-        dto.setFieldType(field.getFieldType());
-        dto.setIsRequired(field.getIsRequired());
-        dto.setIsSearchable(field.getIsSearchable());
-        dto.setSortOrder(field.getSortOrder());
-        dto.setPlaceholder(field.getPlaceholder());
-        dto.setHelpText(field.getHelpText());
-        
-        // TODO: Parse JSON fields for validation rules and options
-        // This would require JSON parsing logic
-        
-        return dto;
+        return artistTypeCatalog.convertFieldToDto(field);
     }
 }
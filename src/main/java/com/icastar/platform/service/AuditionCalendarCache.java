@@ -0,0 +1,89 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.scheduling.IntervalTree;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, TTL-based cache of participants' booked auditions as interval trees.
+ *
+ * Each entry covers a time window; a lookup outside the cached window reloads it. Bookings,
+ * reschedules and cancellations evict both participants after commit, and the TTL bounds
+ * staleness from changes made on other instances. Slot suggestions read from here; the
+ * booking itself is always checked against the database.
+ */
+@Component
+public class AuditionCalendarCache {
+
+    @Value("${icastar.auditions.calendar-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${icastar.auditions.calendar-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<Participant, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Calendar of a participant covering at least [from, to), loading it on a miss
+     */
+    public IntervalTree<Long> get(Participant participant, LocalDateTime from, LocalDateTime to,
+                                  Supplier<Calendar> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(participant);
+        if (entry != null && entry.expiresAt > now
+                && !entry.calendar.from().isAfter(from) && !entry.calendar.to().isBefore(to)) {
+            return entry.calendar.bookings();
+        }
+
+        Calendar calendar = loader.get();
+        if (entries.size() >= maxSize) {
+            purge(now);
+        }
+        entries.put(participant, new Entry(calendar, now + ttlSeconds * 1000));
+        return calendar.bookings();
+    }
+
+    public void evict(Participant participant) {
+        entries.remove(participant);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void purge(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        // Still full of live entries: drop a tenth of them rather than grow past the bound
+        int excess = entries.size() - (maxSize - maxSize / 10);
+        Iterator<Participant> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    /**
+     * An artist or recruiter profile whose auditions form one calendar
+     */
+    public record Participant(Role role, Long profileId) {
+    }
+
+    public enum Role {
+        ARTIST, RECRUITER
+    }
+
+    /**
+     * Booked auditions (values are audition ids) starting in [from, to) or overlapping from
+     */
+    public record Calendar(LocalDateTime from, LocalDateTime to, IntervalTree<Long> bookings) {
+    }
+
+    private record Entry(Calendar calendar, long expiresAt) {
+    }
+}
@@ -0,0 +1,401 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.dto.audition.AuditionDto;
+import com.icastar.platform.dto.audition.ScheduleAuditionDto;
+import com.icastar.platform.dto.audition.TimeSlotDto;
+import com.icastar.platform.entity.ArtistProfile;
+import com.icastar.platform.entity.Audition;
+import com.icastar.platform.entity.JobApplication;
+import com.icastar.platform.entity.RecruiterProfile;
+import com.icastar.platform.entity.User;
+import com.icastar.platform.event.ArtistApplicationsChangedEvent;
+import com.icastar.platform.event.InterviewScheduledEvent;
+import com.icastar.platform.exception.BusinessException;
+import com.icastar.platform.repository.ArtistProfileRepository;
+import com.icastar.platform.repository.AuditionRepository;
+import com.icastar.platform.repository.JobApplicationRepository;
+import com.icastar.platform.repository.RecruiterProfileRepository;
+import com.icastar.platform.scheduling.IntervalTree;
+import com.icastar.platform.service.AuditionCalendarCache.Calendar;
+import com.icastar.platform.service.AuditionCalendarCache.Participant;
+import com.icastar.platform.service.AuditionCalendarCache.Role;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Audition and interview scheduling with conflict detection per artist and per recruiter.
+ *
+ * A booking locks both participants' profile rows (recruiter first, then artist), checks the
+ * slot against their booked auditions with range queries on the (participant, scheduled_at)
+ * indexes and only then writes, so two bookings can never overlap for either participant.
+ * Slot suggestions and conflict hints probe cached per-participant interval trees
+ * ({@link AuditionCalendarCache}) instead of querying once per candidate slot.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class AuditionScheduleService {
+
+    private static final int MAX_UPCOMING = 100;
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final int CONFLICT_SUGGESTIONS = 3;
+
+    private final AuditionRepository auditionRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+    private final ArtistProfileRepository artistProfileRepository;
+    private final RecruiterProfileRepository recruiterProfileRepository;
+    private final AuditionCalendarCache calendarCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${icastar.auditions.default-duration-minutes:30}")
+    private int defaultDurationMinutes;
+
+    @Value("${icastar.auditions.max-duration-minutes:480}")
+    private int maxDurationMinutes;
+
+    @Value("${icastar.auditions.slot-step-minutes:15}")
+    private int slotStepMinutes;
+
+    @Value("${icastar.auditions.day-start-hour:9}")
+    private int dayStartHour;
+
+    @Value("${icastar.auditions.day-end-hour:20}")
+    private int dayEndHour;
+
+    @Value("${icastar.auditions.horizon-days:60}")
+    private int horizonDays;
+
+    /**
+     * Schedule an audition for an application of one of the recruiter's jobs
+     */
+    public AuditionDto scheduleAudition(Long recruiterUserId, Long applicationId, ScheduleAuditionDto request) {
+        JobApplication application = findApplication(applicationId);
+        checkJobOwner(recruiterUserId, application);
+        // An application that is already booked has its current audition moved
+        Audition audition = auditionRepository
+                .findFirstByJobApplicationIdAndStatusOrderByIdDesc(application.getId(), Audition.AuditionStatus.SCHEDULED)
+                .orElseGet(Audition::new);
+        return toDto(schedule(application, audition, request));
+    }
+
+    /**
+     * Book the given audition, new or existing, for an application
+     */
+    private Audition schedule(JobApplication application, Audition audition, ScheduleAuditionDto request) {
+        LocalDateTime start = validStart(request.getScheduledAt());
+        int duration = resolveDuration(request.getDurationMinutes());
+        RecruiterProfile recruiter = recruiterProfileRepository.findByUserId(application.getJob().getRecruiter().getId())
+                .orElseThrow(() -> new BusinessException("Recruiter profile not found"));
+        ArtistProfile artist = application.getArtist();
+
+        book(audition, recruiter, artist, start, duration);
+        audition.setJobApplication(application);
+        audition.setAuditionType(request.getAuditionType() != null ? request.getAuditionType() : Audition.AuditionType.LIVE_VIDEO);
+        if (request.getMeetingLink() != null) {
+            audition.setMeetingLink(request.getMeetingLink());
+        }
+        if (request.getInstructions() != null) {
+            audition.setInstructions(request.getInstructions());
+        }
+        Audition saved = auditionRepository.save(audition);
+
+        application.setStatus(JobApplication.ApplicationStatus.INTERVIEW_SCHEDULED);
+        application.setInterviewScheduledAt(start);
+        if (request.getInstructions() != null) {
+            application.setInterviewNotes(request.getInstructions());
+        }
+        application.setReviewedAt(LocalDateTime.now());
+        jobApplicationRepository.save(application);
+
+        eventPublisher.publishEvent(new InterviewScheduledEvent(application.getId(), start));
+        log.info("Audition {} for application {} booked at {} for {} minutes", saved.getId(), application.getId(), start, duration);
+        return saved;
+    }
+
+    /**
+     * Move an audition of one of the recruiter's jobs to another slot
+     */
+    public AuditionDto rescheduleAudition(Long recruiterUserId, Long auditionId, ScheduleAuditionDto request) {
+        Audition audition = findAudition(auditionId);
+        checkJobOwner(recruiterUserId, audition.getJobApplication());
+        if (audition.getStatus() != Audition.AuditionStatus.SCHEDULED) {
+            throw new BusinessException("Only scheduled auditions can be rescheduled");
+        }
+        return toDto(schedule(audition.getJobApplication(), audition, request));
+    }
+
+    /**
+     * Cancel an audition; either participant may cancel
+     */
+    public AuditionDto cancelAudition(Long userId, Long auditionId) {
+        Audition audition = findAudition(auditionId);
+        if (!userId.equals(audition.getArtist().getUser().getId()) && !userId.equals(audition.getRecruiter().getUser().getId())) {
+            throw new BusinessException("You can only cancel your own auditions", "FORBIDDEN", HttpStatus.FORBIDDEN);
+        }
+        if (audition.getStatus() != Audition.AuditionStatus.SCHEDULED) {
+            throw new BusinessException("Only scheduled auditions can be cancelled");
+        }
+        audition.setStatus(Audition.AuditionStatus.CANCELLED);
+        JobApplication application = audition.getJobApplication();
+        if (audition.getScheduledAt().equals(application.getInterviewScheduledAt())) {
+            application.setInterviewScheduledAt(null);
+            jobApplicationRepository.save(application);
+        }
+        evictAfterCommit(audition.getArtist().getId(), audition.getRecruiter().getId());
+        eventPublisher.publishEvent(new ArtistApplicationsChangedEvent(audition.getArtist().getId()));
+        return toDto(auditionRepository.save(audition));
+    }
+
+    /**
+     * Free slots of the given length in [from, to) that suit both the artist and the
+     * recruiter of an application, within working hours and on slot-step boundaries
+     */
+    @Transactional(readOnly = true)
+    public List<TimeSlotDto> suggestSlots(Long recruiterUserId, Long applicationId, LocalDateTime from,
+                                          LocalDateTime to, Integer durationMinutes, Integer limit) {
+        JobApplication application = findApplication(applicationId);
+        checkJobOwner(recruiterUserId, application);
+        RecruiterProfile recruiter = recruiterProfileRepository.findByUserId(recruiterUserId)
+                .orElseThrow(() -> new BusinessException("Recruiter profile not found"));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowStart = from != null && from.isAfter(now) ? from : now;
+        LocalDateTime windowEnd = to != null ? to : windowStart.plusDays(7);
+        if (!windowEnd.isAfter(windowStart)) {
+            throw new IllegalArgumentException("to must be after from");
+        }
+        int count = Math.max(1, Math.min(limit != null ? limit : 5, MAX_SUGGESTIONS));
+        return freeSlots(application.getArtist().getId(), recruiter.getId(), windowStart, windowEnd,
+                resolveDuration(durationMinutes), count);
+    }
+
+    /**
+     * Upcoming auditions of the current user, as artist or recruiter
+     */
+    @Transactional(readOnly = true)
+    public List<AuditionDto> getUpcomingForUser(Long userId, User.UserRole role, Integer size) {
+        if (role == User.UserRole.ARTIST) {
+            ArtistProfile artist = artistProfileRepository.findByUserId(userId)
+                    .orElseThrow(() -> new BusinessException("Artist profile not found"));
+            return getUpcomingForArtist(artist.getId(), size);
+        }
+        if (role == User.UserRole.RECRUITER) {
+            RecruiterProfile recruiter = recruiterProfileRepository.findByUserId(userId)
+                    .orElseThrow(() -> new BusinessException("Recruiter profile not found"));
+            return getUpcomingForRecruiter(recruiter.getId(), size);
+        }
+        return List.of();
+    }
+
+    @Transactional(readOnly = true)
+    public List<AuditionDto> getUpcomingForArtist(Long artistProfileId, Integer size) {
+        LocalDateTime now = LocalDateTime.now();
+        return auditionRepository.findUpcomingByArtist(artistProfileId, now.minusMinutes(maxDurationMinutes), now,
+                        PageRequest.of(0, upcomingSize(size))).stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<AuditionDto> getUpcomingForRecruiter(Long recruiterProfileId, Integer size) {
+        LocalDateTime now = LocalDateTime.now();
+        return auditionRepository.findUpcomingByRecruiter(recruiterProfileId, now.minusMinutes(maxDurationMinutes), now,
+                        PageRequest.of(0, upcomingSize(size))).stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    private void book(Audition audition, RecruiterProfile recruiter, ArtistProfile artist, LocalDateTime start, int duration) {
+        LocalDateTime end = start.plusMinutes(duration);
+        // Serialize bookings per participant; always recruiter before artist so two bookings cannot deadlock
+        recruiterProfileRepository.findForUpdate(recruiter.getId());
+        artistProfileRepository.findForUpdate(artist.getId());
+
+        LocalDateTime lookBack = start.minusMinutes(maxDurationMinutes);
+        // Keyed by id: an audition between the same two participants clashes for both
+        Map<Long, Audition> conflicts = new TreeMap<>();
+        overlapping(auditionRepository.findBookedByArtist(artist.getId(), lookBack, end), start, end, audition.getId())
+                .forEach(conflict -> conflicts.put(conflict.getId(), conflict));
+        overlapping(auditionRepository.findBookedByRecruiter(recruiter.getId(), lookBack, end), start, end, audition.getId())
+                .forEach(conflict -> conflicts.put(conflict.getId(), conflict));
+        if (!conflicts.isEmpty()) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("conflicts", conflicts.values().stream()
+                    .map(conflict -> new TimeSlotDto(conflict.getScheduledAt(), conflict.getEndsAt()))
+                    .collect(Collectors.toList()));
+            details.put("suggestions", freeSlots(artist.getId(), recruiter.getId(), start, start.plusDays(7), duration,
+                    CONFLICT_SUGGESTIONS));
+            throw new BusinessException("The artist or recruiter already has an audition at that time",
+                    "AUDITION_CONFLICT", HttpStatus.CONFLICT, details);
+        }
+
+        if (audition.getId() != null) {
+            evictAfterCommit(audition.getArtist().getId(), audition.getRecruiter().getId());
+        }
+        audition.setRecruiter(recruiter);
+        audition.setArtist(artist);
+        audition.setScheduledAt(start);
+        audition.setDurationMinutes(duration);
+        audition.setEndsAt(end);
+        audition.setStatus(Audition.AuditionStatus.SCHEDULED);
+        evictAfterCommit(artist.getId(), recruiter.getId());
+    }
+
+    private static List<Audition> overlapping(List<Audition> booked, LocalDateTime start, LocalDateTime end, Long excludeId) {
+        return booked.stream()
+                .filter(audition -> !audition.getId().equals(excludeId))
+                .filter(audition -> audition.getScheduledAt().isBefore(end) && audition.getEndsAt().isAfter(start))
+                .collect(Collectors.toList());
+    }
+
+    private List<TimeSlotDto> freeSlots(Long artistId, Long recruiterId, LocalDateTime from, LocalDateTime to,
+                                        int duration, int limit) {
+        LocalDateTime windowEnd = to.isAfter(from.plusDays(horizonDays)) ? from.plusDays(horizonDays) : to;
+        IntervalTree<Long> artistCalendar = calendar(new Participant(Role.ARTIST, artistId), from, windowEnd);
+        IntervalTree<Long> recruiterCalendar = calendar(new Participant(Role.RECRUITER, recruiterId), from, windowEnd);
+
+        List<TimeSlotDto> slots = new ArrayList<>();
+        LocalDateTime cursor = roundUp(from);
+        while (slots.size() < limit && !cursor.plusMinutes(duration).isAfter(windowEnd)) {
+            LocalDateTime dayStart = cursor.toLocalDate().atTime(dayStartHour, 0);
+            LocalDateTime dayEnd = cursor.toLocalDate().atTime(dayEndHour, 0);
+            if (cursor.isBefore(dayStart)) {
+                cursor = dayStart;
+                continue;
+            }
+            LocalDateTime end = cursor.plusMinutes(duration);
+            if (end.isAfter(dayEnd)) {
+                cursor = dayStart.plusDays(1);
+                continue;
+            }
+            long busyUntil = Math.max(
+                    artistCalendar.latestOverlappingEnd(key(cursor), key(end)),
+                    recruiterCalendar.latestOverlappingEnd(key(cursor), key(end)));
+            if (busyUntil == Long.MIN_VALUE) {
+                slots.add(new TimeSlotDto(cursor, end));
+                cursor = roundUp(end);
+            } else {
+                // Jump past everything this slot collides with instead of stepping through it
+                cursor = roundUp(LocalDateTime.ofEpochSecond(busyUntil, 0, ZoneOffset.UTC));
+            }
+        }
+        return slots;
+    }
+
+    private IntervalTree<Long> calendar(Participant participant, LocalDateTime from, LocalDateTime to) {
+        return calendarCache.get(participant, from, to, () -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime loadFrom = from.isBefore(now) ? from : now;
+            LocalDateTime loadTo = to.isAfter(now.plusDays(horizonDays)) ? to : now.plusDays(horizonDays);
+            List<Audition> booked = participant.role() == Role.ARTIST
+                    ? auditionRepository.findBookedByArtist(participant.profileId(), loadFrom.minusMinutes(maxDurationMinutes), loadTo)
+                    : auditionRepository.findBookedByRecruiter(participant.profileId(), loadFrom.minusMinutes(maxDurationMinutes), loadTo);
+            List<IntervalTree.Interval<Long>> intervals = booked.stream()
+                    .map(audition -> new IntervalTree.Interval<>(key(audition.getScheduledAt()), key(audition.getEndsAt()), audition.getId()))
+                    .collect(Collectors.toList());
+            return new Calendar(loadFrom, loadTo, IntervalTree.of(intervals));
+        });
+    }
+
+    private void evictAfterCommit(Long artistId, Long recruiterId) {
+        Runnable evict = () -> {
+            calendarCache.evict(new Participant(Role.ARTIST, artistId));
+            calendarCache.evict(new Participant(Role.RECRUITER, recruiterId));
+        };
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+
+    // Next slot boundary at or after the given time
+    private LocalDateTime roundUp(LocalDateTime time) {
+        LocalDateTime minute = time.truncatedTo(ChronoUnit.MINUTES);
+        if (minute.isBefore(time)) {
+            minute = minute.plusMinutes(1);
+        }
+        int remainder = (minute.getHour() * 60 + minute.getMinute()) % slotStepMinutes;
+        return remainder == 0 ? minute : minute.plusMinutes(slotStepMinutes - remainder);
+    }
+
+    private static long key(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private LocalDateTime validStart(LocalDateTime start) {
+        if (start == null) {
+            throw new IllegalArgumentException("Scheduled time is required");
+        }
+        if (!start.isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Scheduled time must be in the future");
+        }
+        return start;
+    }
+
+    private int resolveDuration(Integer durationMinutes) {
+        int duration = durationMinutes != null ? durationMinutes : defaultDurationMinutes;
+        if (duration < 1 || duration > maxDurationMinutes) {
+            throw new IllegalArgumentException("Duration must be between 1 and " + maxDurationMinutes + " minutes");
+        }
+        return duration;
+    }
+
+    private static int upcomingSize(Integer size) {
+        return Math.max(1, Math.min(size != null ? size : 20, MAX_UPCOMING));
+    }
+
+    private JobApplication findApplication(Long applicationId) {
+        return jobApplicationRepository.findById(applicationId)
+                .orElseThrow(() -> new BusinessException("Job application not found"));
+    }
+
+    private Audition findAudition(Long auditionId) {
+        return auditionRepository.findById(auditionId)
+                .orElseThrow(() -> new BusinessException("Audition not found"));
+    }
+
+    private static void checkJobOwner(Long recruiterUserId, JobApplication application) {
+        if (!application.getJob().getRecruiter().getId().equals(recruiterUserId)) {
+            throw new BusinessException("You can only schedule auditions for your own jobs", "FORBIDDEN", HttpStatus.FORBIDDEN);
+        }
+    }
+
+    private AuditionDto toDto(Audition audition) {
+        JobApplication application = audition.getJobApplication();
+        return AuditionDto.builder()
+                .id(audition.getId())
+                .applicationId(application.getId())
+                .jobId(application.getJob().getId())
+                .jobTitle(application.getJob().getTitle())
+                .artistId(audition.getArtist().getId())
+                .recruiterId(audition.getRecruiter().getId())
+                .auditionType(audition.getAuditionType())
+                .status(audition.getStatus())
+                .scheduledAt(audition.getScheduledAt())
+                .endsAt(audition.getEndsAt())
+                .durationMinutes(audition.getDurationMinutes())
+                .meetingLink(audition.getMeetingLink())
+                .instructions(audition.getInstructions())
+                .build();
+    }
+}
@@ -0,0 +1,229 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.StoredBlob;
+import com.icastar.platform.repository.StoredBlobRepository;
+import com.icastar.platform.util.FileExtensions;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Content-addressed, deduplicating storage on top of the ObjectStore.
+ *
+ * An upload is hashed locally first; if a blob with that SHA-256 already exists only its
+ * reference count goes up and nothing is sent to the store. New content is written under
+ * blobs/{first two hex digits}/{sha256}, the only part of the store served publicly, with no
+ * database lock held; the reference is then recorded with a single upsert. Concurrent uploads
+ * of the same content all write the object and the upsert lets them share one row; an upload
+ * that lost to a different extension deletes its own copy. Documents release their reference
+ * when deleted, and a scheduled collector removes blobs that stayed unreferenced for the grace
+ * period.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BlobStore {
+
+    /**
+     * Key prefix of deduplicated blobs
+     */
+    public static final String KEY_PREFIX = "blobs/";
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final StoredBlobRepository storedBlobRepository;
+    private final ObjectStore objectStore;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${icastar.file.blob-gc.grace-minutes:60}")
+    private long gcGraceMinutes;
+
+    @Value("${icastar.file.blob-gc.batch-size:500}")
+    private int gcBatchSize;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        // Blob references commit on their own: the object is in the store either way
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Store the file's content, or take another reference to an identical blob
+     */
+    public ObjectStore.StoredObject store(MultipartFile file) {
+        return store(file.getOriginalFilename(), file.getContentType(), file::getInputStream);
+    }
+
+    /**
+     * Store generated content held in memory, e.g. an image variant
+     */
+    public ObjectStore.StoredObject store(byte[] content, String fileName, String contentType) {
+        return store(fileName, contentType, () -> new ByteArrayInputStream(content));
+    }
+
+    private ObjectStore.StoredObject store(String fileName, String contentType, Content content) {
+        String sha256 = hash(content);
+        ObjectStore.StoredObject existing = transactionTemplate.execute(status -> addReference(sha256));
+        if (existing != null) {
+            return existing;
+        }
+
+        ObjectStore.StoredObject object = write(sha256, fileName, contentType, content);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                StoredBlob blob = transactionTemplate.execute(status -> upsertReference(object, contentType));
+                if (!blob.getObjectUrl().equals(object.url())) {
+                    // Same content stored first under another extension; share that object
+                    objectStore.delete(object.url());
+                    return stored(blob);
+                }
+                return object;
+            } catch (PessimisticLockingFailureException e) {
+                // Concurrent upserts of one key can deadlock in InnoDB; the loser simply retries
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Retrying blob {} reference after lock failure: {}", sha256, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drop a document's reference to its content. Files stored before deduplication have no
+     * blob row and are deleted directly.
+     */
+    @Transactional
+    public void release(String sha256, String url) {
+        if (sha256 != null && storedBlobRepository.release(sha256, url, LocalDateTime.now()) > 0) {
+            return;
+        }
+        boolean sharedBlob = sha256 != null && storedBlobRepository.findById(sha256)
+                .filter(blob -> blob.getObjectUrl().equals(url))
+                .isPresent();
+        if (!sharedBlob) {
+            objectStore.delete(url);
+        }
+    }
+
+    /**
+     * Delete blobs that have had no references for the grace period
+     */
+    @Scheduled(fixedDelayString = "${icastar.file.blob-gc.interval-ms:3600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void collectGarbage() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(gcGraceMinutes);
+        int deleted = 0;
+        List<String> candidates;
+        do {
+            candidates = storedBlobRepository.findUnreferencedBefore(cutoff, gcBatchSize);
+            for (String sha256 : candidates) {
+                Boolean removed = transactionTemplate.execute(status -> remove(sha256, cutoff));
+                if (Boolean.TRUE.equals(removed)) {
+                    deleted++;
+                }
+            }
+        } while (candidates.size() == gcBatchSize);
+        if (deleted > 0) {
+            log.info("Blob GC: {} unreferenced blobs deleted", deleted);
+        }
+    }
+
+    // Waits for a collector holding the row, so a blob being deleted is never handed out
+    private ObjectStore.StoredObject addReference(String sha256) {
+        if (storedBlobRepository.addReference(sha256, LocalDateTime.now()) == 0) {
+            return null;
+        }
+        return storedBlobRepository.findById(sha256).map(this::stored).orElse(null);
+    }
+
+    private ObjectStore.StoredObject write(String sha256, String fileName, String contentType, Content content) {
+        ObjectStore.StoredObject object;
+        try (InputStream in = content.open()) {
+            object = objectStore.put(key(sha256, fileName), in, contentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!sha256.equals(object.sha256())) {
+            objectStore.delete(object.url());
+            throw new IllegalStateException("Upload content changed while it was being stored");
+        }
+        return object;
+    }
+
+    private StoredBlob upsertReference(ObjectStore.StoredObject object, String contentType) {
+        storedBlobRepository.upsertReference(object.sha256(), object.url(), object.size(), contentType, LocalDateTime.now());
+        return storedBlobRepository.findById(object.sha256())
+                .orElseThrow(() -> new IllegalStateException("Blob row missing after upsert: " + object.sha256()));
+    }
+
+    private ObjectStore.StoredObject stored(StoredBlob blob) {
+        return new ObjectStore.StoredObject(key(blob.getSha256(), blob.getObjectUrl()), blob.getObjectUrl(),
+                blob.getSize(), blob.getSha256());
+    }
+
+    // Runs with the row locked, so a concurrent upload either revived the blob first or waits and re-stores it
+    private boolean remove(String sha256, LocalDateTime cutoff) {
+        StoredBlob blob = storedBlobRepository.findForUpdate(sha256).orElse(null);
+        if (blob == null || blob.getRefCount() > 0 || !blob.getUpdatedAt().isBefore(cutoff)) {
+            return false;
+        }
+        storedBlobRepository.delete(blob);
+        objectStore.delete(blob.getObjectUrl());
+        return true;
+    }
+
+    /**
+     * Object key for a hash, keeping a whitelisted extension from the file name so the stored
+     * object is served with a sensible content type
+     */
+    private static String key(String sha256, String fileName) {
+        return KEY_PREFIX + sha256.substring(0, 2) + "/" + sha256 + FileExtensions.of(fileName);
+    }
+
+    private static String hash(Content content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(content.open(), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Re-readable upload content: hashed first, then read again if it has to be stored
+     */
+    @FunctionalInterface
+    private interface Content {
+        InputStream open() throws IOException;
+    }
+}
@@ -0,0 +1,94 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.dto.artist.CandidateDashboardDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, short-TTL cache of candidate dashboards per artist profile.
+ *
+ * Application and interview events evict the artist's entry after commit; the TTL covers
+ * changes that raise no event, such as an interview time passing. A load first puts a marker
+ * entry and only stores its result if the marker is still there, so an eviction that lands
+ * while a dashboard is being loaded also discards that possibly stale result.
+ */
+@Component
+public class CandidateDashboardCache {
+
+    @Value("${icastar.dashboard.candidate-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${icastar.dashboard.candidate-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Get the cached dashboard of an artist, loading it on a miss
+     */
+    public CandidateDashboardDto get(Long artistId, Supplier<CandidateDashboardDto> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(artistId);
+        if (entry != null && entry.dashboard != null && entry.expiresAt > now) {
+            return entry.dashboard;
+        }
+
+        Entry loading = new Entry(null, 0);
+        boolean claimed = entry == null
+                ? entries.putIfAbsent(artistId, loading) == null
+                : entry.dashboard != null && entries.replace(artistId, entry, loading);
+        if (!claimed) {
+            // Another request is loading this artist; load without caching rather than wait
+            return loader.get();
+        }
+
+        CandidateDashboardDto dashboard;
+        try {
+            dashboard = loader.get();
+        } catch (RuntimeException | Error e) {
+            entries.remove(artistId, loading);
+            throw e;
+        }
+        if (entries.size() >= maxSize) {
+            purge(now);
+        }
+        // Fails if the artist was evicted (or purged) since the marker went in
+        entries.replace(artistId, loading, new Entry(dashboard, now + ttlSeconds * 1000));
+        return dashboard;
+    }
+
+    public void evict(Long artistId) {
+        entries.remove(artistId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void purge(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        // Still full of live entries: drop a tenth of them rather than grow past the bound
+        int excess = entries.size() - (maxSize - maxSize / 10);
+        Iterator<Long> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    // Compared by identity, so a marker only ever matches the load that put it
+    private static final class Entry {
+        private final CandidateDashboardDto dashboard; // null while loading
+        private final long expiresAt;
+
+        private Entry(CandidateDashboardDto dashboard, long expiresAt) {
+            this.dashboard = dashboard;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
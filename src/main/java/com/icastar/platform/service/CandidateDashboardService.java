@@ -0,0 +1,114 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.dto.artist.CandidateApplicationDto;
+import com.icastar.platform.dto.artist.CandidateDashboardDto;
+import com.icastar.platform.entity.JobApplication;
+import com.icastar.platform.event.ApplicationStatusChangedEvent;
+import com.icastar.platform.event.ArtistApplicationsChangedEvent;
+import com.icastar.platform.event.InterviewScheduledEvent;
+import com.icastar.platform.repository.JobApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Candidate dashboard figures for one artist.
+ *
+ * A dashboard costs three indexed queries however many applications the artist has: one
+ * GROUP BY status count, the newest applications through LIMIT and the artist's own upcoming
+ * auditions. The result is cached per artist for a short TTL and evicted by application
+ * and interview events.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateDashboardService {
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final AuditionScheduleService auditionScheduleService;
+    private final CandidateDashboardCache dashboardCache;
+
+    @Value("${icastar.dashboard.candidate-recent-applications:5}")
+    private int recentApplications;
+
+    @Value("${icastar.dashboard.candidate-upcoming-interviews:3}")
+    private int upcomingInterviews;
+
+    @Transactional(readOnly = true)
+    public CandidateDashboardDto getDashboard(Long artistId) {
+        return dashboardCache.get(artistId, () -> load(artistId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        evictApplicant(event.applicationId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInterviewScheduled(InterviewScheduledEvent event) {
+        evictApplicant(event.applicationId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArtistApplicationsChanged(ArtistApplicationsChangedEvent event) {
+        dashboardCache.evict(event.artistId());
+    }
+
+    private void evictApplicant(Long applicationId) {
+        jobApplicationRepository.findArtistIdById(applicationId).ifPresent(dashboardCache::evict);
+    }
+
+    private CandidateDashboardDto load(Long artistId) {
+        Map<JobApplication.ApplicationStatus, Long> byStatus = new EnumMap<>(JobApplication.ApplicationStatus.class);
+        for (JobApplication.ApplicationStatus status : JobApplication.ApplicationStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        long total = 0;
+        for (Object[] row : jobApplicationRepository.countByArtistIdGroupByStatus(artistId)) {
+            long count = ((Number) row[1]).longValue();
+            total += count;
+            // Rows from before the status column was required have no status
+            if (row[0] != null) {
+                byStatus.put((JobApplication.ApplicationStatus) row[0], count);
+            }
+        }
+
+        log.debug("Loaded candidate dashboard for artist {}", artistId);
+        return CandidateDashboardDto.builder()
+                .artistId(artistId)
+                .totalApplications(total)
+                .applicationsByStatus(byStatus)
+                .recentApplications(jobApplicationRepository.findRecentByArtistId(artistId, PageRequest.of(0, recentApplications))
+                        .stream()
+                        .map(this::toDto)
+                        .collect(Collectors.toList()))
+                .upcomingInterviews(auditionScheduleService.getUpcomingForArtist(artistId, upcomingInterviews))
+                .computedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private CandidateApplicationDto toDto(JobApplication application) {
+        return CandidateApplicationDto.builder()
+                .id(application.getId())
+                .jobId(application.getJob().getId())
+                .jobTitle(application.getJob().getTitle())
+                .jobLocation(application.getJob().getLocation())
+                .jobType(application.getJob().getJobType())
+                .status(application.getStatus())
+                .appliedAt(application.getAppliedAt())
+                .reviewedAt(application.getReviewedAt())
+                .interviewScheduledAt(application.getInterviewScheduledAt())
+                .isShortlisted(application.getIsShortlisted())
+                .isHired(application.getIsHired())
+                .build();
+    }
+}
@@ -0,0 +1,275 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.CommunicationLog;
+import com.icastar.platform.service.CommunicationLogService.FailedDelivery;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the communication_logs outbox.
+ *
+ * EmailService and SmsService only insert a PENDING row in the caller's transaction and ask
+ * for a drain after commit, so request latency does not depend on the mail or SMS provider.
+ * A single drain loop per instance claims batches with SKIP LOCKED (so instances never send
+ * the same row), fans the sends out to a bounded worker pool, and records the outcome with
+ * one UPDATE for all sent rows and one JDBC batch for the failures. A scheduled poll picks
+ * up rows whose wake-up was missed, e.g. after a restart.
+ *
+ * Failed rows get a next_retry_at from jittered exponential backoff and are claimed again by
+ * the same loop once due, until max_retries is reached. Each channel has its own concurrency
+ * limit so a slow SMS provider cannot starve email. Throughput counters and backlog gauges
+ * are published as icastar.communication.* metrics.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommunicationDispatcher {
+
+    private final CommunicationLogService communicationLogService;
+    private final JavaMailSender mailSender;
+    private final SmsGateway smsGateway;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    @Value("${icastar.communication.batch-size:50}")
+    private int batchSize;
+
+    @Value("${icastar.communication.workers:8}")
+    private int workers;
+
+    @Value("${icastar.communication.sending-timeout-seconds:300}")
+    private long sendingTimeoutSeconds;
+
+    @Value("${icastar.communication.retry.base-delay-seconds:30}")
+    private long retryBaseDelaySeconds;
+
+    @Value("${icastar.communication.retry.max-delay-seconds:3600}")
+    private long retryMaxDelaySeconds;
+
+    @Value("${icastar.communication.max-concurrency.email:4}")
+    private int emailConcurrency;
+
+    @Value("${icastar.communication.max-concurrency.sms:4}")
+    private int smsConcurrency;
+
+    private final Map<CommunicationLog.CommunicationType, Semaphore> channelPermits =
+            new EnumMap<>(CommunicationLog.CommunicationType.class);
+    private final AtomicLong pendingBacklog = new AtomicLong();
+    private final AtomicLong retryBacklog = new AtomicLong();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private ExecutorService drainExecutor;
+    private ThreadPoolExecutor sendExecutor;
+
+    @PostConstruct
+    void start() {
+        drainExecutor = Executors.newSingleThreadExecutor(named("outbox-drain"));
+        // Bounded queue plus caller-runs: a slow provider slows the drain loop instead of queueing without limit
+        sendExecutor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, batchSize)), named("outbox-send"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        channelPermits.put(CommunicationLog.CommunicationType.EMAIL, new Semaphore(Math.max(1, emailConcurrency)));
+        channelPermits.put(CommunicationLog.CommunicationType.SMS, new Semaphore(Math.max(1, smsConcurrency)));
+
+        Gauge.builder("icastar.communication.backlog", pendingBacklog, AtomicLong::get)
+                .description("Communications waiting for their first send")
+                .tag("state", "pending")
+                .register(meterRegistry);
+        Gauge.builder("icastar.communication.backlog", retryBacklog, AtomicLong::get)
+                .description("Failed communications whose retry is due")
+                .tag("state", "retry_due")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        drainExecutor.shutdown();
+        drainExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        sendExecutor.shutdown();
+        sendExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Ask for a drain; inside a transaction it starts once the outbox rows are committed
+     */
+    public void requestDrain() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    startDrain();
+                }
+            });
+        } else {
+            startDrain();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${icastar.communication.poll-interval-ms:5000}")
+    public void poll() {
+        int released = communicationLogService.releaseStuckSending(sendingTimeoutSeconds);
+        if (released > 0) {
+            log.warn("Released {} communications stuck in SENDING", released);
+        }
+        pendingBacklog.set(communicationLogService.countPending());
+        retryBacklog.set(communicationLogService.countDueRetries());
+        startDrain();
+    }
+
+    private void startDrain() {
+        drainRequested.set(true);
+        if (draining.compareAndSet(false, true)) {
+            try {
+                drainExecutor.execute(this::drain);
+            } catch (RuntimeException e) {
+                // Shutting down; the next instance start or poll will pick the rows up
+                draining.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            while (drainRequested.getAndSet(false)) {
+                List<CommunicationLog> batch;
+                do {
+                    batch = communicationLogService.claimPending(batchSize);
+                    if (!batch.isEmpty()) {
+                        send(batch);
+                    }
+                } while (batch.size() == batchSize);
+                do {
+                    batch = communicationLogService.claimDueRetries(batchSize);
+                    if (!batch.isEmpty()) {
+                        batch.forEach(entry -> meter("icastar.communication.retried", entry).increment());
+                        send(batch);
+                    }
+                } while (batch.size() == batchSize);
+            }
+        } catch (RuntimeException e) {
+            log.error("Outbox drain failed: {}", e.getMessage(), e);
+        } finally {
+            draining.set(false);
+            // A request that arrived after the last check but before the flag was cleared
+            if (drainRequested.get()) {
+                startDrain();
+            }
+        }
+    }
+
+    private void send(List<CommunicationLog> batch) {
+        List<Long> sent = new ArrayList<>();
+        List<FailedDelivery> failed = new ArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(batch.size());
+        for (CommunicationLog entry : batch) {
+            futures.add(CompletableFuture.runAsync(() -> deliver(entry), sendExecutor)
+                    .handle((ignored, error) -> {
+                        synchronized (sent) {
+                            if (error == null) {
+                                sent.add(entry.getId());
+                                meter("icastar.communication.sent", entry).increment();
+                            } else {
+                                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                                failed.add(new FailedDelivery(entry.getId(), String.valueOf(cause.getMessage()),
+                                        nextRetryAt(entry)));
+                                meter("icastar.communication.failed", entry).increment();
+                            }
+                        }
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        communicationLogService.markAllAsSent(sent);
+        communicationLogService.markAllAsFailed(failed);
+        log.info("Outbox batch: {} sent, {} failed", sent.size(), failed.size());
+    }
+
+    /**
+     * Next attempt after base * 2^retries seconds, capped, with half of the delay randomised so
+     * rows that failed together do not retry together; null once retries are exhausted
+     */
+    private LocalDateTime nextRetryAt(CommunicationLog entry) {
+        int retries = entry.getRetryCount() != null ? entry.getRetryCount() : 0;
+        int maxRetries = entry.getMaxRetries() != null ? entry.getMaxRetries() : 0;
+        if (retries >= maxRetries) {
+            return null;
+        }
+        long delay = Math.min(retryMaxDelaySeconds, retryBaseDelaySeconds << Math.min(retries, 20));
+        long jittered = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        return LocalDateTime.now().plusSeconds(jittered);
+    }
+
+    private Counter meter(String name, CommunicationLog entry) {
+        return meterRegistry.counter(name, "channel", entry.getCommunicationType().name().toLowerCase());
+    }
+
+    private void deliver(CommunicationLog entry) {
+        Semaphore permits = channelPermits.get(entry.getCommunicationType());
+        if (permits == null) {
+            throw new IllegalStateException("Unsupported communication type " + entry.getCommunicationType());
+        }
+        permits.acquireUninterruptibly();
+        try {
+            transmit(entry);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void transmit(CommunicationLog entry) {
+        switch (entry.getCommunicationType()) {
+            case EMAIL -> {
+                SimpleMailMessage message = new SimpleMailMessage();
+                message.setFrom(fromEmail);
+                message.setTo(entry.getRecipientEmail());
+                message.setSubject(entry.getSubject());
+                message.setText(entry.getMessage());
+                mailSender.send(message);
+            }
+            case SMS -> smsGateway.send(entry.getRecipientMobile(), entry.getMessage());
+            default -> throw new IllegalStateException("Unsupported communication type " + entry.getCommunicationType());
+        }
+    }
+
+    private static ThreadFactory named(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -7,13 +7,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +24,7 @@ import java.util.UUID;
 public class CommunicationLogService {
 
     private final CommunicationLogRepository communicationLogRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * Create a new communication log entry
@@ -50,6 +54,35 @@ public class CommunicationLogService {
         return communicationLogRepository.save(log);
     }
 
+    /**
+     * Create PENDING communication log entries in one JDBC batch, for bulk sends such as
+     * notification fan-out where one entity insert per recipient would be too slow
+     */
+    @Transactional
+    public void createLogs(List<QueuedCommunication> communications) {
+        if (communications.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO communication_logs (communication_type, status, recipient_email, recipient_mobile, subject, " +
+                "message, template_name, user_id, metadata, external_id, retry_count, max_retries, created_at, updated_at, " +
+                "is_active) VALUES (?, 'PENDING', ?, ?, ?, ?, ?, ?, ?, ?, 0, 3, ?, ?, TRUE)",
+                communications.stream()
+                        .map(entry -> new Object[]{entry.type().name(), entry.recipientEmail(), entry.recipientMobile(),
+                                entry.subject(), entry.message(), entry.templateName(), entry.userId(), entry.metadata(),
+                                UUID.randomUUID().toString(), now, now})
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * One communication to queue through {@link #createLogs(List)}
+     */
+    public record QueuedCommunication(CommunicationLog.CommunicationType type, String recipientEmail,
+                                      String recipientMobile, String subject, String message, String templateName,
+                                      Long userId, String metadata) {
+    }
+
     /**
      * Mark communication as sent
      */
@@ -95,6 +128,91 @@ public class CommunicationLogService {
         }
     }
 
+    /**
+     * Claim up to limit pending communications for sending; rows locked by another
+     * instance are skipped, and claimed rows move to SENDING when the transaction commits
+     */
+    @Transactional
+    public List<CommunicationLog> claimPending(int limit) {
+        List<Long> ids = communicationLogRepository.lockPendingIds(limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        communicationLogRepository.markAllAsSending(ids, LocalDateTime.now());
+        return communicationLogRepository.findAllById(ids);
+    }
+
+    /**
+     * Mark a batch of communications as sent in one statement
+     */
+    @Transactional
+    public void markAllAsSent(List<Long> logIds) {
+        if (!logIds.isEmpty()) {
+            communicationLogRepository.markAllAsSent(logIds, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Claim up to limit failed communications whose retry is due; claimed rows move to
+     * SENDING with their retry count incremented
+     */
+    @Transactional
+    public List<CommunicationLog> claimDueRetries(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = communicationLogRepository.lockDueRetryIds(now, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        communicationLogRepository.markAllAsRetrying(ids, now);
+        return communicationLogRepository.findAllById(ids);
+    }
+
+    /**
+     * Mark a batch of communications as failed, each with its own error and next retry time,
+     * in one JDBC batch
+     */
+    @Transactional
+    public void markAllAsFailed(List<FailedDelivery> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "UPDATE communication_logs SET status = 'FAILED', failed_at = ?, error_message = ?, next_retry_at = ?, " +
+                "updated_at = ? WHERE id = ?",
+                failures.stream()
+                        .map(failure -> new Object[]{now, failure.errorMessage(),
+                                failure.nextRetryAt() != null ? Timestamp.valueOf(failure.nextRetryAt()) : null,
+                                now, failure.logId()})
+                        .collect(Collectors.toList()));
+        log.error("{} communication logs marked as failed", failures.size());
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return communicationLogRepository.countPending();
+    }
+
+    @Transactional(readOnly = true)
+    public long countDueRetries() {
+        return communicationLogRepository.countDueRetries(LocalDateTime.now());
+    }
+
+    /**
+     * Outcome of a failed send; nextRetryAt is null when no retries are left
+     */
+    public record FailedDelivery(Long logId, String errorMessage, LocalDateTime nextRetryAt) {
+    }
+
+    /**
+     * Put communications stuck in SENDING for longer than the timeout back to PENDING
+     */
+    @Transactional
+    public int releaseStuckSending(long timeoutSeconds) {
+        LocalDateTime now = LocalDateTime.now();
+        return communicationLogRepository.releaseStuckSending(now.minusSeconds(timeoutSeconds), now);
+    }
+
     /**
      * Get communication logs by user
      */
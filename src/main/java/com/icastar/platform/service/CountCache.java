@@ -0,0 +1,64 @@
+package com.icastar.platform.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, TTL-based cache of COUNT(*) results keyed by a description of the filter.
+ *
+ * When full, expired entries are dropped first and then a tenth of the live ones, so a burst
+ * of distinct filters never wipes the counts every other caller is using.
+ */
+public class CountCache {
+
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public CountCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the cached count for a key, running the counter on a miss
+     */
+    public long get(String key, long ttlSeconds, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.count;
+        }
+
+        long count = counter.getAsLong();
+        if (entries.size() >= maxSize) {
+            purge(now);
+        }
+        entries.put(key, new Entry(count, now + ttlSeconds * 1000L));
+        return count;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void purge(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        int excess = entries.size() - (maxSize - maxSize / 10);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static class Entry {
+        private final long count;
+        private final long expiresAt;
+
+        private Entry(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.icastar.platform.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind counters for job views, applications and hires.
+ *
+ * Increments land in a per-entity LongAdder, so concurrent hits on the same job never contend
+ * on a row lock, and are flushed on an interval as one batched
+ * UPDATE table SET column = column + ? WHERE id = ? per counter. Increments made inside a
+ * transaction are only recorded once it commits.
+ *
+ * The counter columns are not updatable through their entities, so saving a stale entity
+ * cannot overwrite flushed deltas. Reads that need an up-to-date figure add the pending delta
+ * to the stored value via {@link #current(Counter, Long, Integer)}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CounterService {
+
+    public enum Counter {
+        JOB_VIEWS("jobs", "views_count"),
+        JOB_APPLICATIONS("jobs", "applications_count"),
+        JOB_POST_VIEWS("job_posts", "total_views"),
+        JOB_POST_APPLICATIONS("job_posts", "total_applications"),
+        ARTIST_APPLICATIONS("artist_profiles", "total_applications"),
+        ARTIST_HIRES("artist_profiles", "successful_hires"),
+        RECRUITER_HIRES("recruiter_profiles", "successful_hires");
+
+        private final String sql;
+
+        Counter(String table, String column) {
+            this.sql = "UPDATE " + table + " SET " + column + " = COALESCE(" + column + ", 0) + ? WHERE id = ?";
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Counter, Map<Long, LongAdder>> pending = new EnumMap<>(Counter.class);
+
+    {
+        for (Counter counter : Counter.values()) {
+            pending.put(counter, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void increment(Counter counter, Long id) {
+        add(counter, id, 1);
+    }
+
+    public void decrement(Counter counter, Long id) {
+        add(counter, id, -1);
+    }
+
+    /**
+     * Record a delta; inside a transaction it is applied after commit
+     */
+    public void add(Counter counter, Long id, long delta) {
+        if (id == null || delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adder(counter, id).add(delta);
+                }
+            });
+        } else {
+            adder(counter, id).add(delta);
+        }
+    }
+
+    /**
+     * Delta recorded for an entity but not yet written to the database
+     */
+    public long pending(Counter counter, Long id) {
+        LongAdder adder = id != null ? pending.get(counter).get(id) : null;
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * Stored value plus the pending delta
+     */
+    public int current(Counter counter, Long id, Integer stored) {
+        return (int) Math.max(0, (stored != null ? stored : 0) + pending(counter, id));
+    }
+
+    /**
+     * Write pending deltas to the database, one batch per counter
+     */
+    @Scheduled(fixedDelayString = "${icastar.counters.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        for (Counter counter : Counter.values()) {
+            flush(counter);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void flush(Counter counter) {
+        Map<Long, LongAdder> adders = pending.get(counter);
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : adders.entrySet()) {
+            LongAdder adder = entry.getValue();
+            long delta = adder.sum();
+            if (delta == 0) {
+                // Idle entry; an increment racing with the removal is moved back into the map
+                if (adders.remove(entry.getKey(), adder) && adder.sum() != 0) {
+                    adder(counter, entry.getKey()).add(adder.sumThenReset());
+                }
+                continue;
+            }
+            // Subtract rather than reset so increments made during the flush are kept
+            adder.add(-delta);
+            batch.add(new Object[]{delta, entry.getKey()});
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(counter.sql, batch));
+            log.debug("Flushed {} {} counter deltas", batch.size(), counter);
+        } catch (RuntimeException e) {
+            // Put the deltas back so the next flush retries them
+            for (Object[] row : batch) {
+                adder(counter, (Long) row[1]).add((Long) row[0]);
+            }
+            log.error("Failed to flush {} counters: {}", counter, e.getMessage());
+        }
+    }
+
+    private LongAdder adder(Counter counter, Long id) {
+        return pending.get(counter).computeIfAbsent(id, key -> new LongAdder());
+    }
+}
@@ -2,64 +2,148 @@ package com.icastar.platform.service;
 
 import com.icastar.platform.entity.Document;
 import com.icastar.platform.entity.User;
+import com.icastar.platform.exception.BusinessException;
 import com.icastar.platform.repository.DocumentRepository;
+import com.icastar.platform.util.FileExtensions;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DocumentService {
 
+    /**
+     * Identity documents: stored outside the public blob tree, without deduplication, and only
+     * served to their owner and admins through {@link #openDocument}
+     */
+    public static final Set<Document.DocumentType> RESTRICTED_TYPES = EnumSet.of(
+            Document.DocumentType.PAN, Document.DocumentType.AADHAR, Document.DocumentType.PASSPORT);
+
     private final DocumentRepository documentRepository;
-    private final S3Service s3Service;
+    private final BlobStore blobStore;
+    private final ObjectStore objectStore;
+    private final ImageVariantService imageVariantService;
+
+    @Value("${icastar.file.upload-workers:4}")
+    private int uploadWorkers;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    private ThreadPoolExecutor uploadExecutor;
+
+    /**
+     * One file to store as a document of the given type
+     */
+    public record DocumentUpload(MultipartFile file, Document.DocumentType documentType) {
+    }
+
+    /**
+     * A document with its stored file opened for reading; the caller closes the stream
+     */
+    public record DocumentContent(Document document, InputStream content) {
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger counter = new AtomicInteger();
+        // Bounded queue plus caller-runs: a burst of uploads slows the request threads instead of queueing without limit
+        uploadExecutor = new ThreadPoolExecutor(uploadWorkers, uploadWorkers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(uploadWorkers * 4), runnable -> {
+                    Thread thread = new Thread(runnable, "document-upload-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        uploadExecutor.shutdown();
+        uploadExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    }
 
     /**
      * Upload a document for a user
      */
     public Document uploadDocument(User user, MultipartFile file, Document.DocumentType documentType) {
         try {
-            // Generate unique filename
-            String fileName = generateFileName(file.getOriginalFilename());
-            String folder = "users/" + user.getId() + "/documents/" + documentType.name().toLowerCase();
-            
-            // Upload to S3 (dummy URL for now)
-            String fileUrl = s3Service.uploadFile(file, folder);
-            
-            // Create document entity
-            Document document = new Document();
-            document.setUser(user);
-            document.setDocumentType(documentType);
-            document.setFileName(fileName);
-            document.setFileUrl(fileUrl);
-            document.setFileSize(file.getSize());
-            document.setMimeType(file.getContentType());
-            document.setUploadedAt(LocalDateTime.now());
-            document.setIsVerified(false);
-            
-            return documentRepository.save(document);
+            Document document = documentRepository.save(store(user, new DocumentUpload(file, documentType)));
+            imageVariantService.enqueue(List.of(document));
+            return document;
         } catch (Exception e) {
             log.error("Error uploading document", e);
             throw new RuntimeException("Failed to upload document: " + e.getMessage());
         }
     }
 
+    /**
+     * Upload several documents; the files are streamed to storage in parallel and the document
+     * rows are saved together once every file is stored. Empty files are skipped and the result
+     * keeps the order of the remaining uploads.
+     */
+    public List<Document> uploadDocuments(User user, List<DocumentUpload> uploads) {
+        List<CompletableFuture<Document>> stored = uploads.stream()
+                .filter(upload -> !upload.file().isEmpty())
+                .map(upload -> CompletableFuture.supplyAsync(() -> store(user, upload), uploadExecutor))
+                .toList();
+        List<Document> documents = new ArrayList<>(stored.size());
+        RuntimeException failure = null;
+        for (CompletableFuture<Document> future : stored) {
+            try {
+                documents.add(future.join());
+            } catch (CompletionException e) {
+                failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        if (failure != null) {
+            // Don't leave references behind for the uploads that did succeed
+            releaseAll(documents);
+            log.error("Error uploading documents", failure);
+            throw new RuntimeException("Failed to upload document: " + failure.getMessage());
+        }
+        List<Document> saved;
+        try {
+            saved = documentRepository.saveAll(documents);
+        } catch (RuntimeException e) {
+            releaseAll(documents);
+            throw e;
+        }
+        // Thumbnails are generated in the background once the rows are committed
+        imageVariantService.enqueue(saved);
+        return saved;
+    }
+
     /**
      * Upload multiple documents of the same type
      */
     public List<Document> uploadMultipleDocuments(User user, List<MultipartFile> files, Document.DocumentType documentType) {
-        return files.stream()
-                .filter(file -> !file.isEmpty())
-                .map(file -> uploadDocument(user, file, documentType))
-                .toList();
+        return uploadDocuments(user, files.stream()
+                .map(file -> new DocumentUpload(file, documentType))
+                .toList());
     }
 
     /**
@@ -69,16 +153,73 @@ public class DocumentService {
         if (files.size() != types.size()) {
             throw new IllegalArgumentException("Number of files must match number of types");
         }
-        
-        List<Document> documents = new ArrayList<>();
+
+        List<DocumentUpload> uploads = new ArrayList<>();
         for (int i = 0; i < files.size(); i++) {
-            MultipartFile file = files.get(i);
-            if (!file.isEmpty()) {
-                Document.DocumentType type = types.get(i);
-                documents.add(uploadDocument(user, file, type));
-            }
+            uploads.add(new DocumentUpload(files.get(i), types.get(i)));
+        }
+        return uploadDocuments(user, uploads);
+    }
+
+    private Document store(User user, DocumentUpload upload) {
+        MultipartFile file = upload.file();
+        String fileName = generateFileName(file.getOriginalFilename());
+        // Identical content is stored once and shared between documents, except identity documents
+        ObjectStore.StoredObject object = RESTRICTED_TYPES.contains(upload.documentType())
+                ? storeRestricted(user, file, fileName)
+                : blobStore.store(file);
+
+        Document document = new Document();
+        document.setUser(user);
+        document.setDocumentType(upload.documentType());
+        document.setFileName(fileName);
+        document.setFileUrl(object.url());
+        document.setFileSize(object.size());
+        document.setContentHash(object.sha256());
+        document.setMimeType(file.getContentType());
+        document.setUploadedAt(LocalDateTime.now());
+        document.setIsVerified(false);
+        return document;
+    }
+
+    private ObjectStore.StoredObject storeRestricted(User user, MultipartFile file, String fileName) {
+        try (InputStream in = file.getInputStream()) {
+            return objectStore.put("private/" + user.getId() + "/" + fileName, in, file.getContentType());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Restricted files have no blob row, so releasing them deletes the file
+    private void releaseAll(List<Document> documents) {
+        documents.forEach(document -> blobStore.release(document.getContentHash(), document.getFileUrl()));
+    }
+
+    /**
+     * URL clients fetch a document's file from: the stored file itself, or the owner-checked
+     * download endpoint for identity documents
+     */
+    public String getFileUrl(Document document) {
+        if (RESTRICTED_TYPES.contains(document.getDocumentType())) {
+            return contextPath + "/documents/" + document.getId() + "/content";
+        }
+        return document.getFileUrl();
+    }
+
+    /**
+     * Open a document's file for its owner or an admin
+     */
+    public DocumentContent openDocument(Long userId, User.UserRole role, Long documentId) {
+        Document document = documentRepository.findById(documentId)
+                .orElseThrow(() -> new BusinessException("Document not found", "NOT_FOUND", HttpStatus.NOT_FOUND));
+        if (role != User.UserRole.ADMIN && !userId.equals(document.getUser().getId())) {
+            throw new BusinessException("You can only access your own documents", "FORBIDDEN", HttpStatus.FORBIDDEN);
+        }
+        try {
+            return new DocumentContent(document, objectStore.open(document.getFileUrl()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return documents;
     }
 
     /**
@@ -122,8 +263,8 @@ public class DocumentService {
     public void deleteDocument(Long documentId) {
         Optional<Document> document = documentRepository.findById(documentId);
         if (document.isPresent()) {
-            // Delete from S3 (implement in S3Service)
-            s3Service.deleteFile(document.get().getFileUrl());
+            imageVariantService.releaseVariants(documentId);
+            blobStore.release(document.get().getContentHash(), document.get().getFileUrl());
             documentRepository.deleteById(documentId);
         }
     }
@@ -144,13 +285,9 @@ public class DocumentService {
     }
 
     /**
-     * Generate unique filename
+     * Generate unique filename, keeping the extension only if it is whitelisted
      */
     private String generateFileName(String originalFilename) {
-        String extension = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-        }
-        return UUID.randomUUID().toString() + extension;
+        return UUID.randomUUID().toString() + FileExtensions.of(originalFilename);
     }
 }
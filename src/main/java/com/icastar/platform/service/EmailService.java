@@ -1,153 +1,128 @@
 package com.icastar.platform.service;
 
 import com.icastar.platform.entity.CommunicationLog;
+import com.icastar.platform.service.CommunicationLogService.QueuedCommunication;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Queues outbound emails in the communication_logs outbox; {@link CommunicationDispatcher}
+ * sends them after the surrounding transaction commits.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
 
-    private final JavaMailSender mailSender;
     private final CommunicationLogService communicationLogService;
-
-    @Value("${spring.mail.username}")
-    private String fromEmail;
+    private final CommunicationDispatcher communicationDispatcher;
 
     @Transactional
     public void sendOtpEmail(String toEmail, String otp) {
-        CommunicationLog logEntry = null;
-        try {
-            // Create communication log
-            String messageText = "Your OTP for iCastar verification is: " + otp + 
-                               "\n\nThis OTP is valid for 5 minutes." +
-                               "\n\nIf you didn't request this OTP, please ignore this email." +
-                               "\n\nBest regards,\nThe iCastar Team";
-            
-            logEntry = communicationLogService.createLog(
-                CommunicationLog.CommunicationType.EMAIL,
-                toEmail,
-                null,
-                "iCastar - OTP Verification",
-                messageText,
-                "OTP_VERIFICATION",
-                null,
-                "{\"otp\":\"" + otp + "\",\"type\":\"verification\"}"
-            );
-
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(toEmail);
-            message.setSubject("iCastar - OTP Verification");
-            message.setText(messageText);
+        String messageText = "Your OTP for iCastar verification is: " + otp + 
+                           "\n\nThis OTP is valid for 5 minutes." +
+                           "\n\nIf you didn't request this OTP, please ignore this email." +
+                           "\n\nBest regards,\nThe iCastar Team";
 
-            mailSender.send(message);
-            
-            // Mark as sent
-            communicationLogService.markAsSent(logEntry.getId(), null);
-            log.info("OTP email sent successfully to: {}", toEmail);
-            
-        } catch (Exception e) {
-            log.error("Failed to send OTP email to: {}", toEmail, e);
-            if (logEntry != null) {
-                communicationLogService.markAsFailed(logEntry.getId(), e.getMessage());
-            }
-            // In production, you might want to throw an exception or handle this differently
-        }
+        enqueue(toEmail, "iCastar - OTP Verification", messageText, "OTP_VERIFICATION",
+                "{\"otp\":\"" + otp + "\",\"type\":\"verification\"}");
+        log.info("OTP email queued for: {}", toEmail);
     }
 
     @Transactional
     public void sendWelcomeEmail(String toEmail, String firstName) {
-        CommunicationLog logEntry = null;
-        try {
-            // Create communication log
-            String messageText = "Dear " + firstName + ",\n\n" +
-                               "Welcome to iCastar - your gateway to the entertainment industry!\n\n" +
-                               "Your account has been successfully created. You can now:\n" +
-                               "- Create your professional profile\n" +
-                               "- Browse and apply for jobs\n" +
-                               "- Connect with recruiters\n" +
-                               "- Showcase your talent\n\n" +
-                               "If you have any questions, feel free to contact our support team.\n\n" +
-                               "Best regards,\nThe iCastar Team";
-            
-            logEntry = communicationLogService.createLog(
-                CommunicationLog.CommunicationType.EMAIL,
-                toEmail,
-                null,
-                "Welcome to iCastar!",
-                messageText,
-                "WELCOME_EMAIL",
-                null,
-                "{\"firstName\":\"" + firstName + "\",\"type\":\"welcome\"}"
-            );
+        String messageText = "Dear " + firstName + ",\n\n" +
+                           "Welcome to iCastar - your gateway to the entertainment industry!\n\n" +
+                           "Your account has been successfully created. You can now:\n" +
+                           "- Create your professional profile\n" +
+                           "- Browse and apply for jobs\n" +
+                           "- Connect with recruiters\n" +
+                           "- Showcase your talent\n\n" +
+                           "If you have any questions, feel free to contact our support team.\n\n" +
+                           "Best regards,\nThe iCastar Team";
 
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(toEmail);
-            message.setSubject("Welcome to iCastar!");
-            message.setText(messageText);
-
-            mailSender.send(message);
-            
-            // Mark as sent
-            communicationLogService.markAsSent(logEntry.getId(), null);
-            log.info("Welcome email sent successfully to: {}", toEmail);
-            
-        } catch (Exception e) {
-            log.error("Failed to send welcome email to: {}", toEmail, e);
-            if (logEntry != null) {
-                communicationLogService.markAsFailed(logEntry.getId(), e.getMessage());
-            }
-        }
+        enqueue(toEmail, "Welcome to iCastar!", messageText, "WELCOME_EMAIL",
+                "{\"firstName\":\"" + firstName + "\",\"type\":\"welcome\"}");
+        log.info("Welcome email queued for: {}", toEmail);
     }
 
     @Transactional
     public void sendJobAlertEmail(String toEmail, String artistName, String jobTitle, String companyName) {
-        CommunicationLog logEntry = null;
-        try {
-            // Create communication log
-            String messageText = "Dear " + artistName + ",\n\n" +
-                               "A new job opportunity that matches your profile has been posted:\n\n" +
-                               "Job Title: " + jobTitle + "\n" +
-                               "Company: " + companyName + "\n\n" +
-                               "Log in to your iCastar account to view details and apply.\n\n" +
-                               "Best regards,\nThe iCastar Team";
-            
-            logEntry = communicationLogService.createLog(
-                CommunicationLog.CommunicationType.EMAIL,
-                toEmail,
-                null,
-                "New Job Alert - " + jobTitle,
-                messageText,
-                "JOB_ALERT",
-                null,
-                "{\"artistName\":\"" + artistName + "\",\"jobTitle\":\"" + jobTitle + "\",\"companyName\":\"" + companyName + "\",\"type\":\"job_alert\"}"
-            );
+        String messageText = "Dear " + artistName + ",\n\n" +
+                           "A new job opportunity that matches your profile has been posted:\n\n" +
+                           "Job Title: " + jobTitle + "\n" +
+                           "Company: " + companyName + "\n\n" +
+                           "Log in to your iCastar account to view details and apply.\n\n" +
+                           "Best regards,\nThe iCastar Team";
 
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(toEmail);
-            message.setSubject("New Job Alert - " + jobTitle);
-            message.setText(messageText);
+        enqueue(toEmail, "New Job Alert - " + jobTitle, messageText, "JOB_ALERT",
+                "{\"artistName\":\"" + artistName + "\",\"jobTitle\":\"" + jobTitle + "\",\"companyName\":\"" + companyName + "\",\"type\":\"job_alert\"}");
+        log.info("Job alert email queued for: {}", toEmail);
+    }
 
-            mailSender.send(message);
-            
-            // Mark as sent
-            communicationLogService.markAsSent(logEntry.getId(), null);
-            log.info("Job alert email sent successfully to: {}", toEmail);
-            
-        } catch (Exception e) {
-            log.error("Failed to send job alert email to: {}", toEmail, e);
-            if (logEntry != null) {
-                communicationLogService.markAsFailed(logEntry.getId(), e.getMessage());
+    /**
+     * Queue one email per digest that has an email address, in one batch
+     */
+    @Transactional
+    public void queueJobAlertDigests(List<JobAlertDigest> digests) {
+        List<QueuedCommunication> emails = new ArrayList<>();
+        for (JobAlertDigest digest : digests) {
+            if (digest.email() == null || digest.jobs().isEmpty()) {
+                continue;
+            }
+            StringBuilder messageText = new StringBuilder("Dear ")
+                    .append(digest.firstName() != null ? digest.firstName() : "there").append(",\n\n")
+                    .append(digest.jobs().size() == 1 ? "A new job matches" : digest.jobs().size() + " new jobs match")
+                    .append(" your saved searches:\n\n");
+            for (JobAlertDigest.Entry job : digest.jobs()) {
+                messageText.append("- ").append(job.title());
+                if (job.companyName() != null) {
+                    messageText.append(" at ").append(job.companyName());
+                }
+                if (job.location() != null) {
+                    messageText.append(" (").append(job.location()).append(")");
+                }
+                messageText.append("\n");
             }
+            messageText.append("\nLog in to your iCastar account to view details and apply.\n\n")
+                    .append("Best regards,\nThe iCastar Team");
+
+            String subject = digest.jobs().size() == 1
+                    ? "New Job Alert - " + digest.jobs().get(0).title()
+                    : "New Job Alert - " + digest.jobs().size() + " new jobs for you";
+            emails.add(new QueuedCommunication(CommunicationLog.CommunicationType.EMAIL, digest.email(), null,
+                    subject, messageText.toString(), "JOB_ALERT_DIGEST", digest.userId(), jobIdsMetadata(digest)));
+        }
+        if (!emails.isEmpty()) {
+            communicationLogService.createLogs(emails);
+            communicationDispatcher.requestDrain();
+            log.info("{} job alert digest emails queued", emails.size());
         }
     }
+
+    static String jobIdsMetadata(JobAlertDigest digest) {
+        return digest.jobs().stream()
+                .map(job -> String.valueOf(job.jobId()))
+                .collect(Collectors.joining(",", "{\"type\":\"job_alert_digest\",\"jobIds\":[", "]}"));
+    }
+
+    private void enqueue(String toEmail, String subject, String messageText, String templateName, String metadata) {
+        communicationLogService.createLog(
+            CommunicationLog.CommunicationType.EMAIL,
+            toEmail,
+            null,
+            subject,
+            messageText,
+            templateName,
+            null,
+            metadata
+        );
+        communicationDispatcher.requestDrain();
+    }
 }
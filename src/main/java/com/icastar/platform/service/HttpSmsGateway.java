@@ -0,0 +1,63 @@
+package com.icastar.platform.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Posts {"to": ..., "message": ...} as JSON to a configured endpoint and treats any 2xx as sent
+ */
+@Component
+@ConditionalOnProperty(name = "icastar.sms.provider", havingValue = "http")
+@RequiredArgsConstructor
+@Slf4j
+public class HttpSmsGateway implements SmsGateway {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${icastar.sms.http.url}")
+    private String url;
+
+    @Value("${icastar.sms.http.timeout-ms:5000}")
+    private long timeoutMs;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Override
+    public String send(String mobile, String message) {
+        try {
+            String body = objectMapper.writeValueAsString(Map.of("to", mobile, "message", message));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofMillis(timeoutMs))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("SMS gateway returned HTTP " + response.statusCode());
+            }
+            return response.headers().firstValue("X-Message-Id").orElse(null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode SMS request", e);
+        } catch (IOException e) {
+            throw new IllegalStateException("SMS gateway unreachable: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending SMS", e);
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.Document;
+import com.icastar.platform.entity.DocumentVariant;
+import com.icastar.platform.repository.DocumentRepository;
+import com.icastar.platform.repository.DocumentVariantRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Generates resized JPEG variants of profile images with ImageIO, off the request path.
+ *
+ * Uploads enqueue their image documents once the rows are committed; a small worker pool
+ * decodes each original from the ObjectStore, scales it down to every configured width that
+ * is smaller than the original and stores the results through the BlobStore. Jobs that did
+ * not fit in the queue, or were lost in a restart, are picked up by a scheduled sweep over
+ * documents with no variants_processed_at. A document whose original cannot be read backs off
+ * exponentially and is marked processed without variants after max-attempts failures, so
+ * unreachable legacy files do not hold the sweep back. List pages ask for the smallest
+ * variant that is at least icastar.file.image-variants.list-width wide.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageVariantService {
+
+    private static final Set<Document.DocumentType> IMAGE_TYPES = EnumSet.of(
+            Document.DocumentType.PROFILE_ID, Document.DocumentType.PROFILE_FRONT,
+            Document.DocumentType.PROFILE_LEFT, Document.DocumentType.PROFILE_RIGHT,
+            Document.DocumentType.HEADSHOT, Document.DocumentType.PORTFOLIO_IMAGE);
+
+    // Photo shown on artist cards, in order of preference
+    private static final List<Document.DocumentType> LIST_PHOTO_TYPES = List.of(
+            Document.DocumentType.PROFILE_FRONT, Document.DocumentType.PROFILE_ID, Document.DocumentType.HEADSHOT);
+
+    private final DocumentRepository documentRepository;
+    private final DocumentVariantRepository documentVariantRepository;
+    private final ObjectStore objectStore;
+    private final BlobStore blobStore;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${icastar.file.image-variants.widths:160,480,1080}")
+    private List<Integer> widths;
+
+    @Value("${icastar.file.image-variants.quality:0.8}")
+    private float quality;
+
+    @Value("${icastar.file.image-variants.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Value("${icastar.file.image-variants.list-width:160}")
+    private int listWidth;
+
+    @Value("${icastar.file.image-variants.workers:2}")
+    private int workers;
+
+    @Value("${icastar.file.image-variants.queue-size:200}")
+    private int queueSize;
+
+    @Value("${icastar.file.image-variants.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${icastar.file.image-variants.retry-backoff-minutes:5}")
+    private long retryBackoffMinutes;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        widths = widths.stream().filter(width -> width > 0).distinct().sorted().toList();
+        AtomicInteger counter = new AtomicInteger();
+        // Full queue rejects instead of running on the caller: the sweep picks the document up later
+        executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Queue variant generation for the image documents among the given ones; inside a
+     * transaction the jobs start once the documents are committed
+     */
+    public void enqueue(List<Document> documents) {
+        List<Long> documentIds = documents.stream()
+                .filter(document -> IMAGE_TYPES.contains(document.getDocumentType()))
+                .map(Document::getId)
+                .toList();
+        if (documentIds.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    documentIds.forEach(ImageVariantService.this::submit);
+                }
+            });
+        } else {
+            documentIds.forEach(this::submit);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${icastar.file.image-variants.sweep-interval-ms:300000}")
+    public void sweep() {
+        // Leave a minute for the after-commit jobs of fresh uploads
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> documentIds = documentRepository.findIdsAwaitingVariants(IMAGE_TYPES,
+                now.minusMinutes(1), now, PageRequest.of(0, queueSize));
+        documentIds.forEach(this::submit);
+    }
+
+    /**
+     * Variants of several documents, smallest first
+     */
+    public Map<Long, List<DocumentVariant>> variantsByDocument(Collection<Long> documentIds) {
+        if (documentIds.isEmpty()) {
+            return Map.of();
+        }
+        return documentVariantRepository.findByDocumentIds(documentIds).stream()
+                .collect(Collectors.groupingBy(variant -> variant.getDocument().getId()));
+    }
+
+    /**
+     * URL of the photo to show on each user's list card, served as the smallest variant that is
+     * at least list-width wide and as the original when no such variant exists (yet)
+     */
+    public Map<Long, String> listPhotoUrls(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        // Newest first, so the first document of the most preferred type wins
+        Map<Long, Document> photos = new HashMap<>();
+        for (Document document : documentRepository.findByUserIdInAndDocumentTypeIn(userIds, LIST_PHOTO_TYPES)) {
+            photos.merge(document.getUser().getId(), document, (current, candidate) ->
+                    LIST_PHOTO_TYPES.indexOf(candidate.getDocumentType()) < LIST_PHOTO_TYPES.indexOf(current.getDocumentType())
+                            ? candidate : current);
+        }
+        Map<Long, List<DocumentVariant>> variants = variantsByDocument(
+                photos.values().stream().map(Document::getId).toList());
+
+        Map<Long, String> urls = new HashMap<>();
+        photos.forEach((userId, document) -> urls.put(userId, variants.getOrDefault(document.getId(), List.of()).stream()
+                .filter(variant -> variant.getWidth() >= listWidth)
+                .findFirst()
+                .map(DocumentVariant::getFileUrl)
+                .orElse(document.getFileUrl())));
+        return urls;
+    }
+
+    /**
+     * Release the blobs of a document's variants before the document is deleted
+     */
+    public void releaseVariants(Long documentId) {
+        documentVariantRepository.findByDocumentId(documentId)
+                .forEach(variant -> blobStore.release(variant.getContentHash(), variant.getFileUrl()));
+    }
+
+    private void submit(Long documentId) {
+        if (!inFlight.add(documentId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(documentId);
+                } finally {
+                    inFlight.remove(documentId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(documentId);
+            log.debug("Image variant queue full, document {} left for the sweep", documentId);
+        }
+    }
+
+    private void process(Long documentId) {
+        Document document = documentRepository.findById(documentId).orElse(null);
+        if (document == null || document.getVariantsProcessedAt() != null
+                || documentVariantRepository.existsByDocumentId(documentId)) {
+            return;
+        }
+
+        List<DocumentVariant> variants;
+        try {
+            variants = generate(document);
+        } catch (IOException e) {
+            recordFailure(document, e);
+            return;
+        }
+
+        Boolean saved = transactionTemplate.execute(status -> {
+            if (documentRepository.markVariantsProcessed(documentId, LocalDateTime.now()) == 0) {
+                return false;
+            }
+            documentVariantRepository.saveAll(variants);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(saved)) {
+            // The document was deleted meanwhile
+            variants.forEach(variant -> blobStore.release(variant.getContentHash(), variant.getFileUrl()));
+            return;
+        }
+        log.debug("Generated {} image variants for document {}", variants.size(), documentId);
+    }
+
+    // Storage trouble: retry later with a doubling delay, and give up once max-attempts is reached
+    private void recordFailure(Document document, IOException e) {
+        int attempts = document.getVariantAttempts() + 1;
+        LocalDateTime now = LocalDateTime.now();
+        if (attempts >= maxAttempts) {
+            log.warn("Giving up on image variants for document {} after {} attempts: {}",
+                    document.getId(), attempts, e.getMessage());
+            transactionTemplate.execute(status -> documentRepository.markVariantsProcessed(document.getId(), now));
+            return;
+        }
+        LocalDateTime retryAt = now.plusMinutes(retryBackoffMinutes << Math.min(attempts - 1, 20));
+        log.warn("Could not generate image variants for document {} (attempt {}), retrying after {}: {}",
+                document.getId(), attempts, retryAt, e.getMessage());
+        transactionTemplate.execute(status -> documentRepository.recordVariantFailure(document.getId(), retryAt));
+    }
+
+    private List<DocumentVariant> generate(Document document) throws IOException {
+        BufferedImage source = read(document);
+        if (source == null) {
+            return List.of();
+        }
+
+        List<DocumentVariant> variants = new ArrayList<>();
+        try {
+            for (int width : widths) {
+                if (width >= source.getWidth()) {
+                    break;
+                }
+                int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+                byte[] jpeg = encodeJpeg(scale(source, width, height));
+                ObjectStore.StoredObject object = blobStore.store(jpeg, width + ".jpg", "image/jpeg");
+
+                DocumentVariant variant = new DocumentVariant();
+                variant.setDocument(document);
+                variant.setWidth(width);
+                variant.setHeight(height);
+                variant.setFileUrl(object.url());
+                variant.setFileSize(object.size());
+                variant.setMimeType("image/jpeg");
+                variant.setContentHash(object.sha256());
+                variants.add(variant);
+            }
+        } catch (IOException | RuntimeException e) {
+            variants.forEach(variant -> blobStore.release(variant.getContentHash(), variant.getFileUrl()));
+            throw e;
+        }
+        return variants;
+    }
+
+    /**
+     * Decode the original, or return null when it is not a readable image or too large to
+     * decode safely; such documents are marked processed with no variants
+     */
+    private BufferedImage read(Document document) throws IOException {
+        try (InputStream content = objectStore.open(document.getFileUrl());
+             ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                log.debug("Document {} is not a readable image", document.getId());
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // Check the header before decoding so a huge image cannot exhaust the heap
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    log.warn("Document {} is too large for image variants ({}x{})", document.getId(),
+                            reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                return reader.read(0);
+            } catch (IIOException | RuntimeException e) {
+                // Corrupt or unsupported image data; plain I/O errors from the store propagate
+                log.debug("Document {} could not be decoded: {}", document.getId(), e.getMessage());
+                return null;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Halve in steps before the final resize; a single bilinear pass over a large ratio drops detail
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                // JPEG has no alpha channel; transparent areas become white
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, currentWidth, currentHeight);
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,199 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.Otp;
+import com.icastar.platform.repository.OtpRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps OTPs in process so sends and verifies do not touch the database.
+ *
+ * Each mobile/email pair has at most one live entry. Attempts are counted with an atomic
+ * counter per entry, so maxAttempts holds under concurrent verifies without a row lock, and
+ * a successful verify removes the entry so a code can only be used once. Expired entries
+ * are dropped by a hashed timing wheel: every entry sits in the bucket of its expiry tick
+ * and a single ticker sweeps one bucket per tick, so expiry costs O(1) per entry instead of
+ * a scan of the whole map.
+ *
+ * With icastar.otp.audit enabled every issue and final outcome is also written to the otps
+ * table (with the code masked); the scheduled OTP cleanup purges those rows as usual.
+ * Entries are lost on restart and are not shared between instances, so this store suits a
+ * single instance or sticky routing of the verify call.
+ */
+@Component
+@ConditionalOnProperty(name = "icastar.otp.store", havingValue = "memory")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryOtpStore implements OtpStore {
+
+    private static final int WHEEL_SIZE = 512;
+    private static final long TICK_MILLIS = 1000;
+
+    private final OtpRepository otpRepository;
+
+    @Value("${icastar.otp.audit:false}")
+    private boolean audit;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    @SuppressWarnings("unchecked")
+    private final Queue<Entry>[] wheel = new Queue[WHEEL_SIZE];
+    private volatile long currentTick;
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    void start() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        currentTick = tickOf(System.currentTimeMillis());
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "otp-expiry-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdownNow();
+    }
+
+    @Override
+    public void issue(String mobile, String email, Otp.OtpType otpType, String otpCode, LocalDateTime expiresAt,
+                      int maxAttempts) {
+        Long auditId = null;
+        if (audit) {
+            otpRepository.expirePending(mobile, email, LocalDateTime.now());
+            auditId = otpRepository.save(auditRow(mobile, email, otpType, otpCode, expiresAt, maxAttempts)).getId();
+        }
+        long expiresAtMillis = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Entry entry = new Entry(key(mobile, email), otpType, otpCode, expiresAtMillis, maxAttempts, auditId);
+        entries.put(entry.key, entry);
+        // Never schedule into a bucket the ticker has already passed
+        long tick = Math.max(tickOf(expiresAtMillis), currentTick + 1);
+        entry.deadlineTick = tick;
+        wheel[(int) (tick & (WHEEL_SIZE - 1))].add(entry);
+    }
+
+    @Override
+    public VerifyResult verify(String mobile, String email, Otp.OtpType otpType, String otpCode) {
+        Entry entry = entries.get(key(mobile, email));
+        if (entry == null || entry.otpType != otpType) {
+            return VerifyResult.NOT_FOUND;
+        }
+        if (System.currentTimeMillis() > entry.expiresAtMillis) {
+            finish(entry, Otp.OtpStatus.EXPIRED);
+            return VerifyResult.EXPIRED;
+        }
+        if (entry.attempts.incrementAndGet() > entry.maxAttempts) {
+            finish(entry, Otp.OtpStatus.FAILED);
+            return VerifyResult.ATTEMPTS_EXCEEDED;
+        }
+        if (!MessageDigest.isEqual(entry.otpCode.getBytes(StandardCharsets.UTF_8),
+                String.valueOf(otpCode).getBytes(StandardCharsets.UTF_8))) {
+            return VerifyResult.INVALID;
+        }
+        // Only one of several concurrent verifies with the right code wins the removal
+        return finish(entry, Otp.OtpStatus.VERIFIED) ? VerifyResult.VERIFIED : VerifyResult.NOT_FOUND;
+    }
+
+    private boolean finish(Entry entry, Otp.OtpStatus status) {
+        if (!entries.remove(entry.key, entry)) {
+            return false;
+        }
+        if (entry.auditId != null) {
+            LocalDateTime now = LocalDateTime.now();
+            otpRepository.recordOutcome(entry.auditId, status, Math.min(entry.attempts.get(), entry.maxAttempts),
+                    status == Otp.OtpStatus.VERIFIED ? now : null, now);
+        }
+        return true;
+    }
+
+    private void advance() {
+        advance(System.currentTimeMillis());
+    }
+
+    // Sweep every bucket up to the given time; package-private so tests can drive the wheel
+    void advance(long nowMillis) {
+        try {
+            long nowTick = tickOf(nowMillis);
+            while (currentTick < nowTick) {
+                long tick = ++currentTick;
+                Iterator<Entry> bucket = wheel[(int) (tick & (WHEEL_SIZE - 1))].iterator();
+                while (bucket.hasNext()) {
+                    Entry entry = bucket.next();
+                    // Entries further away than one revolution stay for a later pass
+                    if (entry.deadlineTick <= tick) {
+                        bucket.remove();
+                        entries.remove(entry.key, entry);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("OTP expiry sweep failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private Otp auditRow(String mobile, String email, Otp.OtpType otpType, String otpCode, LocalDateTime expiresAt,
+                         int maxAttempts) {
+        Otp otp = new Otp();
+        otp.setMobile(mobile);
+        otp.setEmail(email);
+        otp.setOtpCode("*".repeat(Math.min(otpCode.length(), 10)));
+        otp.setOtpType(otpType);
+        otp.setExpiresAt(expiresAt);
+        otp.setStatus(Otp.OtpStatus.PENDING);
+        otp.setAttempts(0);
+        otp.setMaxAttempts(maxAttempts);
+        return otp;
+    }
+
+    private static long tickOf(long millis) {
+        return millis / TICK_MILLIS;
+    }
+
+    private static String key(String mobile, String email) {
+        return mobile + "|" + (email != null ? email : "");
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final Otp.OtpType otpType;
+        private final String otpCode;
+        private final long expiresAtMillis;
+        private final int maxAttempts;
+        private final Long auditId;
+        private final AtomicInteger attempts = new AtomicInteger();
+        private volatile long deadlineTick;
+
+        private Entry(String key, Otp.OtpType otpType, String otpCode, long expiresAtMillis, int maxAttempts,
+                      Long auditId) {
+            this.key = key;
+            this.otpType = otpType;
+            this.otpCode = otpCode;
+            this.expiresAtMillis = expiresAtMillis;
+            this.maxAttempts = maxAttempts;
+            this.auditId = auditId;
+        }
+    }
+}
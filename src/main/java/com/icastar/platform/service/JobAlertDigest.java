@@ -0,0 +1,13 @@
+package com.icastar.platform.service;
+
+import java.util.List;
+
+/**
+ * New jobs matching a user's saved searches, collected into one message per channel.
+ * email and sms are null when the user's searches do not alert on that channel.
+ */
+public record JobAlertDigest(Long userId, String firstName, String email, String mobile, List<Entry> jobs) {
+
+    public record Entry(Long jobId, String title, String companyName, String location) {
+    }
+}
@@ -0,0 +1,404 @@
+package com.icastar.platform.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icastar.platform.entity.Job;
+import com.icastar.platform.entity.SavedSearch;
+import com.icastar.platform.event.JobPostedEvent;
+import com.icastar.platform.repository.JobAlertRepository;
+import com.icastar.platform.repository.JobRepository;
+import com.icastar.platform.repository.SavedSearchRepository;
+import com.icastar.platform.search.SavedSearchIndex;
+import com.icastar.platform.search.SearchTokenizer;
+import com.icastar.platform.util.AttributeValues;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Job alerts for saved searches.
+ *
+ * Alerting saved searches are kept in a {@link SavedSearchIndex}, loaded on first use and
+ * refreshed by updated_at like the job search index. When a job is posted, a worker matches
+ * it against the index once the job is committed and stores one job_alerts row per matched
+ * user, due with the next dispatch for IMMEDIATE searches and at the next digest hour for
+ * DAILY ones. The dispatcher claims due alerts grouped by user and queues one email and SMS
+ * digest per user in the communication_logs outbox.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobAlertService {
+
+    private static final long REFRESH_OVERLAP_SECONDS = 5;
+
+    private static final String INSERT_SQL = "INSERT INTO job_alerts (user_id, job_id, saved_search_id, due_at, " +
+            "is_active, created_at, updated_at) VALUES (?, ?, ?, ?, TRUE, ?, ?)";
+
+    // Claimed alerts with everything the digest needs; the channels come from the search that matched
+    private static final String DIGEST_SQL = "SELECT a.id, a.user_id, u.email, u.mobile, u.status AS user_status, " +
+            "ap.first_name, j.id AS job_id, j.title, j.location, j.status AS job_status, rp.company_name, " +
+            "s.email_alerts, s.sms_alerts " +
+            "FROM job_alerts a " +
+            "JOIN users u ON u.id = a.user_id " +
+            "JOIN jobs j ON j.id = a.job_id " +
+            "JOIN saved_searches s ON s.id = a.saved_search_id " +
+            "LEFT JOIN artist_profiles ap ON ap.user_id = a.user_id " +
+            "LEFT JOIN recruiter_profiles rp ON rp.user_id = j.recruiter_id " +
+            "WHERE a.id IN (%s) AND s.is_active = TRUE AND s.alert_frequency <> 'OFF' " +
+            "ORDER BY a.user_id, a.id";
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final JobAlertRepository jobAlertRepository;
+    private final JobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final EmailService emailService;
+    private final SmsService smsService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${icastar.job-alerts.workers:2}")
+    private int workers;
+
+    @Value("${icastar.job-alerts.queue-size:1000}")
+    private int queueSize;
+
+    @Value("${icastar.job-alerts.load-batch-size:1000}")
+    private int loadBatchSize;
+
+    @Value("${icastar.job-alerts.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${icastar.job-alerts.daily-digest-hour:9}")
+    private int dailyDigestHour;
+
+    @Value("${icastar.job-alerts.retention-days:30}")
+    private int retentionDays;
+
+    private final SavedSearchIndex index = new SavedSearchIndex();
+    private volatile LocalDateTime lastRefreshAt;
+    private ThreadPoolExecutor matchExecutor;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger counter = new AtomicInteger();
+        matchExecutor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "job-alert-match-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        matchExecutor.shutdown();
+        matchExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPosted(JobPostedEvent event) {
+        matchExecutor.execute(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> matchJob(event.jobId()));
+            } catch (RuntimeException e) {
+                log.error("Job alert matching for job {} failed: {}", event.jobId(), e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Reflect a saved search in the index once the surrounding transaction commits
+     */
+    public void onSavedSearchChanged(SavedSearch savedSearch) {
+        Long id = savedSearch.getId();
+        SavedSearchIndex.Subscription subscription = toSubscription(savedSearch);
+        Runnable update = () -> {
+            if (subscription != null) {
+                index.put(subscription);
+            } else {
+                index.remove(id);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    /**
+     * Refresh the index - full load on first run, delta by updated_at afterwards
+     */
+    @Scheduled(fixedDelayString = "${icastar.job-alerts.refresh-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public synchronized void refreshIndex() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (lastRefreshAt == null) {
+            loadAll();
+        } else {
+            List<SavedSearch> changed = savedSearchRepository.findByUpdatedAtAfter(lastRefreshAt.minusSeconds(REFRESH_OVERLAP_SECONDS));
+            changed.forEach(this::apply);
+            if (!changed.isEmpty()) {
+                log.debug("Refreshed {} saved searches in alert index", changed.size());
+            }
+        }
+        lastRefreshAt = startedAt;
+    }
+
+    public int getIndexSize() {
+        return index.size();
+    }
+
+    /**
+     * Queue digests for every due alert, a batch of users per transaction
+     */
+    @Scheduled(fixedDelayString = "${icastar.job-alerts.dispatch-interval-ms:60000}")
+    public void dispatchDueAlerts() {
+        int claimed;
+        do {
+            Integer result = transactionTemplate.execute(status -> dispatchBatch());
+            claimed = result != null ? result : 0;
+        } while (claimed > 0);
+
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        Integer purged = transactionTemplate.execute(status -> jobAlertRepository.deleteSentBefore(before));
+        if (purged != null && purged > 0) {
+            log.debug("Purged {} sent job alerts", purged);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (lastRefreshAt == null) {
+            refreshIndex();
+        }
+    }
+
+    private void loadAll() {
+        index.clear();
+        long lastId = 0L;
+        List<SavedSearch> batch;
+        do {
+            batch = savedSearchRepository.findAlertingAfterId(lastId, PageRequest.of(0, loadBatchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            batch.forEach(this::apply);
+            lastId = batch.get(batch.size() - 1).getId();
+        } while (batch.size() == loadBatchSize);
+        log.info("Job alert index loaded with {} saved searches", index.size());
+    }
+
+    private void apply(SavedSearch savedSearch) {
+        SavedSearchIndex.Subscription subscription = toSubscription(savedSearch);
+        if (subscription != null) {
+            index.put(subscription);
+        } else {
+            index.remove(savedSearch.getId());
+        }
+    }
+
+    // Null for searches that do not alert
+    private SavedSearchIndex.Subscription toSubscription(SavedSearch savedSearch) {
+        if (!Boolean.TRUE.equals(savedSearch.getIsActive())
+                || savedSearch.getAlertFrequency() == SavedSearch.AlertFrequency.OFF
+                || (!Boolean.TRUE.equals(savedSearch.getEmailAlerts()) && !Boolean.TRUE.equals(savedSearch.getSmsAlerts()))) {
+            return null;
+        }
+        return SavedSearchIndex.Subscription.builder()
+                .id(savedSearch.getId())
+                .userId(savedSearch.getUser().getId())
+                .location(SavedSearchIndex.locationKey(savedSearch.getLocation()))
+                .jobType(savedSearch.getJobType() != null ? savedSearch.getJobType().name() : null)
+                .experienceLevel(savedSearch.getExperienceLevel() != null ? savedSearch.getExperienceLevel().name() : null)
+                .minPay(savedSearch.getMinPay())
+                .maxPay(savedSearch.getMaxPay())
+                .currency(blankToNull(savedSearch.getCurrency()))
+                .isRemote(savedSearch.getIsRemote())
+                .isUrgent(savedSearch.getIsUrgent())
+                .isFeatured(savedSearch.getIsFeatured())
+                .jobTitle(blankToNull(savedSearch.getJobTitle()) != null
+                        ? savedSearch.getJobTitle().trim().toLowerCase(Locale.ROOT) : null)
+                .terms(new HashSet<>(SearchTokenizer.tokenize(savedSearch.getSearchTerm())))
+                .skills(new HashSet<>(AttributeValues.normalize(parseJsonList(savedSearch.getSkills()))))
+                .allSkills("ALL".equalsIgnoreCase(savedSearch.getSkillMatch()))
+                .tags(new HashSet<>(AttributeValues.normalize(parseJsonList(savedSearch.getTags()))))
+                .immediate(savedSearch.getAlertFrequency() == SavedSearch.AlertFrequency.IMMEDIATE)
+                .build();
+    }
+
+    private void matchJob(Long jobId) {
+        Job job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != Job.JobStatus.ACTIVE) {
+            return;
+        }
+        ensureLoaded();
+
+        long start = System.nanoTime();
+        List<SavedSearchIndex.Subscription> matches = index.match(toFacts(job));
+        long matchMicros = (System.nanoTime() - start) / 1_000;
+
+        // One alert per user, from the search that alerts soonest
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime nextDigest = nextDigestAt(now);
+        Map<Long, SavedSearchIndex.Subscription> byUser = new LinkedHashMap<>();
+        for (SavedSearchIndex.Subscription match : matches) {
+            byUser.merge(match.getUserId(), match, (current, candidate) -> candidate.isImmediate() && !current.isImmediate() ? candidate : current);
+        }
+
+        Timestamp createdAt = Timestamp.valueOf(now);
+        List<Object[]> rows = byUser.values().stream()
+                .map(match -> new Object[]{match.getUserId(), jobId, match.getId(),
+                        Timestamp.valueOf(match.isImmediate() ? now : nextDigest), createdAt, createdAt})
+                .collect(Collectors.toList());
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows.subList(from, Math.min(from + batchSize, rows.size())));
+        }
+        log.info("Job {} matched {} saved searches of {} users in {} us", jobId, matches.size(), byUser.size(), matchMicros);
+    }
+
+    private SavedSearchIndex.JobFacts toFacts(Job job) {
+        Set<String> skills = new HashSet<>();
+        Set<String> tags = new HashSet<>();
+        jdbcTemplate.query("SELECT attribute_type, attribute_value FROM job_attributes WHERE job_id = ?", rs -> {
+            ("SKILL".equals(rs.getString("attribute_type")) ? skills : tags).add(rs.getString("attribute_value"));
+        }, job.getId());
+
+        // Search terms are matched against the same text the job search indexes
+        Set<String> terms = new HashSet<>();
+        for (String text : Arrays.asList(job.getTitle(), job.getDescription(), job.getRequirements(),
+                job.getSkillsRequired(), job.getTags(), job.getLocation())) {
+            terms.addAll(SearchTokenizer.tokenize(text));
+        }
+
+        return SavedSearchIndex.JobFacts.builder()
+                .locationKeys(SavedSearchIndex.locationKeys(job.getLocation()))
+                .jobType(job.getJobType() != null ? job.getJobType().name() : null)
+                .experienceLevel(job.getExperienceLevel() != null ? job.getExperienceLevel().name() : null)
+                .budgetMin(job.getBudgetMin())
+                .budgetMax(job.getBudgetMax())
+                .currency(job.getCurrency())
+                .isRemote(job.getIsRemote())
+                .isUrgent(job.getIsUrgent())
+                .isFeatured(job.getIsFeatured())
+                .title(job.getTitle() != null ? job.getTitle().toLowerCase(Locale.ROOT) : null)
+                .terms(terms)
+                .skills(skills)
+                .tags(tags)
+                .build();
+    }
+
+    private LocalDateTime nextDigestAt(LocalDateTime now) {
+        LocalDateTime today = now.toLocalDate().atTime(dailyDigestHour, 0);
+        return now.isBefore(today) ? today : today.plusDays(1);
+    }
+
+    // Returns the number of alerts claimed, 0 when nothing is due
+    private int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = jobAlertRepository.lockDueIds(now, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<DigestRow> rows = jdbcTemplate.query(
+                String.format(DIGEST_SQL, String.join(",", Collections.nCopies(ids.size(), "?"))),
+                (rs, rowNum) -> new DigestRow(rs.getLong("id"), rs.getLong("user_id"), rs.getString("email"),
+                        rs.getString("mobile"), rs.getString("user_status"), rs.getString("first_name"),
+                        rs.getLong("job_id"), rs.getString("title"), rs.getString("location"), rs.getString("job_status"),
+                        rs.getString("company_name"), rs.getBoolean("email_alerts"), rs.getBoolean("sms_alerts")),
+                ids.toArray());
+
+        // A full batch may end part-way through a user's alerts; leave that user for the next batch
+        List<Long> handled = ids;
+        if (ids.size() == batchSize && !rows.isEmpty() && rows.get(0).userId() != rows.get(rows.size() - 1).userId()) {
+            long lastUserId = rows.get(rows.size() - 1).userId();
+            Set<Long> deferred = rows.stream()
+                    .filter(row -> row.userId() == lastUserId)
+                    .map(DigestRow::id)
+                    .collect(Collectors.toSet());
+            rows = rows.stream().filter(row -> row.userId() != lastUserId).collect(Collectors.toList());
+            handled = ids.stream().filter(id -> !deferred.contains(id)).collect(Collectors.toList());
+        }
+
+        List<JobAlertDigest> digests = new ArrayList<>();
+        Map<Long, List<DigestRow>> byUser = rows.stream()
+                .collect(Collectors.groupingBy(DigestRow::userId, LinkedHashMap::new, Collectors.toList()));
+        for (List<DigestRow> userRows : byUser.values()) {
+            DigestRow first = userRows.get(0);
+            // Jobs closed or filled since they matched are left out
+            List<JobAlertDigest.Entry> jobs = userRows.stream()
+                    .filter(row -> Job.JobStatus.ACTIVE.name().equals(row.jobStatus()))
+                    .map(row -> new JobAlertDigest.Entry(row.jobId(), row.title(), row.companyName(), row.location()))
+                    .collect(Collectors.toList());
+            if (jobs.isEmpty() || !"ACTIVE".equals(first.userStatus())) {
+                continue;
+            }
+            boolean email = userRows.stream().anyMatch(DigestRow::emailAlerts);
+            boolean sms = userRows.stream().anyMatch(DigestRow::smsAlerts);
+            digests.add(new JobAlertDigest(first.userId(), first.firstName(), email ? first.email() : null,
+                    sms ? first.mobile() : null, jobs));
+        }
+        emailService.queueJobAlertDigests(digests);
+        smsService.queueJobAlertDigests(digests);
+
+        // Alerts of searches deactivated or switched off since they matched have no row and are dropped with the rest
+        if (!handled.isEmpty()) {
+            jobAlertRepository.markAllAsSent(handled, now);
+        }
+        log.debug("Queued {} job alert digests for {} alerts", digests.size(), handled.size());
+        return handled.size();
+    }
+
+    private record DigestRow(long id, long userId, String email, String mobile, String userStatus, String firstName,
+                             long jobId, String title, String location, String jobStatus, String companyName,
+                             boolean emailAlerts, boolean smsAlerts) {
+    }
+
+    private List<String> parseJsonList(String json) {
+        if (json == null || json.isBlank()) {
+            return Collections.emptyList();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<List<String>>() {});
+        } catch (JsonProcessingException e) {
+            log.warn("Could not parse saved search list: {}", json);
+            return Collections.emptyList();
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
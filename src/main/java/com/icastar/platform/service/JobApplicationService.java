@@ -1,17 +1,23 @@
 package com.icastar.platform.service;
 
+import com.icastar.platform.dto.admin.CursorPageDto;
+import com.icastar.platform.dto.admin.CursorRequestDto;
 import com.icastar.platform.dto.job.CreateJobApplicationDto;
 import com.icastar.platform.dto.job.JobApplicationDto;
 import com.icastar.platform.dto.job.UpdateJobApplicationDto;
 import com.icastar.platform.entity.Job;
 import com.icastar.platform.entity.JobApplication;
 import com.icastar.platform.entity.ArtistProfile;
+import com.icastar.platform.event.ApplicationStatusChangedEvent;
+import com.icastar.platform.event.ArtistApplicationsChangedEvent;
 import com.icastar.platform.repository.JobApplicationRepository;
+import com.icastar.platform.repository.JobApplicationSpecifications;
 import com.icastar.platform.repository.JobRepository;
 import com.icastar.platform.repository.ArtistProfileRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -31,6 +37,10 @@ public class JobApplicationService {
     private final JobRepository jobRepository;
     private final ArtistProfileRepository artistProfileRepository;
     private final JobService jobService;
+    private final RecruiterStatsService recruiterStatsService;
+    private final CounterService counterService;
+    private final KeysetPageService keysetPageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Optional<JobApplication> findById(Long id) {
@@ -96,11 +106,6 @@ public class JobApplicationService {
         return jobApplicationRepository.findApplicationsNeedingReview(recruiterId);
     }
 
-    @Transactional(readOnly = true)
-    public List<JobApplication> findUpcomingInterviews() {
-        return jobApplicationRepository.findUpcomingInterviews(LocalDateTime.now());
-    }
-
     @Transactional(readOnly = true)
     public List<JobApplication> findShortlistedApplications() {
         return jobApplicationRepository.findByIsShortlistedTrue();
@@ -137,9 +142,12 @@ public class JobApplicationService {
         application.setStatus(JobApplication.ApplicationStatus.APPLIED);
 
         JobApplication savedApplication = jobApplicationRepository.save(application);
+        recruiterStatsService.markStale(job.getRecruiter().getId());
 
-        // Increment job applications count
+        // Increment job and artist applications counts
         jobService.incrementApplications(job.getId());
+        counterService.increment(CounterService.Counter.ARTIST_APPLICATIONS, artist.getId());
+        eventPublisher.publishEvent(new ArtistApplicationsChangedEvent(artist.getId()));
 
         log.info("New job application created: {} applied for job {}", artist.getUser().getEmail(), job.getTitle());
         return savedApplication;
@@ -148,6 +156,8 @@ public class JobApplicationService {
     public JobApplication updateApplication(Long applicationId, UpdateJobApplicationDto updateDto) {
         JobApplication application = jobApplicationRepository.findById(applicationId)
                 .orElseThrow(() -> new RuntimeException("Job application not found"));
+        boolean wasHired = isHired(application);
+        JobApplication.ApplicationStatus previousStatus = application.getStatus();
 
         if (updateDto.getStatus() != null) {
             application.setStatus(updateDto.getStatus());
@@ -189,18 +199,9 @@ public class JobApplicationService {
             application.setNotes(updateDto.getNotes());
         }
 
-        return jobApplicationRepository.save(application);
-    }
-
-    public JobApplication scheduleInterview(Long applicationId, LocalDateTime interviewTime, String notes) {
-        JobApplication application = jobApplicationRepository.findById(applicationId)
-                .orElseThrow(() -> new RuntimeException("Job application not found"));
-
-        application.setStatus(JobApplication.ApplicationStatus.INTERVIEW_SCHEDULED);
-        application.setInterviewScheduledAt(interviewTime);
-        application.setInterviewNotes(notes);
-        application.setReviewedAt(LocalDateTime.now());
-
+        recordHireChange(application, wasHired);
+        recruiterStatsService.markStale(application.getJob().getRecruiter().getId());
+        publishStatusChange(application, previousStatus);
         return jobApplicationRepository.save(application);
     }
 
@@ -215,6 +216,7 @@ public class JobApplicationService {
             application.setNotes(notes);
         }
 
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(applicationId, JobApplication.ApplicationStatus.SHORTLISTED));
         return jobApplicationRepository.save(application);
     }
 
@@ -226,6 +228,7 @@ public class JobApplicationService {
         application.setRejectionReason(rejectionReason);
         application.setReviewedAt(LocalDateTime.now());
 
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(applicationId, JobApplication.ApplicationStatus.REJECTED));
         return jobApplicationRepository.save(application);
     }
 
@@ -233,6 +236,7 @@ public class JobApplicationService {
         JobApplication application = jobApplicationRepository.findById(applicationId)
                 .orElseThrow(() -> new RuntimeException("Job application not found"));
 
+        boolean wasHired = isHired(application);
         application.setStatus(JobApplication.ApplicationStatus.HIRED);
         application.setIsHired(true);
         application.setHiredAt(LocalDateTime.now());
@@ -241,6 +245,9 @@ public class JobApplicationService {
             application.setNotes(notes);
         }
 
+        recordHireChange(application, wasHired);
+        recruiterStatsService.markStale(application.getJob().getRecruiter().getId());
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(applicationId, JobApplication.ApplicationStatus.HIRED));
         return jobApplicationRepository.save(application);
     }
 
@@ -250,6 +257,7 @@ public class JobApplicationService {
 
         application.setStatus(JobApplication.ApplicationStatus.WITHDRAWN);
         jobApplicationRepository.save(application);
+        eventPublisher.publishEvent(new ArtistApplicationsChangedEvent(application.getArtist().getId()));
     }
 
     @Transactional(readOnly = true)
@@ -303,6 +311,20 @@ public class JobApplicationService {
         return jobApplicationRepository.findAll(pageable);
     }
 
+    /**
+     * Keyset-paged application listing with optional status, job, artist and recruiter filters
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<JobApplication> findApplicationsByCursor(JobApplication.ApplicationStatus status, Long jobId,
+                                                                  Long artistId, Long recruiterId,
+                                                                  CursorRequestDto request) {
+        return keysetPageService.findPage(jobApplicationRepository, "job_applications",
+                KeysetPageService.allOf(JobApplicationSpecifications.hasStatus(status),
+                        JobApplicationSpecifications.forJob(jobId), JobApplicationSpecifications.forArtist(artistId),
+                        JobApplicationSpecifications.forRecruiter(recruiterId)),
+                "status=" + status + "&job=" + jobId + "&artist=" + artistId + "&recruiter=" + recruiterId, request);
+    }
+
     public JobApplication updateApplicationStatus(Long applicationId, Long recruiterId, com.icastar.platform.dto.application.UpdateApplicationStatusDto updateDto) {
         JobApplication application = jobApplicationRepository.findById(applicationId)
                 .orElseThrow(() -> new RuntimeException("Job application not found"));
@@ -313,6 +335,8 @@ public class JobApplicationService {
         }
 
         // Update status
+        boolean wasHired = isHired(application);
+        JobApplication.ApplicationStatus previousStatus = application.getStatus();
         application.setStatus(updateDto.getStatus());
         
         // Update feedback if provided
@@ -328,6 +352,9 @@ public class JobApplicationService {
         // Set reviewed timestamp
         application.setReviewedAt(LocalDateTime.now());
 
+        recordHireChange(application, wasHired);
+        recruiterStatsService.markStale(application.getJob().getRecruiter().getId());
+        publishStatusChange(application, previousStatus);
         return jobApplicationRepository.save(application);
     }
 
@@ -340,13 +367,15 @@ public class JobApplicationService {
             throw new RuntimeException("You can only delete applications for your own jobs");
         }
 
-        // Decrement total applications count for the job
+        // Decrement applications counts for the job and the artist
         Job job = application.getJob();
-        job.setApplicationsCount(job.getApplicationsCount() - 1);
-        jobRepository.save(job);
+        jobService.decrementApplications(job.getId());
+        counterService.decrement(CounterService.Counter.ARTIST_APPLICATIONS, application.getArtist().getId());
 
         // Delete the application
         jobApplicationRepository.delete(application);
+        recruiterStatsService.markStale(job.getRecruiter().getId());
+        eventPublisher.publishEvent(new ArtistApplicationsChangedEvent(application.getArtist().getId()));
     }
 
     public Long getTotalApplicationsCount() {
@@ -383,4 +412,24 @@ public class JobApplicationService {
     public List<JobApplication> findByRecruiterAndStatus(Long recruiterId, JobApplication.ApplicationStatus status) {
         return jobApplicationRepository.findByRecruiterIdAndStatus(recruiterId, status);
     }
-}
\ No newline at end of file
+
+    private static boolean isHired(JobApplication application) {
+        return Boolean.TRUE.equals(application.getIsHired())
+                || application.getStatus() == JobApplication.ApplicationStatus.HIRED;
+    }
+
+    // Keep the artist's successful hires counter in step with hire transitions
+    private void recordHireChange(JobApplication application, boolean wasHired) {
+        boolean hired = isHired(application);
+        if (hired != wasHired) {
+            counterService.add(CounterService.Counter.ARTIST_HIRES, application.getArtist().getId(), hired ? 1 : -1);
+        }
+    }
+
+    // Let the artist know when a recruiter moved the application to another status
+    private void publishStatusChange(JobApplication application, JobApplication.ApplicationStatus previousStatus) {
+        if (application.getStatus() != null && application.getStatus() != previousStatus) {
+            eventPublisher.publishEvent(new ApplicationStatusChangedEvent(application.getId(), application.getStatus()));
+        }
+    }
+}
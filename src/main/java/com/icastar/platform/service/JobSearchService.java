@@ -0,0 +1,187 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.Job;
+import com.icastar.platform.repository.JobRepository;
+import com.icastar.platform.search.JobSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text job search backed by {@link JobSearchIndex}.
+ *
+ * Jobs of every status are indexed so filtered listings can narrow any status by text; the
+ * public search methods only return ACTIVE jobs. JobService pushes creates, updates and status
+ * changes after commit; a scheduled delta refresh on updated_at catches changes made by other
+ * code paths or other instances.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobSearchService {
+
+    private static final long REFRESH_OVERLAP_SECONDS = 5;
+
+    private final JobRepository jobRepository;
+
+    @Value("${icastar.search.load-batch-size:1000}")
+    private int loadBatchSize;
+
+    @Value("${icastar.search.max-results:1000}")
+    private int maxResults;
+
+    private final JobSearchIndex index = new JobSearchIndex();
+    private final Set<Long> activeJobIds = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime lastRefreshAt;
+
+    /**
+     * Search ACTIVE jobs, ranked by relevance. Only the first icastar.search.max-results hits can be
+     * paged to, so the reported total is capped there as well.
+     */
+    @Transactional(readOnly = true)
+    public Page<Job> search(String query, Pageable pageable) {
+        ensureLoaded();
+        int offset = (int) Math.min(pageable.getOffset(), maxResults);
+        int limit = Math.min(pageable.getPageSize(), maxResults - offset);
+        JobSearchIndex.SearchHits hits = index.search(query, offset, limit, activeJobIds::contains);
+        return new PageImpl<>(loadInOrder(hits.getJobIds()), pageable, Math.min(hits.getTotal(), maxResults));
+    }
+
+    /**
+     * Search ACTIVE jobs without paging, capped at icastar.search.max-results
+     */
+    @Transactional(readOnly = true)
+    public List<Job> search(String query) {
+        ensureLoaded();
+        return loadInOrder(index.search(query, 0, maxResults, activeJobIds::contains).getJobIds());
+    }
+
+    /**
+     * Ranked ids of every matching job whatever its status, uncapped; callers apply their own
+     * filters, status included
+     */
+    public List<Long> searchIds(String query) {
+        ensureLoaded();
+        return index.search(query, 0, Integer.MAX_VALUE).getJobIds();
+    }
+
+    /**
+     * Reflect a saved job in the index once the surrounding transaction commits
+     */
+    public void onJobSaved(Job job) {
+        Long jobId = job.getId();
+        boolean active = job.getStatus() == Job.JobStatus.ACTIVE;
+        String title = job.getTitle();
+        String description = job.getDescription();
+        String requirements = job.getRequirements();
+        String skills = job.getSkillsRequired();
+        String tags = job.getTags();
+        String location = job.getLocation();
+
+        Runnable update = () -> {
+            index.index(jobId, title, description, requirements, skills, tags, location);
+            markActive(jobId, active);
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    /**
+     * Refresh the index - full load on first run, delta by updated_at afterwards
+     */
+    @Scheduled(fixedDelayString = "${icastar.search.refresh-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public synchronized void refreshIndex() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (lastRefreshAt == null) {
+            loadAll();
+        } else {
+            List<Job> changed = jobRepository.findByUpdatedAtAfter(lastRefreshAt.minusSeconds(REFRESH_OVERLAP_SECONDS));
+            changed.forEach(this::apply);
+            if (!changed.isEmpty()) {
+                log.debug("Refreshed {} jobs in search index", changed.size());
+            }
+        }
+        lastRefreshAt = startedAt;
+    }
+
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    public int getIndexSize() {
+        return index.size();
+    }
+
+    private void ensureLoaded() {
+        if (lastRefreshAt == null) {
+            refreshIndex();
+        }
+    }
+
+    private void loadAll() {
+        index.clear();
+        activeJobIds.clear();
+        long lastId = 0L;
+        List<Job> batch;
+        do {
+            batch = jobRepository.findJobsAfterId(lastId, PageRequest.of(0, loadBatchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            batch.forEach(this::apply);
+            lastId = batch.get(batch.size() - 1).getId();
+        } while (batch.size() == loadBatchSize);
+        log.info("Job search index loaded with {} jobs", index.size());
+    }
+
+    private void apply(Job job) {
+        index.index(job.getId(), job.getTitle(), job.getDescription(), job.getRequirements(),
+                job.getSkillsRequired(), job.getTags(), job.getLocation());
+        markActive(job.getId(), job.getStatus() == Job.JobStatus.ACTIVE);
+    }
+
+    private void markActive(Long jobId, boolean active) {
+        if (active) {
+            activeJobIds.add(jobId);
+        } else {
+            activeJobIds.remove(jobId);
+        }
+    }
+
+    private List<Job> loadInOrder(List<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Job> jobsById = jobRepository.findAllById(jobIds).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return jobIds.stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
@@ -3,23 +3,44 @@ package com.icastar.platform.service;
 import com.icastar.platform.dto.job.CreateJobDto;
 import com.icastar.platform.dto.job.JobDto;
 import com.icastar.platform.dto.job.JobFilterDto;
+import com.icastar.platform.dto.job.JobSearchRequestDto;
 import com.icastar.platform.entity.Job;
+import com.icastar.platform.entity.JobAttribute;
 import com.icastar.platform.entity.User;
+import com.icastar.platform.event.JobPostedEvent;
+import com.icastar.platform.repository.JobAttributeRepository;
 import com.icastar.platform.repository.JobRepository;
+import com.icastar.platform.repository.JobSpecifications;
 import com.icastar.platform.repository.UserRepository;
+import com.icastar.platform.util.AttributeValues;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +51,19 @@ public class JobService {
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
+    private final JobSearchService jobSearchService;
+    private final JobAttributeRepository jobAttributeRepository;
+    private final CounterService counterService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_CACHED_COUNTS = 10_000;
+    // Search hits are pushed into the database as IN lists of at most this many ids
+    private static final int SEARCH_ID_CHUNK = 1000;
+
+    @Value("${icastar.jobs.count-cache-ttl-seconds:30}")
+    private long countCacheTtlSeconds;
+
+    private final CountCache countCache = new CountCache(MAX_CACHED_COUNTS);
 
     @Transactional(readOnly = true)
     public Optional<Job> findById(Long id) {
@@ -46,43 +80,188 @@ public class JobService {
         return jobRepository.findActiveJobs(LocalDate.now(), pageable);
     }
 
+    /**
+     * Filtered, offset-paged job listing with an exact total. Every filter (skills included)
+     * runs in the same database query; with a search term the page follows relevance order.
+     */
     @Transactional(readOnly = true)
     public Page<Job> findJobsWithFilters(JobFilterDto filter, Pageable pageable) {
-        Page<Job> jobs = jobRepository.findJobsWithFilters(
-                filter.getSearchTerm(),
-                filter.getJobType(),
-                filter.getExperienceLevel(),
-                filter.getStatus(),
-                filter.getMinPay(),
-                filter.getMaxPay(),
-                filter.getLocation(),
-                filter.getIsRemote(),
-                filter.getIsUrgent(),
-                filter.getIsFeatured(),
-                pageable
-        );
-        
-        // Apply skills filter if provided
-        if (filter.getSkills() != null && !filter.getSkills().isEmpty()) {
-            List<Job> filteredJobs = jobs.getContent().stream()
-                    .filter(job -> {
-                        if (job.getSkillsRequired() == null) return false;
-                        return filter.getSkills().stream()
-                                .anyMatch(skill -> job.getSkillsRequired().toLowerCase().contains(skill.toLowerCase()));
-                    })
-                    .collect(java.util.stream.Collectors.toList());
-            
-            // Create a new Page with filtered content
-            return new org.springframework.data.domain.PageImpl<>(
-                    filteredJobs, 
-                    pageable, 
-                    filteredJobs.size()
-            );
+        Specification<Job> specification = buildSpecification(filter);
+        List<Long> matchingIds = searchIds(filter);
+        if (matchingIds == null) {
+            return jobRepository.findAll(specification, pageable);
+        }
+        long total = countSearchHits(specification, matchingIds);
+        if (total <= pageable.getOffset()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, total);
+        }
+        return new PageImpl<>(rankedSearchHits(specification, matchingIds, pageable.getOffset(), pageable.getPageSize()),
+                pageable, total);
+    }
+
+    /**
+     * Filtered, keyset-paged job listing, newest first. Cost per page is independent of depth;
+     * the total comes from a short-lived count cache.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Job> findJobsByCursor(JobFilterDto filter, int size) {
+        Specification<Job> specification = buildSpecification(filter);
+        Long cursor = filter.getCursor() != null && filter.getCursor() > 0 ? filter.getCursor() : null;
+        List<Long> matchingIds = searchIds(filter);
+        List<Job> jobs = matchingIds == null
+                ? jobRepository.findBy(specification.and(JobSpecifications.idBefore(cursor)),
+                        query -> query.sortBy(Sort.by(Sort.Direction.DESC, "id")).limit(size + 1).all())
+                : newestSearchHits(specification, matchingIds, cursor, size + 1);
+        boolean hasNext = jobs.size() > size;
+        return new SliceImpl<>(hasNext ? jobs.subList(0, size) : jobs, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * Total for a filter, cached for icastar.jobs.count-cache-ttl-seconds
+     */
+    @Transactional(readOnly = true)
+    public long countJobsWithFilters(JobFilterDto filter) {
+        return countCache.get(countCacheKey(filter), countCacheTtlSeconds, () -> {
+            Specification<Job> specification = buildSpecification(filter);
+            List<Long> matchingIds = searchIds(filter);
+            return matchingIds == null
+                    ? jobRepository.count(specification)
+                    : countSearchHits(specification, matchingIds);
+        });
+    }
+
+    /**
+     * Search jobs from a JobSearchRequestDto; keyset paging when a cursor is given
+     */
+    @Transactional(readOnly = true)
+    public Slice<Job> searchJobs(JobSearchRequestDto request) {
+        JobFilterDto filter = toFilter(request);
+        int size = request.getSize() != null ? request.getSize() : 10;
+        if (request.getCursor() != null) {
+            return findJobsByCursor(filter, size);
+        }
+        Sort sort = Sort.by(Sort.Direction.fromString(request.getSortDirection() != null ? request.getSortDirection() : "desc"),
+                request.getSortBy() != null ? request.getSortBy() : "publishedAt");
+        return findJobsWithFilters(filter, PageRequest.of(request.getPage() != null ? request.getPage() : 0, size, sort));
+    }
+
+    // Every filter except the search term, which is resolved against the search index
+    private Specification<Job> buildSpecification(JobFilterDto filter) {
+        Specification<Job> specification = Specification.where(JobSpecifications.hasJobType(filter.getJobType()))
+                .and(JobSpecifications.hasExperienceLevel(filter.getExperienceLevel()))
+                .and(JobSpecifications.hasStatus(filter.getStatus()))
+                .and(JobSpecifications.minPay(filter.getMinPay()))
+                .and(JobSpecifications.maxPay(filter.getMaxPay()))
+                .and(JobSpecifications.hasCurrency(filter.getCurrency()))
+                .and(JobSpecifications.locationContains(filter.getLocation()))
+                .and(JobSpecifications.titleContains(filter.getJobTitle()))
+                .and(JobSpecifications.isRemote(filter.getIsRemote()))
+                .and(JobSpecifications.isUrgent(filter.getIsUrgent()))
+                .and(JobSpecifications.isFeatured(filter.getIsFeatured()))
+                .and(JobSpecifications.hasSkills(filter.getSkills(), "ALL".equalsIgnoreCase(filter.getSkillMatch())))
+                .and(JobSpecifications.hasTags(filter.getTags()));
+        return specification;
+    }
+
+    // Ranked ids of every indexed job matching the search term, any status; null without a term
+    private List<Long> searchIds(JobFilterDto filter) {
+        if (filter.getSearchTerm() == null || filter.getSearchTerm().isBlank()) {
+            return null;
+        }
+        return jobSearchService.searchIds(filter.getSearchTerm());
+    }
+
+    private long countSearchHits(Specification<Job> specification, List<Long> matchingIds) {
+        long total = 0;
+        for (int from = 0; from < matchingIds.size(); from += SEARCH_ID_CHUNK) {
+            List<Long> chunk = matchingIds.subList(from, Math.min(from + SEARCH_ID_CHUNK, matchingIds.size()));
+            total += jobRepository.count(specification.and(JobSpecifications.idIn(chunk)));
+        }
+        return total;
+    }
+
+    // Walks the ranked ids a chunk at a time, skipping whole chunks by count until the offset
+    // falls inside one, and keeps the index order within each chunk
+    private List<Job> rankedSearchHits(Specification<Job> specification, List<Long> matchingIds, long offset, int limit) {
+        List<Job> jobs = new ArrayList<>(limit);
+        long skip = offset;
+        for (int from = 0; from < matchingIds.size() && jobs.size() < limit; from += SEARCH_ID_CHUNK) {
+            List<Long> chunk = matchingIds.subList(from, Math.min(from + SEARCH_ID_CHUNK, matchingIds.size()));
+            Specification<Job> chunkSpecification = specification.and(JobSpecifications.idIn(chunk));
+            if (skip > 0) {
+                long matched = jobRepository.count(chunkSpecification);
+                if (matched <= skip) {
+                    skip -= matched;
+                    continue;
+                }
+            }
+            Map<Long, Job> jobsById = jobRepository.findAll(chunkSpecification).stream()
+                    .collect(Collectors.toMap(Job::getId, Function.identity()));
+            for (Long id : chunk) {
+                Job job = jobsById.get(id);
+                if (job == null) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                } else if (jobs.size() < limit) {
+                    jobs.add(job);
+                }
+            }
+        }
+        return jobs;
+    }
+
+    // Newest-first keyset page over the search hits: ids below the cursor, a chunk at a time
+    private List<Job> newestSearchHits(Specification<Job> specification, List<Long> matchingIds, Long cursor, int limit) {
+        List<Long> ids = matchingIds.stream()
+                .filter(id -> cursor == null || id < cursor)
+                .sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+        List<Job> jobs = new ArrayList<>(limit);
+        for (int from = 0; from < ids.size() && jobs.size() < limit; from += SEARCH_ID_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + SEARCH_ID_CHUNK, ids.size()));
+            int remaining = limit - jobs.size();
+            jobs.addAll(jobRepository.findBy(specification.and(JobSpecifications.idIn(chunk)),
+                    query -> query.sortBy(Sort.by(Sort.Direction.DESC, "id")).limit(remaining).all()));
         }
-        
         return jobs;
     }
 
+    private JobFilterDto toFilter(JobSearchRequestDto request) {
+        JobFilterDto filter = new JobFilterDto();
+        filter.setSearchTerm(request.getSearchTerm());
+        filter.setJobTitle(request.getJobTitle());
+        filter.setCompanyName(request.getCompanyName());
+        filter.setJobType(request.getJobType());
+        filter.setExperienceLevel(request.getExperienceLevel());
+        filter.setStatus(request.getStatus());
+        filter.setMinPay(request.getMinPay());
+        filter.setMaxPay(request.getMaxPay());
+        filter.setCurrency(request.getCurrency());
+        filter.setLocation(request.getLocation());
+        filter.setIsRemote(request.getIsRemote());
+        filter.setIsUrgent(request.getIsUrgent());
+        filter.setIsFeatured(request.getIsFeatured());
+        filter.setSkills(request.getSkills());
+        filter.setSkillMatch(request.getSkillMatch());
+        filter.setTags(request.getTags());
+        filter.setCursor(request.getCursor());
+        return filter;
+    }
+
+    private String countCacheKey(JobFilterDto filter) {
+        return String.join("|",
+                String.valueOf(filter.getSearchTerm()), String.valueOf(filter.getJobTitle()),
+                String.valueOf(filter.getJobType()), String.valueOf(filter.getExperienceLevel()),
+                String.valueOf(filter.getStatus()), String.valueOf(filter.getMinPay()),
+                String.valueOf(filter.getMaxPay()), String.valueOf(filter.getCurrency()),
+                String.valueOf(filter.getLocation()), String.valueOf(filter.getIsRemote()),
+                String.valueOf(filter.getIsUrgent()), String.valueOf(filter.getIsFeatured()),
+                String.valueOf(AttributeValues.normalize(filter.getSkills())), String.valueOf(filter.getSkillMatch()),
+                String.valueOf(AttributeValues.normalize(filter.getTags())));
+    }
+
     @Transactional(readOnly = true)
     public List<Job> findByRecruiter(User recruiter) {
         return jobRepository.findByRecruiter(recruiter);
@@ -101,12 +280,12 @@ public class JobService {
 
     @Transactional(readOnly = true)
     public List<Job> searchJobs(String searchTerm) {
-        return jobRepository.findBySearchTerm(searchTerm);
+        return jobSearchService.search(searchTerm);
     }
 
     @Transactional(readOnly = true)
     public Page<Job> searchJobs(String searchTerm, Pageable pageable) {
-        return jobRepository.findBySearchTerm(searchTerm, pageable);
+        return jobSearchService.search(searchTerm, pageable);
     }
 
     @Transactional(readOnly = true)
@@ -134,14 +313,17 @@ public class JobService {
         return jobRepository.findByIsUrgentTrue();
     }
 
+    // Skill and tag lookups go through the indexed job_attributes rows, not the JSON columns
     @Transactional(readOnly = true)
     public List<Job> findJobsBySkill(String skill) {
-        return jobRepository.findByRequiredSkill(skill);
+        Specification<Job> spec = JobSpecifications.hasSkills(Collections.singletonList(skill), false);
+        return spec != null ? jobRepository.findAll(spec) : Collections.emptyList();
     }
 
     @Transactional(readOnly = true)
     public List<Job> findJobsByTag(String tag) {
-        return jobRepository.findByTag(tag);
+        Specification<Job> spec = JobSpecifications.hasTags(Collections.singletonList(tag));
+        return spec != null ? jobRepository.findAll(spec) : Collections.emptyList();
     }
 
     @Transactional(readOnly = true)
@@ -203,7 +385,12 @@ public class JobService {
         job.setStatus(Job.JobStatus.ACTIVE);
         job.setPublishedAt(LocalDateTime.now());
 
-        return jobRepository.save(job);
+        Job savedJob = jobRepository.save(job);
+        saveAttributes(savedJob, createJobDto.getSkillsRequired(), createJobDto.getTags());
+        jobSearchService.onJobSaved(savedJob);
+        // Matching artists are notified in the background once the job is committed
+        eventPublisher.publishEvent(new JobPostedEvent(savedJob.getId()));
+        return savedJob;
     }
 
     public Job updateJob(Long jobId, CreateJobDto updateJobDto) {
@@ -243,7 +430,47 @@ public class JobService {
             throw new RuntimeException("Error processing job data");
         }
 
-        return jobRepository.save(job);
+        Job savedJob = jobRepository.save(job);
+        if (updateJobDto.getSkillsRequired() != null || updateJobDto.getTags() != null) {
+            saveAttributes(savedJob, updateJobDto.getSkillsRequired(), updateJobDto.getTags());
+        }
+        jobSearchService.onJobSaved(savedJob);
+        return savedJob;
+    }
+
+    // Rewrite the normalized skills/tags rows used by the skills and tags filters
+    private void saveAttributes(Job job, List<String> skills, List<String> tags) {
+        if (job.getId() != null) {
+            jobAttributeRepository.deleteByJobId(job.getId());
+        }
+        List<JobAttribute> attributes = new ArrayList<>();
+        for (String skill : AttributeValues.normalize(skills != null ? skills : parseJsonList(job.getSkillsRequired()))) {
+            attributes.add(newAttribute(job, JobAttribute.AttributeType.SKILL, skill));
+        }
+        for (String tag : AttributeValues.normalize(tags != null ? tags : parseJsonList(job.getTags()))) {
+            attributes.add(newAttribute(job, JobAttribute.AttributeType.TAG, tag));
+        }
+        jobAttributeRepository.saveAll(attributes);
+    }
+
+    private JobAttribute newAttribute(Job job, JobAttribute.AttributeType type, String value) {
+        JobAttribute attribute = new JobAttribute();
+        attribute.setJob(job);
+        attribute.setAttributeType(type);
+        attribute.setAttributeValue(value);
+        return attribute;
+    }
+
+    private List<String> parseJsonList(String json) {
+        if (json == null || json.isBlank()) {
+            return Collections.emptyList();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<List<String>>() {});
+        } catch (JsonProcessingException e) {
+            log.warn("Could not parse job attribute list: {}", json);
+            return Collections.emptyList();
+        }
     }
 
     public Job updateJobStatus(Long jobId, Job.JobStatus status) {
@@ -255,7 +482,9 @@ public class JobService {
             job.setClosedAt(LocalDateTime.now());
         }
 
-        return jobRepository.save(job);
+        Job savedJob = jobRepository.save(job);
+        jobSearchService.onJobSaved(savedJob);
+        return savedJob;
     }
 
     public void deleteJob(Long jobId) {
@@ -265,22 +494,21 @@ public class JobService {
         job.setStatus(Job.JobStatus.CANCELLED);
         job.setClosedAt(LocalDateTime.now());
         jobRepository.save(job);
+        jobSearchService.onJobSaved(job);
     }
 
+    // Only the jobs counters: jobs and job_posts have separate id sequences and no link between
+    // them, so a job id says nothing about which job_posts row to touch
     public void incrementViews(Long jobId) {
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
-
-        job.setViewsCount(job.getViewsCount() + 1);
-        jobRepository.save(job);
+        counterService.increment(CounterService.Counter.JOB_VIEWS, jobId);
     }
 
     public void incrementApplications(Long jobId) {
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
+        counterService.increment(CounterService.Counter.JOB_APPLICATIONS, jobId);
+    }
 
-        job.setApplicationsCount(job.getApplicationsCount() + 1);
-        jobRepository.save(job);
+    public void decrementApplications(Long jobId) {
+        counterService.decrement(CounterService.Counter.JOB_APPLICATIONS, jobId);
     }
 
     @Transactional(readOnly = true)
@@ -370,7 +598,9 @@ public class JobService {
     public Job toggleJobVisibility(Long jobId, Long recruiterId) {
         Job job = findById(jobId).orElseThrow(() -> new RuntimeException("Job not found"));
         job.setStatus(job.getStatus() == Job.JobStatus.ACTIVE ? Job.JobStatus.CLOSED : Job.JobStatus.ACTIVE);
-        return jobRepository.save(job);
+        Job savedJob = jobRepository.save(job);
+        jobSearchService.onJobSaved(savedJob);
+        return savedJob;
     }
 
     public Long getJobsCountByRecruiter(Long recruiterId) {
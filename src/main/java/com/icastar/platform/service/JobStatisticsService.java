@@ -0,0 +1,132 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.JobPost;
+import com.icastar.platform.repository.JobPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Platform-wide job post statistics for the admin dashboard.
+ *
+ * The figures come from two GROUP BY projections (active flag and job type, recruiter
+ * category) and one COUNT over job_applications rather than loading every job post, and
+ * are kept as an immutable snapshot.
+ * The snapshot is rebuilt on a schedule and on demand when it is older than the maximum
+ * age or has been invalidated, so reads cost a reference lookup.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class JobStatisticsService {
+
+    private final JobPostRepository jobPostRepository;
+
+    @Value("${icastar.admin.job-stats-max-age-seconds:60}")
+    private long maxAgeSeconds;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Get the current statistics snapshot, rebuilding it first if it is missing or too old
+     */
+    public Map<String, Object> getStatistics() {
+        Snapshot current = snapshot;
+        if (current == null || current.computedAt.isBefore(LocalDateTime.now().minusSeconds(maxAgeSeconds))) {
+            current = rebuild();
+        }
+        return current.statistics;
+    }
+
+    /**
+     * Drop the snapshot so the next read recomputes it; called after admin job changes.
+     * Inside a transaction the snapshot is dropped once it commits, so a rebuild cannot
+     * cache the pre-change figures.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshot = null;
+                }
+            });
+        } else {
+            snapshot = null;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${icastar.admin.job-stats-refresh-interval-ms:30000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    private synchronized Snapshot rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        long totalJobs = 0;
+        long activeJobs = 0;
+        long expiredJobs = 0;
+        long recentJobs = 0;
+        Map<String, Long> jobsByType = new HashMap<>();
+        for (Object[] row : jobPostRepository.aggregateByActiveAndJobType(now, now.minusHours(24))) {
+            long count = ((Number) row[2]).longValue();
+            totalJobs += count;
+            if (Boolean.TRUE.equals(row[0])) {
+                activeJobs += count;
+            }
+            if (row[1] != null) {
+                jobsByType.merge(((JobPost.JobType) row[1]).name(), count, Long::sum);
+            }
+            expiredJobs += toLong(row[3]);
+            recentJobs += toLong(row[4]);
+        }
+
+        Map<String, Long> jobsByCategory = new HashMap<>();
+        for (Object[] row : jobPostRepository.countByRecruiterCategory()) {
+            jobsByCategory.put((String) row[0], ((Number) row[1]).longValue());
+        }
+
+        long totalApplications = totalJobs > 0 ? jobPostRepository.countApplications() : 0;
+
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("totalJobs", totalJobs);
+        statistics.put("activeJobs", activeJobs);
+        statistics.put("inactiveJobs", totalJobs - activeJobs);
+        statistics.put("expiredJobs", expiredJobs);
+        statistics.put("jobsByType", Collections.unmodifiableMap(jobsByType));
+        statistics.put("jobsByCategory", Collections.unmodifiableMap(jobsByCategory));
+        statistics.put("recentJobs", recentJobs);
+        statistics.put("avgApplicationsPerJob", totalJobs > 0 ? (double) totalApplications / totalJobs : 0.0);
+        statistics.put("computedAt", now);
+
+        Snapshot rebuilt = new Snapshot(Collections.unmodifiableMap(statistics), now);
+        snapshot = rebuilt;
+        log.debug("Rebuilt job statistics snapshot: {} jobs", totalJobs);
+        return rebuilt;
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    private static final class Snapshot {
+        private final Map<String, Object> statistics;
+        private final LocalDateTime computedAt;
+
+        private Snapshot(Map<String, Object> statistics, LocalDateTime computedAt) {
+            this.statistics = statistics;
+            this.computedAt = computedAt;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.Otp;
+import com.icastar.platform.repository.OtpRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keeps OTPs in the otps table
+ */
+@Component
+@ConditionalOnProperty(name = "icastar.otp.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaOtpStore implements OtpStore {
+
+    private final OtpRepository otpRepository;
+
+    @Override
+    public void issue(String mobile, String email, Otp.OtpType otpType, String otpCode, LocalDateTime expiresAt,
+                      int maxAttempts) {
+        // Invalidate existing OTPs for this mobile/email
+        otpRepository.expirePending(mobile, email, LocalDateTime.now());
+
+        Otp otp = new Otp();
+        otp.setMobile(mobile);
+        otp.setEmail(email);
+        otp.setOtpCode(otpCode);
+        otp.setOtpType(otpType);
+        otp.setExpiresAt(expiresAt);
+        otp.setStatus(Otp.OtpStatus.PENDING);
+        otp.setAttempts(0);
+        otp.setMaxAttempts(maxAttempts);
+        otpRepository.save(otp);
+    }
+
+    @Override
+    public VerifyResult verify(String mobile, String email, Otp.OtpType otpType, String otpCode) {
+        Otp otp = otpRepository.findByMobileAndEmailAndOtpTypeAndStatus(
+                mobile, email, otpType, Otp.OtpStatus.PENDING)
+                .orElse(null);
+        if (otp == null) {
+            return VerifyResult.NOT_FOUND;
+        }
+
+        // Check if OTP has expired
+        if (LocalDateTime.now().isAfter(otp.getExpiresAt())) {
+            otp.setStatus(Otp.OtpStatus.EXPIRED);
+            otpRepository.save(otp);
+            return VerifyResult.EXPIRED;
+        }
+
+        // Check if max attempts exceeded
+        if (otp.getAttempts() >= otp.getMaxAttempts()) {
+            otp.setStatus(Otp.OtpStatus.FAILED);
+            otpRepository.save(otp);
+            return VerifyResult.ATTEMPTS_EXCEEDED;
+        }
+
+        otp.setAttempts(otp.getAttempts() + 1);
+        if (otp.getOtpCode().equals(otpCode)) {
+            otp.setStatus(Otp.OtpStatus.VERIFIED);
+            otp.setVerifiedAt(LocalDateTime.now());
+            otpRepository.save(otp);
+            return VerifyResult.VERIFIED;
+        }
+        otpRepository.save(otp);
+        return VerifyResult.INVALID;
+    }
+}
@@ -0,0 +1,142 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.dto.admin.CursorPageDto;
+import com.icastar.platform.dto.admin.CursorRequestDto;
+import com.icastar.platform.entity.BaseEntity;
+import com.icastar.platform.repository.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * Keyset (seek) paging for admin lists.
+ *
+ * Each page is one query of the form WHERE filter AND (sortKey, id) after cursor ORDER BY
+ * sortKey, id LIMIT size + 1, so latency does not grow with depth. No COUNT(*) runs unless
+ * the caller asks for one; approximate counts come from the table statistics for
+ * unfiltered lists and from a short-lived cache of exact counts for filtered ones.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class KeysetPageService {
+
+    public enum CountMode {
+        NONE, APPROXIMATE, EXACT;
+
+        public static CountMode from(String value) {
+            CountMode mode = parseFilter(CountMode.class, value, "count mode");
+            return mode != null ? mode : NONE;
+        }
+    }
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CACHED_COUNTS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${icastar.admin.count-cache-ttl-seconds:60}")
+    private long countCacheTtlSeconds;
+
+    private final CountCache countCache = new CountCache(MAX_CACHED_COUNTS);
+
+    /**
+     * Fetch one page after the given cursor.
+     *
+     * @param table    table behind the repository, used for approximate counts
+     * @param filter   filter specification, or null for the whole table
+     * @param countKey stable description of the filter, used to cache approximate counts
+     */
+    public <T extends BaseEntity> CursorPageDto<T> findPage(JpaSpecificationExecutor<T> repository, String table,
+                                                            Specification<T> filter, String countKey,
+                                                            CursorRequestDto request) {
+        int pageSize = Math.max(1, Math.min(request.getSize() != null ? request.getSize() : 20, MAX_PAGE_SIZE));
+        String sortField = KeysetCursor.sortField(request.getSortBy());
+        boolean ascending = "asc".equalsIgnoreCase(request.getSortDir());
+        KeysetCursor after = KeysetCursor.decode(request.getCursor(), sortField, ascending);
+        CountMode countMode = CountMode.from(request.getCount());
+
+        Specification<T> specification = Specification.where(filter);
+        if (after != null) {
+            specification = specification.and(after.toSpecification());
+        }
+        Sort sort = KeysetCursor.sort(sortField, ascending);
+        List<T> rows = repository.findBy(specification, query -> query.sortBy(sort).limit(pageSize + 1).all());
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        CursorPageDto<T> page = CursorPageDto.<T>builder()
+                .content(content)
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? KeysetCursor.after(content.get(pageSize - 1), sortField, ascending).encode() : null)
+                .build();
+
+        LongSupplier exactCount = () -> repository.count(Specification.where(filter));
+        if (countMode == CountMode.EXACT) {
+            page.setTotalElements(exactCount.getAsLong());
+        } else if (countMode == CountMode.APPROXIMATE) {
+            page.setTotalElements(filter == null
+                    ? countCache.get(table, countCacheTtlSeconds, () -> estimateRows(table, exactCount))
+                    : countCache.get(table + ":" + countKey, countCacheTtlSeconds, exactCount));
+            page.setTotalApproximate(true);
+        }
+        return page;
+    }
+
+    /**
+     * Combine filters with AND, returning null when none apply
+     */
+    @SafeVarargs
+    public static <T> Specification<T> allOf(Specification<T>... filters) {
+        Specification<T> combined = null;
+        for (Specification<T> filter : filters) {
+            if (filter != null) {
+                combined = combined == null ? filter : combined.and(filter);
+            }
+        }
+        return combined;
+    }
+
+    /**
+     * Parse an enum filter parameter case-insensitively; blank means no filter. Unknown values
+     * are rejected with IllegalArgumentException (400) instead of surfacing valueOf's message.
+     */
+    public static <E extends Enum<E>> E parseFilter(Class<E> type, String value, String name) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    // InnoDB keeps a row estimate in the table statistics; reading it avoids a full index scan
+    private long estimateRows(String table, LongSupplier fallback) {
+        try {
+            Long estimate = jdbcTemplate.queryForObject(
+                    "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?",
+                    Long.class, table);
+            if (estimate != null) {
+                return estimate;
+            }
+        } catch (RuntimeException e) {
+            log.debug("Row estimate unavailable for {}: {}", table, e.getMessage());
+        }
+        return fallback.getAsLong();
+    }
+
+}
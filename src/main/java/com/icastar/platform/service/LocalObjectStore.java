@@ -0,0 +1,117 @@
+package com.icastar.platform.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Writes objects below icastar.file.upload-dir.
+ *
+ * Object URLs are icastar.file.base-url below server.servlet.context-path, the path clients
+ * reach the files on; URLs handed out before the context path was included are still accepted.
+ *
+ * Content is copied in fixed-size chunks to a temporary file next to the target while being
+ * hashed, then moved into place atomically, so readers never see a partial file.
+ */
+@Component
+@ConditionalOnProperty(name = "icastar.file.store", havingValue = "local", matchIfMissing = true)
+@Slf4j
+public class LocalObjectStore implements ObjectStore {
+
+    private final Path root;
+    private final String baseUrl;
+    private final String servletBaseUrl;
+
+    public LocalObjectStore(@Value("${icastar.file.upload-dir}") String uploadDir,
+                            @Value("${icastar.file.base-url:/uploads/}") String baseUrl,
+                            @Value("${server.servlet.context-path:}") String contextPath) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.servletBaseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.baseUrl = (contextPath.endsWith("/") ? contextPath.substring(0, contextPath.length() - 1) : contextPath)
+                + servletBaseUrl;
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    @Override
+    public StoredObject put(String key, InputStream content, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                size = in.transferTo(out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return new StoredObject(key, baseUrl + key, size, HexFormat.of().formatHex(digest.digest()));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public InputStream open(String url) throws IOException {
+        String key = keyOf(url);
+        if (key == null) {
+            throw new IOException("Not a stored object: " + url);
+        }
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public void delete(String url) {
+        String key = keyOf(url);
+        if (key == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Error deleting stored file {}: {}", url, e.getMessage());
+        }
+    }
+
+    private String keyOf(String url) {
+        if (url == null) {
+            return null;
+        }
+        if (url.startsWith(baseUrl)) {
+            return url.substring(baseUrl.length());
+        }
+        return url.startsWith(servletBaseUrl) ? url.substring(servletBaseUrl.length()) : null;
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("Invalid object key: " + key);
+        }
+        return path;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
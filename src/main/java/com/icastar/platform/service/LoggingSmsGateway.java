@@ -0,0 +1,24 @@
+package com.icastar.platform.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes each SMS to the application log instead of sending it.
+ *
+ * This is the fallback whenever icastar.sms.provider is unset (matchIfMissing), in every
+ * profile including prod, and the message text, OTP codes included, is logged at INFO.
+ * Deployments that send real SMS must set icastar.sms.provider (SMS_PROVIDER) to http.
+ */
+@Component
+@ConditionalOnProperty(name = "icastar.sms.provider", havingValue = "log", matchIfMissing = true)
+@Slf4j
+public class LoggingSmsGateway implements SmsGateway {
+
+    @Override
+    public String send(String mobile, String message) {
+        log.info("SMS to {}: {}", mobile, message);
+        return null;
+    }
+}
@@ -0,0 +1,158 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.dto.admin.CursorPageDto;
+import com.icastar.platform.dto.message.MessageDto;
+import com.icastar.platform.dto.message.SendMessageDto;
+import com.icastar.platform.entity.Message;
+import com.icastar.platform.entity.User;
+import com.icastar.platform.exception.BusinessException;
+import com.icastar.platform.repository.MessageRepository;
+import com.icastar.platform.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Direct messages between recruiters and artists.
+ *
+ * Messages are stored first and pushed to both participants on /user/queue/messages once the
+ * transaction commits, so a client that reconnects can always catch up from the history,
+ * which pages backwards by message id within the conversation.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class MessageService {
+
+    public static final String MESSAGES_QUEUE = "/queue/messages";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CONTENT_LENGTH = 4000;
+
+    private final MessageRepository messageRepository;
+    private final UserRepository userRepository;
+    private final ReadReceiptService readReceiptService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * Store a message and deliver it to the recipient's open connections
+     */
+    public MessageDto send(Long senderId, SendMessageDto request) {
+        if (request.getContent() == null || request.getContent().isBlank()) {
+            throw new IllegalArgumentException("Message content is required");
+        }
+        if (request.getContent().length() > MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException("Message must not exceed " + MAX_CONTENT_LENGTH + " characters");
+        }
+        if (senderId.equals(request.getRecipientId())) {
+            throw new IllegalArgumentException("Cannot send a message to yourself");
+        }
+        User sender = userRepository.findById(senderId)
+                .orElseThrow(() -> new BusinessException("User not found"));
+        User recipient = userRepository.findById(request.getRecipientId())
+                .orElseThrow(() -> new BusinessException("Recipient not found"));
+        if (recipient.getStatus() != User.UserStatus.ACTIVE) {
+            throw new BusinessException("Recipient is not available");
+        }
+        // Messaging connects recruiters with artists; admins may message anyone
+        if (sender.getRole() == recipient.getRole() && sender.getRole() != User.UserRole.ADMIN) {
+            throw new BusinessException("Messages can only be sent between recruiters and artists");
+        }
+
+        Message message = new Message();
+        message.setSender(sender);
+        message.setRecipient(recipient);
+        message.setConversationKey(Message.conversationKey(senderId, recipient.getId()));
+        message.setContent(request.getContent());
+        message.setMessageType(request.getMessageType() != null ? request.getMessageType() : Message.MessageType.TEXT);
+        message.setAttachmentUrl(request.getAttachmentUrl());
+        message.setSentAt(LocalDateTime.now());
+        MessageDto dto = toDto(messageRepository.save(message));
+
+        afterCommit(() -> {
+            messagingTemplate.convertAndSendToUser(String.valueOf(dto.getRecipientId()), MESSAGES_QUEUE, dto);
+            // The sender's other devices show the message too
+            messagingTemplate.convertAndSendToUser(String.valueOf(dto.getSenderId()), MESSAGES_QUEUE, dto);
+        });
+        return dto;
+    }
+
+    /**
+     * One page of the conversation with another user, newest first. The cursor is the
+     * nextCursor of the previous page, or null for the latest messages.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<MessageDto> getConversation(Long userId, Long otherUserId, String cursor, Integer size) {
+        int pageSize = Math.max(1, Math.min(size != null ? size : 30, MAX_PAGE_SIZE));
+        Long beforeId;
+        try {
+            beforeId = cursor == null || cursor.isBlank() ? null : Long.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        List<Message> rows = messageRepository.findConversationPage(
+                Message.conversationKey(userId, otherUserId), beforeId, userId, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<Message> content = hasNext ? rows.subList(0, pageSize) : rows;
+        return CursorPageDto.<MessageDto>builder()
+                .content(content.stream().map(this::toDto).collect(Collectors.toList()))
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? String.valueOf(content.get(pageSize - 1).getId()) : null)
+                .build();
+    }
+
+    /**
+     * Mark the messages from another user as read up to the given id; written in the next
+     * read receipt batch
+     */
+    @Transactional(readOnly = true)
+    public void markRead(Long userId, Long otherUserId, Long upToMessageId) {
+        if (otherUserId == null || upToMessageId == null) {
+            throw new IllegalArgumentException("Sender and message id are required");
+        }
+        readReceiptService.record(userId, otherUserId, upToMessageId);
+    }
+
+    @Transactional(readOnly = true)
+    public long countUnread(Long userId) {
+        return messageRepository.countUnread(userId);
+    }
+
+    private MessageDto toDto(Message message) {
+        return MessageDto.builder()
+                .id(message.getId())
+                .senderId(message.getSender().getId())
+                .recipientId(message.getRecipient().getId())
+                .content(message.getContent())
+                .messageType(message.getMessageType())
+                .attachmentUrl(message.getAttachmentUrl())
+                .sentAt(message.getSentAt())
+                .isRead(message.getIsRead())
+                .readAt(message.getReadAt())
+                .build();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package com.icastar.platform.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icastar.platform.dto.admin.CursorPageDto;
+import com.icastar.platform.dto.notification.NotificationDto;
+import com.icastar.platform.entity.CommunicationLog;
+import com.icastar.platform.entity.Job;
+import com.icastar.platform.entity.JobApplication;
+import com.icastar.platform.entity.Notification;
+import com.icastar.platform.event.ApplicationStatusChangedEvent;
+import com.icastar.platform.event.InterviewScheduledEvent;
+import com.icastar.platform.event.JobPostedEvent;
+import com.icastar.platform.repository.JobRepository;
+import com.icastar.platform.repository.NotificationRepository;
+import com.icastar.platform.service.CommunicationLogService.QueuedCommunication;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-app notifications and their fan-out.
+ *
+ * Services publish domain events (job posted, application status changed, interview
+ * scheduled); they are handled once the publishing transaction commits and handed to a
+ * bounded worker pool, so the recruiter's request only pays for the event. A worker resolves
+ * every recipient with one query, then writes chunks of notifications with one JDBC batch
+ * each, together with the matching email and SMS rows for the communication_logs outbox that
+ * {@link CommunicationDispatcher} sends. Recipients with an open STOMP connection also get the
+ * notification on /user/queue/notifications after the chunk commits.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationService {
+
+    public static final String NOTIFICATIONS_QUEUE = "/queue/notifications";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final DateTimeFormatter INTERVIEW_TIME = DateTimeFormatter.ofPattern("dd MMM yyyy, hh:mm a");
+
+    private static final String INSERT_SQL = "INSERT INTO notifications (user_id, title, message, type, priority, " +
+            "is_read, sent_at, action_url, metadata, email_sent, push_sent, is_active, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, FALSE, ?, ?, ?, ?, ?, TRUE, ?, ?)";
+
+    // Active artists sharing at least one skill with the job, via the attribute lookup indexes
+    private static final String SKILL_MATCH_SQL = "SELECT DISTINCT u.id, u.email, u.mobile, ap.first_name " +
+            "FROM job_attributes ja " +
+            "JOIN artist_attributes aa ON aa.attribute_type = 'SKILL' AND aa.attribute_value = ja.attribute_value " +
+            "JOIN artist_profiles ap ON ap.id = aa.artist_profile_id " +
+            "JOIN users u ON u.id = ap.user_id " +
+            "WHERE ja.job_id = ? AND ja.attribute_type = 'SKILL' AND ap.is_active = TRUE AND u.status = 'ACTIVE'";
+
+    // Jobs without required skills go to active artists in the job's location
+    private static final String LOCATION_MATCH_SQL = "SELECT u.id, u.email, u.mobile, ap.first_name " +
+            "FROM artist_profiles ap JOIN users u ON u.id = ap.user_id " +
+            "WHERE LOWER(ap.location) = LOWER(?) AND ap.is_active = TRUE AND u.status = 'ACTIVE'";
+
+    private static final String APPLICANT_SQL = "SELECT u.id, u.email, u.mobile, ap.first_name, j.title " +
+            "FROM job_applications a " +
+            "JOIN artist_profiles ap ON ap.id = a.artist_id " +
+            "JOIN users u ON u.id = ap.user_id " +
+            "JOIN jobs j ON j.id = a.job_id " +
+            "WHERE a.id = ?";
+
+    private static final RowMapper<Recipient> RECIPIENT_MAPPER = (rs, rowNum) ->
+            new Recipient(rs.getLong("id"), rs.getString("email"), rs.getString("mobile"), rs.getString("first_name"));
+
+    private final NotificationRepository notificationRepository;
+    private final JobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final CommunicationLogService communicationLogService;
+    private final CommunicationDispatcher communicationDispatcher;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final NotificationUnreadCache unreadCache;
+    private final ObjectMapper objectMapper;
+
+    @Value("${icastar.notifications.fan-out-workers:2}")
+    private int fanOutWorkers;
+
+    @Value("${icastar.notifications.queue-size:1000}")
+    private int queueSize;
+
+    @Value("${icastar.notifications.batch-size:1000}")
+    private int batchSize;
+
+    private ThreadPoolExecutor fanOutExecutor;
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Extra delivery channels besides the in-app notification and the live push
+     */
+    private enum Channel {
+        EMAIL, SMS
+    }
+
+    private record Recipient(Long userId, String email, String mobile, String firstName) {
+    }
+
+    private record Draft(Notification.NotificationType type, Notification.Priority priority, String title,
+                         String message, String actionUrl, Map<String, Object> metadata, Set<Channel> channels) {
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger counter = new AtomicInteger();
+        // Bounded queue plus caller-runs: under a flood of events publishers slow down instead of queueing without limit
+        fanOutExecutor = new ThreadPoolExecutor(fanOutWorkers, fanOutWorkers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "notification-fan-out-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        // Each chunk commits on its own, also when the caller-runs fallback is inside an afterCommit callback
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        fanOutExecutor.shutdown();
+        fanOutExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPosted(JobPostedEvent event) {
+        submit("job " + event.jobId(), () -> fanOutJob(event.jobId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        submit("application " + event.applicationId(), () -> notifyApplicant(event.applicationId(),
+                jobTitle -> statusDraft(event.applicationId(), event.status(), jobTitle)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInterviewScheduled(InterviewScheduledEvent event) {
+        submit("interview " + event.applicationId(), () -> notifyApplicant(event.applicationId(),
+                jobTitle -> interviewDraft(event.applicationId(), event.interviewAt(), jobTitle)));
+    }
+
+    /**
+     * One page of a user's notifications, newest first. The cursor is the nextCursor of the
+     * previous page, or null for the latest ones.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<NotificationDto> getNotifications(Long userId, String cursor, Integer size) {
+        int pageSize = Math.max(1, Math.min(size != null ? size : 20, MAX_PAGE_SIZE));
+        Long beforeId;
+        try {
+            beforeId = cursor == null || cursor.isBlank() ? null : Long.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        List<Notification> rows = notificationRepository.findPage(userId, beforeId, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<Notification> content = hasNext ? rows.subList(0, pageSize) : rows;
+        return CursorPageDto.<NotificationDto>builder()
+                .content(content.stream().map(this::toDto).collect(Collectors.toList()))
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? String.valueOf(content.get(pageSize - 1).getId()) : null)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public long countUnread(Long userId) {
+        return unreadCache.get(userId, () -> notificationRepository.countUnread(userId));
+    }
+
+    @Transactional
+    public void markRead(Long userId, Long notificationId) {
+        if (notificationRepository.markRead(notificationId, userId, LocalDateTime.now()) > 0) {
+            evictUnreadCount(userId);
+        }
+    }
+
+    @Transactional
+    public int markAllRead(Long userId) {
+        int updated = notificationRepository.markAllRead(userId, LocalDateTime.now());
+        if (updated > 0) {
+            evictUnreadCount(userId);
+        }
+        return updated;
+    }
+
+    private void submit(String source, Runnable task) {
+        fanOutExecutor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Notification fan-out for {} failed: {}", source, e.getMessage(), e);
+            }
+        });
+    }
+
+    private void fanOutJob(Long jobId) {
+        Job job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != Job.JobStatus.ACTIVE) {
+            return;
+        }
+        Integer skills = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM job_attributes WHERE job_id = ? AND attribute_type = 'SKILL'", Integer.class, jobId);
+        List<Recipient> recipients;
+        if (skills != null && skills > 0) {
+            recipients = jdbcTemplate.query(SKILL_MATCH_SQL, RECIPIENT_MAPPER, jobId);
+        } else if (job.getLocation() != null && !job.getLocation().isBlank()) {
+            recipients = jdbcTemplate.query(LOCATION_MATCH_SQL, RECIPIENT_MAPPER, job.getLocation().trim());
+        } else {
+            recipients = List.of();
+        }
+
+        String where = job.getLocation() != null && !job.getLocation().isBlank() ? " in " + job.getLocation() : "";
+        // In-app only; job alert emails and SMS are opt-in through saved searches (JobAlertService)
+        Draft draft = new Draft(Notification.NotificationType.JOB_ALERT, Notification.Priority.MEDIUM,
+                "New job: " + job.getTitle(),
+                "A new job" + where + " matches your profile: " + job.getTitle() + ". Apply before it fills up.",
+                "/jobs/" + jobId, Map.of("jobId", jobId), EnumSet.noneOf(Channel.class));
+        long start = System.nanoTime();
+        deliver(draft, recipients);
+        log.info("Job {} alert fanned out to {} artists in {} ms", jobId, recipients.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void notifyApplicant(Long applicationId, Function<String, Draft> drafter) {
+        List<Map.Entry<Recipient, String>> rows = jdbcTemplate.query(APPLICANT_SQL,
+                (rs, rowNum) -> Map.entry(RECIPIENT_MAPPER.mapRow(rs, rowNum), rs.getString("title")), applicationId);
+        if (rows.isEmpty()) {
+            return;
+        }
+        Draft draft = drafter.apply(rows.get(0).getValue());
+        if (draft != null) {
+            deliver(draft, List.of(rows.get(0).getKey()));
+        }
+    }
+
+    private Draft statusDraft(Long applicationId, JobApplication.ApplicationStatus status, String jobTitle) {
+        String actionUrl = "/applications/" + applicationId;
+        Map<String, Object> metadata = Map.of("applicationId", applicationId, "status", status.name());
+        Notification.NotificationType type = Notification.NotificationType.APPLICATION_STATUS_CHANGED;
+        return switch (status) {
+            case SHORTLISTED -> new Draft(type, Notification.Priority.HIGH, "You've been shortlisted",
+                    "You have been shortlisted for " + jobTitle + ".", actionUrl, metadata, EnumSet.of(Channel.EMAIL));
+            case SELECTED, HIRED -> new Draft(type, Notification.Priority.HIGH, "Congratulations!",
+                    "You have been " + (status == JobApplication.ApplicationStatus.HIRED ? "hired" : "selected") +
+                    " for " + jobTitle + ".", actionUrl, metadata, EnumSet.of(Channel.EMAIL, Channel.SMS));
+            case REJECTED -> new Draft(type, Notification.Priority.MEDIUM, "Application update",
+                    "Your application for " + jobTitle + " was not selected this time.", actionUrl, metadata,
+                    EnumSet.of(Channel.EMAIL));
+            case UNDER_REVIEW, INTERVIEWED -> new Draft(type, Notification.Priority.LOW, "Application update",
+                    "Your application for " + jobTitle + " is now " + status.name().toLowerCase().replace('_', ' ') + ".",
+                    actionUrl, metadata, EnumSet.noneOf(Channel.class));
+            // The artist's own actions and interview scheduling (its own event) need no status notification
+            default -> null;
+        };
+    }
+
+    private Draft interviewDraft(Long applicationId, LocalDateTime interviewAt, String jobTitle) {
+        String when = interviewAt != null ? " on " + interviewAt.format(INTERVIEW_TIME) : "";
+        return new Draft(Notification.NotificationType.AUDITION_SCHEDULED, Notification.Priority.URGENT,
+                "Interview scheduled", "Your interview for " + jobTitle + " is scheduled" + when + ".",
+                "/applications/" + applicationId, Map.of("applicationId", applicationId),
+                EnumSet.of(Channel.EMAIL, Channel.SMS));
+    }
+
+    /**
+     * Store the notification for every recipient in batches, queue its email and SMS and push
+     * it to the recipients that are connected
+     */
+    private void deliver(Draft draft, List<Recipient> recipients) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        String metadata = toJson(draft.metadata());
+        boolean queued = false;
+        for (int from = 0; from < recipients.size(); from += batchSize) {
+            List<Recipient> chunk = recipients.subList(from, Math.min(from + batchSize, recipients.size()));
+            // Users without a live connection see the notification when they next load the list
+            Set<Long> online = chunk.stream()
+                    .map(Recipient::userId)
+                    .filter(userId -> userRegistry.getUser(String.valueOf(userId)) != null)
+                    .collect(Collectors.toSet());
+            queued |= Boolean.TRUE.equals(transactionTemplate.execute(status -> write(draft, metadata, chunk, online)));
+
+            unreadCache.add(chunk.stream().map(Recipient::userId).toList(), 1);
+            NotificationDto push = NotificationDto.builder()
+                    .type(draft.type())
+                    .priority(draft.priority())
+                    .title(draft.title())
+                    .message(draft.message())
+                    .actionUrl(draft.actionUrl())
+                    .isRead(false)
+                    .sentAt(LocalDateTime.now())
+                    .build();
+            online.forEach(userId -> messagingTemplate.convertAndSendToUser(String.valueOf(userId), NOTIFICATIONS_QUEUE, push));
+        }
+        if (queued) {
+            communicationDispatcher.requestDrain();
+        }
+    }
+
+    private boolean write(Draft draft, String metadata, List<Recipient> chunk, Set<Long> online) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        boolean email = draft.channels().contains(Channel.EMAIL);
+        boolean sms = draft.channels().contains(Channel.SMS);
+        List<Object[]> rows = new ArrayList<>(chunk.size());
+        List<QueuedCommunication> communications = new ArrayList<>();
+        for (Recipient recipient : chunk) {
+            boolean emailQueued = email && recipient.email() != null;
+            rows.add(new Object[]{recipient.userId(), draft.title(), draft.message(), draft.type().name(),
+                    draft.priority().name(), now, draft.actionUrl(), metadata, emailQueued,
+                    online.contains(recipient.userId()), now, now});
+            if (emailQueued) {
+                communications.add(new QueuedCommunication(CommunicationLog.CommunicationType.EMAIL, recipient.email(),
+                        null, "iCastar - " + draft.title(), emailText(recipient, draft), "NOTIFICATION_" + draft.type().name(),
+                        recipient.userId(), metadata));
+            }
+            if (sms && recipient.mobile() != null) {
+                communications.add(new QueuedCommunication(CommunicationLog.CommunicationType.SMS, null,
+                        recipient.mobile(), draft.title(), "iCastar: " + draft.message(),
+                        "NOTIFICATION_" + draft.type().name() + "_SMS", recipient.userId(), metadata));
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        communicationLogService.createLogs(communications);
+        return !communications.isEmpty();
+    }
+
+    private static String emailText(Recipient recipient, Draft draft) {
+        String name = recipient.firstName() != null ? recipient.firstName() : "there";
+        return "Dear " + name + ",\n\n" +
+               draft.message() + "\n\n" +
+               "Log in to your iCastar account to see the details.\n\n" +
+               "Best regards,\nThe iCastar Team";
+    }
+
+    private String toJson(Map<String, Object> metadata) {
+        try {
+            return objectMapper.writeValueAsString(new LinkedHashMap<>(metadata));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize notification metadata", e);
+        }
+    }
+
+    private void evictUnreadCount(Long userId) {
+        unreadCache.evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    unreadCache.evict(userId);
+                }
+            });
+        }
+    }
+
+    private NotificationDto toDto(Notification notification) {
+        return NotificationDto.builder()
+                .id(notification.getId())
+                .type(notification.getType())
+                .priority(notification.getPriority())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .actionUrl(notification.getActionUrl())
+                .isRead(notification.getIsRead())
+                .sentAt(notification.getSentAt())
+                .readAt(notification.getReadAt())
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.icastar.platform.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, TTL-based cache of unread notification counts per user.
+ *
+ * Fan-out adjusts the counts of cached users in place instead of evicting them, so a badge
+ * poll after a large job alert does not turn into thousands of COUNT queries. Marking
+ * notifications read evicts the user's entry; the TTL bounds any drift from a count loaded
+ * while a fan-out chunk was committing.
+ */
+@Component
+public class NotificationUnreadCache {
+
+    @Value("${icastar.notifications.unread-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${icastar.notifications.unread-cache.max-size:50000}")
+    private int maxSize;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Get the cached count for a user, loading it on a miss
+     */
+    public long get(Long userId, LongSupplier loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt > now) {
+            return Math.max(0, entry.count.get());
+        }
+
+        long count = loader.getAsLong();
+        if (entries.size() >= maxSize) {
+            purge(now);
+        }
+        entries.put(userId, new Entry(count, now + ttlSeconds * 1000));
+        return count;
+    }
+
+    /**
+     * Adjust the counts of the users that are cached; the others load on their next read
+     */
+    public void add(Collection<Long> userIds, long delta) {
+        for (Long userId : userIds) {
+            Entry entry = entries.get(userId);
+            if (entry != null) {
+                entry.count.addAndGet(delta);
+            }
+        }
+    }
+
+    public void evict(Long userId) {
+        entries.remove(userId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void purge(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        // Still full of live entries: drop a tenth of them rather than grow past the bound
+        int excess = entries.size() - (maxSize - maxSize / 10);
+        Iterator<Long> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static final class Entry {
+        private final AtomicLong count;
+        private final long expiresAt;
+
+        private Entry(long count, long expiresAt) {
+            this.count = new AtomicLong(count);
+            this.expiresAt = expiresAt;
+        }
+    }
+}
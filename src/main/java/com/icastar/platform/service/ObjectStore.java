@@ -0,0 +1,36 @@
+package com.icastar.platform.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Storage for uploaded files.
+ *
+ * The active implementation is chosen with icastar.file.store; "local" (default) writes under
+ * icastar.file.upload-dir. Content is consumed as a stream and hashed in the same pass, so an
+ * upload never has to fit in memory. Stores backed by an object storage service are expected
+ * to use its multipart upload for large content.
+ */
+public interface ObjectStore {
+
+    /**
+     * Stored object: its key, public URL, size in bytes and hex SHA-256 of the content
+     */
+    record StoredObject(String key, String url, long size, String sha256) {
+    }
+
+    /**
+     * Store content under key, replacing any existing object
+     */
+    StoredObject put(String key, InputStream content, String contentType) throws IOException;
+
+    /**
+     * Open the object behind a URL returned by {@link #put} for reading
+     */
+    InputStream open(String url) throws IOException;
+
+    /**
+     * Delete the object behind a URL returned by {@link #put}; unknown URLs are ignored
+     */
+    void delete(String url);
+}
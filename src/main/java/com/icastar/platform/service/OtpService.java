@@ -5,11 +5,15 @@ import com.icastar.platform.repository.OtpRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Random;
+import java.util.function.IntSupplier;
 
 @Service
 @RequiredArgsConstructor
@@ -18,8 +22,10 @@ import java.util.Random;
 public class OtpService {
 
     private final OtpRepository otpRepository;
+    private final OtpStore otpStore;
     private final EmailService emailService;
     private final SmsService smsService;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${icastar.otp.expiration-minutes}")
     private int otpExpirationMinutes;
@@ -27,6 +33,12 @@ public class OtpService {
     @Value("${icastar.otp.length}")
     private int otpLength;
 
+    @Value("${icastar.otp.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${icastar.otp.cleanup-chunk-size:1000}")
+    private int cleanupChunkSize;
+
     public String generateOtp() {
         Random random = new Random();
         StringBuilder otp = new StringBuilder();
@@ -37,25 +49,10 @@ public class OtpService {
     }
 
     public void sendOtp(String mobile, String email, Otp.OtpType otpType) {
-        // Invalidate existing OTPs for this mobile/email
-        invalidateExistingOtps(mobile, email);
-
-        // Generate new OTP
+        // Generate new OTP; issuing it invalidates existing OTPs for this mobile/email
         String otpCode = generateOtp();
         LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(otpExpirationMinutes);
-
-        // Save OTP to database
-        Otp otp = new Otp();
-        otp.setMobile(mobile);
-        otp.setEmail(email);
-        otp.setOtpCode(otpCode);
-        otp.setOtpType(otpType);
-        otp.setExpiresAt(expiresAt);
-        otp.setStatus(Otp.OtpStatus.PENDING);
-        otp.setAttempts(0);
-        otp.setMaxAttempts(3);
-
-        otpRepository.save(otp);
+        otpStore.issue(mobile, email, otpType, otpCode, expiresAt, 3);
 
         // Send OTP via SMS
         if (mobile != null && !mobile.isEmpty()) {
@@ -71,62 +68,42 @@ public class OtpService {
     }
 
     public boolean verifyOtp(String mobile, String email, String otpCode, Otp.OtpType otpType) {
-        Otp otp = otpRepository.findByMobileAndEmailAndOtpTypeAndStatus(
-                mobile, email, otpType, Otp.OtpStatus.PENDING)
-                .orElse(null);
-
-        if (otp == null) {
-            log.warn("No pending OTP found for mobile: {} and email: {}", mobile, email);
-            return false;
-        }
-
-        // Check if OTP has expired
-        if (LocalDateTime.now().isAfter(otp.getExpiresAt())) {
-            otp.setStatus(Otp.OtpStatus.EXPIRED);
-            otpRepository.save(otp);
-            log.warn("OTP expired for mobile: {} and email: {}", mobile, email);
-            return false;
+        OtpStore.VerifyResult result = otpStore.verify(mobile, email, otpType, otpCode);
+        switch (result) {
+            case VERIFIED -> log.info("OTP verified successfully for mobile: {} and email: {}", mobile, email);
+            case NOT_FOUND -> log.warn("No pending OTP found for mobile: {} and email: {}", mobile, email);
+            case EXPIRED -> log.warn("OTP expired for mobile: {} and email: {}", mobile, email);
+            case ATTEMPTS_EXCEEDED -> log.warn("Max OTP attempts exceeded for mobile: {} and email: {}", mobile, email);
+            default -> log.warn("Invalid OTP for mobile: {} and email: {}", mobile, email);
         }
-
-        // Check if max attempts exceeded
-        if (otp.getAttempts() >= otp.getMaxAttempts()) {
-            otp.setStatus(Otp.OtpStatus.FAILED);
-            otpRepository.save(otp);
-            log.warn("Max OTP attempts exceeded for mobile: {} and email: {}", mobile, email);
-            return false;
-        }
-
-        // Increment attempts
-        otp.setAttempts(otp.getAttempts() + 1);
-
-        // Verify OTP
-        if (otp.getOtpCode().equals(otpCode)) {
-            otp.setStatus(Otp.OtpStatus.VERIFIED);
-            otp.setVerifiedAt(LocalDateTime.now());
-            otpRepository.save(otp);
-            log.info("OTP verified successfully for mobile: {} and email: {}", mobile, email);
-            return true;
-        } else {
-            otpRepository.save(otp);
-            log.warn("Invalid OTP for mobile: {} and email: {}", mobile, email);
-            return false;
-        }
-    }
-
-    private void invalidateExistingOtps(String mobile, String email) {
-        otpRepository.findByMobileAndEmailAndStatus(mobile, email, Otp.OtpStatus.PENDING)
-                .forEach(otp -> {
-                    otp.setStatus(Otp.OtpStatus.EXPIRED);
-                    otpRepository.save(otp);
-                });
+        return result == OtpStore.VerifyResult.VERIFIED;
     }
 
+    /**
+     * Expire stale pending OTPs and purge OTPs that expired more than the retention period ago.
+     * Works in bounded chunks, each in its own short transaction, so a large backlog never holds
+     * long locks on the otps table; purging by expires_at range also maps onto range partitions.
+     */
+    @Scheduled(fixedDelayString = "${icastar.otp.cleanup-interval-ms:300000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cleanupExpiredOtps() {
         LocalDateTime now = LocalDateTime.now();
-        otpRepository.findByExpiresAtBeforeAndStatus(now, Otp.OtpStatus.PENDING)
-                .forEach(otp -> {
-                    otp.setStatus(Otp.OtpStatus.EXPIRED);
-                    otpRepository.save(otp);
-                });
+        LocalDateTime cutoff = now.minusHours(retentionHours);
+        int expired = inChunks(() -> otpRepository.expireStalePending(now, cleanupChunkSize));
+        int purged = inChunks(() -> otpRepository.deleteExpiredBefore(cutoff, cleanupChunkSize));
+        if (expired > 0 || purged > 0) {
+            log.info("OTP cleanup: {} expired, {} purged", expired, purged);
+        }
+    }
+
+    private int inChunks(IntSupplier chunk) {
+        int total = 0;
+        int affected;
+        do {
+            Integer result = transactionTemplate.execute(status -> chunk.getAsInt());
+            affected = result != null ? result : 0;
+            total += affected;
+        } while (affected == cleanupChunkSize);
+        return total;
     }
 }
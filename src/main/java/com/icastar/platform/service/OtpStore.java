@@ -0,0 +1,28 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.Otp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Storage for issued OTPs used by OtpService.
+ *
+ * The active implementation is chosen with icastar.otp.store: "jpa" (default) keeps OTPs in
+ * the otps table, "memory" keeps them in process with expiry on a timing wheel and only
+ * writes an optional audit row. Issuing an OTP replaces any pending one for the same
+ * mobile/email pair.
+ */
+public interface OtpStore {
+
+    enum VerifyResult {
+        VERIFIED, INVALID, EXPIRED, ATTEMPTS_EXCEEDED, NOT_FOUND
+    }
+
+    void issue(String mobile, String email, Otp.OtpType otpType, String otpCode, LocalDateTime expiresAt,
+               int maxAttempts);
+
+    /**
+     * Check a code, counting the attempt; a verified OTP cannot be used again
+     */
+    VerifyResult verify(String mobile, String email, Otp.OtpType otpType, String otpCode);
+}
@@ -0,0 +1,94 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.dto.message.ReadReceiptDto;
+import com.icastar.platform.entity.Message;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind read receipts.
+ *
+ * A client acknowledges the newest message it has shown, per conversation, as often as it
+ * likes; acknowledgements are coalesced in memory to the highest message id per
+ * (reader, sender) pair and written on an interval as one batched
+ * UPDATE ... WHERE conversation_key = ? AND recipient_id = ? AND id <= ? per pair. The sender
+ * then gets one receipt on /user/queue/receipts for everything that was marked.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReadReceiptService {
+
+    private static final String MARK_READ_SQL = "UPDATE messages SET is_read = TRUE, read_at = ? " +
+            "WHERE conversation_key = ? AND recipient_id = ? AND is_read = FALSE AND id <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final Map<Receipt, Long> pending = new ConcurrentHashMap<>();
+
+    private record Receipt(Long readerId, Long senderId) {
+    }
+
+    /**
+     * Record that the reader has seen every message from the sender up to the given id
+     */
+    public void record(Long readerId, Long senderId, long upToMessageId) {
+        pending.merge(new Receipt(readerId, senderId), upToMessageId, Math::max);
+    }
+
+    /**
+     * Write pending receipts in one batch and notify the senders
+     */
+    @Scheduled(fixedDelayString = "${icastar.messaging.read-receipt-flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Receipt, Long> drained = new HashMap<>();
+        for (Receipt receipt : pending.keySet()) {
+            // Remove returns the latest value, so an acknowledgement racing with the flush is kept
+            Long upTo = pending.remove(receipt);
+            if (upTo != null) {
+                drained.put(receipt, upTo);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(drained.size());
+        drained.forEach((receipt, upTo) -> batch.add(new Object[]{
+                now, Message.conversationKey(receipt.readerId(), receipt.senderId()), receipt.readerId(), upTo}));
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(MARK_READ_SQL, batch));
+        } catch (RuntimeException e) {
+            // Put the receipts back so the next flush retries them
+            drained.forEach((receipt, upTo) -> pending.merge(receipt, upTo, Math::max));
+            log.error("Failed to flush {} read receipts: {}", drained.size(), e.getMessage());
+            return;
+        }
+
+        drained.forEach((receipt, upTo) -> messagingTemplate.convertAndSendToUser(
+                String.valueOf(receipt.senderId()), "/queue/receipts",
+                new ReadReceiptDto(receipt.readerId(), upTo, now)));
+        log.debug("Flushed {} read receipts", drained.size());
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -6,7 +6,9 @@ import com.icastar.platform.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,28 +29,31 @@ public class RecruiterDashboardService {
     private final SubscriptionRepository subscriptionRepository;
     private final SubscriptionPlanRepository subscriptionPlanRepository;
     private final UsageTrackingRepository usageTrackingRepository;
+    private final ArtistMatchingService artistMatchingService;
+    private final RecruiterStatsService recruiterStatsService;
+    private final CounterService counterService;
+    private final ImageVariantService imageVariantService;
     
     /**
      * Get recruiter dashboard overview
      */
     @Transactional(readOnly = true)
     public RecruiterDashboardDto getDashboard(User recruiter) {
-        // Get recruiter profile
-        RecruiterProfile recruiterProfile = recruiterProfileRepository.findByUserId(recruiter.getId())
-                .orElseThrow(() -> new RuntimeException("Recruiter profile not found"));
-        
-        // Get subscription information
-        Optional<Subscription> subscription = subscriptionRepository.findByUserIdAndStatus(
-                recruiter.getId(), Subscription.SubscriptionStatus.ACTIVE);
+        // Profile, subscription and usage are loaded once and shared by every figure below
+        RecruiterContext context = loadContext(recruiter);
+        RecruiterProfile recruiterProfile = context.requireProfile();
+        Optional<Subscription> subscription = context.subscription;
         
         // Get dashboard statistics
         Map<String, Object> statistics = getDashboardStatistics(recruiter);
         
         // Get recent activity
-        List<RecentJobDto> recentJobs = getRecentJobs(recruiter, 5);
+        List<RecentJobDto> recentJobs = getRecentJobs(recruiterProfile, 5);
         List<RecentApplicationDto> recentApplications = getRecentApplications(recruiter, 5);
         List<RecentHireDto> recentHires = getRecentHires(recruiter, 5);
         
+        boolean canPostJob = canPostJob(context);
+        
         // Build dashboard DTO
         return RecruiterDashboardDto.builder()
                 .recruiterId(recruiterProfile.getId())
@@ -63,9 +68,9 @@ public class RecruiterDashboardService {
                 .subscriptionPlan(subscription.map(s -> s.getSubscriptionPlan().getName()).orElse("Free"))
                 .subscriptionStatus(subscription.map(s -> s.getStatus().name()).orElse("INACTIVE"))
                 .subscriptionExpiresAt(subscription.map(Subscription::getExpiresAt).orElse(null))
-                .remainingJobPosts(getRemainingJobPosts(recruiter))
-                .maxJobPosts(getMaxJobPosts(recruiter))
-                .canPostJob(canPostJob(recruiter))
+                .remainingJobPosts(getRemainingJobPosts(context))
+                .maxJobPosts(getMaxJobPosts(context))
+                .canPostJob(canPostJob)
                 .totalJobsPosted((Long) statistics.get("totalJobsPosted"))
                 .activeJobs((Long) statistics.get("activeJobs"))
                 .closedJobs((Long) statistics.get("closedJobs"))
@@ -77,14 +82,14 @@ public class RecruiterDashboardService {
                 .recentJobs(recentJobs)
                 .recentApplications(recentApplications)
                 .recentHires(recentHires)
-                .canPostNewJob(canPostJob(recruiter))
+                .canPostNewJob(canPostJob)
                 .canViewApplications(true)
                 .canBrowseArtists(true)
                 .canGetSuggestions(true)
                 .canTrackHires(true)
-                .availableFeatures(getAvailableFeatures(recruiter))
+                .availableFeatures(getAvailableFeatures(context))
                 .premiumFeatures(getPremiumFeatures(recruiter))
-                .hasPremiumFeatures(hasPremiumFeatures(recruiter))
+                .hasPremiumFeatures(hasPremiumFeatures(context))
                 .build();
     }
     
@@ -93,14 +98,15 @@ public class RecruiterDashboardService {
      */
     @Transactional
     public Map<String, Object> postJob(JobPostingDto jobPosting, User recruiter) {
+        RecruiterContext context = loadContext(recruiter);
+        
         // Check if recruiter can post job
-        if (!canPostJob(recruiter)) {
+        if (!canPostJob(context)) {
             throw new RuntimeException("Insufficient subscription to post job");
         }
         
         // Get recruiter profile
-        RecruiterProfile recruiterProfile = recruiterProfileRepository.findByUserId(recruiter.getId())
-                .orElseThrow(() -> new RuntimeException("Recruiter profile not found"));
+        RecruiterProfile recruiterProfile = context.requireProfile();
         
         // Create job post
         JobPost jobPost = new JobPost();
@@ -125,6 +131,8 @@ public class RecruiterDashboardService {
         
         // Track usage
         trackJobPostUsage(recruiter);
+        context.usedJobPosts++;
+        recruiterStatsService.markStale(recruiter.getId());
         
         // Return result
         Map<String, Object> result = new HashMap<>();
@@ -132,7 +140,7 @@ public class RecruiterDashboardService {
         result.put("title", savedJob.getTitle());
         result.put("status", savedJob.getStatus());
         result.put("createdAt", savedJob.getCreatedAt());
-        result.put("remainingJobPosts", getRemainingJobPosts(recruiter));
+        result.put("remainingJobPosts", getRemainingJobPosts(context));
         
         return result;
     }
@@ -181,8 +189,8 @@ public class RecruiterDashboardService {
             throw new RuntimeException("Access denied to this job");
         }
         
-        // Get applications count - TODO: Calculate from JobApplication repository if needed
-        int applicationCount = 0;
+        // Counters include deltas not yet flushed to the row
+        int applicationCount = counterService.current(CounterService.Counter.JOB_POST_APPLICATIONS, jobPost.getId(), jobPost.getTotalApplications());
         
         // Build job details
         Map<String, Object> jobDetails = new HashMap<>();
@@ -202,7 +210,7 @@ public class RecruiterDashboardService {
         jobDetails.put("createdAt", jobPost.getCreatedAt());
         jobDetails.put("updatedAt", jobPost.getUpdatedAt());
         jobDetails.put("applicationCount", applicationCount);
-        jobDetails.put("viewCount", 0); // This would need to be tracked separately
+        jobDetails.put("viewCount", counterService.current(CounterService.Counter.JOB_POST_VIEWS, jobPost.getId(), jobPost.getTotalViews()));
         jobDetails.put("boostCount", 0); // This would need to be tracked separately
         
         return jobDetails;
@@ -242,21 +250,18 @@ public class RecruiterDashboardService {
                                                     String skills, String genres, String experienceLevel,
                                                     String availability, Boolean isVerified, Boolean isPremium,
                                                     Pageable pageable, User recruiter) {
-        // Get all artist profiles with filters
-        Page<ArtistProfile> artistProfiles = artistProfileRepository.findAll(pageable);
-        
-        // Apply filters
-        if (artistCategory != null) {
-            // Filter artist profiles by category
-            List<ArtistProfile> filteredProfiles = artistProfiles.getContent().stream()
-                    .filter(profile -> profile.getArtistType() != null && 
-                            profile.getArtistType().getDisplayName().equals(artistCategory))
-                    .collect(Collectors.toList());
-            // Create a new Page with filtered content
-            artistProfiles = new org.springframework.data.domain.PageImpl<>(filteredProfiles, pageable, filteredProfiles.size());
-        }
-        
-        return artistProfiles.map(this::convertToArtistSuggestionDto);
+        // All filters run in one query; skills and travel cities go through artist_attributes
+        Specification<ArtistProfile> specification = Specification.where(ArtistProfileSpecifications.isActive())
+                .and(ArtistProfileSpecifications.hasArtistTypeDisplayName(artistCategory))
+                .and(ArtistProfileSpecifications.hasArtistTypeName(artistType))
+                .and(ArtistProfileSpecifications.availableIn(location))
+                .and(ArtistProfileSpecifications.isVerified(isVerified))
+                .and(ArtistProfileSpecifications.hasAnyAttribute(ArtistAttribute.AttributeType.SKILL,
+                        skills != null ? Arrays.asList(skills.split(",")) : null));
+        Page<ArtistProfile> artistProfiles = artistProfileRepository.findAll(specification, pageable);
+        Map<Long, String> photos = listPhotoUrls(artistProfiles.getContent());
+        
+        return artistProfiles.map(profile -> convertToArtistSuggestionDto(profile, photos));
     }
     
     /**
@@ -272,27 +277,27 @@ public class RecruiterDashboardService {
         final JobPost jobPost = jobId != null ? 
                 jobPostRepository.findById(jobId).orElseThrow(() -> new RuntimeException("Job not found")) : null;
         
-        // Get all artist profiles
-        List<ArtistProfile> artistProfiles = artistProfileRepository.findAll();
-        
-        // Convert to suggestions and calculate match scores
-        List<ArtistSuggestionDto> suggestions = artistProfiles.stream()
-                .map(profile -> {
-                    ArtistSuggestionDto suggestion = convertToArtistSuggestionDto(profile);
-                    
-                    // Calculate match score based on criteria
-                    double matchScore = calculateMatchScore(profile, jobPost, artistCategory, artistType,
-                            location, skills, genres, experienceLevel, availability, isVerified, isPremium);
-                    
-                    suggestion.setMatchScore(matchScore);
-                    suggestion.setMatchReasons(generateMatchReasons(profile, jobPost, artistCategory, artistType,
-                            location, skills, genres, experienceLevel, availability, isVerified, isPremium));
-                    
+        // Score against the in-memory matching index, then load only the top-K profiles
+        ArtistMatchingService.MatchCriteria criteria = ArtistMatchingService.MatchCriteria.of(jobPost,
+                artistCategory, artistType, location, skills, genres, experienceLevel, isVerified);
+        List<ArtistMatchingService.ArtistMatch> matches = artistMatchingService.findTopMatches(
+                criteria, limit != null ? limit : 10, 0.3);
+        
+        Map<Long, ArtistProfile> profilesById = artistProfileRepository.findForMatchingByIds(
+                        matches.stream().map(ArtistMatchingService.ArtistMatch::getArtistProfileId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(ArtistProfile::getId, profile -> profile));
+        Map<Long, String> photos = listPhotoUrls(profilesById.values());
+        
+        List<ArtistSuggestionDto> suggestions = matches.stream()
+                .filter(match -> profilesById.containsKey(match.getArtistProfileId()))
+                .map(match -> {
+                    ArtistSuggestionDto suggestion = convertToArtistSuggestionDto(
+                            profilesById.get(match.getArtistProfileId()), photos);
+                    suggestion.setMatchScore(match.getScore());
+                    suggestion.setMatchReasons(match.getReasons());
                     return suggestion;
                 })
-                .filter(suggestion -> suggestion.getMatchScore() > 0.3) // Only show relevant matches
-                .sorted((a, b) -> Double.compare(b.getMatchScore(), a.getMatchScore()))
-                .limit(limit)
                 .collect(Collectors.toList());
         
         return suggestions;
@@ -386,9 +391,8 @@ public class RecruiterDashboardService {
      */
     @Transactional(readOnly = true)
     public Map<String, Object> getSubscriptionStatus(User recruiter) {
-        // Get subscription
-        Optional<Subscription> subscription = subscriptionRepository.findByUserIdAndStatus(
-                recruiter.getId(), Subscription.SubscriptionStatus.ACTIVE);
+        RecruiterContext context = loadContext(recruiter);
+        Optional<Subscription> subscription = context.subscription;
         
         Map<String, Object> subscriptionStatus = new HashMap<>();
         subscriptionStatus.put("hasSubscription", subscription.isPresent());
@@ -396,12 +400,12 @@ public class RecruiterDashboardService {
         subscriptionStatus.put("subscriptionPlan", subscription.map(s -> s.getSubscriptionPlan().getName()).orElse("Free"));
         subscriptionStatus.put("subscriptionStatus", subscription.map(s -> s.getStatus().name()).orElse("INACTIVE"));
         subscriptionStatus.put("expiresAt", subscription.map(Subscription::getExpiresAt).orElse(null));
-        subscriptionStatus.put("remainingJobPosts", getRemainingJobPosts(recruiter));
-        subscriptionStatus.put("maxJobPosts", getMaxJobPosts(recruiter));
-        subscriptionStatus.put("canPostJob", canPostJob(recruiter));
-        subscriptionStatus.put("availableFeatures", getAvailableFeatures(recruiter));
+        subscriptionStatus.put("remainingJobPosts", getRemainingJobPosts(context));
+        subscriptionStatus.put("maxJobPosts", getMaxJobPosts(context));
+        subscriptionStatus.put("canPostJob", canPostJob(context));
+        subscriptionStatus.put("availableFeatures", getAvailableFeatures(context));
         subscriptionStatus.put("premiumFeatures", getPremiumFeatures(recruiter));
-        subscriptionStatus.put("hasPremiumFeatures", hasPremiumFeatures(recruiter));
+        subscriptionStatus.put("hasPremiumFeatures", hasPremiumFeatures(context));
         
         return subscriptionStatus;
     }
@@ -429,6 +433,7 @@ public class RecruiterDashboardService {
         jobPost.setUpdatedAt(LocalDateTime.now());
         
         JobPost savedJob = jobPostRepository.save(jobPost);
+        recruiterStatsService.markStale(recruiter.getId());
         
         Map<String, Object> result = new HashMap<>();
         result.put("jobId", savedJob.getId());
@@ -469,40 +474,29 @@ public class RecruiterDashboardService {
     // Helper methods
     
     private Map<String, Object> getDashboardStatistics(User recruiter) {
-        // Get recruiter profile
-        RecruiterProfile recruiterProfile = recruiterProfileRepository.findByUserId(recruiter.getId())
-                .orElseThrow(() -> new RuntimeException("Recruiter profile not found"));
+        RecruiterStats stats = recruiterStatsService.getStats(recruiter.getId());
         
-        // Get job posts by recruiter
-        List<JobPost> jobPosts = jobPostRepository.findByRecruiterId(recruiterProfile.getId(), Pageable.unpaged()).getContent();
+        long totalJobs = stats.getTotalJobs();
+        long totalApplications = stats.getTotalApplications();
+        long totalHires = stats.getTotalHires();
         
         Map<String, Object> statistics = new HashMap<>();
-        statistics.put("totalJobsPosted", (long) jobPosts.size());
-        statistics.put("activeJobs", jobPosts.stream().filter(job -> job.getIsActive()).count());
-        statistics.put("closedJobs", jobPosts.stream().filter(job -> !job.getIsActive()).count());
-        statistics.put("totalApplications", 0); // TODO: Calculate from JobApplication repository if needed
-        statistics.put("totalHires", 0L); // This would need to be tracked separately
-        statistics.put("totalViews", 0L); // This would need to be tracked separately
-        statistics.put("averageApplicationsPerJob", 0.0); // TODO: Calculate from JobApplication repository if needed
-        statistics.put("hireRate", 0.0); // This would need to be calculated
+        statistics.put("totalJobsPosted", totalJobs);
+        statistics.put("activeJobs", stats.getActiveJobs());
+        statistics.put("closedJobs", stats.getClosedJobs());
+        statistics.put("totalApplications", totalApplications);
+        statistics.put("totalHires", totalHires);
+        statistics.put("totalViews", stats.getTotalViews());
+        statistics.put("averageApplicationsPerJob", totalJobs > 0 ? (double) totalApplications / totalJobs : 0.0);
+        statistics.put("hireRate", totalApplications > 0 ? (double) totalHires / totalApplications : 0.0);
+        statistics.put("computedAt", stats.getComputedAt());
         
         return statistics;
     }
     
-    private List<RecentJobDto> getRecentJobs(User recruiter, int limit) {
-        // Get recruiter profile
-        RecruiterProfile recruiterProfile = recruiterProfileRepository.findByUserId(recruiter.getId())
-                .orElseThrow(() -> new RuntimeException("Recruiter profile not found"));
-        
-        // Get recent job posts
-        List<JobPost> jobPosts = jobPostRepository.findByRecruiterId(recruiterProfile.getId(), Pageable.unpaged())
-                .getContent()
+    private List<RecentJobDto> getRecentJobs(RecruiterProfile recruiterProfile, int limit) {
+        return jobPostRepository.findByRecruiterIdOrderByCreatedAtDesc(recruiterProfile.getId(), PageRequest.of(0, limit))
                 .stream()
-                .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                .limit(limit)
-                .collect(Collectors.toList());
-        
-        return jobPosts.stream()
                 .map(this::convertToRecentJobDto)
                 .collect(Collectors.toList());
     }
@@ -532,8 +526,8 @@ public class RecruiterDashboardService {
                 .applicationDeadline(jobPost.getApplicationDeadline())
                 .startDate(jobPost.getStartDate())
                 .createdAt(jobPost.getCreatedAt())
-                .applicationCount(0) // TODO: Calculate from JobApplication repository if needed
-                .viewCount(0) // This would need to be tracked separately
+                .applicationCount(counterService.current(CounterService.Counter.JOB_POST_APPLICATIONS, jobPost.getId(), jobPost.getTotalApplications()))
+                .viewCount(counterService.current(CounterService.Counter.JOB_POST_VIEWS, jobPost.getId(), jobPost.getTotalViews()))
                 .boostCount(0) // This would need to be tracked separately
                 .canEdit(true)
                 .canClose(true)
@@ -572,6 +566,24 @@ public class RecruiterDashboardService {
                 .build();
     }
     
+    /**
+     * Card photo per user for a page of artists, loaded in one go and served as thumbnails
+     */
+    private Map<Long, String> listPhotoUrls(Collection<ArtistProfile> artistProfiles) {
+        return imageVariantService.listPhotoUrls(artistProfiles.stream()
+                .map(profile -> profile.getUser().getId())
+                .collect(Collectors.toSet()));
+    }
+
+    private ArtistSuggestionDto convertToArtistSuggestionDto(ArtistProfile artistProfile, Map<Long, String> photos) {
+        ArtistSuggestionDto suggestion = convertToArtistSuggestionDto(artistProfile);
+        String photo = photos.get(artistProfile.getUser().getId());
+        if (photo != null) {
+            suggestion.setProfilePhoto(photo);
+        }
+        return suggestion;
+    }
+
     private ArtistSuggestionDto convertToArtistSuggestionDto(ArtistProfile artistProfile) {
         return ArtistSuggestionDto.builder()
                 .artistId(artistProfile.getId())
@@ -580,15 +592,15 @@ public class RecruiterDashboardService {
                 .artistCategory(artistProfile.getArtistType() != null ? 
                         artistProfile.getArtistType().getDisplayName() : "Unknown")
                 .artistType("Unknown") // Placeholder
-                .location("N/A") // Placeholder
-                .bio("N/A") // Placeholder
+                .location(artistProfile.getLocation() != null ? artistProfile.getLocation() : "N/A")
+                .bio(artistProfile.getBio() != null ? artistProfile.getBio() : "N/A")
                 .profilePhoto("N/A") // Placeholder
                 .matchScore(0.0)
                 .matchReasons(new ArrayList<>())
                 .skills(new ArrayList<>())
                 .genres(new ArrayList<>())
                 .languages(new ArrayList<>())
-                .experienceYears(0) // Placeholder
+                .experienceYears(artistProfile.getExperienceYears() != null ? artistProfile.getExperienceYears() : 0)
                 .experienceLevel("Unknown") // Placeholder
                 .portfolioItems(new ArrayList<>())
                 .achievements(new ArrayList<>())
@@ -605,11 +617,11 @@ public class RecruiterDashboardService {
                 .socialLinks(new ArrayList<>())
                 .contactPreference("Email")
                 .lastActive(LocalDateTime.now())
-                .totalApplications(0) // Placeholder
-                .totalHires(0) // Placeholder
+                .totalApplications(counterService.current(CounterService.Counter.ARTIST_APPLICATIONS, artistProfile.getId(), artistProfile.getTotalApplications()))
+                .totalHires(counterService.current(CounterService.Counter.ARTIST_HIRES, artistProfile.getId(), artistProfile.getSuccessfulHires()))
                 .hireRate(0.0) // Placeholder
-                .verificationStatus("UNVERIFIED") // Placeholder
-                .isVerified(false)
+                .verificationStatus(Boolean.TRUE.equals(artistProfile.getIsVerifiedBadge()) ? "VERIFIED" : "UNVERIFIED")
+                .isVerified(Boolean.TRUE.equals(artistProfile.getIsVerifiedBadge()))
                 .isPremium(false)
                 .canViewProfile(true)
                 .canContact(true)
@@ -619,57 +631,37 @@ public class RecruiterDashboardService {
                 .build();
     }
     
-    private double calculateMatchScore(ArtistProfile profile, JobPost jobPost, String artistCategory,
-                                          String artistType, String location, String skills, String genres,
-                                          String experienceLevel, String availability, Boolean isVerified,
-                                          Boolean isPremium) {
-        // This would implement sophisticated matching algorithm
-        return Math.random(); // Placeholder
-    }
-    
-    private List<String> generateMatchReasons(ArtistProfile profile, JobPost jobPost, String artistCategory,
-                                              String artistType, String location, String skills, String genres,
-                                              String experienceLevel, String availability, Boolean isVerified,
-                                              Boolean isPremium) {
-        // This would generate reasons for the match
-        return Arrays.asList("Skills match", "Location match", "Experience level match");
+    private RecruiterContext loadContext(User recruiter) {
+        RecruiterContext context = new RecruiterContext();
+        context.profile = recruiterProfileRepository.findByUserId(recruiter.getId()).orElse(null);
+        context.subscription = subscriptionRepository.findWithPlanFeaturesByUserIdAndStatus(
+                recruiter.getId(), Subscription.SubscriptionStatus.ACTIVE);
+        if (context.subscription.isPresent()) {
+            context.usedJobPosts = usageTrackingRepository.countByUserIdAndFeatureType(recruiter.getId(), "JOB_POSTING");
+        }
+        return context;
     }
     
-    private boolean canPostJob(User recruiter) {
+    private boolean canPostJob(RecruiterContext context) {
         // Check subscription and remaining job posts
-        return getRemainingJobPosts(recruiter) > 0;
+        return getRemainingJobPosts(context) > 0;
     }
     
-    private int getRemainingJobPosts(User recruiter) {
-        // Get subscription
-        Optional<Subscription> subscription = subscriptionRepository.findByUserIdAndStatus(
-                recruiter.getId(), Subscription.SubscriptionStatus.ACTIVE);
-        
-        if (subscription.isEmpty()) {
+    private int getRemainingJobPosts(RecruiterContext context) {
+        if (context.subscription.isEmpty()) {
             return 0; // No subscription
         }
         
-        // Get usage tracking
-        List<UsageTracking> usage = usageTrackingRepository.findByUserIdAndFeatureType(
-                recruiter.getId(), "JOB_POSTING");
-        
-        int used = usage.size();
-        int max = getMaxJobPosts(recruiter);
-        
-        return Math.max(0, max - used);
+        return (int) Math.max(0, getMaxJobPosts(context) - context.usedJobPosts);
     }
     
-    private int getMaxJobPosts(User recruiter) {
-        // Get subscription
-        Optional<Subscription> subscription = subscriptionRepository.findByUserIdAndStatus(
-                recruiter.getId(), Subscription.SubscriptionStatus.ACTIVE);
-        
-        if (subscription.isEmpty()) {
+    private int getMaxJobPosts(RecruiterContext context) {
+        if (context.subscription.isEmpty()) {
             return 0; // No subscription
         }
         
         // Get plan features
-        List<PlanFeature> features = subscription.get().getSubscriptionPlan().getFeatures();
+        List<PlanFeature> features = context.subscription.get().getSubscriptionPlan().getFeatures();
         
         for (PlanFeature feature : features) {
             if (feature.getFeatureName().equals("JOB_POSTING")) {
@@ -684,17 +676,13 @@ public class RecruiterDashboardService {
         return 0;
     }
     
-    private List<String> getAvailableFeatures(User recruiter) {
-        // Get subscription
-        Optional<Subscription> subscription = subscriptionRepository.findByUserIdAndStatus(
-                recruiter.getId(), Subscription.SubscriptionStatus.ACTIVE);
-        
-        if (subscription.isEmpty()) {
+    private List<String> getAvailableFeatures(RecruiterContext context) {
+        if (context.subscription.isEmpty()) {
             return Arrays.asList("Basic job posting", "View applications");
         }
         
         // Get plan features
-        List<PlanFeature> features = subscription.get().getSubscriptionPlan().getFeatures();
+        List<PlanFeature> features = context.subscription.get().getSubscriptionPlan().getFeatures();
         
         return features.stream()
                 .map(PlanFeature::getFeatureName)
@@ -705,17 +693,13 @@ public class RecruiterDashboardService {
         return Arrays.asList("Advanced job posting", "Artist suggestions", "Boost jobs", "Analytics");
     }
     
-    private boolean hasPremiumFeatures(User recruiter) {
-        // Get subscription
-        Optional<Subscription> subscription = subscriptionRepository.findByUserIdAndStatus(
-                recruiter.getId(), Subscription.SubscriptionStatus.ACTIVE);
-        
-        if (subscription.isEmpty()) {
+    private boolean hasPremiumFeatures(RecruiterContext context) {
+        if (context.subscription.isEmpty()) {
             return false;
         }
         
         // Check if plan has premium features
-        return subscription.get().getSubscriptionPlan().getPlanType() != SubscriptionPlan.PlanType.FREE;
+        return context.subscription.get().getSubscriptionPlan().getPlanType() != SubscriptionPlan.PlanType.FREE;
     }
     
     private void trackJobPostUsage(User recruiter) {
@@ -729,4 +713,21 @@ public class RecruiterDashboardService {
         
         usageTrackingRepository.save(usage);
     }
+    
+    /**
+     * Recruiter profile, active subscription (with plan features) and job posting usage,
+     * loaded once per request and shared by the subscription helpers
+     */
+    private static class RecruiterContext {
+        private RecruiterProfile profile;
+        private Optional<Subscription> subscription = Optional.empty();
+        private long usedJobPosts;
+        
+        private RecruiterProfile requireProfile() {
+            if (profile == null) {
+                throw new RuntimeException("Recruiter profile not found");
+            }
+            return profile;
+        }
+    }
 }
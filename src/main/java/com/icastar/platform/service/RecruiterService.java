@@ -23,6 +23,7 @@ public class RecruiterService {
 
     private final RecruiterProfileRepository recruiterProfileRepository;
     private final UserRepository userRepository;
+    private final CounterService counterService;
 
     @Transactional(readOnly = true)
     public Optional<RecruiterProfile> findById(Long id) {
@@ -153,11 +154,7 @@ public class RecruiterService {
     }
 
     public void incrementSuccessfulHires(Long recruiterProfileId) {
-        RecruiterProfile recruiterProfile = recruiterProfileRepository.findById(recruiterProfileId)
-                .orElseThrow(() -> new RuntimeException("Recruiter profile not found"));
-
-        recruiterProfile.setSuccessfulHires(recruiterProfile.getSuccessfulHires() + 1);
-        recruiterProfileRepository.save(recruiterProfile);
+        counterService.increment(CounterService.Counter.RECRUITER_HIRES, recruiterProfileId);
     }
 
     public void addChatCredits(Long recruiterProfileId, Integer credits) {
@@ -0,0 +1,107 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.JobApplication;
+import com.icastar.platform.entity.RecruiterStats;
+import com.icastar.platform.repository.JobApplicationRepository;
+import com.icastar.platform.repository.JobPostRepository;
+import com.icastar.platform.repository.RecruiterStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Per-recruiter dashboard counters backed by the recruiter_stats row.
+ *
+ * Reads return the stored row; it is recomputed with two GROUP BY projections (job posts by
+ * active flag, applications by status and hired flag) only when it is missing, has been
+ * marked stale by a job or application event, or is older than the configured maximum age.
+ * The row is created with an insert that tolerates a concurrent first read, and the stale flag
+ * is cleared only when no markStale committed since the recompute read the row.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class RecruiterStatsService {
+
+    private final RecruiterStatsRepository recruiterStatsRepository;
+    private final JobPostRepository jobPostRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+
+    @Value("${icastar.dashboard.stats-max-age-seconds:300}")
+    private long maxAgeSeconds;
+
+    /**
+     * Get a recruiter's stats, recomputing them first if needed
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public RecruiterStats getStats(Long recruiterUserId) {
+        RecruiterStats stats = recruiterStatsRepository.findByRecruiterUserId(recruiterUserId)
+                .orElseGet(() -> {
+                    recruiterStatsRepository.insertIfMissing(recruiterUserId);
+                    return recruiterStatsRepository.findByRecruiterUserId(recruiterUserId)
+                            .orElseThrow(() -> new IllegalStateException("Recruiter stats row missing after insert"));
+                });
+
+        LocalDateTime now = LocalDateTime.now();
+        if (Boolean.TRUE.equals(stats.getIsStale())
+                || stats.getComputedAt() == null || stats.getComputedAt().isBefore(now.minusSeconds(maxAgeSeconds))) {
+            Long staleVersion = stats.getStaleVersion();
+            recompute(stats);
+            stats.setComputedAt(now);
+            stats = recruiterStatsRepository.saveAndFlush(stats);
+            if (recruiterStatsRepository.clearStale(stats.getId(), staleVersion) > 0) {
+                stats.setIsStale(false);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Flag a recruiter's stats for recomputation; called on job and application events
+     */
+    public void markStale(Long recruiterUserId) {
+        if (recruiterUserId != null) {
+            recruiterStatsRepository.markStale(recruiterUserId);
+        }
+    }
+
+    private void recompute(RecruiterStats stats) {
+        long activeJobs = 0;
+        long closedJobs = 0;
+        long totalViews = 0;
+        for (Object[] row : jobPostRepository.aggregateByRecruiterUserId(stats.getRecruiterUserId())) {
+            long count = ((Number) row[1]).longValue();
+            if (Boolean.TRUE.equals(row[0])) {
+                activeJobs += count;
+            } else {
+                closedJobs += count;
+            }
+            totalViews += ((Number) row[2]).longValue();
+        }
+
+        long totalApplications = 0;
+        long totalHires = 0;
+        for (Object[] row : jobApplicationRepository.aggregateByRecruiterId(stats.getRecruiterUserId())) {
+            long count = ((Number) row[2]).longValue();
+            totalApplications += count;
+            if (row[0] == JobApplication.ApplicationStatus.HIRED || Boolean.TRUE.equals(row[1])) {
+                totalHires += count;
+            }
+        }
+
+        stats.setTotalJobs(activeJobs + closedJobs);
+        stats.setActiveJobs(activeJobs);
+        stats.setClosedJobs(closedJobs);
+        stats.setTotalViews(totalViews);
+        stats.setTotalApplications(totalApplications);
+        stats.setTotalHires(totalHires);
+        log.debug("Recomputed dashboard stats for recruiter {}", stats.getRecruiterUserId());
+    }
+}
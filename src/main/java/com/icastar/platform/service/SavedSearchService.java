@@ -0,0 +1,175 @@
+package com.icastar.platform.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icastar.platform.dto.job.JobFilterDto;
+import com.icastar.platform.dto.job.SavedSearchDto;
+import com.icastar.platform.dto.job.SavedSearchRequestDto;
+import com.icastar.platform.entity.SavedSearch;
+import com.icastar.platform.entity.User;
+import com.icastar.platform.exception.BusinessException;
+import com.icastar.platform.repository.SavedSearchRepository;
+import com.icastar.platform.repository.UserRepository;
+import com.icastar.platform.util.AttributeValues;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Artists' saved job searches; every change is pushed to the job alert index after commit
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SavedSearchService {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final UserRepository userRepository;
+    private final JobAlertService jobAlertService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${icastar.job-alerts.max-saved-searches-per-user:20}")
+    private int maxSavedSearchesPerUser;
+
+    @Transactional(readOnly = true)
+    public List<SavedSearchDto> getSavedSearches(Long userId) {
+        return savedSearchRepository.findByUserIdAndIsActiveTrueOrderByIdDesc(userId).stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    public SavedSearchDto createSavedSearch(Long userId, SavedSearchRequestDto request) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException("User not found"));
+        if (user.getRole() != User.UserRole.ARTIST) {
+            throw new BusinessException("Only artists can save job searches");
+        }
+        if (savedSearchRepository.countByUserIdAndIsActiveTrue(userId) >= maxSavedSearchesPerUser) {
+            throw new BusinessException("You can save at most " + maxSavedSearchesPerUser + " job searches");
+        }
+
+        SavedSearch savedSearch = new SavedSearch();
+        savedSearch.setUser(user);
+        apply(savedSearch, request);
+        SavedSearch saved = savedSearchRepository.save(savedSearch);
+        jobAlertService.onSavedSearchChanged(saved);
+        log.info("User {} saved job search {}", userId, saved.getId());
+        return toDto(saved);
+    }
+
+    public SavedSearchDto updateSavedSearch(Long userId, Long savedSearchId, SavedSearchRequestDto request) {
+        SavedSearch savedSearch = savedSearchRepository.findByIdAndUserIdAndIsActiveTrue(savedSearchId, userId)
+                .orElseThrow(() -> new BusinessException("Saved search not found"));
+        apply(savedSearch, request);
+        SavedSearch saved = savedSearchRepository.save(savedSearch);
+        jobAlertService.onSavedSearchChanged(saved);
+        return toDto(saved);
+    }
+
+    /**
+     * Deactivate a saved search; alerts it already queued are still sent
+     */
+    public void deleteSavedSearch(Long userId, Long savedSearchId) {
+        SavedSearch savedSearch = savedSearchRepository.findByIdAndUserIdAndIsActiveTrue(savedSearchId, userId)
+                .orElseThrow(() -> new BusinessException("Saved search not found"));
+        savedSearch.setIsActive(false);
+        jobAlertService.onSavedSearchChanged(savedSearchRepository.save(savedSearch));
+    }
+
+    private void apply(SavedSearch savedSearch, SavedSearchRequestDto request) {
+        JobFilterDto filter = request.getFilter();
+        String skillMatch = filter.getSkillMatch() != null ? filter.getSkillMatch().trim().toUpperCase(Locale.ROOT) : "ANY";
+        if (!"ANY".equals(skillMatch) && !"ALL".equals(skillMatch)) {
+            throw new IllegalArgumentException("skillMatch must be ANY or ALL");
+        }
+        if (filter.getMinPay() != null && filter.getMaxPay() != null && filter.getMinPay().compareTo(filter.getMaxPay()) > 0) {
+            throw new IllegalArgumentException("minPay must not exceed maxPay");
+        }
+
+        savedSearch.setName(request.getName().trim());
+        savedSearch.setSearchTerm(trimToNull(filter.getSearchTerm()));
+        savedSearch.setJobTitle(trimToNull(filter.getJobTitle()));
+        savedSearch.setJobType(filter.getJobType());
+        savedSearch.setExperienceLevel(filter.getExperienceLevel());
+        savedSearch.setMinPay(filter.getMinPay());
+        savedSearch.setMaxPay(filter.getMaxPay());
+        savedSearch.setCurrency(filter.getCurrency() != null && !filter.getCurrency().isBlank()
+                ? filter.getCurrency().trim().toUpperCase(Locale.ROOT) : null);
+        savedSearch.setLocation(trimToNull(filter.getLocation()));
+        savedSearch.setIsRemote(filter.getIsRemote());
+        savedSearch.setIsUrgent(filter.getIsUrgent());
+        savedSearch.setIsFeatured(filter.getIsFeatured());
+        savedSearch.setSkills(toJson(AttributeValues.normalize(filter.getSkills())));
+        savedSearch.setSkillMatch(skillMatch);
+        savedSearch.setTags(toJson(AttributeValues.normalize(filter.getTags())));
+        savedSearch.setAlertFrequency(request.getAlertFrequency() != null
+                ? request.getAlertFrequency() : SavedSearch.AlertFrequency.DAILY);
+        savedSearch.setEmailAlerts(request.getEmailAlerts() == null || request.getEmailAlerts());
+        savedSearch.setSmsAlerts(Boolean.TRUE.equals(request.getSmsAlerts()));
+    }
+
+    private SavedSearchDto toDto(SavedSearch savedSearch) {
+        JobFilterDto filter = new JobFilterDto();
+        filter.setSearchTerm(savedSearch.getSearchTerm());
+        filter.setJobTitle(savedSearch.getJobTitle());
+        filter.setJobType(savedSearch.getJobType());
+        filter.setExperienceLevel(savedSearch.getExperienceLevel());
+        filter.setMinPay(savedSearch.getMinPay());
+        filter.setMaxPay(savedSearch.getMaxPay());
+        filter.setCurrency(savedSearch.getCurrency());
+        filter.setLocation(savedSearch.getLocation());
+        filter.setIsRemote(savedSearch.getIsRemote());
+        filter.setIsUrgent(savedSearch.getIsUrgent());
+        filter.setIsFeatured(savedSearch.getIsFeatured());
+        filter.setSkills(parseJsonList(savedSearch.getSkills()));
+        filter.setSkillMatch(savedSearch.getSkillMatch());
+        filter.setTags(parseJsonList(savedSearch.getTags()));
+
+        return SavedSearchDto.builder()
+                .id(savedSearch.getId())
+                .name(savedSearch.getName())
+                .filter(filter)
+                .alertFrequency(savedSearch.getAlertFrequency())
+                .emailAlerts(savedSearch.getEmailAlerts())
+                .smsAlerts(savedSearch.getSmsAlerts())
+                .createdAt(savedSearch.getCreatedAt())
+                .updatedAt(savedSearch.getUpdatedAt())
+                .build();
+    }
+
+    private String toJson(List<String> values) {
+        if (values.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error processing saved search data");
+        }
+    }
+
+    private List<String> parseJsonList(String json) {
+        if (json == null || json.isBlank()) {
+            return Collections.emptyList();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<List<String>>() {});
+        } catch (JsonProcessingException e) {
+            log.warn("Could not parse saved search list: {}", json);
+            return Collections.emptyList();
+        }
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
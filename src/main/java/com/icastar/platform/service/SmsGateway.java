@@ -0,0 +1,18 @@
+package com.icastar.platform.service;
+
+/**
+ * Outbound SMS provider used by the communication dispatcher.
+ *
+ * The active implementation is chosen with icastar.sms.provider: "log" (default) only logs
+ * the message, "http" posts it to icastar.sms.http.url, which can be a provider bridge or a
+ * local sink in development and tests.
+ */
+public interface SmsGateway {
+
+    /**
+     * Send a message; throws on failure so the caller can record it
+     *
+     * @return provider message id, or null if the provider does not return one
+     */
+    String send(String mobile, String message);
+}
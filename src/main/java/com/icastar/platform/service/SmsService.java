@@ -1,128 +1,90 @@
 package com.icastar.platform.service;
 
 import com.icastar.platform.entity.CommunicationLog;
+import com.icastar.platform.service.CommunicationLogService.QueuedCommunication;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Queues outbound SMS in the communication_logs outbox; {@link CommunicationDispatcher}
+ * sends them through the configured {@link SmsGateway} after the surrounding transaction commits.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SmsService {
 
     private final CommunicationLogService communicationLogService;
-
-    // TODO: Integrate with actual SMS provider (Twilio, AWS SNS, etc.)
-    // This is a placeholder implementation
+    private final CommunicationDispatcher communicationDispatcher;
 
     @Transactional
     public void sendOtpSms(String mobile, String otp) {
-        CommunicationLog logEntry = null;
-        try {
-            // Create communication log
-            String messageText = "Your iCastar OTP is: " + otp + ". Valid for 5 minutes.";
-            
-            logEntry = communicationLogService.createLog(
-                CommunicationLog.CommunicationType.SMS,
-                null,
-                mobile,
-                "iCastar OTP Verification",
-                messageText,
-                "OTP_VERIFICATION_SMS",
-                null,
-                "{\"otp\":\"" + otp + "\",\"type\":\"verification\"}"
-            );
+        String messageText = "Your iCastar OTP is: " + otp + ". Valid for 5 minutes.";
 
-            // Placeholder for SMS integration
-            // In production, integrate with SMS provider like:
-            // - Twilio
-            // - AWS SNS
-            // - TextLocal
-            // - MSG91
-            
-            // Example Twilio integration (commented out):
-            /*
-            Twilio.init(accountSid, authToken);
-            Message message = Message.creator(
-                new PhoneNumber(mobile),
-                new PhoneNumber(twilioPhoneNumber),
-                messageText
-            ).create();
-            */
-            
-            // Mark as sent (placeholder - in production, use actual SMS provider response)
-            communicationLogService.markAsSent(logEntry.getId(), null);
-            log.info("SMS OTP sent to {}: {}", mobile, otp);
-            
-        } catch (Exception e) {
-            log.error("Failed to send SMS OTP to: {}", mobile, e);
-            if (logEntry != null) {
-                communicationLogService.markAsFailed(logEntry.getId(), e.getMessage());
-            }
-            // In production, you might want to throw an exception or handle this differently
-        }
+        enqueue(mobile, "iCastar OTP Verification", messageText, "OTP_VERIFICATION_SMS",
+                "{\"otp\":\"" + otp + "\",\"type\":\"verification\"}");
+        log.info("SMS OTP queued for: {}", mobile);
     }
 
     @Transactional
     public void sendWelcomeSms(String mobile, String firstName) {
-        CommunicationLog logEntry = null;
-        try {
-            // Create communication log
-            String messageText = "Welcome to iCastar, " + firstName + "! Your account is ready.";
-            
-            logEntry = communicationLogService.createLog(
-                CommunicationLog.CommunicationType.SMS,
-                null,
-                mobile,
-                "Welcome to iCastar",
-                messageText,
-                "WELCOME_SMS",
-                null,
-                "{\"firstName\":\"" + firstName + "\",\"type\":\"welcome\"}"
-            );
+        String messageText = "Welcome to iCastar, " + firstName + "! Your account is ready.";
 
-            // Placeholder for SMS integration
-            // Mark as sent (placeholder - in production, use actual SMS provider response)
-            communicationLogService.markAsSent(logEntry.getId(), null);
-            log.info("Welcome SMS sent to {}: Welcome to iCastar, {}!", mobile, firstName);
-            
-        } catch (Exception e) {
-            log.error("Failed to send welcome SMS to: {}", mobile, e);
-            if (logEntry != null) {
-                communicationLogService.markAsFailed(logEntry.getId(), e.getMessage());
-            }
-        }
+        enqueue(mobile, "Welcome to iCastar", messageText, "WELCOME_SMS",
+                "{\"firstName\":\"" + firstName + "\",\"type\":\"welcome\"}");
+        log.info("Welcome SMS queued for: {}", mobile);
     }
 
     @Transactional
     public void sendJobAlertSms(String mobile, String artistName, String jobTitle) {
-        CommunicationLog logEntry = null;
-        try {
-            // Create communication log
-            String messageText = "New job '" + jobTitle + "' matches your profile. Check your iCastar account!";
-            
-            logEntry = communicationLogService.createLog(
-                CommunicationLog.CommunicationType.SMS,
-                null,
-                mobile,
-                "Job Alert",
-                messageText,
-                "JOB_ALERT_SMS",
-                null,
-                "{\"artistName\":\"" + artistName + "\",\"jobTitle\":\"" + jobTitle + "\",\"type\":\"job_alert\"}"
-            );
+        String messageText = "New job '" + jobTitle + "' matches your profile. Check your iCastar account!";
 
-            // Placeholder for SMS integration
-            // Mark as sent (placeholder - in production, use actual SMS provider response)
-            communicationLogService.markAsSent(logEntry.getId(), null);
-            log.info("Job alert SMS sent to {}: New job '{}' matches your profile", mobile, jobTitle);
-            
-        } catch (Exception e) {
-            log.error("Failed to send job alert SMS to: {}", mobile, e);
-            if (logEntry != null) {
-                communicationLogService.markAsFailed(logEntry.getId(), e.getMessage());
+        enqueue(mobile, "Job Alert", messageText, "JOB_ALERT_SMS",
+                "{\"artistName\":\"" + artistName + "\",\"jobTitle\":\"" + jobTitle + "\",\"type\":\"job_alert\"}");
+        log.info("Job alert SMS queued for: {}", mobile);
+    }
+
+    /**
+     * Queue one SMS per digest that has a mobile number, in one batch
+     */
+    @Transactional
+    public void queueJobAlertDigests(List<JobAlertDigest> digests) {
+        List<QueuedCommunication> messages = new ArrayList<>();
+        for (JobAlertDigest digest : digests) {
+            if (digest.mobile() == null || digest.jobs().isEmpty()) {
+                continue;
             }
+            String messageText = digest.jobs().size() == 1
+                    ? "New job '" + digest.jobs().get(0).title() + "' matches your saved search. Check your iCastar account!"
+                    : digest.jobs().size() + " new jobs match your saved searches, including '" +
+                      digest.jobs().get(0).title() + "'. Check your iCastar account!";
+            messages.add(new QueuedCommunication(CommunicationLog.CommunicationType.SMS, null, digest.mobile(),
+                    "Job Alert", messageText, "JOB_ALERT_DIGEST_SMS", digest.userId(),
+                    EmailService.jobIdsMetadata(digest)));
         }
+        if (!messages.isEmpty()) {
+            communicationLogService.createLogs(messages);
+            communicationDispatcher.requestDrain();
+            log.info("{} job alert digest SMS queued", messages.size());
+        }
+    }
+
+    private void enqueue(String mobile, String subject, String messageText, String templateName, String metadata) {
+        communicationLogService.createLog(
+            CommunicationLog.CommunicationType.SMS,
+            null,
+            mobile,
+            subject,
+            messageText,
+            templateName,
+            null,
+            metadata
+        );
+        communicationDispatcher.requestDrain();
     }
 }
@@ -1,9 +1,13 @@
 package com.icastar.platform.service;
 
+import com.icastar.platform.dto.admin.CursorPageDto;
+import com.icastar.platform.dto.admin.CursorRequestDto;
 import com.icastar.platform.dto.user.UpdateUserStatusDto;
 import com.icastar.platform.entity.User;
 import com.icastar.platform.exception.BusinessException;
 import com.icastar.platform.repository.UserRepository;
+import com.icastar.platform.repository.UserSpecifications;
+import com.icastar.platform.security.TokenRevocationList;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -22,6 +26,8 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final TokenRevocationList tokenRevocationList;
+    private final KeysetPageService keysetPageService;
 
     @Transactional(readOnly = true)
     public Optional<User> findById(Long id) {
@@ -67,7 +73,9 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
         
         user.setStatus(status);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        tokenRevocationList.onStatusChanged(user);
+        return savedUser;
     }
 
     public User updateUserVerification(Long userId, Boolean isVerified) {
@@ -144,6 +152,18 @@ public class UserService {
         return userRepository.findAll(pageable);
     }
 
+    /**
+     * Keyset-paged user listing with optional role, status and email/mobile filters
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<User> findUsersByCursor(User.UserRole role, User.UserStatus status, String search,
+                                                 CursorRequestDto request) {
+        return keysetPageService.findPage(userRepository, "users",
+                KeysetPageService.allOf(UserSpecifications.hasRole(role), UserSpecifications.hasStatus(status),
+                        UserSpecifications.matches(search)),
+                "role=" + role + "&status=" + status + "&search=" + search, request);
+    }
+
     @Transactional(readOnly = true)
     public Page<User> findUsersByRole(User.UserRole role, Pageable pageable) {
         return userRepository.findByRole(role, pageable);
@@ -182,6 +202,7 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        tokenRevocationList.onStatusChanged(user);
         log.info("User status updated successfully for user {}", userId);
         
         return updatedUser;
@@ -197,6 +218,7 @@ public class UserService {
         user.setAccountLockedUntil(LocalDateTime.now().plusYears(1)); // Ban for 1 year
 
         User bannedUser = userRepository.save(user);
+        tokenRevocationList.onStatusChanged(user);
         log.info("User {} banned successfully", userId);
         
         return bannedUser;
@@ -213,6 +235,7 @@ public class UserService {
         user.setFailedLoginAttempts(0);
 
         User unbannedUser = userRepository.save(user);
+        tokenRevocationList.onStatusChanged(user);
         log.info("User {} unbanned successfully", userId);
         
         return unbannedUser;
@@ -257,6 +280,7 @@ public class UserService {
         user.setStatus(User.UserStatus.INACTIVE);
         
         userRepository.save(user);
+        tokenRevocationList.onStatusChanged(user);
         log.info("User {} deleted successfully", userId);
     }
 
@@ -0,0 +1,74 @@
+package com.icastar.platform.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Normalization shared by every place that stores or compares list values such as skills,
+ * languages and cities: trimmed, lower-cased and cut to the 255 characters an attribute
+ * value column holds.
+ */
+public final class AttributeValues {
+
+    private static final int MAX_LENGTH = 255;
+
+    private AttributeValues() {
+    }
+
+    /**
+     * Normalized form of one value, or null when it is blank
+     */
+    public static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim().toLowerCase(Locale.ROOT);
+        return trimmed.length() > MAX_LENGTH ? trimmed.substring(0, MAX_LENGTH) : trimmed;
+    }
+
+    /**
+     * Distinct normalized values of a request list, blanks dropped, in their original order
+     */
+    public static List<String> normalize(Collection<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .map(AttributeValues::normalize)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Parse a JSON array (or legacy comma-separated list) into distinct normalized values
+     */
+    public static Set<String> parse(ObjectMapper objectMapper, String raw) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (raw == null || raw.isBlank()) {
+            return normalized;
+        }
+        List<String> values;
+        try {
+            values = objectMapper.readValue(raw, new TypeReference<List<String>>() {});
+        } catch (Exception e) {
+            values = Arrays.asList(raw.replaceAll("[\\[\\]\"]", "").split(","));
+        }
+        for (String value : values) {
+            String cleaned = normalize(value);
+            if (cleaned != null) {
+                normalized.add(cleaned);
+            }
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,31 @@
+package com.icastar.platform.util;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * File name extensions kept on stored uploads. Stored files are served with a content type
+ * derived from their extension, so only media and document types that browsers will not run
+ * as script are allowed; anything else is stored without an extension.
+ */
+public final class FileExtensions {
+
+    private static final Set<String> ALLOWED = Set.of(
+            "jpg", "jpeg", "png", "gif", "webp", "heic", "heif",
+            "mp4", "m4v", "mov", "webm",
+            "pdf", "doc", "docx");
+
+    private FileExtensions() {
+    }
+
+    /**
+     * The allowed extension of a client file name including the dot, or an empty string
+     */
+    public static String of(String fileName) {
+        if (fileName == null || fileName.lastIndexOf('.') < 0) {
+            return "";
+        }
+        String candidate = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return ALLOWED.contains(candidate) ? "." + candidate : "";
+    }
+}
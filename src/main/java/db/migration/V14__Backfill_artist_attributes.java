@@ -0,0 +1,110 @@
+package db.migration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.*;
+import java.util.*;
+
+/**
+ * One-time backfill of artist_attributes from the JSON list columns of artist_profiles.
+ *
+ * Streams profiles in id order, BATCH_SIZE rows at a time, and writes each batch with a
+ * single JDBC batch insert, so the migration never holds the whole table in memory.
+ * Columns that do not exist in this schema yet are skipped. Parsing and normalization are
+ * copied into this class as they were when it shipped, so later changes to the application's
+ * rules cannot change what this migration writes.
+ */
+public class V14__Backfill_artist_attributes extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_VALUE_LENGTH = 255;
+
+    private static final Map<String, String> COLUMNS = new LinkedHashMap<>();
+
+    static {
+        COLUMNS.put("skills", "SKILL");
+        COLUMNS.put("languages_spoken", "LANGUAGE");
+        COLUMNS.put("travel_cities", "TRAVEL_CITY");
+        COLUMNS.put("comfortable_areas", "COMFORTABLE_AREA");
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        List<String> columns = existingColumns(connection);
+        if (columns.isEmpty()) {
+            return;
+        }
+
+        String select = "SELECT id, " + String.join(", ", columns)
+                + " FROM artist_profiles WHERE id > ? ORDER BY id LIMIT " + BATCH_SIZE;
+        String insert = "INSERT IGNORE INTO artist_attributes (artist_profile_id, attribute_type, attribute_value) VALUES (?, ?, ?)";
+
+        long lastId = 0;
+        try (PreparedStatement query = connection.prepareStatement(select);
+             PreparedStatement batch = connection.prepareStatement(insert)) {
+            while (true) {
+                query.setLong(1, lastId);
+                int rows = 0;
+                try (ResultSet resultSet = query.executeQuery()) {
+                    while (resultSet.next()) {
+                        rows++;
+                        lastId = resultSet.getLong("id");
+                        for (String column : columns) {
+                            for (String value : parse(resultSet.getString(column))) {
+                                batch.setLong(1, lastId);
+                                batch.setString(2, COLUMNS.get(column));
+                                batch.setString(3, value);
+                                batch.addBatch();
+                            }
+                        }
+                    }
+                }
+                batch.executeBatch();
+                if (rows < BATCH_SIZE) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private List<String> existingColumns(Connection connection) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String column : COLUMNS.keySet()) {
+            try (ResultSet resultSet = metaData.getColumns(connection.getCatalog(), null, "artist_profiles", column)) {
+                if (resultSet.next()) {
+                    columns.add(column);
+                }
+            }
+        }
+        return columns;
+    }
+
+    // JSON array or legacy comma-separated list, trimmed, lower-cased, cut to 255, blanks dropped
+    private Set<String> parse(String raw) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (raw == null || raw.isBlank()) {
+            return normalized;
+        }
+        List<String> values;
+        try {
+            values = objectMapper.readValue(raw, new TypeReference<List<String>>() {});
+        } catch (Exception e) {
+            values = Arrays.asList(raw.replaceAll("[\\[\\]\"]", "").split(","));
+        }
+        for (String value : values) {
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+            String cleaned = value.trim().toLowerCase(Locale.ROOT);
+            normalized.add(cleaned.length() > MAX_VALUE_LENGTH ? cleaned.substring(0, MAX_VALUE_LENGTH) : cleaned);
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,27 @@
+-- Normalized job skills and tags for indexed filtering (replaces LIKE scans on the JSON columns)
+CREATE TABLE IF NOT EXISTS job_attributes (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_id BIGINT NOT NULL,
+    attribute_type VARCHAR(20) NOT NULL,
+    attribute_value VARCHAR(255) NOT NULL,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (job_id) REFERENCES jobs(id) ON DELETE CASCADE,
+    INDEX idx_job_attributes_lookup (attribute_type, attribute_value, job_id),
+    INDEX idx_job_attributes_job (job_id)
+);
+
+-- Backfill from the existing JSON columns
+INSERT INTO job_attributes (job_id, attribute_type, attribute_value)
+SELECT DISTINCT j.id, 'SKILL', LOWER(TRIM(s.value))
+FROM jobs j,
+     JSON_TABLE(j.skills_required, '$[*]' COLUMNS (value VARCHAR(255) PATH '$')) s
+WHERE j.skills_required IS NOT NULL AND TRIM(s.value) <> '';
+
+INSERT INTO job_attributes (job_id, attribute_type, attribute_value)
+SELECT DISTINCT j.id, 'TAG', LOWER(TRIM(t.value))
+FROM jobs j,
+     JSON_TABLE(j.tags, '$[*]' COLUMNS (value VARCHAR(255) PATH '$')) t
+WHERE j.tags IS NOT NULL AND TRIM(t.value) <> '';
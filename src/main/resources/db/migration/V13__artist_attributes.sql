@@ -0,0 +1,16 @@
+-- Normalized artist skills, languages, travel cities and comfortable areas
+-- (replaces LIKE scans over the JSON columns of artist_profiles).
+-- Existing rows are backfilled by V14__Backfill_artist_attributes (Java migration).
+CREATE TABLE IF NOT EXISTS artist_attributes (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    artist_profile_id BIGINT NOT NULL,
+    attribute_type VARCHAR(30) NOT NULL,
+    attribute_value VARCHAR(255) NOT NULL,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (artist_profile_id) REFERENCES artist_profiles(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_artist_attributes (artist_profile_id, attribute_type, attribute_value),
+    INDEX idx_artist_attributes_lookup (attribute_type, attribute_value, artist_profile_id)
+);
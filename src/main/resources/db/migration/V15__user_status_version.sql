@@ -0,0 +1,5 @@
+-- Incremented on every status change. Self-contained JWTs carry the version they were
+-- issued with; tokens with an older version are re-checked against the database.
+ALTER TABLE users ADD COLUMN status_version INT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_users_status_version ON users (status_version);
@@ -0,0 +1,23 @@
+-- Materialized recruiter dashboard counters, recomputed lazily from job_posts and
+-- job_applications when flagged stale by job or application events
+CREATE TABLE IF NOT EXISTS recruiter_stats (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    recruiter_user_id BIGINT NOT NULL,
+    total_jobs BIGINT NOT NULL DEFAULT 0,
+    active_jobs BIGINT NOT NULL DEFAULT 0,
+    closed_jobs BIGINT NOT NULL DEFAULT 0,
+    total_views BIGINT NOT NULL DEFAULT 0,
+    total_applications BIGINT NOT NULL DEFAULT 0,
+    total_hires BIGINT NOT NULL DEFAULT 0,
+    is_stale BOOLEAN NOT NULL DEFAULT FALSE,
+    computed_at DATETIME,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (recruiter_user_id) REFERENCES users(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_recruiter_stats_user (recruiter_user_id)
+);
+
+-- Supports the per-recruiter GROUP BY projection over job_posts
+CREATE INDEX idx_job_posts_recruiter_active ON job_posts (recruiter_id, is_active);
@@ -0,0 +1,5 @@
+-- Keyset paging for admin lists orders by (created_at, id); InnoDB appends the primary key
+-- to secondary indexes, so a created_at index serves the (created_at, id) seek.
+-- job_posts already has idx_job_posts_created_at from V1.
+CREATE INDEX idx_users_created_at ON users (created_at);
+CREATE INDEX idx_job_applications_created_at ON job_applications (created_at);
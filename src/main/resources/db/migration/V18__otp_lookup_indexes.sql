@@ -0,0 +1,7 @@
+-- OTP send and verify look up by (mobile, email, otp_type, status); the old single-column
+-- mobile index is a prefix of the new one. Cleanup scans pending rows by expiry and purges
+-- by expires_at range, so status gets expires_at appended.
+CREATE INDEX idx_otps_lookup ON otps (mobile, email, otp_type, status);
+CREATE INDEX idx_otps_status_expires_at ON otps (status, expires_at);
+DROP INDEX idx_otps_mobile ON otps;
+DROP INDEX idx_otps_status ON otps;
@@ -0,0 +1,2 @@
+-- Hex SHA-256 of each uploaded document, computed while the upload is streamed to storage
+ALTER TABLE documents ADD COLUMN content_hash CHAR(64);
@@ -0,0 +1,12 @@
+-- Content-addressed uploads: documents with the same SHA-256 share one stored object, counted
+-- by ref_count. The garbage collector scans unreferenced blobs by (ref_count, updated_at).
+CREATE TABLE stored_blobs (
+    sha256 CHAR(64) NOT NULL PRIMARY KEY,
+    object_url VARCHAR(512) NOT NULL,
+    size BIGINT NOT NULL,
+    content_type VARCHAR(255),
+    ref_count INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    INDEX idx_stored_blobs_gc (ref_count, updated_at)
+);
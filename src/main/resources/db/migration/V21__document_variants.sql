@@ -0,0 +1,21 @@
+-- Resized copies of profile images, generated after upload; list pages serve the smallest
+-- variant that fits. variants_processed_at marks documents the pipeline has handled.
+CREATE TABLE IF NOT EXISTS document_variants (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    document_id BIGINT NOT NULL,
+    width INT NOT NULL,
+    height INT NOT NULL,
+    file_url VARCHAR(255) NOT NULL,
+    file_size BIGINT NOT NULL,
+    mime_type VARCHAR(255) NOT NULL,
+    content_hash CHAR(64) NOT NULL,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (document_id) REFERENCES documents(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_document_variants (document_id, width)
+);
+
+ALTER TABLE documents ADD COLUMN variants_processed_at DATETIME;
+CREATE INDEX idx_documents_variants_pending ON documents (variants_processed_at, document_type);
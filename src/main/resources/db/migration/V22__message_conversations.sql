@@ -0,0 +1,8 @@
+-- Conversation history pages by (conversation_key, id) in both directions at once; the key is
+-- "lowerUserId:higherUserId". Unread counts and read receipts go through the recipient index.
+ALTER TABLE messages ADD COLUMN conversation_key VARCHAR(41);
+UPDATE messages SET conversation_key = CONCAT(LEAST(sender_id, recipient_id), ':', GREATEST(sender_id, recipient_id));
+ALTER TABLE messages MODIFY conversation_key VARCHAR(41) NOT NULL;
+
+CREATE INDEX idx_messages_conversation ON messages (conversation_key, id);
+CREATE INDEX idx_messages_recipient_unread ON messages (recipient_id, is_read);
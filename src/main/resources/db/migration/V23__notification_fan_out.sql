@@ -0,0 +1,7 @@
+-- Notification fan-out: status change notifications and per-user indexes for listing and unread counts
+ALTER TABLE notifications MODIFY COLUMN type ENUM('JOB_ALERT', 'APPLICATION_RECEIVED', 'AUDITION_SCHEDULED',
+    'PAYMENT_SUCCESS', 'SUBSCRIPTION_EXPIRY', 'VERIFICATION_APPROVED', 'MESSAGE_RECEIVED', 'SYSTEM_UPDATE',
+    'APPLICATION_STATUS_CHANGED') NOT NULL;
+
+CREATE INDEX idx_notifications_user_id ON notifications (user_id, id);
+CREATE INDEX idx_notifications_user_unread ON notifications (user_id, is_read);
@@ -0,0 +1,46 @@
+-- Saved job searches and the alerts they produce; alerts wait in job_alerts until the user's digest is due
+CREATE TABLE saved_searches (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    search_term VARCHAR(255),
+    job_title VARCHAR(255),
+    job_type VARCHAR(255),
+    experience_level VARCHAR(255),
+    min_pay DECIMAL(10,2),
+    max_pay DECIMAL(10,2),
+    currency VARCHAR(3),
+    location VARCHAR(255),
+    is_remote BOOLEAN,
+    is_urgent BOOLEAN,
+    is_featured BOOLEAN,
+    skills JSON,
+    skill_match VARCHAR(3) NOT NULL DEFAULT 'ANY',
+    tags JSON,
+    alert_frequency VARCHAR(20) NOT NULL DEFAULT 'DAILY',
+    email_alerts BOOLEAN NOT NULL DEFAULT TRUE,
+    sms_alerts BOOLEAN NOT NULL DEFAULT FALSE,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    INDEX idx_saved_searches_user (user_id),
+    INDEX idx_saved_searches_updated (updated_at)
+);
+
+CREATE TABLE job_alerts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    job_id BIGINT NOT NULL,
+    saved_search_id BIGINT NOT NULL,
+    due_at DATETIME NOT NULL,
+    sent_at DATETIME,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (job_id) REFERENCES jobs(id) ON DELETE CASCADE,
+    FOREIGN KEY (saved_search_id) REFERENCES saved_searches(id) ON DELETE CASCADE,
+    CONSTRAINT uk_job_alerts UNIQUE (user_id, job_id),
+    INDEX idx_job_alerts_due (sent_at, due_at, user_id)
+);
@@ -0,0 +1,19 @@
+-- Auditions get an explicit end for overlap checks and per-participant time indexes
+ALTER TABLE auditions ADD COLUMN ends_at DATETIME;
+UPDATE auditions SET ends_at = DATE_ADD(scheduled_at, INTERVAL COALESCE(duration_minutes, 30) MINUTE);
+ALTER TABLE auditions MODIFY ends_at DATETIME NOT NULL;
+
+CREATE INDEX idx_auditions_artist_time ON auditions (artist_id, scheduled_at);
+CREATE INDEX idx_auditions_recruiter_time ON auditions (recruiter_id, scheduled_at);
+
+-- Interviews scheduled on applications before auditions were used become auditions
+INSERT INTO auditions (job_application_id, recruiter_id, artist_id, audition_type, scheduled_at, duration_minutes,
+                       ends_at, instructions, status, is_active, created_at, updated_at)
+SELECT ja.id, rp.id, ja.artist_id, 'LIVE_VIDEO', ja.interview_scheduled_at, 30,
+       DATE_ADD(ja.interview_scheduled_at, INTERVAL 30 MINUTE), ja.interview_notes, 'SCHEDULED', TRUE, NOW(), NOW()
+FROM job_applications ja
+JOIN jobs j ON j.id = ja.job_id
+JOIN recruiter_profiles rp ON rp.user_id = j.recruiter_id
+WHERE ja.status = 'INTERVIEW_SCHEDULED'
+  AND ja.interview_scheduled_at >= NOW()
+  AND NOT EXISTS (SELECT 1 FROM auditions a WHERE a.job_application_id = ja.id);
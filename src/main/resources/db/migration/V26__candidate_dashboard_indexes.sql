@@ -0,0 +1,7 @@
+-- Candidate dashboard: status counts group an artist's rows by status from the first index
+-- alone; recent applications find the newest applied_at entries through the second and then
+-- read only those rows (and their jobs).
+-- Both lead with artist_id, so the artist foreign key keeps an index once the old one is dropped.
+CREATE INDEX idx_job_applications_artist_status ON job_applications (artist_id, status);
+CREATE INDEX idx_job_applications_artist_applied ON job_applications (artist_id, applied_at);
+DROP INDEX idx_job_applications_artist ON job_applications;
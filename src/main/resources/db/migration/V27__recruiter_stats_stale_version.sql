@@ -0,0 +1,3 @@
+-- Bumped by every markStale; a recompute clears is_stale only if the version it read is
+-- still current, so a flag set while the counters were being recomputed survives
+ALTER TABLE recruiter_stats ADD COLUMN stale_version BIGINT NOT NULL DEFAULT 0 AFTER is_stale;
@@ -0,0 +1,5 @@
+-- Failed variant runs back off through variants_retry_at; after the configured number of
+-- attempts the document is marked processed with no variants so the sweep moves past it
+ALTER TABLE documents
+    ADD COLUMN variant_attempts INT NOT NULL DEFAULT 0 AFTER variants_processed_at,
+    ADD COLUMN variants_retry_at DATETIME AFTER variant_attempts;
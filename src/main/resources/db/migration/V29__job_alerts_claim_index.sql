@@ -0,0 +1,6 @@
+-- lockDueIds claims unsent alerts in (user_id, id) order. With sent_at fixed to NULL this index
+-- returns them already in that order, and the trailing due_at lets the due check run on the
+-- index entries, so the LIMIT stops the scan without a filesort over every pending alert.
+-- The retention purge still ranges over the leading sent_at.
+CREATE INDEX idx_job_alerts_claim ON job_alerts (sent_at, user_id, id, due_at);
+DROP INDEX idx_job_alerts_due ON job_alerts;
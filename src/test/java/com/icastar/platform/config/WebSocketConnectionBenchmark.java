@@ -0,0 +1,128 @@
+package com.icastar.platform.config;
+
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection load test for the STOMP endpoint: opens many concurrent WebSocket connections,
+ * authenticates and subscribes each one, holds them open across several heartbeats and
+ * reports connect latency and how many connections survived.
+ *
+ * Not part of the test suite. Start the application, then run after test-compile:
+ * java -cp target/classes:target/test-classes:$(cat cp.txt) com.icastar.platform.config.WebSocketConnectionBenchmark \
+ *     ws://localhost:8080/api/ws JWT [connections=10000] [holdSeconds=60]
+ * (cp.txt from mvn dependency:build-classpath -Dmdep.outputFile=cp.txt). Both processes need
+ * a file descriptor limit above the connection count (ulimit -n).
+ */
+public class WebSocketConnectionBenchmark {
+
+    private static final int MAX_PENDING_HANDSHAKES = 200;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: WebSocketConnectionBenchmark <ws-url> <jwt> [connections] [holdSeconds]");
+            System.exit(1);
+        }
+        Result result = run(args[0], args[1],
+                args.length > 2 ? Integer.parseInt(args[2]) : 10_000,
+                args.length > 3 ? Integer.parseInt(args[3]) : 60);
+        System.out.println(result);
+        System.exit(result.alive() == result.requested() ? 0 : 1);
+    }
+
+    public static Result run(String url, String jwt, int connections, int holdSeconds) throws InterruptedException {
+        ThreadPoolTaskScheduler heartbeats = new ThreadPoolTaskScheduler();
+        heartbeats.setPoolSize(4);
+        heartbeats.setDaemon(true);
+        heartbeats.initialize();
+
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        client.setTaskScheduler(heartbeats);
+        client.setDefaultHeartbeat(new long[]{10_000, 10_000});
+
+        Semaphore pending = new Semaphore(MAX_PENDING_HANDSHAKES);
+        ConcurrentLinkedQueue<StompSession> sessions = new ConcurrentLinkedQueue<>();
+        List<Long> latenciesMicros = Collections.synchronizedList(new ArrayList<>(connections));
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger dropped = new AtomicInteger();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < connections; i++) {
+            pending.acquire();
+            long connectStart = System.nanoTime();
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", "Bearer " + jwt);
+            client.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+                @Override
+                public void afterConnected(StompSession session, StompHeaders headers) {
+                    latenciesMicros.add((System.nanoTime() - connectStart) / 1_000);
+                    session.subscribe("/user/queue/messages", this);
+                    sessions.add(session);
+                }
+
+                @Override
+                public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                            byte[] payload, Throwable exception) {
+                    failed.incrementAndGet();
+                }
+
+                @Override
+                public void handleTransportError(StompSession session, Throwable exception) {
+                    if (session.isConnected()) {
+                        dropped.incrementAndGet();
+                    }
+                }
+            }).whenComplete((session, error) -> {
+                pending.release();
+                if (error != null) {
+                    failed.incrementAndGet();
+                }
+            });
+        }
+        pending.acquire(MAX_PENDING_HANDSHAKES);
+        long connectMillis = (System.nanoTime() - start) / 1_000_000;
+
+        TimeUnit.SECONDS.sleep(holdSeconds);
+        int alive = (int) sessions.stream().filter(StompSession::isConnected).count();
+        sessions.forEach(StompSession::disconnect);
+        client.stop();
+        heartbeats.shutdown();
+
+        List<Long> sorted = new ArrayList<>(latenciesMicros);
+        Collections.sort(sorted);
+        return new Result(connections, sessions.size(), alive, failed.get(), dropped.get(), connectMillis,
+                percentile(sorted, 0.50), percentile(sorted, 0.99));
+    }
+
+    private static long percentile(List<Long> sorted, double fraction) {
+        return sorted.isEmpty() ? 0 : sorted.get((int) Math.min(sorted.size() - 1, Math.floor(sorted.size() * fraction)));
+    }
+
+    public record Result(int requested, int connected, int alive, int failed, int dropped, long connectMillis,
+                         long p50Micros, long p99Micros) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "requested=%d connected=%d alive-after-hold=%d failed=%d dropped=%d in %,d ms  connect p50=%.1f ms p99=%.1f ms",
+                    requested, connected, alive, failed, dropped, connectMillis, p50Micros / 1e3, p99Micros / 1e3);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.icastar.platform.repository;
+
+import com.icastar.platform.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void unsupportedSortFieldsFallBackToCreatedAt() {
+        assertThat(KeysetCursor.sortField("id")).isEqualTo(KeysetCursor.ID);
+        assertThat(KeysetCursor.sortField("email")).isEqualTo(KeysetCursor.CREATED_AT);
+        assertThat(KeysetCursor.sortField(null)).isEqualTo(KeysetCursor.CREATED_AT);
+    }
+
+    @Test
+    void createdAtSortBreaksTiesById() {
+        assertThat(KeysetCursor.sort(KeysetCursor.CREATED_AT, false))
+                .isEqualTo(Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        assertThat(KeysetCursor.sort(KeysetCursor.ID, true)).isEqualTo(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    @Test
+    void encodedCursorDecodesForTheSameSortOrder() {
+        String cursor = KeysetCursor.after(user(42L, LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123_000_000)),
+                KeysetCursor.CREATED_AT, false).encode();
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor, KeysetCursor.CREATED_AT, false);
+
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.encode()).isEqualTo(cursor);
+        assertThat(cursor).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertThat(KeysetCursor.decode(null, KeysetCursor.ID, true)).isNull();
+        assertThat(KeysetCursor.decode(" ", KeysetCursor.ID, true)).isNull();
+    }
+
+    @Test
+    void cursorFromAnotherSortOrderIsRejected() {
+        String cursor = KeysetCursor.after(user(7L, LocalDateTime.now()), KeysetCursor.ID, true).encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, KeysetCursor.ID, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("sort order");
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, KeysetCursor.CREATED_AT, true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!", KeysetCursor.ID, true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("id|a|1"), KeysetCursor.ID, true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("id|a|1|x"), KeysetCursor.ID, true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("createdAt|d|yesterday|5"), KeysetCursor.CREATED_AT, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    private static User user(Long id, LocalDateTime createdAt) {
+        User user = new User();
+        user.setId(id);
+        user.setCreatedAt(createdAt);
+        return user;
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
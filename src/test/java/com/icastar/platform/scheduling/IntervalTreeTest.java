@@ -0,0 +1,72 @@
+package com.icastar.platform.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntervalTreeTest {
+
+    @Test
+    void emptyTreeHasNoOverlaps() {
+        IntervalTree<Long> tree = IntervalTree.of(List.of());
+
+        assertThat(tree.size()).isZero();
+        assertThat(tree.latestOverlappingEnd(0, 100)).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void intervalsAreHalfOpen() {
+        IntervalTree<Long> tree = IntervalTree.of(List.of(new IntervalTree.Interval<>(10, 20, 1L)));
+
+        assertThat(tree.latestOverlappingEnd(0, 10)).isEqualTo(Long.MIN_VALUE);
+        assertThat(tree.latestOverlappingEnd(20, 30)).isEqualTo(Long.MIN_VALUE);
+        assertThat(tree.latestOverlappingEnd(19, 21)).isEqualTo(20);
+        assertThat(tree.latestOverlappingEnd(12, 14)).isEqualTo(20);
+    }
+
+    @Test
+    void returnsTheLatestEndAmongOverlaps() {
+        IntervalTree<Long> tree = IntervalTree.of(List.of(
+                new IntervalTree.Interval<>(0, 100, 1L),
+                new IntervalTree.Interval<>(10, 20, 2L),
+                new IntervalTree.Interval<>(30, 40, 3L),
+                new IntervalTree.Interval<>(150, 160, 4L)));
+
+        assertThat(tree.latestOverlappingEnd(15, 35)).isEqualTo(100);
+        assertThat(tree.latestOverlappingEnd(100, 150)).isEqualTo(Long.MIN_VALUE);
+        assertThat(tree.latestOverlappingEnd(120, 155)).isEqualTo(160);
+    }
+
+    @Test
+    void emptyIntervalsAreRejected() {
+        assertThatThrownBy(() -> IntervalTree.of(List.of(new IntervalTree.Interval<>(10, 10, 1L))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void agreesWithALinearScan() {
+        Random random = new Random(7);
+        List<IntervalTree.Interval<Long>> intervals = new ArrayList<>();
+        for (long i = 0; i < 500; i++) {
+            long start = random.nextInt(10_000);
+            intervals.add(new IntervalTree.Interval<>(start, start + 1 + random.nextInt(300), i));
+        }
+        IntervalTree<Long> tree = IntervalTree.of(intervals);
+
+        for (int query = 0; query < 1000; query++) {
+            long start = random.nextInt(10_500);
+            long end = start + 1 + random.nextInt(200);
+            long expected = intervals.stream()
+                    .filter(interval -> interval.start() < end && interval.end() > start)
+                    .mapToLong(IntervalTree.Interval::end)
+                    .max()
+                    .orElse(Long.MIN_VALUE);
+            assertThat(tree.latestOverlappingEnd(start, end)).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.icastar.platform.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Compares {@link JobSearchIndex} with a linear LIKE '%term%' scan over the same columns,
+ * which is what the JPQL LIKE search it replaced made MySQL do.
+ *
+ * Not part of the test suite. Run manually, e.g. with 100k and 1M jobs:
+ * java -Xmx4g -cp target/classes:target/test-classes com.icastar.platform.search.JobSearchBenchmark 100000 1000000
+ */
+public class JobSearchBenchmark {
+
+    private static final String[] ROLES = {"actor", "dancer", "singer", "model", "anchor", "voice artist",
+            "background actor", "choreographer", "stunt performer", "comedian"};
+    private static final String[] SKILLS = {"acting", "dialogue delivery", "screen presence", "kathak",
+            "hip hop", "classical singing", "improv", "modeling", "dubbing", "martial arts", "swimming"};
+    private static final String[] CITIES = {"Mumbai", "Delhi", "Bangalore", "Chennai", "Hyderabad",
+            "Kolkata", "Pune", "Goa"};
+    private static final String[] FORMATS = {"TV commercial", "feature film", "web series", "music video",
+            "theatre play", "fashion show", "short film"};
+    private static final String[] QUERIES = {"actor mumbai", "kathak dancer", "web series", "dubbing",
+            "stunt martial arts goa", "fashion model"};
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? java.util.Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{100_000, 1_000_000};
+        for (int size : sizes) {
+            run(size);
+        }
+    }
+
+    private static void run(int size) {
+        Random random = new Random(42);
+        List<String[]> jobs = new ArrayList<>(size);
+        JobSearchIndex index = new JobSearchIndex();
+
+        long buildStart = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            String role = pick(random, ROLES);
+            String format = pick(random, FORMATS);
+            String city = pick(random, CITIES);
+            String title = role + " for " + format;
+            String description = "Looking for an experienced " + role + " for an upcoming " + format
+                    + " shoot in " + city + ". Job reference " + i + ".";
+            String skills = "[\"" + pick(random, SKILLS) + "\", \"" + pick(random, SKILLS) + "\"]";
+            String tags = "[\"" + format + "\", \"" + city + "\"]";
+            jobs.add(new String[]{title, description, skills, tags, city});
+            index.index((long) i, title, description, null, skills, tags, city);
+        }
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        // Warm up both paths before measuring
+        for (String query : QUERIES) {
+            index.search(query, 0, 20);
+            likeScan(jobs, query);
+        }
+
+        long indexNanos = 0;
+        long scanNanos = 0;
+        int rounds = 5;
+        for (int r = 0; r < rounds; r++) {
+            for (String query : QUERIES) {
+                long start = System.nanoTime();
+                index.search(query, 0, 20);
+                indexNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                likeScan(jobs, query);
+                scanNanos += System.nanoTime() - start;
+            }
+        }
+        int queries = rounds * QUERIES.length;
+        System.out.printf(Locale.ROOT, "%,d jobs: index build %d ms, BM25 top-20 %.2f ms/query, LIKE scan %.2f ms/query%n",
+                size, buildMillis, indexNanos / 1e6 / queries, scanNanos / 1e6 / queries);
+    }
+
+    private static int likeScan(List<String[]> jobs, String query) {
+        String term = query.toLowerCase(Locale.ROOT);
+        int matches = 0;
+        for (String[] job : jobs) {
+            if (job[0].toLowerCase(Locale.ROOT).contains(term) || job[1].toLowerCase(Locale.ROOT).contains(term)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
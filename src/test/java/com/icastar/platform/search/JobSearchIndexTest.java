@@ -0,0 +1,74 @@
+package com.icastar.platform.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSearchIndexTest {
+
+    private final JobSearchIndex index = new JobSearchIndex();
+
+    @Test
+    void titleMatchOutranksDescriptionMatch() {
+        index.index(1L, "Lead dancer", "Music video shoot", null, null, null, "Goa");
+        index.index(2L, "Background extras", "Looking for a dancer who can act", null, null, null, "Goa");
+        index.index(3L, "Voice artist", "Dubbing studio", null, null, null, "Pune");
+
+        JobSearchIndex.SearchHits hits = index.search("dancer", 0, 10);
+
+        assertThat(hits.getJobIds()).containsExactly(1L, 2L);
+        assertThat(hits.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void moreMatchedTermsRankHigher() {
+        index.index(1L, "Actor", "Feature film", null, null, null, "Delhi");
+        index.index(2L, "Actor", "Feature film", null, null, null, "Mumbai");
+        index.index(3L, "Model", "Fashion show", null, null, null, "Mumbai");
+
+        JobSearchIndex.SearchHits hits = index.search("actors mumbai", 0, 10);
+
+        assertThat(hits.getJobIds()).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    void equalScoresPutTheNewestJobFirstAndPagesFollowThatOrder() {
+        for (long id = 1; id <= 5; id++) {
+            index.index(id, "Singer", null, null, null, null, null);
+        }
+
+        assertThat(index.search("singer", 0, 2).getJobIds()).containsExactly(5L, 4L);
+        assertThat(index.search("singer", 2, 2).getJobIds()).containsExactly(3L, 2L);
+        assertThat(index.search("singer", 4, 2).getJobIds()).containsExactly(1L);
+    }
+
+    @Test
+    void pagePastTheEndStillReportsTheTotal() {
+        index.index(1L, "Anchor", null, null, null, null, null);
+        index.index(2L, "Anchor", null, null, null, null, null);
+
+        JobSearchIndex.SearchHits hits = index.search("anchor", 10, 0);
+
+        assertThat(hits.getJobIds()).isEmpty();
+        assertThat(hits.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void reindexAndRemoveReplaceTheOldTerms() {
+        index.index(1L, "Comedian", null, null, null, null, null);
+        index.index(1L, "Choreographer", null, null, null, null, null);
+        index.index(2L, "Comedian", null, null, null, null, null);
+        index.remove(2L);
+
+        assertThat(index.search("comedian", 0, 10).getJobIds()).isEmpty();
+        assertThat(index.search("choreographer", 0, 10).getJobIds()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void stopWordsAloneMatchNothing() {
+        index.index(1L, "The actor", null, null, null, null, null);
+
+        assertThat(index.search("the and of", 0, 10).getTotal()).isZero();
+    }
+}
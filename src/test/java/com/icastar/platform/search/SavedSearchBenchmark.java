@@ -0,0 +1,166 @@
+package com.icastar.platform.search;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Measures {@link SavedSearchIndex} matching time per new job against a linear scan of the
+ * same saved searches.
+ *
+ * Not part of the test suite. Run manually, e.g. with 100k and 1M saved searches:
+ * java -Xmx4g -cp target/classes:target/test-classes com.icastar.platform.search.SavedSearchBenchmark 100000 1000000
+ *
+ * By default searches draw from 20 cities and 20 skills, so every job matches a few percent
+ * of all searches; -Dvocabulary=200 spreads them over 200 of each.
+ */
+public class SavedSearchBenchmark {
+
+    private static final int VOCABULARY = Integer.getInteger("vocabulary", 20);
+
+    private static final String[] BASE_SKILLS = {"acting", "dialogue delivery", "screen presence", "kathak",
+            "hip hop", "classical singing", "improv", "modeling", "dubbing", "martial arts", "swimming",
+            "horse riding", "western dance", "voice modulation", "theatre", "anchoring", "stand-up",
+            "mimicry", "guitar", "contemporary dance"};
+    private static final String[] BASE_CITIES = {"mumbai", "delhi", "bangalore", "chennai", "hyderabad",
+            "kolkata", "pune", "goa", "jaipur", "lucknow", "ahmedabad", "chandigarh", "kochi", "indore",
+            "bhopal", "nagpur", "surat", "vadodara", "mysore", "coimbatore"};
+    private static final String[] SKILLS = vocabulary(BASE_SKILLS);
+    private static final String[] CITIES = vocabulary(BASE_CITIES);
+    private static final String[] JOB_TYPES = {"FULL_TIME", "PART_TIME", "CONTRACT", "FREELANCE",
+            "INTERNSHIP", "PROJECT_BASED"};
+    private static final String[] TITLE_WORDS = {"actor", "dancer", "singer", "model", "anchor", "voice",
+            "commercial", "film", "series", "music", "video", "theatre", "fashion", "show"};
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{100_000, 1_000_000};
+        for (int size : sizes) {
+            run(size);
+        }
+    }
+
+    private static void run(int size) {
+        Random random = new Random(42);
+        SavedSearchIndex index = new SavedSearchIndex();
+        List<SavedSearchIndex.Subscription> all = new ArrayList<>(size);
+
+        long buildStart = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            SavedSearchIndex.Subscription subscription = randomSubscription(random, i);
+            all.add(subscription);
+            index.put(subscription);
+        }
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        List<SavedSearchIndex.JobFacts> jobs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            jobs.add(randomJob(random));
+        }
+
+        // Warm up both paths before measuring
+        for (SavedSearchIndex.JobFacts job : jobs) {
+            index.match(job);
+            scan(all, job);
+        }
+
+        long[] indexNanos = new long[jobs.size()];
+        long scanNanos = 0;
+        long matches = 0;
+        for (int i = 0; i < jobs.size(); i++) {
+            long start = System.nanoTime();
+            int indexed = index.match(jobs.get(i)).size();
+            indexNanos[i] = System.nanoTime() - start;
+            matches += indexed;
+
+            start = System.nanoTime();
+            int scanned = scan(all, jobs.get(i));
+            scanNanos += System.nanoTime() - start;
+            if (indexed != scanned) {
+                throw new IllegalStateException("Index found " + indexed + " matches, scan found " + scanned);
+            }
+        }
+        Arrays.sort(indexNanos);
+        System.out.printf(Locale.ROOT,
+                "%,d saved searches, vocabulary %d: build %d ms, index p50 %.2f ms p99 %.2f ms per job, scan %.2f ms per job, %.0f matches per job%n",
+                size, CITIES.length, buildMillis, indexNanos[indexNanos.length / 2] / 1e6, indexNanos[indexNanos.length * 99 / 100] / 1e6,
+                scanNanos / 1e6 / jobs.size(), (double) matches / jobs.size());
+    }
+
+    private static int scan(List<SavedSearchIndex.Subscription> all, SavedSearchIndex.JobFacts job) {
+        int matches = 0;
+        for (SavedSearchIndex.Subscription subscription : all) {
+            boolean location = subscription.getLocation() == null || job.getLocationKeys().contains(subscription.getLocation());
+            boolean jobType = subscription.getJobType() == null || subscription.getJobType().equals(job.getJobType());
+            boolean skills = subscription.getSkills().isEmpty()
+                    || subscription.getSkills().stream().anyMatch(job.getSkills()::contains);
+            if (location && jobType && skills && subscription.accepts(job)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    // Most searches name a city and one to three skills; some leave a dimension open
+    private static SavedSearchIndex.Subscription randomSubscription(Random random, long id) {
+        Set<String> skills = new HashSet<>();
+        if (random.nextInt(10) > 0) {
+            int count = 1 + random.nextInt(3);
+            while (skills.size() < count) {
+                skills.add(pick(random, SKILLS));
+            }
+        }
+        return SavedSearchIndex.Subscription.builder()
+                .id(id)
+                .userId(id / 3)
+                .location(random.nextInt(10) < 8 ? pick(random, CITIES) : null)
+                .jobType(random.nextInt(10) < 5 ? pick(random, JOB_TYPES) : null)
+                .minPay(random.nextInt(4) == 0 ? BigDecimal.valueOf(5_000L * (1 + random.nextInt(10))) : null)
+                .isRemote(random.nextInt(10) == 0 ? Boolean.TRUE : null)
+                .terms(random.nextInt(5) == 0 ? Set.of(pick(random, TITLE_WORDS)) : Set.of())
+                .skills(skills)
+                .allSkills(random.nextInt(5) == 0)
+                .build();
+    }
+
+    private static SavedSearchIndex.JobFacts randomJob(Random random) {
+        Set<String> skills = new HashSet<>();
+        int count = 1 + random.nextInt(4);
+        while (skills.size() < count) {
+            skills.add(pick(random, SKILLS));
+        }
+        Set<String> terms = new HashSet<>();
+        while (terms.size() < 4) {
+            terms.add(pick(random, TITLE_WORDS));
+        }
+        String city = pick(random, CITIES);
+        return SavedSearchIndex.JobFacts.builder()
+                .locationKeys(SavedSearchIndex.locationKeys("Andheri, " + city))
+                .jobType(pick(random, JOB_TYPES))
+                .budgetMin(BigDecimal.valueOf(1_000L * random.nextInt(80)))
+                .budgetMax(BigDecimal.valueOf(100_000))
+                .isRemote(random.nextInt(5) == 0)
+                .title(String.join(" ", terms))
+                .terms(terms)
+                .skills(skills)
+                .build();
+    }
+
+    private static String[] vocabulary(String[] base) {
+        String[] values = new String[Math.max(base.length, VOCABULARY)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i < base.length ? base[i] : base[i % base.length] + " " + (i / base.length);
+        }
+        return values;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,84 @@
+package com.icastar.platform.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SavedSearchIndexTest {
+
+    private final SavedSearchIndex index = new SavedSearchIndex();
+
+    @Test
+    void matchesOnLocationJobTypeAndAnySkill() {
+        index.put(search(1L).location("mumbai").jobType("FULL_TIME").skills(Set.of("acting", "dubbing")).build());
+        index.put(search(2L).location("delhi").build());
+        index.put(search(3L).jobType("CONTRACT").build());
+        index.put(search(4L).skills(Set.of("kathak")).build());
+
+        List<Long> matched = ids(index.match(job().locationKeys(SavedSearchIndex.locationKeys("Andheri, Mumbai"))
+                .jobType("FULL_TIME").skills(Set.of("acting")).build()));
+
+        assertThat(matched).containsExactly(1L);
+    }
+
+    @Test
+    void openDimensionsMatchAnyJob() {
+        index.put(search(1L).build());
+        index.put(search(2L).location("pune").build());
+
+        assertThat(ids(index.match(job().jobType("PART_TIME").build()))).containsExactly(1L);
+    }
+
+    @Test
+    void remainingCriteriaAreChecked() {
+        index.put(search(1L).minPay(BigDecimal.valueOf(10_000)).build());
+        index.put(search(2L).isRemote(true).build());
+        index.put(search(3L).terms(Set.of("commercial", "film")).build());
+        index.put(search(4L).skills(Set.of("acting", "dubbing")).allSkills(true).build());
+
+        List<Long> matched = ids(index.match(job().budgetMin(BigDecimal.valueOf(15_000)).isRemote(false)
+                .terms(Set.of("commercial", "shoot")).skills(Set.of("acting", "dubbing", "dance")).build()));
+
+        assertThat(matched).containsExactlyInAnyOrder(1L, 4L);
+    }
+
+    @Test
+    void replacedAndRemovedSearchesNoLongerMatch() {
+        index.put(search(1L).location("mumbai").build());
+        index.put(search(2L).location("mumbai").build());
+        index.put(search(1L).location("goa").build());
+        index.remove(2L);
+
+        assertThat(ids(index.match(job().locationKeys(Set.of("mumbai")).build()))).isEmpty();
+        assertThat(ids(index.match(job().locationKeys(Set.of("goa")).build()))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void compactionKeepsLiveSearches() {
+        for (long round = 0; round < 5; round++) {
+            for (long id = 1; id <= 1000; id++) {
+                index.put(search(id).location(id % 2 == 0 ? "mumbai" : "delhi").build());
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(1000);
+        assertThat(index.match(job().locationKeys(Set.of("mumbai")).build())).hasSize(500);
+    }
+
+    private static SavedSearchIndex.Subscription.SubscriptionBuilder search(Long id) {
+        return SavedSearchIndex.Subscription.builder().id(id).userId(id);
+    }
+
+    private static SavedSearchIndex.JobFacts.JobFactsBuilder job() {
+        return SavedSearchIndex.JobFacts.builder();
+    }
+
+    private static List<Long> ids(List<SavedSearchIndex.Subscription> matches) {
+        return matches.stream().map(SavedSearchIndex.Subscription::getId).toList();
+    }
+}
@@ -0,0 +1,67 @@
+package com.icastar.platform.security;
+
+import com.icastar.platform.entity.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Locale;
+
+/**
+ * Throughput of the request authentication path in {@link JwtTokenProvider}: the old
+ * validateToken + getUsernameFromJWT double parse against a single parseVerifiedClaims,
+ * plus the revocation lookups the filter does afterwards.
+ *
+ * Not part of the test suite. Run manually after test-compile:
+ * java -cp target/classes:target/test-classes:$(cat cp.txt) com.icastar.platform.security.JwtTokenProviderBenchmark
+ * (cp.txt from mvn dependency:build-classpath -Dmdep.outputFile=cp.txt)
+ */
+public class JwtTokenProviderBenchmark {
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    public static void main(String[] args) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret",
+                "benchmark-secret-key-for-jwt-token-generation-that-meets-the-512-bit-requirement-for-hs512");
+        ReflectionTestUtils.setField(provider, "jwtExpirationInMs", 86_400_000);
+        provider.init();
+
+        TokenRevocationList revocationList = new TokenRevocationList(null, new PrincipalCache());
+        ReflectionTestUtils.setField(revocationList, "bloomBits", 1 << 20);
+        ReflectionTestUtils.setField(revocationList, "lastRefreshAt", java.time.LocalDateTime.now());
+        for (int i = 0; i < 10_000; i++) {
+            revocationList.revoke("revoked-" + i, System.currentTimeMillis() + 3_600_000);
+        }
+
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("artist@example.com");
+        user.setRole(User.UserRole.ARTIST);
+        String token = provider.generateToken(user);
+
+        run("generateToken", () -> provider.generateToken(user).length());
+        run("validateToken + getUsernameFromJWT", () ->
+                provider.validateToken(token) ? provider.getUsernameFromJWT(token).length() : 0);
+        run("parseVerifiedClaims", () -> provider.parseVerifiedClaims(token).getSubject().length());
+        run("parseVerifiedClaims + revocation checks", () -> {
+            JwtClaims claims = provider.parseVerifiedClaims(token);
+            boolean trusted = !revocationList.isRevoked(claims.getTokenId())
+                    && revocationList.isCurrent(claims.getUserId(), claims.getStatusVersion());
+            return trusted ? AuthenticatedUser.from(claims).getId().intValue() : 0;
+        });
+    }
+
+    private static void run(String name, java.util.function.IntSupplier operation) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += operation.getAsInt();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += operation.getAsInt();
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf(Locale.ROOT, "%-42s %,10.0f ops/s  %6.2f us/op  (%d)%n",
+                name, ITERATIONS / (nanos / 1e9), nanos / 1e3 / ITERATIONS, sink % 10);
+    }
+}
@@ -0,0 +1,139 @@
+package com.icastar.platform.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimiter rateLimiter = new RateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "maxKeys", 1000);
+        filter = new RateLimitFilter(rateLimiter, new ObjectMapper());
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "ipCapacity", 100);
+        ReflectionTestUtils.setField(filter, "ipRefillSeconds", 60L);
+        ReflectionTestUtils.setField(filter, "mobileCapacity", 2);
+        ReflectionTestUtils.setField(filter, "mobileRefillSeconds", 60L);
+        ReflectionTestUtils.setField(filter, "emailCapacity", 2);
+        ReflectionTestUtils.setField(filter, "emailRefillSeconds", 60L);
+    }
+
+    @Test
+    void limitsPerMobileAcrossAddresses() throws Exception {
+        assertThat(send(request("10.0.0.1", "{\"mobile\":\"9000000001\"}"), new MockFilterChain()).getStatus()).isEqualTo(200);
+        assertThat(send(request("10.0.0.2", "{\"mobile\":\"9000000001\"}"), new MockFilterChain()).getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse response = send(request("10.0.0.3", "{\"mobile\":\"9000000001\"}"), new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isNotNull();
+    }
+
+    @Test
+    void chunkedBodiesAreStillLimitedPerMobile() throws Exception {
+        send(chunked(request("10.0.0.1", "{\"mobile\":\"9000000001\"}")), new MockFilterChain());
+        send(chunked(request("10.0.0.2", "{\"mobile\":\"9000000001\"}")), new MockFilterChain());
+
+        MockHttpServletResponse response = send(chunked(request("10.0.0.3", "{\"mobile\":\"9000000001\"}")), new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void oversizedBodiesAreRefused() throws Exception {
+        String padding = "x".repeat(20 * 1024);
+        MockFilterChain chain = new MockFilterChain();
+
+        MockHttpServletResponse response = send(chunked(request("10.0.0.1",
+                "{\"pad\":\"" + padding + "\",\"mobile\":\"9000000001\"}")), chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void bodyIsReplayedToTheController() throws Exception {
+        String body = "{\"email\":\"a@example.com\"}";
+        MockFilterChain chain = new MockFilterChain();
+
+        send(request("10.0.0.1", body), chain);
+
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertThat(new String(forwarded.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(body);
+        assertThat(forwarded.getReader().readLine()).isEqualTo(body);
+    }
+
+    @Test
+    void replayedBodySupportsReadListeners() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        send(request("10.0.0.1", "{\"email\":\"a@example.com\"}"), chain);
+        ServletInputStream input = ((HttpServletRequest) chain.getRequest()).getInputStream();
+        AtomicBoolean available = new AtomicBoolean();
+        AtomicBoolean done = new AtomicBoolean();
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+                available.set(true);
+            }
+
+            @Override
+            public void onAllDataRead() {
+                done.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+        });
+
+        assertThat(available).isTrue();
+        assertThat(done).isTrue();
+    }
+
+    private MockHttpServletResponse send(HttpServletRequest request, MockFilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String ip, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/otp/send");
+        request.setServletPath("/auth/otp/send");
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static HttpServletRequest chunked(HttpServletRequest request) {
+        return new HttpServletRequestWrapper(request) {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.icastar.platform.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toNanos(1);
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new RateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "maxKeys", 10);
+    }
+
+    @Test
+    void allowsABurstOfCapacityThenRefuses() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("mobile:9000000001", 3, HOUR)).isZero();
+        }
+
+        long wait = rateLimiter.tryAcquire("mobile:9000000001", 3, HOUR);
+
+        // The next token comes back one refill interval after the first was taken
+        assertThat(wait).isPositive().isLessThanOrEqualTo(HOUR);
+    }
+
+    @Test
+    void refusedRequestsDoNotTakeATokenOrExtendTheWait() {
+        rateLimiter.tryAcquire("ip:1", 1, HOUR);
+
+        long first = rateLimiter.tryAcquire("ip:1", 1, HOUR);
+        long second = rateLimiter.tryAcquire("ip:1", 1, HOUR);
+
+        assertThat(second).isPositive().isLessThanOrEqualTo(first);
+    }
+
+    @Test
+    void tokensComeBackAfterTheRefillInterval() throws InterruptedException {
+        long refill = TimeUnit.MILLISECONDS.toNanos(20);
+        assertThat(rateLimiter.tryAcquire("ip:1", 1, refill)).isZero();
+        assertThat(rateLimiter.tryAcquire("ip:1", 1, refill)).isPositive();
+
+        Thread.sleep(40);
+
+        assertThat(rateLimiter.tryAcquire("ip:1", 1, refill)).isZero();
+    }
+
+    @Test
+    void bucketsAreIndependentPerKey() {
+        assertThat(rateLimiter.tryAcquire("mobile:9000000001", 1, HOUR)).isZero();
+        assertThat(rateLimiter.tryAcquire("mobile:9000000001", 1, HOUR)).isPositive();
+
+        assertThat(rateLimiter.tryAcquire("mobile:9000000002", 1, HOUR)).isZero();
+    }
+
+    @Test
+    void keyMapStaysBounded() {
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.tryAcquire("ip:" + i, 5, HOUR);
+        }
+
+        assertThat(rateLimiter.size()).isLessThanOrEqualTo(10);
+    }
+}
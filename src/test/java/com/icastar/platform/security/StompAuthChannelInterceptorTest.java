@@ -0,0 +1,61 @@
+package com.icastar.platform.security;
+
+import com.icastar.platform.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class StompAuthChannelInterceptorTest {
+
+    private final StompAuthChannelInterceptor interceptor = new StompAuthChannelInterceptor(mock(JwtAuthenticator.class));
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @Test
+    void sendToAnApplicationDestinationPasses() {
+        Message<byte[]> message = frame(StompCommand.SEND, "/app/chat.send");
+
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+    }
+
+    @Test
+    void sendStraightToTheBrokerIsRejected() {
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, "/queue/messages"), channel))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, "/user/42/queue/messages"), channel))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, "/application"), channel))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, null), channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void subscriptionsOutsideTheUserQueueAreRejected() {
+        assertThat(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/user/queue/messages"), channel)).isNotNull();
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/queue/messages"), channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String destination) {
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("artist@example.com");
+        user.setRole(User.UserRole.ARTIST);
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        accessor.setUser(new StompAuthChannelInterceptor.MessagingAuthentication(AuthenticatedUser.from(user)));
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
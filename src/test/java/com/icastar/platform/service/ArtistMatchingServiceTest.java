@@ -0,0 +1,87 @@
+package com.icastar.platform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icastar.platform.entity.ArtistProfile;
+import com.icastar.platform.entity.User;
+import com.icastar.platform.event.ArtistProfileUpdatedEvent;
+import com.icastar.platform.repository.ArtistProfileFieldRepository;
+import com.icastar.platform.repository.ArtistProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ArtistMatchingServiceTest {
+
+    private final ArtistProfileRepository artistProfileRepository = mock(ArtistProfileRepository.class);
+    private final ArtistProfileFieldRepository artistProfileFieldRepository = mock(ArtistProfileFieldRepository.class);
+    private ArtistMatchingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ArtistMatchingService(artistProfileRepository, artistProfileFieldRepository, new ObjectMapper());
+        ReflectionTestUtils.setField(service, "loadBatchSize", 500);
+        when(artistProfileFieldRepository.findSearchableFieldsByArtistProfileIds(anyCollection())).thenReturn(List.of());
+    }
+
+    @Test
+    void equalScoresAreBrokenByLowestIdWhateverTheIterationOrder() {
+        // 16 hashes ahead of 1 and 2, so it is seen first
+        when(artistProfileRepository.findForMatchingAfterId(anyLong(), any()))
+                .thenReturn(List.of(profile(1L, "[\"Dance\"]"), profile(2L, "[\"dance\"]"), profile(16L, "dance")));
+
+        List<ArtistMatchingService.ArtistMatch> matches = service.findTopMatches(criteria("dance"), 2, 0.0);
+
+        assertThat(matches).extracting(ArtistMatchingService.ArtistMatch::getArtistProfileId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void higherScoreWinsOverLowerId() {
+        when(artistProfileRepository.findForMatchingAfterId(anyLong(), any()))
+                .thenReturn(List.of(profile(1L, "singing"), profile(2L, "dance, singing")));
+
+        List<ArtistMatchingService.ArtistMatch> matches = service.findTopMatches(criteria("dance", "singing"), 1, 0.0);
+
+        assertThat(matches).extracting(ArtistMatchingService.ArtistMatch::getArtistProfileId).containsExactly(2L);
+        assertThat(matches.get(0).getScore()).isEqualTo(1.0);
+    }
+
+    @Test
+    void profileUpdateEventReindexesTheArtist() {
+        when(artistProfileRepository.findForMatchingAfterId(anyLong(), any())).thenReturn(List.of(profile(1L, "acting")));
+        assertThat(service.findTopMatches(criteria("dance"), 5, 0.5)).isEmpty();
+
+        when(artistProfileRepository.findForMatchingByIds(Set.of(1L))).thenReturn(List.of(profile(1L, "acting, dance")));
+        service.onArtistProfileUpdated(new ArtistProfileUpdatedEvent(1L));
+
+        assertThat(service.findTopMatches(criteria("dance"), 5, 0.5))
+                .extracting(ArtistMatchingService.ArtistMatch::getArtistProfileId).containsExactly(1L);
+    }
+
+    private static ArtistMatchingService.MatchCriteria criteria(String... skills) {
+        return ArtistMatchingService.MatchCriteria.builder()
+                .skills(Set.of(skills).stream().collect(Collectors.toSet()))
+                .build();
+    }
+
+    private static ArtistProfile profile(Long id, String skills) {
+        User user = new User();
+        user.setStatus(User.UserStatus.ACTIVE);
+        ArtistProfile profile = new ArtistProfile();
+        profile.setId(id);
+        profile.setUser(user);
+        profile.setSkills(skills);
+        profile.setIsActive(true);
+        return profile;
+    }
+}
@@ -0,0 +1,158 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.dto.audition.ScheduleAuditionDto;
+import com.icastar.platform.dto.audition.TimeSlotDto;
+import com.icastar.platform.entity.ArtistProfile;
+import com.icastar.platform.entity.Audition;
+import com.icastar.platform.entity.Job;
+import com.icastar.platform.entity.JobApplication;
+import com.icastar.platform.entity.RecruiterProfile;
+import com.icastar.platform.entity.User;
+import com.icastar.platform.exception.BusinessException;
+import com.icastar.platform.repository.ArtistProfileRepository;
+import com.icastar.platform.repository.AuditionRepository;
+import com.icastar.platform.repository.JobApplicationRepository;
+import com.icastar.platform.repository.RecruiterProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuditionScheduleServiceTest {
+
+    private static final long RECRUITER_USER_ID = 5L;
+
+    private final AuditionRepository auditionRepository = mock(AuditionRepository.class);
+    private final JobApplicationRepository jobApplicationRepository = mock(JobApplicationRepository.class);
+    private final ArtistProfileRepository artistProfileRepository = mock(ArtistProfileRepository.class);
+    private final RecruiterProfileRepository recruiterProfileRepository = mock(RecruiterProfileRepository.class);
+    private AuditionScheduleService service;
+
+    private final LocalDateTime tomorrow = LocalDateTime.now().toLocalDate().plusDays(1).atStartOfDay();
+    private JobApplication application;
+    private RecruiterProfile recruiter;
+    private ArtistProfile artist;
+
+    @BeforeEach
+    void setUp() {
+        AuditionCalendarCache calendarCache = new AuditionCalendarCache();
+        ReflectionTestUtils.setField(calendarCache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(calendarCache, "maxSize", 100);
+        service = new AuditionScheduleService(auditionRepository, jobApplicationRepository, artistProfileRepository,
+                recruiterProfileRepository, calendarCache, mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(service, "defaultDurationMinutes", 30);
+        ReflectionTestUtils.setField(service, "maxDurationMinutes", 480);
+        ReflectionTestUtils.setField(service, "slotStepMinutes", 15);
+        ReflectionTestUtils.setField(service, "dayStartHour", 9);
+        ReflectionTestUtils.setField(service, "dayEndHour", 20);
+        ReflectionTestUtils.setField(service, "horizonDays", 60);
+
+        User recruiterUser = new User();
+        recruiterUser.setId(RECRUITER_USER_ID);
+        recruiter = new RecruiterProfile();
+        recruiter.setId(3L);
+        recruiter.setUser(recruiterUser);
+        User artistUser = new User();
+        artistUser.setId(6L);
+        artist = new ArtistProfile();
+        artist.setId(2L);
+        artist.setUser(artistUser);
+        Job job = new Job();
+        job.setId(9L);
+        job.setRecruiter(recruiterUser);
+        application = new JobApplication();
+        application.setId(1L);
+        application.setJob(job);
+        application.setArtist(artist);
+
+        when(jobApplicationRepository.findById(1L)).thenReturn(Optional.of(application));
+        when(recruiterProfileRepository.findByUserId(RECRUITER_USER_ID)).thenReturn(Optional.of(recruiter));
+        when(auditionRepository.save(any(Audition.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void suggestionsSkipBookingsOfEitherParticipant() {
+        when(auditionRepository.findBookedByArtist(eq(2L), any(), any()))
+                .thenReturn(List.of(booked(10L, tomorrow.withHour(9), 60)));
+        when(auditionRepository.findBookedByRecruiter(eq(3L), any(), any()))
+                .thenReturn(List.of(booked(11L, tomorrow.withHour(10).withMinute(15), 30)));
+
+        List<TimeSlotDto> slots = service.suggestSlots(RECRUITER_USER_ID, 1L, tomorrow, tomorrow.plusDays(1), 30, 3);
+
+        // 10:00 would run into the recruiter's 10:15 booking
+        assertThat(slots).extracting(TimeSlotDto::getStart).containsExactly(
+                tomorrow.withHour(10).withMinute(45), tomorrow.withHour(11).withMinute(15), tomorrow.withHour(11).withMinute(45));
+    }
+
+    @Test
+    void suggestionsStayWithinWorkingHours() {
+        List<TimeSlotDto> slots = service.suggestSlots(RECRUITER_USER_ID, 1L,
+                tomorrow.withHour(19).withMinute(40), tomorrow.plusDays(2), 30, 2);
+
+        assertThat(slots).extracting(TimeSlotDto::getStart).containsExactly(
+                tomorrow.plusDays(1).withHour(9), tomorrow.plusDays(1).withHour(9).withMinute(30));
+    }
+
+    @Test
+    void schedulingChecksJobOwnership() {
+        assertThatThrownBy(() -> service.scheduleAudition(99L, 1L, request(tomorrow.withHour(12))))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo("FORBIDDEN");
+    }
+
+    @Test
+    void clashesAreRejectedWithConflictDetails() {
+        when(auditionRepository.findBookedByArtist(eq(2L), any(), any()))
+                .thenReturn(List.of(booked(10L, tomorrow.withHour(12), 60)));
+
+        assertThatThrownBy(() -> service.scheduleAudition(RECRUITER_USER_ID, 1L, request(tomorrow.withHour(12).withMinute(30))))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo("AUDITION_CONFLICT");
+    }
+
+    @Test
+    void rescheduleMovesTheGivenAudition() {
+        Audition audition = booked(20L, tomorrow.withHour(12), 30);
+        when(auditionRepository.findById(20L)).thenReturn(Optional.of(audition));
+
+        service.rescheduleAudition(RECRUITER_USER_ID, 20L, request(tomorrow.withHour(15)));
+
+        assertThat(audition.getScheduledAt()).isEqualTo(tomorrow.withHour(15));
+        verify(auditionRepository).save(audition);
+        verify(auditionRepository, never()).findFirstByJobApplicationIdAndStatusOrderByIdDesc(anyLong(), any());
+    }
+
+    private Audition booked(Long id, LocalDateTime start, int minutes) {
+        Audition audition = new Audition();
+        audition.setId(id);
+        audition.setJobApplication(application);
+        audition.setArtist(artist);
+        audition.setRecruiter(recruiter);
+        audition.setScheduledAt(start);
+        audition.setDurationMinutes(minutes);
+        audition.setEndsAt(start.plusMinutes(minutes));
+        audition.setStatus(Audition.AuditionStatus.SCHEDULED);
+        return audition;
+    }
+
+    private static ScheduleAuditionDto request(LocalDateTime start) {
+        ScheduleAuditionDto request = new ScheduleAuditionDto();
+        request.setScheduledAt(start);
+        request.setDurationMinutes(30);
+        return request;
+    }
+}
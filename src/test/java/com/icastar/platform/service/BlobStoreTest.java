@@ -0,0 +1,169 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.StoredBlob;
+import com.icastar.platform.repository.StoredBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MySQL mode, so the INSERT ... ON DUPLICATE KEY UPDATE upsert runs as written
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:blobstore;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=OFF"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration({JdbcTemplateAutoConfiguration.class, TransactionAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BlobStoreTest {
+
+    @Autowired
+    private StoredBlobRepository storedBlobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path dir;
+
+    private LocalObjectStore localStore;
+    private Runnable beforeNextPut;
+    private BlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM stored_blobs");
+        localStore = new LocalObjectStore(dir.toString(), "/uploads/", "");
+        // Lets a test slip a concurrent upload in between the hash and the write
+        ObjectStore objectStore = new ObjectStore() {
+            @Override
+            public StoredObject put(String key, InputStream content, String contentType) throws IOException {
+                if (beforeNextPut != null) {
+                    Runnable hook = beforeNextPut;
+                    beforeNextPut = null;
+                    hook.run();
+                }
+                return localStore.put(key, content, contentType);
+            }
+
+            @Override
+            public InputStream open(String url) throws IOException {
+                return localStore.open(url);
+            }
+
+            @Override
+            public void delete(String url) {
+                localStore.delete(url);
+            }
+        };
+        blobStore = new BlobStore(storedBlobRepository, objectStore, transactionManager);
+        ReflectionTestUtils.setField(blobStore, "gcGraceMinutes", 60L);
+        ReflectionTestUtils.setField(blobStore, "gcBatchSize", 500);
+        blobStore.init();
+    }
+
+    @Test
+    void identicalContentSharesOneObjectAndCountsReferences() {
+        ObjectStore.StoredObject first = blobStore.store(bytes("headshot"), "a.png", "image/png");
+        ObjectStore.StoredObject second = blobStore.store(bytes("headshot"), "b.png", "image/png");
+
+        assertThat(second.url()).isEqualTo(first.url());
+        assertThat(blob(first.sha256()).getRefCount()).isEqualTo(2);
+        assertThat(Files.exists(dir.resolve(first.key()))).isTrue();
+    }
+
+    @Test
+    void uploadThatLosesTheUpsertToAnotherExtensionDropsItsOwnCopy() {
+        byte[] content = bytes("showreel");
+        beforeNextPut = () -> blobStore.store(content, "reel.mov", "video/quicktime");
+
+        ObjectStore.StoredObject object = blobStore.store(content, "reel.mp4", "video/mp4");
+
+        assertThat(object.url()).endsWith(".mov");
+        assertThat(blob(object.sha256()).getRefCount()).isEqualTo(2);
+        assertThat(Files.exists(dir.resolve(object.key()))).isTrue();
+        assertThat(Files.exists(dir.resolve(object.key().replace(".mov", ".mp4")))).isFalse();
+    }
+
+    @Test
+    void releasedBlobsAreCollectedOnlyAfterTheGracePeriod() {
+        ObjectStore.StoredObject object = blobStore.store(bytes("portfolio"), "p.pdf", "application/pdf");
+        release(object);
+        assertThat(blob(object.sha256()).getRefCount()).isZero();
+
+        blobStore.collectGarbage();
+        assertThat(storedBlobRepository.existsById(object.sha256())).isTrue();
+
+        jdbcTemplate.update("UPDATE stored_blobs SET updated_at = ? WHERE sha256 = ?",
+                LocalDateTime.now().minusHours(2), object.sha256());
+        blobStore.collectGarbage();
+
+        assertThat(storedBlobRepository.existsById(object.sha256())).isFalse();
+        assertThat(Files.exists(dir.resolve(object.key()))).isFalse();
+    }
+
+    @Test
+    void storingReleasedContentAgainRevivesTheBlob() {
+        ObjectStore.StoredObject object = blobStore.store(bytes("audition"), "a.jpg", "image/jpeg");
+        release(object);
+        jdbcTemplate.update("UPDATE stored_blobs SET updated_at = ? WHERE sha256 = ?",
+                LocalDateTime.now().minusHours(2), object.sha256());
+
+        blobStore.store(bytes("audition"), "a.jpg", "image/jpeg");
+        blobStore.collectGarbage();
+
+        assertThat(blob(object.sha256()).getRefCount()).isEqualTo(1);
+        assertThat(Files.exists(dir.resolve(object.key()))).isTrue();
+    }
+
+    @Test
+    void releasingAFileStoredBeforeDeduplicationDeletesIt() throws IOException {
+        ObjectStore.StoredObject legacy = localStore.put("documents/7/old.pdf", InputStream.nullInputStream(), "application/pdf");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> blobStore.release(null, legacy.url()));
+
+        assertThat(Files.exists(dir.resolve("documents/7/old.pdf"))).isFalse();
+    }
+
+    private void release(ObjectStore.StoredObject object) {
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> blobStore.release(object.sha256(), object.url()));
+    }
+
+    private StoredBlob blob(String sha256) {
+        return storedBlobRepository.findById(sha256).orElseThrow();
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,75 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.dto.artist.CandidateDashboardDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CandidateDashboardCacheTest {
+
+    private CandidateDashboardCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CandidateDashboardCache();
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+    }
+
+    @Test
+    void hitsDoNotLoad() {
+        AtomicInteger loads = new AtomicInteger();
+
+        CandidateDashboardDto first = cache.get(1L, () -> dashboard(loads.incrementAndGet()));
+        CandidateDashboardDto second = cache.get(1L, () -> dashboard(loads.incrementAndGet()));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictionDuringALoadDiscardsItsResult() {
+        CandidateDashboardDto stale = cache.get(1L, () -> {
+            CandidateDashboardDto loaded = dashboard(1);
+            cache.evict(1L);
+            return loaded;
+        });
+
+        CandidateDashboardDto fresh = cache.get(1L, () -> dashboard(2));
+
+        assertThat(stale.getTotalApplications()).isEqualTo(1);
+        assertThat(fresh.getTotalApplications()).isEqualTo(2);
+        assertThat(cache.get(1L, () -> dashboard(3))).isSameAs(fresh);
+    }
+
+    @Test
+    void concurrentLoadIsNotCached() {
+        CandidateDashboardDto outer = cache.get(1L, () -> {
+            // A second request for the same artist while the first is still loading
+            assertThat(cache.get(1L, () -> dashboard(2)).getTotalApplications()).isEqualTo(2);
+            return dashboard(1);
+        });
+
+        assertThat(cache.get(1L, () -> dashboard(3))).isSameAs(outer);
+    }
+
+    @Test
+    void failedLoadLeavesNoMarker() {
+        assertThatThrownBy(() -> cache.get(1L, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        CandidateDashboardDto loaded = cache.get(1L, () -> dashboard(1));
+
+        assertThat(cache.get(1L, () -> dashboard(2))).isSameAs(loaded);
+    }
+
+    private static CandidateDashboardDto dashboard(long total) {
+        return CandidateDashboardDto.builder().artistId(1L).totalApplications(total).build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.CommunicationLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommunicationDispatcherTest {
+
+    private final CommunicationLogService communicationLogService = mock(CommunicationLogService.class);
+    private final SmsGateway smsGateway = mock(SmsGateway.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CommunicationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new CommunicationDispatcher(communicationLogService, mock(JavaMailSender.class), smsGateway, meterRegistry);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 10);
+        ReflectionTestUtils.setField(dispatcher, "workers", 2);
+        ReflectionTestUtils.setField(dispatcher, "retryBaseDelaySeconds", 30L);
+        ReflectionTestUtils.setField(dispatcher, "retryMaxDelaySeconds", 3600L);
+        ReflectionTestUtils.setField(dispatcher, "emailConcurrency", 1);
+        ReflectionTestUtils.setField(dispatcher, "smsConcurrency", 1);
+        dispatcher.start();
+        when(communicationLogService.claimDueRetries(anyInt())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.stop();
+    }
+
+    @Test
+    void sentAndFailedRowsAreRecordedInOneBatchEach() {
+        doThrow(new IllegalStateException("provider down")).when(smsGateway).send(eq("bad"), anyString());
+        when(communicationLogService.claimPending(anyInt())).thenReturn(List.of(sms(1L, "good", 0), sms(2L, "bad", 0)), List.of());
+
+        dispatcher.requestDrain();
+
+        verify(communicationLogService, timeout(5000)).markAllAsSent(List.of(1L));
+        List<CommunicationLogService.FailedDelivery> failed = captureFailures();
+        assertThat(failed).extracting(CommunicationLogService.FailedDelivery::logId).containsExactly(2L);
+        assertThat(failed.get(0).errorMessage()).isEqualTo("provider down");
+        assertThat(meterRegistry.counter("icastar.communication.sent", "channel", "sms").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("icastar.communication.failed", "channel", "sms").count()).isEqualTo(1);
+    }
+
+    @Test
+    void retryDelayDoublesWithJitterUpToTheCapAndStopsWhenExhausted() {
+        doThrow(new IllegalStateException("provider down")).when(smsGateway).send(anyString(), anyString());
+        when(communicationLogService.claimPending(anyInt()))
+                .thenReturn(List.of(sms(1L, "a", 0), sms(2L, "b", 2), withMaxRetries(sms(3L, "c", 12), 20), sms(4L, "d", 3)), List.of());
+        LocalDateTime before = LocalDateTime.now();
+
+        dispatcher.requestDrain();
+
+        List<CommunicationLogService.FailedDelivery> failed = captureFailures();
+        failed.sort(Comparator.comparing(CommunicationLogService.FailedDelivery::logId));
+        LocalDateTime after = LocalDateTime.now();
+        // First retry waits 15-30s, the third 60-120s, and a high retry count is capped at 1800-3600s
+        assertThat(failed.get(0).nextRetryAt()).isBetween(before.plusSeconds(15), after.plusSeconds(30));
+        assertThat(failed.get(1).nextRetryAt()).isBetween(before.plusSeconds(60), after.plusSeconds(120));
+        assertThat(failed.get(2).nextRetryAt()).isBetween(before.plusSeconds(1800), after.plusSeconds(3600));
+        assertThat(failed.get(3).nextRetryAt()).isNull();
+    }
+
+    @Test
+    void dueRetriesAreSentAndCounted() {
+        when(communicationLogService.claimPending(anyInt())).thenReturn(List.of());
+        when(communicationLogService.claimDueRetries(anyInt())).thenReturn(List.of(sms(5L, "good", 1)), List.of());
+
+        dispatcher.requestDrain();
+
+        verify(communicationLogService, timeout(5000)).markAllAsSent(List.of(5L));
+        assertThat(meterRegistry.counter("icastar.communication.retried", "channel", "sms").count()).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CommunicationLogService.FailedDelivery> captureFailures() {
+        ArgumentCaptor<List<CommunicationLogService.FailedDelivery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(communicationLogService, timeout(5000)).markAllAsFailed(captor.capture());
+        return captor.getValue();
+    }
+
+    private static CommunicationLog withMaxRetries(CommunicationLog entry, int maxRetries) {
+        entry.setMaxRetries(maxRetries);
+        return entry;
+    }
+
+    private static CommunicationLog sms(Long id, String mobile, int retryCount) {
+        CommunicationLog entry = new CommunicationLog();
+        entry.setId(id);
+        entry.setCommunicationType(CommunicationLog.CommunicationType.SMS);
+        entry.setRecipientMobile(mobile);
+        entry.setMessage("Your code is 123456");
+        entry.setRetryCount(retryCount);
+        entry.setMaxRetries(3);
+        return entry;
+    }
+}
@@ -0,0 +1,115 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.CommunicationLog;
+import com.icastar.platform.repository.CommunicationLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=OFF"})
+@ImportAutoConfiguration({JdbcTemplateAutoConfiguration.class, TransactionAutoConfiguration.class})
+@Import(CommunicationLogService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommunicationLogServiceTest {
+
+    @Autowired
+    private CommunicationLogService communicationLogService;
+
+    @Autowired
+    private CommunicationLogRepository communicationLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM communication_logs");
+        communicationLogService.createLogs(List.of(sms("1"), sms("2"), sms("3")));
+    }
+
+    @Test
+    void claimMovesPendingRowsToSendingOnce() {
+        List<CommunicationLog> first = communicationLogService.claimPending(2);
+        List<CommunicationLog> second = communicationLogService.claimPending(2);
+
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(1);
+        assertThat(communicationLogService.claimPending(2)).isEmpty();
+        assertThat(statuses()).containsOnly(CommunicationLog.CommunicationStatus.SENDING);
+        assertThat(communicationLogService.countPending()).isZero();
+    }
+
+    @Test
+    void sentRowsAreNeverClaimedAgain() {
+        List<Long> ids = ids(communicationLogService.claimPending(10));
+
+        communicationLogService.markAllAsSent(ids);
+
+        assertThat(statuses()).containsOnly(CommunicationLog.CommunicationStatus.SENT);
+        assertThat(communicationLogService.claimPending(10)).isEmpty();
+        assertThat(communicationLogService.claimDueRetries(10)).isEmpty();
+    }
+
+    @Test
+    void failuresAreRetriedOnlyOnceDueAndCountTheAttempt() {
+        List<Long> ids = ids(communicationLogService.claimPending(10));
+        LocalDateTime now = LocalDateTime.now();
+        communicationLogService.markAllAsFailed(List.of(
+                new CommunicationLogService.FailedDelivery(ids.get(0), "timeout", now.minusSeconds(1)),
+                new CommunicationLogService.FailedDelivery(ids.get(1), "timeout", now.plusMinutes(10)),
+                new CommunicationLogService.FailedDelivery(ids.get(2), "rejected", null)));
+        // A null next_retry_at with retries left is due immediately; exhaust this one instead
+        jdbcTemplate.update("UPDATE communication_logs SET retry_count = max_retries WHERE id = ?", ids.get(2));
+
+        assertThat(communicationLogService.countDueRetries()).isEqualTo(1);
+        List<CommunicationLog> retried = communicationLogService.claimDueRetries(10);
+
+        assertThat(ids(retried)).containsExactly(ids.get(0));
+        CommunicationLog row = communicationLogRepository.findById(ids.get(0)).orElseThrow();
+        assertThat(row.getStatus()).isEqualTo(CommunicationLog.CommunicationStatus.SENDING);
+        assertThat(row.getRetryCount()).isEqualTo(1);
+        assertThat(row.getErrorMessage()).isEqualTo("timeout");
+        assertThat(communicationLogService.claimDueRetries(10)).isEmpty();
+    }
+
+    @Test
+    void rowsStuckInSendingReturnToPending() {
+        communicationLogService.claimPending(10);
+        jdbcTemplate.update("UPDATE communication_logs SET updated_at = ?", LocalDateTime.now().minusMinutes(10));
+
+        assertThat(communicationLogService.releaseStuckSending(300)).isEqualTo(3);
+        assertThat(communicationLogService.claimPending(10)).hasSize(3);
+        assertThat(communicationLogService.releaseStuckSending(300)).isZero();
+    }
+
+    private List<CommunicationLog.CommunicationStatus> statuses() {
+        return communicationLogRepository.findAll().stream().map(CommunicationLog::getStatus).toList();
+    }
+
+    private static List<Long> ids(List<CommunicationLog> logs) {
+        return logs.stream().map(CommunicationLog::getId).sorted().toList();
+    }
+
+    private static CommunicationLogService.QueuedCommunication sms(String suffix) {
+        return new CommunicationLogService.QueuedCommunication(CommunicationLog.CommunicationType.SMS, null,
+                "900000000" + suffix, null, "Your code is 12345" + suffix, "otp", null, null);
+    }
+}
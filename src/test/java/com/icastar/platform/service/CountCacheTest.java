@@ -0,0 +1,61 @@
+package com.icastar.platform.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountCacheTest {
+
+    @Test
+    void hitsDoNotRunTheCounter() {
+        CountCache cache = new CountCache(10);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get("jobs", 60, () -> calls.incrementAndGet() * 100L)).isEqualTo(100);
+        assertThat(cache.get("jobs", 60, () -> calls.incrementAndGet() * 100L)).isEqualTo(100);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void expiredEntriesAreRecounted() {
+        CountCache cache = new CountCache(10);
+
+        cache.get("jobs", 0, () -> 1L);
+
+        assertThat(cache.get("jobs", 0, () -> 2L)).isEqualTo(2);
+    }
+
+    @Test
+    void fullCacheDropsExpiredEntriesBeforeLiveOnes() {
+        CountCache cache = new CountCache(10);
+        for (int i = 0; i < 5; i++) {
+            cache.get("live" + i, 60, () -> 1L);
+        }
+        for (int i = 0; i < 5; i++) {
+            cache.get("stale" + i, 0, () -> 1L);
+        }
+
+        cache.get("new", 60, () -> 1L);
+
+        assertThat(cache.size()).isEqualTo(6);
+        AtomicInteger recounts = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            cache.get("live" + i, 60, () -> recounts.incrementAndGet());
+        }
+        assertThat(recounts).hasValue(0);
+    }
+
+    @Test
+    void fullCacheOfLiveEntriesDropsATenthInsteadOfEverything() {
+        CountCache cache = new CountCache(20);
+        for (int i = 0; i < 20; i++) {
+            cache.get("key" + i, 60, () -> 1L);
+        }
+
+        cache.get("new", 60, () -> 1L);
+
+        assertThat(cache.size()).isEqualTo(19);
+    }
+}
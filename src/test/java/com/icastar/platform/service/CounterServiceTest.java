@@ -0,0 +1,108 @@
+package com.icastar.platform.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=OFF"})
+@ImportAutoConfiguration({JdbcTemplateAutoConfiguration.class, TransactionAutoConfiguration.class})
+@Import(CounterService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CounterServiceTest {
+
+    private static final long JOB_ID = 7L;
+
+    @Autowired
+    private CounterService counterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        counterService.flush();
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        jdbcTemplate.update("DELETE FROM job_posts");
+        jdbcTemplate.update("DELETE FROM jobs");
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO jobs (id, recruiter_id, title, status, is_active, created_at) VALUES (?, 1, 'Actor', 'ACTIVE', TRUE, ?)",
+                JOB_ID, now);
+        jdbcTemplate.update("INSERT INTO job_posts (id, recruiter_id, title, description, job_type, experience_level, status, "
+                        + "is_active, is_boosted, is_remote, is_visible, created_at) "
+                        + "VALUES (?, 1, 'Actor', 'd', 'FULL_TIME', 'MID', 'ACTIVE', TRUE, FALSE, FALSE, TRUE, ?)",
+                JOB_ID, now);
+        jobService = new JobService(null, null, null, null, null, counterService, null);
+    }
+
+    @Test
+    void viewsReachTheJobColumnOnFlush() {
+        jobService.incrementViews(JOB_ID);
+        jobService.incrementViews(JOB_ID);
+
+        assertThat(column("jobs", "views_count")).isZero();
+        assertThat(counterService.current(CounterService.Counter.JOB_VIEWS, JOB_ID, 0)).isEqualTo(2);
+
+        counterService.flush();
+
+        assertThat(column("jobs", "views_count")).isEqualTo(2);
+        assertThat(counterService.pending(CounterService.Counter.JOB_VIEWS, JOB_ID)).isZero();
+    }
+
+    @Test
+    void jobCountersLeaveTheJobPostWithTheSameIdAlone() {
+        jobService.incrementViews(JOB_ID);
+        jobService.incrementApplications(JOB_ID);
+        jobService.incrementApplications(JOB_ID);
+        jobService.decrementApplications(JOB_ID);
+        counterService.flush();
+
+        assertThat(column("jobs", "applications_count")).isEqualTo(1);
+        assertThat(column("job_posts", "total_views")).isZero();
+        assertThat(column("job_posts", "total_applications")).isZero();
+    }
+
+    @Test
+    void incrementsInsideATransactionWaitForCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jobService.incrementApplications(JOB_ID);
+            assertThat(counterService.pending(CounterService.Counter.JOB_APPLICATIONS, JOB_ID)).isZero();
+        });
+        assertThat(counterService.pending(CounterService.Counter.JOB_APPLICATIONS, JOB_ID)).isEqualTo(1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jobService.incrementApplications(JOB_ID);
+            status.setRollbackOnly();
+        });
+        counterService.flush();
+
+        assertThat(column("jobs", "applications_count")).isEqualTo(1);
+    }
+
+    private int column(String table, String column) {
+        Integer value = jdbcTemplate.queryForObject("SELECT " + column + " FROM " + table + " WHERE id = ?", Integer.class, JOB_ID);
+        return value != null ? value : 0;
+    }
+}
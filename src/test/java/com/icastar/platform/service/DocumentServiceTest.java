@@ -0,0 +1,93 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.Document;
+import com.icastar.platform.entity.User;
+import com.icastar.platform.exception.BusinessException;
+import com.icastar.platform.repository.DocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DocumentServiceTest {
+
+    private final DocumentRepository documentRepository = mock(DocumentRepository.class);
+    private final BlobStore blobStore = mock(BlobStore.class);
+    private final ObjectStore objectStore = mock(ObjectStore.class);
+    private final ImageVariantService imageVariantService = mock(ImageVariantService.class);
+    private DocumentService documentService;
+
+    @BeforeEach
+    void setUp() {
+        documentService = new DocumentService(documentRepository, blobStore, objectStore, imageVariantService);
+        ReflectionTestUtils.setField(documentService, "contextPath", "/api");
+        when(documentRepository.save(any(Document.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void identityDocumentsAreStoredOutsideTheBlobTree() throws Exception {
+        when(objectStore.put(anyString(), any(InputStream.class), any()))
+                .thenAnswer(invocation -> new ObjectStore.StoredObject(invocation.getArgument(0),
+                        "/api/uploads/" + invocation.getArgument(0), 3, "hash"));
+
+        Document document = documentService.uploadDocument(user(7L),
+                new MockMultipartFile("pan", "card.HTML", "text/html", "pan".getBytes()), Document.DocumentType.PAN);
+
+        verifyNoInteractions(blobStore);
+        verify(objectStore).put(eq("private/7/" + document.getFileName()), any(InputStream.class), eq("text/html"));
+        assertThat(document.getFileName()).doesNotContain(".");
+        document.setId(11L);
+        assertThat(documentService.getFileUrl(document)).isEqualTo("/api/documents/11/content");
+    }
+
+    @Test
+    void otherDocumentsKeepWhitelistedExtensionsAndPublicUrls() {
+        when(blobStore.store(any(org.springframework.web.multipart.MultipartFile.class)))
+                .thenReturn(new ObjectStore.StoredObject("blobs/ab/abc.jpg", "/api/uploads/blobs/ab/abc.jpg", 3, "abc"));
+
+        Document document = documentService.uploadDocument(user(7L),
+                new MockMultipartFile("photo", "me.JPG", "image/jpeg", "img".getBytes()), Document.DocumentType.HEADSHOT);
+
+        assertThat(document.getFileName()).endsWith(".jpg");
+        assertThat(documentService.getFileUrl(document)).isEqualTo("/api/uploads/blobs/ab/abc.jpg");
+        verify(imageVariantService).enqueue(List.of(document));
+    }
+
+    @Test
+    void onlyTheOwnerOrAnAdminCanOpenADocument() throws Exception {
+        Document document = new Document();
+        document.setId(11L);
+        document.setUser(user(7L));
+        document.setDocumentType(Document.DocumentType.AADHAR);
+        document.setFileUrl("/api/uploads/private/7/x.pdf");
+        when(documentRepository.findById(11L)).thenReturn(Optional.of(document));
+        when(objectStore.open("/api/uploads/private/7/x.pdf")).thenReturn(new ByteArrayInputStream(new byte[0]));
+
+        assertThat(documentService.openDocument(7L, User.UserRole.ARTIST, 11L).document()).isSameAs(document);
+        assertThat(documentService.openDocument(1L, User.UserRole.ADMIN, 11L).document()).isSameAs(document);
+        assertThatThrownBy(() -> documentService.openDocument(8L, User.UserRole.RECRUITER, 11L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("own documents");
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
@@ -0,0 +1,85 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.Document;
+import com.icastar.platform.repository.DocumentRepository;
+import com.icastar.platform.repository.DocumentVariantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageVariantServiceTest {
+
+    private final DocumentRepository documentRepository = mock(DocumentRepository.class);
+    private final DocumentVariantRepository documentVariantRepository = mock(DocumentVariantRepository.class);
+    private final ObjectStore objectStore = mock(ObjectStore.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private ImageVariantService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        service = new ImageVariantService(documentRepository, documentVariantRepository, objectStore,
+                mock(BlobStore.class), transactionTemplate);
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        ReflectionTestUtils.setField(service, "retryBackoffMinutes", 5L);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        // A legacy row pointing at a URL the store does not know
+        when(objectStore.open("https://s3.example.com/dummy.jpg")).thenThrow(new IOException("Not a stored object"));
+    }
+
+    @Test
+    void failedRunBacksOffWithADoublingDelay() {
+        LocalDateTime before = LocalDateTime.now();
+
+        process(document(1));
+
+        verify(documentRepository).recordVariantFailure(eq(7L), any());
+        verify(documentRepository, never()).markVariantsProcessed(anyLong(), any());
+        LocalDateTime retryAt = capturedRetryAt();
+        assertThat(retryAt).isAfterOrEqualTo(before.plusMinutes(10)).isBefore(before.plusMinutes(11));
+    }
+
+    @Test
+    void lastAllowedFailureMarksTheDocumentProcessed() {
+        process(document(2));
+
+        verify(documentRepository).markVariantsProcessed(eq(7L), any());
+        verify(documentRepository, never()).recordVariantFailure(anyLong(), any());
+    }
+
+    private void process(Document document) {
+        when(documentRepository.findById(7L)).thenReturn(Optional.of(document));
+        ReflectionTestUtils.invokeMethod(service, "process", 7L);
+    }
+
+    private LocalDateTime capturedRetryAt() {
+        ArgumentCaptor<LocalDateTime> retryAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(documentRepository).recordVariantFailure(eq(7L), retryAt.capture());
+        return retryAt.getValue();
+    }
+
+    private static Document document(int previousAttempts) {
+        Document document = new Document();
+        document.setId(7L);
+        document.setDocumentType(Document.DocumentType.HEADSHOT);
+        document.setFileUrl("https://s3.example.com/dummy.jpg");
+        document.setVariantAttempts(previousAttempts);
+        return document;
+    }
+}
@@ -0,0 +1,103 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.Otp;
+import com.icastar.platform.repository.OtpRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class InMemoryOtpStoreTest {
+
+    private static final Otp.OtpType LOGIN = Otp.OtpType.LOGIN;
+
+    private final OtpRepository otpRepository = mock(OtpRepository.class);
+    private InMemoryOtpStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryOtpStore(otpRepository);
+        store.start();
+        // The tests drive the wheel themselves
+        store.stop();
+    }
+
+    @Test
+    void codeVerifiesOnceOnly() {
+        store.issue("9000000001", null, LOGIN, "123456", LocalDateTime.now().plusMinutes(5), 3);
+
+        assertThat(store.verify("9000000001", null, LOGIN, "123456")).isEqualTo(OtpStore.VerifyResult.VERIFIED);
+        assertThat(store.verify("9000000001", null, LOGIN, "123456")).isEqualTo(OtpStore.VerifyResult.NOT_FOUND);
+        verifyNoInteractions(otpRepository);
+    }
+
+    @Test
+    void wrongCodesCountTowardsMaxAttempts() {
+        store.issue("9000000001", "a@example.com", LOGIN, "123456", LocalDateTime.now().plusMinutes(5), 2);
+
+        assertThat(store.verify("9000000001", "a@example.com", LOGIN, "000000")).isEqualTo(OtpStore.VerifyResult.INVALID);
+        assertThat(store.verify("9000000001", "a@example.com", LOGIN, "111111")).isEqualTo(OtpStore.VerifyResult.INVALID);
+        assertThat(store.verify("9000000001", "a@example.com", LOGIN, "123456")).isEqualTo(OtpStore.VerifyResult.ATTEMPTS_EXCEEDED);
+        assertThat(store.verify("9000000001", "a@example.com", LOGIN, "123456")).isEqualTo(OtpStore.VerifyResult.NOT_FOUND);
+    }
+
+    @Test
+    void otherTypeOrRecipientDoesNotMatch() {
+        store.issue("9000000001", null, LOGIN, "123456", LocalDateTime.now().plusMinutes(5), 3);
+
+        assertThat(store.verify("9000000001", null, Otp.OtpType.REGISTRATION, "123456")).isEqualTo(OtpStore.VerifyResult.NOT_FOUND);
+        assertThat(store.verify("9000000001", "a@example.com", LOGIN, "123456")).isEqualTo(OtpStore.VerifyResult.NOT_FOUND);
+    }
+
+    @Test
+    void expiredEntryIsReportedUntilTheWheelDropsIt() {
+        store.issue("9000000001", null, LOGIN, "123456", LocalDateTime.now().minusSeconds(1), 3);
+        store.issue("9000000002", null, LOGIN, "123456", LocalDateTime.now().minusSeconds(1), 3);
+
+        assertThat(store.verify("9000000001", null, LOGIN, "123456")).isEqualTo(OtpStore.VerifyResult.EXPIRED);
+
+        store.advance(System.currentTimeMillis() + 2_000);
+
+        assertThat(store.verify("9000000002", null, LOGIN, "123456")).isEqualTo(OtpStore.VerifyResult.NOT_FOUND);
+    }
+
+    @Test
+    void sweepKeepsEntriesUntilTheirDeadline() {
+        long now = System.currentTimeMillis();
+        store.issue("9000000001", null, LOGIN, "123456", LocalDateTime.now().plusSeconds(60), 3);
+
+        store.advance(now + 30_000);
+
+        assertThat(store.verify("9000000001", null, LOGIN, "123456")).isEqualTo(OtpStore.VerifyResult.VERIFIED);
+    }
+
+    @Test
+    void entriesMoreThanOneRevolutionAwaySurviveTheirFirstPass() {
+        long now = System.currentTimeMillis();
+        // 600s is past the 512-tick wheel, so the bucket comes round once before the deadline
+        store.issue("9000000001", null, LOGIN, "123456", LocalDateTime.now().plusSeconds(600), 3);
+        store.issue("9000000002", null, LOGIN, "123456", LocalDateTime.now().plusSeconds(600), 3);
+
+        store.advance(now + 595_000);
+        assertThat(store.verify("9000000001", null, LOGIN, "123456")).isEqualTo(OtpStore.VerifyResult.VERIFIED);
+
+        store.advance(now + 602_000);
+        assertThat(store.verify("9000000002", null, LOGIN, "123456")).isEqualTo(OtpStore.VerifyResult.NOT_FOUND);
+    }
+
+    @Test
+    void reissuedCodeIsNotDroppedByTheOldDeadline() {
+        long now = System.currentTimeMillis();
+        store.issue("9000000001", null, LOGIN, "111111", LocalDateTime.now().plusSeconds(5), 3);
+        store.issue("9000000001", null, LOGIN, "222222", LocalDateTime.now().plusSeconds(300), 3);
+
+        store.advance(now + 10_000);
+
+        assertThat(store.verify("9000000001", null, LOGIN, "111111")).isEqualTo(OtpStore.VerifyResult.INVALID);
+        assertThat(store.verify("9000000001", null, LOGIN, "222222")).isEqualTo(OtpStore.VerifyResult.VERIFIED);
+    }
+}
@@ -0,0 +1,84 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.Job;
+import com.icastar.platform.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobSearchServiceTest {
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private JobSearchService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        service = new JobSearchService(jobRepository);
+        ReflectionTestUtils.setField(service, "loadBatchSize", 500);
+        ReflectionTestUtils.setField(service, "maxResults", 3);
+
+        List<Job> jobs = LongStream.rangeClosed(1, 5).mapToObj(JobSearchServiceTest::job).collect(Collectors.toList());
+        when(jobRepository.findJobsAfterId(anyLong(), any())).thenReturn(jobs, List.of());
+        when(jobRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Job> found = new ArrayList<>();
+            for (Long id : (Iterable<Long>) invocation.getArgument(0)) {
+                found.add(job(id));
+            }
+            return found;
+        });
+    }
+
+    @Test
+    void totalIsCappedAtTheReachableResults() {
+        Page<Job> first = service.search("actor", PageRequest.of(0, 2));
+        Page<Job> second = service.search("actor", PageRequest.of(1, 2));
+        Page<Job> beyond = service.search("actor", PageRequest.of(2, 2));
+
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.getTotalPages()).isEqualTo(2);
+        assertThat(first.getContent()).extracting(Job::getId).containsExactly(5L, 4L);
+        assertThat(second.getContent()).extracting(Job::getId).containsExactly(3L);
+        assertThat(beyond.getContent()).isEmpty();
+        assertThat(beyond.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void inactiveJobsAreIndexedButOnlyActiveJobsAreSearched() {
+        service.refreshIndex();
+        Job closed = job(6L);
+        closed.setStatus(Job.JobStatus.CLOSED);
+        service.onJobSaved(closed);
+
+        assertThat(service.search("actor")).extracting(Job::getId).containsExactly(5L, 4L, 3L);
+        assertThat(service.search("actor", PageRequest.of(0, 10)).getTotalElements()).isEqualTo(3);
+        assertThat(service.searchIds("actor")).containsExactly(6L, 5L, 4L, 3L, 2L, 1L);
+
+        closed.setStatus(Job.JobStatus.ACTIVE);
+        service.onJobSaved(closed);
+
+        assertThat(service.search("actor")).extracting(Job::getId).containsExactly(6L, 5L, 4L);
+    }
+
+    private static Job job(Long id) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle("Actor");
+        job.setStatus(Job.JobStatus.ACTIVE);
+        return job;
+    }
+}
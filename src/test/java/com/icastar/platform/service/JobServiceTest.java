@@ -0,0 +1,145 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.dto.job.JobFilterDto;
+import com.icastar.platform.entity.Job;
+import com.icastar.platform.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=OFF"})
+@ImportAutoConfiguration({JdbcTemplateAutoConfiguration.class, TransactionAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobServiceTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        jdbcTemplate.update("DELETE FROM job_attributes");
+        jdbcTemplate.update("DELETE FROM jobs");
+        LocalDateTime now = LocalDateTime.now();
+        // The JSON columns say otherwise on purpose: only job_attributes is consulted
+        job(1L, "[\"Kathak dancer\"]", "[\"classical\"]", now);
+        job(2L, "[\"acting\"]", "[\"film\"]", now);
+        job(3L, "[\"kathak\"]", null, now);
+        attribute(1L, "SKILL", "kathak", now);
+        attribute(2L, "SKILL", "acting", now);
+        attribute(2L, "TAG", "film", now);
+        attribute(3L, "TAG", "classical", now);
+        JobSearchService jobSearchService = new JobSearchService(jobRepository);
+        ReflectionTestUtils.setField(jobSearchService, "loadBatchSize", 500);
+        ReflectionTestUtils.setField(jobSearchService, "maxResults", 100);
+        jobService = new JobService(jobRepository, null, null, jobSearchService, null, null, null);
+    }
+
+    @Test
+    void skillLookupMatchesWholeNormalizedAttributes() {
+        assertThat(jobService.findJobsBySkill("  Kathak ")).extracting(Job::getId).containsExactly(1L);
+        assertThat(jobService.findJobsBySkill("act")).isEmpty();
+        assertThat(jobService.findJobsBySkill(" ")).isEmpty();
+    }
+
+    @Test
+    void tagLookupUsesTagAttributes() {
+        assertThat(jobService.findJobsByTag("CLASSICAL")).extracting(Job::getId).containsExactly(3L);
+        assertThat(jobService.findJobsByTag("film")).extracting(Job::getId).containsExactly(2L);
+    }
+
+    @Test
+    void searchTermMatchesEveryStatusAndLeavesStatusToTheFilter() {
+        LocalDateTime now = LocalDateTime.now();
+        titledJob(10L, "Choreographer", "ACTIVE", now);
+        titledJob(11L, "Choreographer", "CLOSED", now);
+        titledJob(12L, "Choreographer", "DRAFT", now);
+
+        JobFilterDto anyStatus = searchFilter("choreographer");
+        JobFilterDto closed = searchFilter("choreographer");
+        closed.setStatus(Job.JobStatus.CLOSED);
+
+        assertThat(jobService.findJobsWithFilters(anyStatus, PageRequest.of(0, 10)).getContent())
+                .extracting(Job::getId).containsExactly(12L, 11L, 10L);
+        assertThat(jobService.findJobsWithFilters(closed, PageRequest.of(0, 10)).getContent())
+                .extracting(Job::getId).containsExactly(11L);
+        assertThat(jobService.countJobsWithFilters(closed)).isEqualTo(1);
+    }
+
+    @Test
+    void searchHitsArePagedThroughBeyondOneIdChunk() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 100; id < 1305; id++) {
+            rows.add(new Object[]{id, "Extra", id == 1304 ? "CLOSED" : "ACTIVE", now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO jobs (id, recruiter_id, title, status, is_active, created_at) "
+                + "VALUES (?, 1, ?, ?, TRUE, ?)", rows);
+
+        JobFilterDto filter = searchFilter("extra");
+        filter.setStatus(Job.JobStatus.ACTIVE);
+
+        assertThat(jobService.countJobsWithFilters(filter)).isEqualTo(1204);
+        Page<Job> last = jobService.findJobsWithFilters(filter, PageRequest.of(120, 10));
+        assertThat(last.getTotalElements()).isEqualTo(1204);
+        assertThat(last.getContent()).extracting(Job::getId).containsExactly(103L, 102L, 101L, 100L);
+
+        filter.setCursor(1100L);
+        Slice<Job> page = jobService.findJobsByCursor(filter, 3);
+        assertThat(page.getContent()).extracting(Job::getId).containsExactly(1099L, 1098L, 1097L);
+        assertThat(page.hasNext()).isTrue();
+
+        filter.setCursor(101L);
+        Slice<Job> tail = jobService.findJobsByCursor(filter, 3);
+        assertThat(tail.getContent()).extracting(Job::getId).containsExactly(100L);
+        assertThat(tail.hasNext()).isFalse();
+    }
+
+    private static JobFilterDto searchFilter(String searchTerm) {
+        JobFilterDto filter = new JobFilterDto();
+        filter.setSearchTerm(searchTerm);
+        return filter;
+    }
+
+    private void titledJob(Long id, String title, String status, LocalDateTime now) {
+        jdbcTemplate.update("INSERT INTO jobs (id, recruiter_id, title, status, is_active, created_at) "
+                + "VALUES (?, 1, ?, ?, TRUE, ?)", id, title, status, now);
+    }
+
+    private void job(Long id, String skills, String tags, LocalDateTime now) {
+        jdbcTemplate.update("INSERT INTO jobs (id, recruiter_id, title, skills_required, tags, status, is_active, created_at) "
+                + "VALUES (?, 1, 'Job', ?, ?, 'ACTIVE', TRUE, ?)", id, skills, tags, now);
+    }
+
+    private void attribute(Long jobId, String type, String value, LocalDateTime now) {
+        jdbcTemplate.update("INSERT INTO job_attributes (job_id, attribute_type, attribute_value, is_active, created_at) "
+                + "VALUES (?, ?, ?, TRUE, ?)", jobId, type, value, now);
+    }
+}
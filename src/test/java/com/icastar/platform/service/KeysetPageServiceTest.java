@@ -0,0 +1,104 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.dto.admin.CursorPageDto;
+import com.icastar.platform.dto.admin.CursorRequestDto;
+import com.icastar.platform.entity.User;
+import com.icastar.platform.repository.UserRepository;
+import com.icastar.platform.repository.UserSpecifications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=OFF"})
+@ImportAutoConfiguration({JdbcTemplateAutoConfiguration.class, TransactionAutoConfiguration.class})
+@Import(KeysetPageService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class KeysetPageServiceTest {
+
+    @Autowired
+    private KeysetPageService keysetPageService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM users");
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (long id = 1; id <= 11; id++) {
+            // Several users share a creation time, so pages must break ties by id
+            jdbcTemplate.update("INSERT INTO users (id, email, mobile, password, role, status, account_status, status_version, "
+                            + "is_active, is_verified, created_at) VALUES (?, ?, ?, 'pw', ?, 'ACTIVE', ?, 0, TRUE, TRUE, ?)",
+                    id, "u" + id + "@example.com", "90000000" + id, id % 2 == 0 ? "ARTIST" : "RECRUITER",
+                    id == 5 ? "BANNED" : "ACTIVE", base.plusMinutes(id / 3));
+        }
+    }
+
+    @Test
+    void walkingTheCursorVisitsEveryRowOnceNewestFirst() {
+        List<Long> seen = walk(null, 4, "desc");
+
+        assertThat(seen).containsExactly(11L, 10L, 9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    void ascendingWalkWithAFilterAndExactCount() {
+        CursorRequestDto first = CursorRequestDto.builder().size(2).sortDir("asc").count("exact").build();
+        CursorPageDto<User> page = keysetPageService.findPage(userRepository, "users",
+                UserSpecifications.hasRole(User.UserRole.ARTIST), "role=ARTIST", first);
+
+        assertThat(page.getContent()).extracting(User::getId).containsExactly(2L, 4L);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(walk(UserSpecifications.hasRole(User.UserRole.ARTIST), 2, "asc")).containsExactly(2L, 4L, 6L, 8L, 10L);
+    }
+
+    @Test
+    void unknownEnumFiltersAreBadRequests() {
+        assertThat(KeysetPageService.parseFilter(User.AccountStatus.class, " banned ", "account status"))
+                .isEqualTo(User.AccountStatus.BANNED);
+        assertThat(KeysetPageService.parseFilter(User.AccountStatus.class, "", "account status")).isNull();
+        assertThatThrownBy(() -> KeysetPageService.parseFilter(User.AccountStatus.class, "gone", "account status"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid account status: gone");
+        assertThat(KeysetPageService.CountMode.from(null)).isEqualTo(KeysetPageService.CountMode.NONE);
+    }
+
+    private List<Long> walk(Specification<User> filter, int size, String direction) {
+        List<Long> seen = new ArrayList<>();
+        String cursor = "";
+        for (int pages = 0; pages < 20; pages++) {
+            CursorRequestDto request = CursorRequestDto.builder().cursor(cursor).size(size).sortDir(direction).build();
+            CursorPageDto<User> page = keysetPageService.findPage(userRepository, "users", filter, "walk", request);
+            page.getContent().forEach(user -> seen.add(user.getId()));
+            if (!page.isHasNext()) {
+                return seen;
+            }
+            cursor = page.getNextCursor();
+        }
+        throw new AssertionError("Cursor walk did not terminate");
+    }
+}
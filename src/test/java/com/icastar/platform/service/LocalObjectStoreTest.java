@@ -0,0 +1,57 @@
+package com.icastar.platform.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalObjectStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void urlsIncludeTheContextPath() throws IOException {
+        LocalObjectStore store = new LocalObjectStore(dir.toString(), "/uploads/", "/api");
+
+        ObjectStore.StoredObject object = store.put("blobs/ab/abc.png", content("image"), "image/png");
+
+        assertThat(object.url()).isEqualTo("/api/uploads/blobs/ab/abc.png");
+        try (InputStream in = store.open(object.url())) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("image");
+        }
+    }
+
+    @Test
+    void urlsWithoutTheContextPathAreStillResolved() throws IOException {
+        LocalObjectStore store = new LocalObjectStore(dir.toString(), "/uploads", "/api");
+        store.put("blobs/ab/abc.png", content("image"), "image/png");
+
+        try (InputStream in = store.open("/uploads/blobs/ab/abc.png")) {
+            assertThat(in.readAllBytes()).hasSize(5);
+        }
+        store.delete("/uploads/blobs/ab/abc.png");
+
+        assertThat(Files.exists(dir.resolve("blobs/ab/abc.png"))).isFalse();
+    }
+
+    @Test
+    void foreignUrlsAndEscapingKeysAreRejected() {
+        LocalObjectStore store = new LocalObjectStore(dir.toString(), "/uploads/", "/api");
+
+        assertThatThrownBy(() -> store.open("https://example.com/file.png")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> store.open("/api/uploads/../secret")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static InputStream content(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,89 @@
+package com.icastar.platform.service;
+
+import com.icastar.platform.entity.RecruiterStats;
+import com.icastar.platform.repository.JobApplicationRepository;
+import com.icastar.platform.repository.JobPostRepository;
+import com.icastar.platform.repository.RecruiterStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecruiterStatsServiceTest {
+
+    private final RecruiterStatsRepository recruiterStatsRepository = mock(RecruiterStatsRepository.class);
+    private final JobPostRepository jobPostRepository = mock(JobPostRepository.class);
+    private final JobApplicationRepository jobApplicationRepository = mock(JobApplicationRepository.class);
+    private RecruiterStatsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RecruiterStatsService(recruiterStatsRepository, jobPostRepository, jobApplicationRepository);
+        ReflectionTestUtils.setField(service, "maxAgeSeconds", 300L);
+        when(jobPostRepository.aggregateByRecruiterUserId(anyLong()))
+                .thenReturn(List.<Object[]>of(new Object[]{true, 2L, 40L}, new Object[]{false, 1L, 5L}));
+        when(jobApplicationRepository.aggregateByRecruiterId(anyLong())).thenReturn(Collections.emptyList());
+        when(recruiterStatsRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void firstReadCreatesTheRowThroughTheUpsertAndReloadsIt() {
+        RecruiterStats created = stats(true, 0L, null);
+        when(recruiterStatsRepository.findByRecruiterUserId(7L)).thenReturn(Optional.empty(), Optional.of(created));
+        when(recruiterStatsRepository.clearStale(1L, 0L)).thenReturn(1);
+
+        RecruiterStats stats = service.getStats(7L);
+
+        verify(recruiterStatsRepository).insertIfMissing(7L);
+        assertThat(stats.getTotalJobs()).isEqualTo(3);
+        assertThat(stats.getTotalViews()).isEqualTo(45);
+        assertThat(stats.getIsStale()).isFalse();
+    }
+
+    @Test
+    void markStaleDuringTheRecomputeKeepsTheRowStale() {
+        when(recruiterStatsRepository.findByRecruiterUserId(7L)).thenReturn(Optional.of(stats(true, 4L, null)));
+        // Another transaction bumped stale_version after the row was read
+        when(recruiterStatsRepository.clearStale(1L, 4L)).thenReturn(0);
+
+        RecruiterStats stats = service.getStats(7L);
+
+        verify(recruiterStatsRepository).clearStale(1L, 4L);
+        assertThat(stats.getTotalJobs()).isEqualTo(3);
+        assertThat(stats.getIsStale()).isTrue();
+    }
+
+    @Test
+    void freshRowIsReturnedWithoutRecomputing() {
+        when(recruiterStatsRepository.findByRecruiterUserId(7L))
+                .thenReturn(Optional.of(stats(false, 2L, LocalDateTime.now().minusSeconds(10))));
+
+        service.getStats(7L);
+
+        verify(recruiterStatsRepository, never()).insertIfMissing(anyLong());
+        verify(recruiterStatsRepository, never()).saveAndFlush(any());
+        verify(recruiterStatsRepository, never()).clearStale(anyLong(), anyLong());
+    }
+
+    private static RecruiterStats stats(boolean stale, Long staleVersion, LocalDateTime computedAt) {
+        RecruiterStats stats = new RecruiterStats();
+        stats.setId(1L);
+        stats.setRecruiterUserId(7L);
+        stats.setIsStale(stale);
+        stats.setStaleVersion(staleVersion);
+        stats.setComputedAt(computedAt);
+        return stats;
+    }
+}